@@ -0,0 +1,119 @@
+package com.eatbook.backoffice.domain.member.service;
+
+import com.eatbook.backoffice.domain.member.dto.LoginRequest;
+import com.eatbook.backoffice.domain.member.dto.LoginResponse;
+import com.eatbook.backoffice.domain.member.repository.MemberRepository;
+import com.eatbook.backoffice.domain.novel.service.FileService;
+import com.eatbook.backoffice.entity.Member;
+import com.eatbook.backoffice.entity.constant.AgeGroup;
+import com.eatbook.backoffice.entity.constant.Gender;
+import com.eatbook.backoffice.entity.constant.Role;
+import com.eatbook.backoffice.security.auth.jwt.JwtAuthTokenProvider;
+import com.eatbook.backoffice.security.auth.jwt.JwtClaimsCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * 로그인 처리량을 측정합니다. 회원 조회는 목으로 대체하고 BCrypt(강도 10)와 토큰 발급은 실제로 수행합니다.
+ * legacy는 서비스와 AuthenticationManager가 각각 회원을 조회하고 BCrypt 검증을 한 뒤 마지막 로그인 시각을 save하던 이전 흐름이고,
+ * current는 조회와 검증을 한 번씩만 하고 마지막 로그인 시각을 모아서 기록하는 현재 흐름입니다.
+ * 목은 호출 기록이 쌓이지 않도록 stubOnly로 만듭니다.
+ *
+ * <pre>
+ * ./gradlew jmh
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(4)
+public class LoginBenchmark {
+
+    private static final String EMAIL = "lavin@example.com";
+    private static final String PASSWORD = "password1234";
+
+    private BCryptPasswordEncoder passwordEncoder;
+    private MemberRepository memberRepository;
+    private JwtAuthTokenProvider tokenProvider;
+    private MemberAuthService memberAuthService;
+    private LoginRequest request;
+
+    @Setup
+    public void setUp() {
+        passwordEncoder = new BCryptPasswordEncoder();
+        Member member = Member.builder()
+                .email(EMAIL)
+                .passwordHash(passwordEncoder.encode(PASSWORD))
+                .nickname("lavin")
+                .role(Role.ADMIN)
+                .gender(Gender.FEMALE)
+                .ageGroup(AgeGroup.TWENTIES)
+                .build();
+
+        memberRepository = mock(MemberRepository.class, withSettings().stubOnly());
+        when(memberRepository.findMemberByEmail(EMAIL)).thenReturn(Optional.of(member));
+
+        JwtClaimsCache claimsCache = new JwtClaimsCache();
+        ReflectionTestUtils.setField(claimsCache, "maximumSize", 0L);
+        ReflectionTestUtils.setField(claimsCache, "maximumTtl", Duration.ofMinutes(5));
+        ReflectionTestUtils.invokeMethod(claimsCache, "init");
+
+        tokenProvider = new JwtAuthTokenProvider(claimsCache);
+        ReflectionTestUtils.setField(tokenProvider, "accessExpiration", 3600L);
+        ReflectionTestUtils.setField(tokenProvider, "refreshExpiration", 86400L);
+        ReflectionTestUtils.setField(tokenProvider, "secret", "eatbook-backoffice-benchmark-secret-key-0123456789");
+        tokenProvider.init();
+
+        memberAuthService = new MemberAuthService(memberRepository, mock(FileService.class, withSettings().stubOnly()), tokenProvider,
+                passwordEncoder, mock(LastLoginRecorder.class, withSettings().stubOnly()));
+        memberAuthService.init();
+
+        request = new LoginRequest(EMAIL, PASSWORD);
+    }
+
+    @Benchmark
+    public String legacy() {
+        Member member = memberRepository.findMemberByEmail(EMAIL).orElseThrow();
+        if (!passwordEncoder.matches(PASSWORD, member.getPasswordHash())) {
+            throw new IllegalStateException();
+        }
+
+        // AuthenticationManager → CustomUserDetailsService가 회원을 다시 조회하고 BCrypt를 다시 검증하던 단계
+        Member loaded = memberRepository.findMemberByEmail(EMAIL).orElseThrow();
+        if (!passwordEncoder.matches(PASSWORD, loaded.getPasswordHash())) {
+            throw new IllegalStateException();
+        }
+
+        String role = member.getRole().name();
+        String accessToken = tokenProvider.createAuthToken(member.getId(), role,
+                Map.of("id", member.getId(), "role", role)).getToken();
+        tokenProvider.createRefreshToken(member.getId());
+
+        member.setLastLogin(LocalDateTime.now());
+        memberRepository.save(member);
+        return accessToken;
+    }
+
+    @Benchmark
+    public LoginResponse current() {
+        return memberAuthService.login(request);
+    }
+}
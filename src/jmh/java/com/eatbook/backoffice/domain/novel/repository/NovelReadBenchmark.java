@@ -0,0 +1,138 @@
+package com.eatbook.backoffice.domain.novel.repository;
+
+import com.eatbook.backoffice.support.MySqlTestSupport;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.testcontainers.containers.MySQLContainer;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.eatbook.backoffice.support.MySqlTestSupport.seedId;
+import static com.eatbook.backoffice.support.MySqlTestSupport.seedIdSql;
+
+/**
+ * 소설 회차 목록 조회에서 존재 확인 쿼리를 없앤 효과를 측정합니다.
+ * probeThenQuery는 SELECT 1로 소설 존재를 확인한 뒤 회차를 조회하던 이전 방식이고,
+ * singleQuery는 소설 행에 회차를 LEFT JOIN 하여 결과가 비어 있으면 없는 소설로 판단하는 현재 방식
+ * (NovelCustomRepositoryImpl.findNovelEpisodeListById)입니다.
+ * 왕복 횟수 차이가 드러나도록 JPA를 거치지 않고 같은 SQL을 JDBC로 실행하며, Docker가 필요합니다.
+ * 운영과 같이 HikariCP 풀(Spring Boot 기본 크기)에서 커넥션을 빌리고 반환하도록 하고, 여러 스레드가 동시에 조회하게 하여
+ * 커넥션을 한 번 더 오래 붙잡는 비용까지 측정에 포함합니다.
+ *
+ * <pre>
+ * ./gradlew jmh
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(NovelReadBenchmark.THREADS)
+public class NovelReadBenchmark {
+
+    private static final int NOVEL = 4;
+    private static final int EPISODE = 5;
+
+    private static final int NOVEL_COUNT = 1_000;
+    private static final int EPISODES_PER_NOVEL = 20;
+
+    /**
+     * Spring Boot가 만드는 HikariCP 풀의 기본 최대 크기. 스레드 수를 이보다 작게 두어 커넥션 대기는 측정하지 않습니다.
+     */
+    private static final int POOL_SIZE = 10;
+    static final int THREADS = 8;
+
+    private static final String EXISTS =
+            "SELECT 1 FROM novel WHERE id = ? AND deleted_at IS NULL LIMIT 1";
+
+    private static final String EPISODES =
+            "SELECT e.id, e.chapter_number, e.title FROM episode e " +
+            "WHERE e.novel_id = ? AND e.deleted_at IS NULL ORDER BY e.chapter_number";
+
+    private static final String NOVEL_WITH_EPISODES =
+            "SELECT n.id, e.id AS episode_id, e.chapter_number, e.title FROM novel n " +
+            "LEFT JOIN episode e ON e.novel_id = n.id AND e.deleted_at IS NULL " +
+            "WHERE n.id = ? AND n.deleted_at IS NULL ORDER BY e.chapter_number";
+
+    /**
+     * existing은 회차가 있는 소설, missing은 존재하지 않는 소설을 조회합니다.
+     */
+    @Param({"existing", "missing"})
+    private String target;
+
+    private MySQLContainer<?> mysql;
+    private HikariDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private byte[] novelId;
+
+    @Setup
+    public void setUp() {
+        mysql = MySqlTestSupport.container();
+        mysql.start();
+        MySqlTestSupport.migrate(mysql);
+        seed(MySqlTestSupport.jdbcTemplate(mysql));
+
+        HikariConfig config = new HikariConfig();
+        config.setPoolName("novel-read-benchmark");
+        config.setJdbcUrl(mysql.getJdbcUrl());
+        config.setUsername(mysql.getUsername());
+        config.setPassword(mysql.getPassword());
+        config.setMaximumPoolSize(POOL_SIZE);
+        dataSource = new HikariDataSource(config);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        novelId = seedId(NOVEL, "existing".equals(target) ? NOVEL_COUNT / 2 : NOVEL_COUNT + 1);
+    }
+
+    @TearDown
+    public void tearDown() {
+        dataSource.close();
+        mysql.stop();
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> probeThenQuery() {
+        List<Integer> exists = jdbcTemplate.queryForList(EXISTS, Integer.class, novelId);
+        if (exists.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.queryForList(EPISODES, novelId);
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> singleQuery() {
+        return jdbcTemplate.queryForList(NOVEL_WITH_EPISODES, novelId);
+    }
+
+    /**
+     * 재귀 CTE 깊이 제한은 세션 변수이므로 커넥션 하나로 채우고, 채운 뒤에는 그 커넥션을 닫습니다.
+     */
+    private static void seed(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.execute("SET SESSION cte_max_recursion_depth = 1000000");
+
+        jdbcTemplate.execute("INSERT INTO novel (id, created_at, title, is_completed) " +
+                "WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < " + NOVEL_COUNT + ") " +
+                "SELECT " + seedIdSql(NOVEL, "n") + ", TIMESTAMP('2024-01-01') + INTERVAL n MINUTE, CONCAT('title-', n), FALSE FROM seq");
+
+        jdbcTemplate.execute("INSERT INTO episode (id, title, chapter_number, novel_id) " +
+                "WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < " + NOVEL_COUNT * EPISODES_PER_NOVEL + ") " +
+                "SELECT " + seedIdSql(EPISODE, "n") + ", CONCAT('episode-', n), (n - 1) % " + EPISODES_PER_NOVEL + " + 1, " +
+                seedIdSql(NOVEL, "(n - 1) DIV " + EPISODES_PER_NOVEL + " + 1") + " FROM seq");
+
+        jdbcTemplate.execute("ANALYZE TABLE novel, episode");
+        ((SingleConnectionDataSource) jdbcTemplate.getDataSource()).destroy();
+    }
+}
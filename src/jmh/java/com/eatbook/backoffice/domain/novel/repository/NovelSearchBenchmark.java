@@ -0,0 +1,136 @@
+package com.eatbook.backoffice.domain.novel.repository;
+
+import com.eatbook.backoffice.support.MySqlTestSupport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.testcontainers.containers.MySQLContainer;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.eatbook.backoffice.support.MySqlTestSupport.seedIdSql;
+
+/**
+ * 소설 검색 한 페이지(목록 + 전체 개수)를 가져오는 시간을 측정합니다.
+ * like는 제목/작가명/카테고리명을 LOWER(...) LIKE '%검색어%'로 찾던 이전 쿼리(findNovelIdsByQuery)이고,
+ * fullText는 ngram FULLTEXT 인덱스를 MATCH ... AGAINST로 찾는 현재 쿼리(findNovelIdsByFullText)이며,
+ * NovelRepository의 SQL 상수를 그대로 실행하므로 리포지토리 쿼리가 바뀌면 측정 대상도 함께 바뀝니다.
+ * Testcontainers MySQL에 마이그레이션을 적용하고 QueryIndexPlanTest와 같은 방식으로 데이터를 채우므로 Docker가 필요합니다.
+ *
+ * <pre>
+ * ./gradlew jmh
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class NovelSearchBenchmark {
+
+    private static final int CATEGORY = 2;
+    private static final int AUTHOR = 3;
+    private static final int NOVEL = 4;
+
+    private static final int PAGE_SIZE = 10;
+
+    private static final String LIKE_IDS =
+            "SELECT n.id FROM novel n " +
+            "LEFT JOIN novel_author na ON na.novel_id = n.id LEFT JOIN author a ON a.id = na.author_id " +
+            "LEFT JOIN novel_category nc ON nc.novel_id = n.id LEFT JOIN category c ON c.id = nc.category_id " +
+            "WHERE n.deleted_at IS NULL AND (LOWER(n.title) LIKE LOWER(CONCAT('%', ?, '%')) " +
+            "   OR LOWER(a.name) LIKE LOWER(CONCAT('%', ?, '%')) OR LOWER(c.name) LIKE LOWER(CONCAT('%', ?, '%'))) " +
+            "GROUP BY n.id ORDER BY MAX(n.created_at) DESC LIMIT " + PAGE_SIZE;
+
+    private static final String LIKE_COUNT =
+            "SELECT COUNT(DISTINCT n.id) FROM novel n " +
+            "LEFT JOIN novel_author na ON na.novel_id = n.id LEFT JOIN author a ON a.id = na.author_id " +
+            "LEFT JOIN novel_category nc ON nc.novel_id = n.id LEFT JOIN category c ON c.id = nc.category_id " +
+            "WHERE n.deleted_at IS NULL AND (LOWER(n.title) LIKE LOWER(CONCAT('%', ?, '%')) " +
+            "   OR LOWER(a.name) LIKE LOWER(CONCAT('%', ?, '%')) OR LOWER(c.name) LIKE LOWER(CONCAT('%', ?, '%')))";
+
+    private static final String FULLTEXT_IDS = NovelRepository.FULLTEXT_SEARCH_QUERY + " LIMIT " + PAGE_SIZE;
+
+    @Param({"20000"})
+    private int novelCount;
+
+    @Param({"연대기", "작가-77"})
+    private String keyword;
+
+    private MySQLContainer<?> mysql;
+    private JdbcTemplate jdbcTemplate;
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private Object[] likeArgs;
+    private Map<String, Object> fullTextParams;
+
+    @Setup
+    public void setUp() {
+        mysql = MySqlTestSupport.container();
+        mysql.start();
+        MySqlTestSupport.migrate(mysql);
+        jdbcTemplate = MySqlTestSupport.jdbcTemplate(mysql);
+        namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        seed();
+
+        likeArgs = new Object[]{keyword, keyword, keyword};
+        // NovelService.searchNovels와 같이 구문 검색으로 감쌉니다.
+        String phrase = "\"" + keyword + "\"";
+        fullTextParams = Map.of("query", phrase);
+    }
+
+    @TearDown
+    public void tearDown() {
+        mysql.stop();
+    }
+
+    @Benchmark
+    public long like() {
+        List<byte[]> ids = jdbcTemplate.queryForList(LIKE_IDS, byte[].class, likeArgs);
+        return ids.size() + jdbcTemplate.queryForObject(LIKE_COUNT, Long.class, likeArgs);
+    }
+
+    @Benchmark
+    public long fullText() {
+        List<String> ids = namedParameterJdbcTemplate.queryForList(FULLTEXT_IDS, fullTextParams, String.class);
+        return ids.size() + namedParameterJdbcTemplate.queryForObject(
+                NovelRepository.FULLTEXT_SEARCH_COUNT_QUERY, fullTextParams, Long.class);
+    }
+
+    /**
+     * 소설 n은 작가 n, 카테고리 n % 50 + 1과 연결되며, 제목에는 다섯 가지 장르 단어 중 하나가 들어갑니다.
+     */
+    private void seed() {
+        jdbcTemplate.execute("SET SESSION cte_max_recursion_depth = 1000000");
+
+        jdbcTemplate.execute("INSERT INTO category (id, name) " +
+                "WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 50) " +
+                "SELECT " + seedIdSql(CATEGORY, "n") + ", CONCAT('카테고리-', n) FROM seq");
+
+        jdbcTemplate.execute("INSERT INTO author (id, name) " +
+                "WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < " + novelCount + ") " +
+                "SELECT " + seedIdSql(AUTHOR, "n") + ", CONCAT('작가-', n) FROM seq");
+
+        jdbcTemplate.execute("INSERT INTO novel (id, created_at, title, is_completed) " +
+                "WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < " + novelCount + ") " +
+                "SELECT " + seedIdSql(NOVEL, "n") + ", TIMESTAMP('2024-01-01') + INTERVAL n MINUTE, " +
+                "CONCAT('소설 ', n, ' ', ELT(n % 5 + 1, '마법사의 탑', '용사의 귀환', '검객 이야기', '왕국 연대기', '바다의 노래')), FALSE FROM seq");
+
+        jdbcTemplate.execute("INSERT INTO novel_author (novel_id, author_id) " +
+                "WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < " + novelCount + ") " +
+                "SELECT " + seedIdSql(NOVEL, "n") + ", " + seedIdSql(AUTHOR, "n") + " FROM seq");
+
+        jdbcTemplate.execute("INSERT INTO novel_category (novel_id, category_id) " +
+                "WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < " + novelCount + ") " +
+                "SELECT " + seedIdSql(NOVEL, "n") + ", " + seedIdSql(CATEGORY, "n % 50 + 1") + " FROM seq");
+
+        jdbcTemplate.execute("ANALYZE TABLE category, author, novel, novel_author, novel_category");
+    }
+}
@@ -0,0 +1,97 @@
+package com.eatbook.backoffice.domain.novel.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 회차 목록 한 페이지의 presigned GET URL을 만드는 시간을 측정합니다.
+ * presignEveryTime은 요청마다 모든 키를 서명하던 이전 방식이고,
+ * reuseCached는 유효 시간이 절반 이상 남은 URL을 캐시에서 재사용하는 현재 방식(FileService.generatePresignedGetUrls)입니다.
+ * 서명은 네트워크 없이 로컬에서 계산되므로 고정 자격 증명의 S3Presigner를 사용하며, S3나 Docker가 필요하지 않습니다.
+ *
+ * <pre>
+ * ./gradlew jmh
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PresignedUrlBenchmark {
+
+    private static final String PRIVATE_BUCKET = "eatbook-private";
+    private static final int EXPIRATION_MINUTES = 10;
+
+    /**
+     * 한 번에 서명할 객체 수. 회차 상세는 1개, 회차 목록 한 페이지는 50개입니다.
+     */
+    @Param({"1", "50"})
+    private int keyCount;
+
+    private S3Presigner s3Presigner;
+    private FileService fileService;
+    private List<String> objectKeys;
+
+    @Setup
+    public void setUp() {
+        s3Presigner = S3Presigner.builder()
+                .region(Region.AP_NORTHEAST_2)
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("access", "secret")))
+                .build();
+
+        fileService = new FileService(null, s3Presigner, null, null);
+        ReflectionTestUtils.setField(fileService, "privateBucket", PRIVATE_BUCKET);
+        ReflectionTestUtils.setField(fileService, "publicBucket", "eatbook-public");
+        ReflectionTestUtils.setField(fileService, "presignedUrlExpiration", EXPIRATION_MINUTES);
+        ReflectionTestUtils.setField(fileService, "presignedUrlCacheSize", 10_000L);
+        ReflectionTestUtils.setField(fileService, "partSize", DataSize.ofMegabytes(8));
+        fileService.init();
+
+        objectKeys = IntStream.rangeClosed(1, keyCount)
+                .mapToObj(i -> "novels/novel-1/episodes/episode-" + i + "/scripts/script.txt")
+                .toList();
+    }
+
+    @TearDown
+    public void tearDown() {
+        s3Presigner.close();
+    }
+
+    @Benchmark
+    public Map<String, String> presignEveryTime() {
+        Map<String, String> presignedUrls = new LinkedHashMap<>();
+        for (String objectKey : objectKeys) {
+            GetObjectPresignRequest presignRequest = GetObjectPresignRequest.builder()
+                    .signatureDuration(Duration.ofMinutes(EXPIRATION_MINUTES))
+                    .getObjectRequest(b -> b.bucket(PRIVATE_BUCKET).key(objectKey))
+                    .build();
+            presignedUrls.put(objectKey, s3Presigner.presignGetObject(presignRequest).url().toString());
+        }
+        return presignedUrls;
+    }
+
+    @Benchmark
+    public Map<String, String> reuseCached() {
+        return fileService.generatePresignedGetUrls(objectKeys);
+    }
+}
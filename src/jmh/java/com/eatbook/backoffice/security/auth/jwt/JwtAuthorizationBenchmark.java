@@ -0,0 +1,82 @@
+package com.eatbook.backoffice.security.auth.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.Key;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 하나를 인증할 때 JwtAuthorizationFilter가 토큰 검증에 쓰는 시간을 측정합니다.
+ * legacy는 요청마다 파서를 새로 만들어 세 번 검증하던 이전 흐름이고,
+ * current는 재사용 파서로 한 번 검증한 뒤 Claims 캐시를 거치는 현재 흐름입니다(cacheSize=0이면 캐시 없이 측정).
+ *
+ * <pre>
+ * ./gradlew jmh
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthorizationBenchmark {
+
+    private static final String SECRET = "eatbook-backoffice-benchmark-secret-key-0123456789";
+
+    @Param({"0", "10000"})
+    private long cacheSize;
+
+    private JwtAuthTokenProvider tokenProvider;
+    private Key key;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtClaimsCache claimsCache = new JwtClaimsCache();
+        ReflectionTestUtils.setField(claimsCache, "maximumSize", cacheSize);
+        ReflectionTestUtils.setField(claimsCache, "maximumTtl", Duration.ofMinutes(5));
+        claimsCache.init();
+
+        tokenProvider = new JwtAuthTokenProvider(claimsCache);
+        ReflectionTestUtils.setField(tokenProvider, "accessExpiration", 3600L);
+        ReflectionTestUtils.setField(tokenProvider, "refreshExpiration", 86400L);
+        ReflectionTestUtils.setField(tokenProvider, "secret", SECRET);
+        tokenProvider.init();
+
+        key = Keys.hmacShaKeyFor(SECRET.getBytes());
+        token = tokenProvider.createAuthToken("member-1", "ROLE_ADMIN", Map.of("id", "member-1")).getToken();
+    }
+
+    @Benchmark
+    public Claims legacy() {
+        // 필터의 검증, setAuthentication의 validate(), getAuthentication의 getData()가 각각 파서를 만들어 검증하던 흐름
+        Claims claims = null;
+        for (int i = 0; i < 3; i++) {
+            claims = Jwts.parserBuilder()
+                    .setSigningKey(key)
+                    .build()
+                    .parseClaimsJws(token)
+                    .getBody();
+        }
+        return claims;
+    }
+
+    @Benchmark
+    public Authentication current() {
+        JwtAuthToken authToken = tokenProvider.convertAuthToken(token);
+        authToken.getData();
+        return tokenProvider.getAuthentication(authToken);
+    }
+}
@@ -1,9 +1,13 @@
 package com.eatbook.backoffice.domain.episode.controller;
 
+import com.eatbook.backoffice.domain.episode.dto.EpisodeBulkRequest;
+import com.eatbook.backoffice.domain.episode.dto.EpisodeBulkResponse;
 import com.eatbook.backoffice.domain.episode.dto.EpisodeDetailResponse;
 import com.eatbook.backoffice.domain.episode.dto.EpisodeRequest;
 import com.eatbook.backoffice.domain.episode.dto.EpisodeResponse;
+import com.eatbook.backoffice.domain.episode.exception.EpisodeBulkRequestException;
 import com.eatbook.backoffice.domain.episode.response.EpisodeSuccessCode;
+import com.eatbook.backoffice.domain.episode.service.EpisodeBulkService;
 import com.eatbook.backoffice.domain.episode.service.EpisodeService;
 import com.eatbook.backoffice.global.response.ApiResponse;
 import lombok.RequiredArgsConstructor;
@@ -14,6 +18,10 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.List;
+
+import static com.eatbook.backoffice.domain.episode.response.EpisodeErrorCode.EPISODE_BULK_EMPTY;
+import static com.eatbook.backoffice.domain.episode.response.EpisodeSuccessCode.EPISODES_CREATED;
 import static com.eatbook.backoffice.domain.episode.response.EpisodeSuccessCode.EPISODE_CREATED;
 
 /**
@@ -25,6 +33,7 @@ import static com.eatbook.backoffice.domain.episode.response.EpisodeSuccessCode.
 @RequestMapping("/api/admin/episode")
 public class EpisodeController {
     private final EpisodeService episodeService;
+    private final EpisodeBulkService episodeBulkService;
 
     /**
      * 새로운 에피소드를 생성합니다.
@@ -50,6 +59,41 @@ public class EpisodeController {
                 .body(ApiResponse.of(EPISODE_CREATED, response));
     }
 
+    /**
+     * 여러 에피소드를 한 번에 생성합니다.
+     * 스크립트는 여러 개의 files 파트나 하나의 zip 파일(archive 파트)로 전달하며, 회차 번호는 파일 순서대로 할당됩니다.
+     * 중복되거나 유효하지 않은 항목은 건너뛰고 나머지를 등록하며, 파일 업로드는 응답 이후 병렬로 처리됩니다.
+     *
+     * @param bulkRequest 공통 에피소드 정보와 제목 목록입니다.
+     * @param files 에피소드 스크립트 파일 목록입니다. archive와 함께 보낼 수 없습니다.
+     * @param archive 에피소드 스크립트를 담은 zip 파일입니다.
+     * @return {@link HttpStatus#CREATED} 상태 코드를 갖는 ResponseEntity와
+     *         성공 코드 {@link EpisodeSuccessCode#EPISODES_CREATED}를 포함하는 ApiResponse입니다.
+     *         이 ApiResponse에는 항목별 등록 결과와 회차 번호, 텍스트파일의 presigned URL이 포함됩니다.
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<ApiResponse> createEpisodes(
+            @Validated @RequestPart("bulkRequest") EpisodeBulkRequest bulkRequest,
+            @RequestPart(value = "files", required = false) List<MultipartFile> files,
+            @RequestPart(value = "archive", required = false) MultipartFile archive) {
+
+        log.info("Create Episodes Request: novelId={}, files={}, archive={}",
+                bulkRequest.novelId(), files != null ? files.size() : 0, archive != null);
+
+        EpisodeBulkResponse response;
+        if (archive != null && (files == null || files.isEmpty())) {
+            response = episodeBulkService.createEpisodesFromArchive(bulkRequest, archive);
+        } else if (archive == null && files != null) {
+            response = episodeBulkService.createEpisodes(bulkRequest, files);
+        } else {
+            throw new EpisodeBulkRequestException(EPISODE_BULK_EMPTY, "files와 archive 중 하나만 보내야 합니다.");
+        }
+
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(ApiResponse.of(EPISODES_CREATED, response));
+    }
+
     /**
      * 에피소드 상세 정보를 조회합니다.
      *
@@ -0,0 +1,44 @@
+package com.eatbook.backoffice.domain.episode.dto;
+
+import com.eatbook.backoffice.entity.constant.ReleaseStatus;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 여러 회차를 한 번에 등록하는 요청.
+ * 공개 상태와 예약 일시는 모든 회차에 공통으로 적용됩니다.
+ *
+ * @param titles 회차 제목 목록. 파일 순서와 같아야 하며, 생략하면 확장자를 뺀 파일 이름을 제목으로 사용합니다.
+ */
+public record EpisodeBulkRequest(
+        @NotBlank(message = "소설 ID는 필수입니다.")
+        String novelId,
+
+        List<String> titles,
+
+        LocalDateTime scheduledReleaseDate,
+
+        LocalDateTime releasedDate,
+
+        @NotNull(message = "공개 상태는 필수입니다.")
+        ReleaseStatus releaseStatus
+) {
+    @Builder
+    public EpisodeBulkRequest(
+            String novelId,
+            List<String> titles,
+            LocalDateTime scheduledReleaseDate,
+            LocalDateTime releasedDate,
+            ReleaseStatus releaseStatus
+    ) {
+        this.novelId = novelId;
+        this.titles = titles;
+        this.scheduledReleaseDate = scheduledReleaseDate;
+        this.releasedDate = releasedDate;
+        this.releaseStatus = releaseStatus;
+    }
+}
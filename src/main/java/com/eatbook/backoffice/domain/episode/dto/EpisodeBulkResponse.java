@@ -0,0 +1,39 @@
+package com.eatbook.backoffice.domain.episode.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+public record EpisodeBulkResponse(
+        @JsonProperty("novelId")
+        String novelId,
+
+        @JsonProperty("totalCount")
+        int totalCount,
+
+        @JsonProperty("createdCount")
+        int createdCount,
+
+        @JsonProperty("skippedCount")
+        int skippedCount,
+
+        @JsonProperty("elapsedMillis")
+        long elapsedMillis,
+
+        @JsonProperty("results")
+        List<EpisodeBulkResult> results
+) {
+    public static EpisodeBulkResponse of(final String novelId, final List<EpisodeBulkResult> results, final long elapsedNanos) {
+        int createdCount = (int) results.stream()
+                .filter(result -> result.status() == EpisodeBulkResult.Status.CREATED)
+                .count();
+
+        return new EpisodeBulkResponse(
+                novelId,
+                results.size(),
+                createdCount,
+                results.size() - createdCount,
+                elapsedNanos / 1_000_000,
+                results);
+    }
+}
@@ -0,0 +1,49 @@
+package com.eatbook.backoffice.domain.episode.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record EpisodeBulkResult(
+        @JsonProperty("index")
+        int index,
+
+        @JsonProperty("title")
+        String title,
+
+        @JsonProperty("status")
+        Status status,
+
+        @JsonProperty("chapter")
+        Integer chapter,
+
+        @JsonProperty("episodeId")
+        String episodeId,
+
+        @JsonProperty("presignedUrl")
+        String presignedUrl,
+
+        @JsonProperty("message")
+        String message
+) {
+    public enum Status {
+        CREATED, DUPLICATED, INVALID, FAILED
+    }
+
+    public static EpisodeBulkResult created(final int index, final String title, final int chapter,
+                                            final String episodeId, final String presignedUrl) {
+        return new EpisodeBulkResult(index, title, Status.CREATED, chapter, episodeId, presignedUrl, null);
+    }
+
+    public static EpisodeBulkResult duplicated(final int index, final String title) {
+        return new EpisodeBulkResult(index, title, Status.DUPLICATED, null, null, null, null);
+    }
+
+    public static EpisodeBulkResult invalid(final int index, final String title, final String message) {
+        return new EpisodeBulkResult(index, title, Status.INVALID, null, null, null, message);
+    }
+
+    public static EpisodeBulkResult failed(final int index, final String title, final String message) {
+        return new EpisodeBulkResult(index, title, Status.FAILED, null, null, null, message);
+    }
+}
@@ -0,0 +1,19 @@
+package com.eatbook.backoffice.domain.episode.event;
+
+/**
+ * 파일 업로드 아웃박스 작업이 기록되었음을 알리는 이벤트.
+ *
+ * @param outboxId    업로드 작업 ID
+ * @param stagingKey  업로드할 파일이 임시 저장된 객체 키
+ */
+public record FileUploadRequestedEvent(
+        String outboxId,
+        String stagingKey
+) {
+    public static FileUploadRequestedEvent of(
+            final String outboxId,
+            final String stagingKey
+    ) {
+        return new FileUploadRequestedEvent(outboxId, stagingKey);
+    }
+}
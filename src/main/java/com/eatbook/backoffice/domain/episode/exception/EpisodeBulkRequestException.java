@@ -0,0 +1,11 @@
+package com.eatbook.backoffice.domain.episode.exception;
+
+import com.eatbook.backoffice.global.exception.exceptions.BusinessException;
+import com.eatbook.backoffice.global.response.StatusCode;
+
+public class EpisodeBulkRequestException extends BusinessException {
+
+    public EpisodeBulkRequestException(StatusCode code, String detailMessage) {
+        super(detailMessage, code);
+    }
+}
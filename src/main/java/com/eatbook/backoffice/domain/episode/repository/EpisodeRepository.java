@@ -5,11 +5,13 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface EpisodeRepository extends JpaRepository<Episode, String> {
     Optional<Episode> findByTitleAndNovelId(String title, String s);
 
-    @Query("SELECT MAX(e.chapterNumber) FROM Episode e WHERE e.novel.id = :novelId")
-    Integer findMaxChapterNumberByNovelId(@Param("novelId") String novelId);
+    @Query("SELECT e.title FROM Episode e WHERE e.novel.id = :novelId AND e.title IN :titles")
+    List<String> findTitlesByNovelIdAndTitleIn(@Param("novelId") String novelId, @Param("titles") Collection<String> titles);
 }
@@ -1,7 +1,15 @@
 package com.eatbook.backoffice.domain.episode.repository;
 
 import com.eatbook.backoffice.entity.FileMetadata;
+import com.eatbook.backoffice.entity.constant.FileStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface FileMetadataRepository extends JpaRepository<FileMetadata, String> {
+
+    @Modifying
+    @Query("UPDATE FileMetadata f SET f.status = :status WHERE f.id = :id")
+    int updateStatus(@Param("id") String id, @Param("status") FileStatus status);
 }
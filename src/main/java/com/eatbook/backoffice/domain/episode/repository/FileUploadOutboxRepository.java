@@ -0,0 +1,53 @@
+package com.eatbook.backoffice.domain.episode.repository;
+
+import com.eatbook.backoffice.entity.FileUploadOutbox;
+import com.eatbook.backoffice.entity.constant.OutboxStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface FileUploadOutboxRepository extends JpaRepository<FileUploadOutbox, String> {
+
+    /**
+     * 재시도 시각이 지난 대기 작업과, 처리 중 점유 시간이 만료된(작업자가 종료된) 작업의 ID를 가져옵니다.
+     */
+    @Query("SELECT o.id FROM FileUploadOutbox o " +
+            "WHERE (o.status = :pending AND o.nextAttemptAt <= :now) " +
+            "   OR (o.status = :processing AND o.lockedUntil < :now) " +
+            "ORDER BY o.nextAttemptAt")
+    List<String> findDueIds(@Param("pending") OutboxStatus pending,
+                            @Param("processing") OutboxStatus processing,
+                            @Param("now") LocalDateTime now,
+                            Pageable pageable);
+
+    /**
+     * 작업을 처리 중 상태로 점유합니다. 조건부 UPDATE이므로 여러 작업자가 동시에 시도해도 한 작업자만 성공합니다.
+     *
+     * @return 점유에 성공하면 1, 이미 다른 작업자가 점유했거나 처리할 시각이 아니면 0
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE FileUploadOutbox o " +
+            "SET o.status = :processing, o.lockedUntil = :lockedUntil, o.attempts = o.attempts + 1 " +
+            "WHERE o.id = :id " +
+            "  AND ((o.status = :pending AND o.nextAttemptAt <= :now) " +
+            "    OR (o.status = :processing AND o.lockedUntil < :now))")
+    int claim(@Param("id") String id,
+              @Param("pending") OutboxStatus pending,
+              @Param("processing") OutboxStatus processing,
+              @Param("now") LocalDateTime now,
+              @Param("lockedUntil") LocalDateTime lockedUntil);
+
+    @Modifying
+    @Query("UPDATE FileUploadOutbox o " +
+            "SET o.status = :status, o.nextAttemptAt = :nextAttemptAt, o.lockedUntil = NULL, o.lastError = :lastError " +
+            "WHERE o.id = :id")
+    int release(@Param("id") String id,
+                @Param("status") OutboxStatus status,
+                @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                @Param("lastError") String lastError);
+}
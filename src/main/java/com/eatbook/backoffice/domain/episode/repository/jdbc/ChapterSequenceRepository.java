@@ -0,0 +1,53 @@
+package com.eatbook.backoffice.domain.episode.repository.jdbc;
+
+import com.eatbook.backoffice.global.utils.BinaryUuid;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.OptionalInt;
+
+/**
+ * 소설별 회차 번호를 novel.next_chapter 컬럼으로 채번하는 JDBC 리포지토리.
+ * UPDATE 한 번으로 값을 증가시키므로 회차 테이블을 조회하지 않으며,
+ * 증가한 행은 트랜잭션이 끝날 때까지 잠기기 때문에 동시에 등록되는 회차도 서로 다른 번호를 받습니다.
+ */
+@Repository
+public class ChapterSequenceRepository {
+
+    /**
+     * LAST_INSERT_ID(expr)는 expr 값을 현재 커넥션의 LAST_INSERT_ID로 저장하므로,
+     * 증가 후의 값을 다른 세션의 영향 없이 다시 읽을 수 있습니다.
+     */
+    private static final String INCREMENT_NEXT_CHAPTER =
+            "UPDATE novel SET next_chapter = LAST_INSERT_ID(next_chapter + ?) WHERE id = ?";
+
+    private static final String SELECT_LAST_INSERT_ID = "SELECT LAST_INSERT_ID()";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ChapterSequenceRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 연속된 회차 번호 count개를 할당합니다.
+     * 같은 커넥션에서 LAST_INSERT_ID를 읽어야 하므로 트랜잭션 안에서 호출해야 합니다.
+     *
+     * @param novelId 소설 Id
+     * @param count 할당할 회차 수
+     * @return 할당된 범위의 첫 회차 번호. 소설이 존재하지 않으면 빈 값을 반환합니다.
+     */
+    public OptionalInt allocate(String novelId, int count) {
+        if (count < 1) {
+            throw new IllegalArgumentException("할당할 회차 수는 1 이상이어야 합니다: " + count);
+        }
+
+        int updated = jdbcTemplate.update(INCREMENT_NEXT_CHAPTER, count, BinaryUuid.toBytes(novelId));
+        if (updated == 0) {
+            return OptionalInt.empty();
+        }
+
+        Integer nextChapter = jdbcTemplate.queryForObject(SELECT_LAST_INSERT_ID, Integer.class);
+        return OptionalInt.of(nextChapter - count);
+    }
+}
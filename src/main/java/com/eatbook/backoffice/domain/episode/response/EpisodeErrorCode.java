@@ -10,6 +10,12 @@ import lombok.Getter;
 public enum EpisodeErrorCode implements StatusCode{
     EPISODE_TITLE_DUPLICATED("EPISODE_TITLE_DUPLICATED", "이미 존재하는 에피소드 제목입니다."),
     EPISODE_NOT_FOUND("EPISODE_NOT_FOUND", "존재하지 않는 에피소드입니다."),
+    EPISODE_BULK_EMPTY("EPISODE_BULK_EMPTY", "등록할 에피소드 파일이 없습니다."),
+    EPISODE_BULK_LIMIT_EXCEEDED("EPISODE_BULK_LIMIT_EXCEEDED", "한 번에 등록할 수 있는 에피소드 수를 초과했습니다."),
+    EPISODE_BULK_TITLE_MISMATCH("EPISODE_BULK_TITLE_MISMATCH", "에피소드 제목 수와 파일 수가 일치하지 않습니다."),
+    INVALID_EPISODE_ARCHIVE("INVALID_EPISODE_ARCHIVE", "에피소드 압축 파일을 읽을 수 없습니다."),
+    EPISODE_ARCHIVE_TOO_LARGE("EPISODE_ARCHIVE_TOO_LARGE", "압축을 푼 에피소드 파일이 허용된 크기를 초과했습니다."),
+    EPISODE_TITLE_TOO_LONG("EPISODE_TITLE_TOO_LONG", "에피소드 제목이 너무 깁니다."),
     ;
 
     private final String code;
@@ -9,6 +9,7 @@ import lombok.Getter;
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 public enum EpisodeSuccessCode implements StatusCode {
     EPISODE_CREATED("EPISODE_CREATED", "에피소드가 성공적으로 생성되었습니다."),
+    EPISODES_CREATED("EPISODES_CREATED", "에피소드 일괄 등록이 완료되었습니다."),
     EPISODE_UPDATED("EPISODE_UPDATED", "에피소드가 성공적으로 수정되었습니다."),
     EPISODE_DELETED("EPISODE_DELETED", "에피소드가 성공적으로 삭제되었습니다."),
     EPISODE_FETCHED("EPISODE_FETCHED", "에피소드 상세 정보를 성공적으로 조회했습니다.")
@@ -0,0 +1,496 @@
+package com.eatbook.backoffice.domain.episode.service;
+
+import com.eatbook.backoffice.domain.episode.dto.EpisodeBulkRequest;
+import com.eatbook.backoffice.domain.episode.dto.EpisodeBulkResponse;
+import com.eatbook.backoffice.domain.episode.dto.EpisodeBulkResult;
+import com.eatbook.backoffice.domain.episode.event.FileUploadRequestedEvent;
+import com.eatbook.backoffice.domain.episode.exception.EpisodeBulkRequestException;
+import com.eatbook.backoffice.domain.episode.repository.EpisodeRepository;
+import com.eatbook.backoffice.domain.episode.repository.FileMetadataRepository;
+import com.eatbook.backoffice.domain.episode.repository.FileUploadOutboxRepository;
+import com.eatbook.backoffice.domain.episode.repository.jdbc.ChapterSequenceRepository;
+import com.eatbook.backoffice.domain.novel.exception.NovelNotFoundException;
+import com.eatbook.backoffice.domain.novel.repository.NovelRepository;
+import com.eatbook.backoffice.domain.novel.service.FileService;
+import com.eatbook.backoffice.domain.novel.service.FileService.StagedFile;
+import com.eatbook.backoffice.entity.Episode;
+import com.eatbook.backoffice.entity.FileMetadata;
+import com.eatbook.backoffice.entity.FileUploadOutbox;
+import com.eatbook.backoffice.entity.Novel;
+import com.eatbook.backoffice.entity.constant.ContentType;
+import com.eatbook.backoffice.entity.constant.ReleaseStatus;
+import com.eatbook.backoffice.global.utils.UuidGenerator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static com.eatbook.backoffice.domain.episode.response.EpisodeErrorCode.*;
+import static com.eatbook.backoffice.domain.novel.response.NovelErrorCode.NOVEL_NOT_FOUND;
+import static com.eatbook.backoffice.entity.constant.ContentType.TXT;
+import static com.eatbook.backoffice.entity.constant.FileType.SCRIPT;
+import static com.eatbook.backoffice.global.config.CacheConfig.NOVEL_EPISODES;
+import static com.eatbook.backoffice.global.utils.PathGenerator.generateRelativePath;
+import static com.eatbook.backoffice.global.utils.PathGenerator.getFilePath;
+
+/**
+ * 연재분처럼 많은 회차를 한 번의 요청으로 등록하는 서비스입니다.
+ * 스크립트는 트랜잭션을 열기 전에 임시 저장 풀(fileStagingExecutor)에서 병렬로 임시 저장하고,
+ * 회차 번호를 한 번에 할당하고 회차/파일 메타데이터/업로드 작업을 한 트랜잭션에서 배치로 저장하며,
+ * 최종 위치로의 게시는 커밋 이후 업로드 작업자 풀({@link FileUploadWorker})이 제한된 동시성으로 병렬 처리합니다.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class EpisodeBulkService {
+
+    private static final ContentType EPISODE_CONTENT_TYPE = TXT;
+    private static final int MAX_TITLE_LENGTH = 255;
+
+    private final EpisodeRepository episodeRepository;
+    private final NovelRepository novelRepository;
+    private final FileMetadataRepository fileMetadataRepository;
+    private final FileUploadOutboxRepository fileUploadOutboxRepository;
+    private final ChapterSequenceRepository chapterSequenceRepository;
+    private final FileService fileService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskExecutor fileStagingExecutor;
+
+    @Value("${cloud.aws.s3.directory.episode}")
+    private String episodeDirectory;
+
+    @Value("${cloud.aws.s3.directory.script}")
+    private String scriptDirectory;
+
+    @Value("${cloud.aws.s3.bucket.private}")
+    private String privateBucket;
+
+    @Value("${cloud.aws.region.static}")
+    private String region;
+
+    @Value("${episode.bulk.max-count:500}")
+    private int maxCount;
+
+    @Value("${episode.bulk.archive.max-entry-size:10MB}")
+    private DataSize maxEntrySize;
+
+    @Value("${episode.bulk.archive.max-total-size:200MB}")
+    private DataSize maxTotalSize;
+
+    /**
+     * 여러 스크립트 파일로 회차를 일괄 등록합니다. 회차 번호는 파일 순서대로 할당됩니다.
+     * 임시 저장에 실패한 파일은 실패(FAILED)로 기록하고 건너뜁니다.
+     *
+     * @param request 공통 회차 정보와 제목 목록
+     * @param files   회차 스크립트 파일 목록
+     * @return 항목별 등록 결과
+     * @throws EpisodeBulkRequestException 파일이 없거나, 최대 개수를 넘거나, 제목 수가 파일 수와 다를 경우
+     * @throws NovelNotFoundException 소설이 존재하지 않을 경우
+     */
+    @CacheEvict(cacheNames = NOVEL_EPISODES, key = "#request.novelId()")
+    public EpisodeBulkResponse createEpisodes(EpisodeBulkRequest request, List<MultipartFile> files) {
+        validateCount(files.size());
+
+        List<StagedScript> scripts = stageAll(files, file -> baseName(file.getOriginalFilename()),
+                file -> fileService.stageFile(file, UuidGenerator.generate()));
+        return createEpisodes(request, scripts);
+    }
+
+    /**
+     * zip 압축 파일에 담긴 스크립트로 회차를 일괄 등록합니다.
+     * 디렉터리와 숨김 파일은 건너뛰며, 회차 번호는 항목 이름의 사전순으로 할당되므로 파일 이름에 회차 번호를 같은 자릿수로 붙여야 합니다.
+     * 압축 폭탄을 막기 위해 항목 하나와 전체의 압축 해제 크기를 읽는 동안 제한합니다.
+     * zip 스트림은 순서대로만 읽을 수 있으므로 항목을 먼저 로컬 임시 파일로 풀어 둔 뒤 병렬로 임시 저장하며,
+     * 로컬 디스크 사용량은 전체 압축 해제 크기 제한(episode.bulk.archive.max-total-size)을 넘지 않습니다.
+     *
+     * @param request 공통 회차 정보와 제목 목록
+     * @param archive 회차 스크립트를 담은 zip 파일
+     * @return 항목별 등록 결과
+     * @throws EpisodeBulkRequestException 압축 파일을 읽을 수 없거나, 항목 수 또는 압축 해제 크기가 제한을 넘을 경우
+     * @throws NovelNotFoundException 소설이 존재하지 않을 경우
+     */
+    @CacheEvict(cacheNames = NOVEL_EPISODES, key = "#request.novelId()")
+    public EpisodeBulkResponse createEpisodesFromArchive(EpisodeBulkRequest request, MultipartFile archive) {
+        SortedMap<String, Path> entries = new TreeMap<>();
+        List<StagedScript> scripts;
+        try {
+            spoolEntries(archive, entries);
+            validateCount(entries.size());
+            scripts = stageAll(List.copyOf(entries.entrySet()), entry -> baseName(entry.getKey()),
+                    entry -> fileService.stageFile(entry.getValue(), UuidGenerator.generate()));
+        } finally {
+            entries.values().forEach(EpisodeBulkService::deleteSpoolFile);
+        }
+
+        return createEpisodes(request, scripts);
+    }
+
+    /**
+     * zip 항목을 이름별 로컬 임시 파일로 풉니다. 디렉터리와 숨김 파일은 건너뜁니다.
+     * 실패하더라도 이미 만든 임시 파일은 entries에 남아 있으므로 호출한 쪽에서 삭제합니다.
+     *
+     * @throws EpisodeBulkRequestException 압축 파일을 읽을 수 없거나, 항목 수 또는 압축 해제 크기가 제한을 넘을 경우
+     */
+    private void spoolEntries(MultipartFile archive, SortedMap<String, Path> entries) {
+        try (ZipInputStream zip = new ZipInputStream(archive.getInputStream())) {
+            BoundedEntryStream entryStream = new BoundedEntryStream(zip, maxEntrySize.toBytes(), maxTotalSize.toBytes());
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                if (entry.isDirectory() || isHidden(entry.getName())) {
+                    continue;
+                }
+                validateCount(entries.size() + 1);
+
+                entryStream.nextEntry(entry.getName());
+                Path spoolFile = Files.createTempFile("eatbook-archive-", null);
+                // 같은 이름의 항목이 다시 나오면 뒤의 항목으로 대체합니다.
+                deleteSpoolFile(entries.put(entry.getName(), spoolFile));
+                Files.copy(entryStream, spoolFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            throw new EpisodeBulkRequestException(INVALID_EPISODE_ARCHIVE, "압축 파일을 읽을 수 없습니다: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 스크립트를 임시 저장 풀에서 병렬로 임시 저장하고, 모두 끝날 때까지 기다립니다.
+     * 동시에 진행되는 저장 수는 풀의 스레드 수로 제한되며, 실패한 항목은 예외를 던지지 않고 실패 사유를 담아 반환합니다.
+     *
+     * @return 입력 순서대로 저장 결과
+     */
+    private <T> List<StagedScript> stageAll(List<T> sources, Function<T, String> fileNameOf, Function<T, StagedFile> stager) {
+        List<CompletableFuture<StagedScript>> futures = new ArrayList<>(sources.size());
+        for (T source : sources) {
+            String fileName = fileNameOf.apply(source);
+            CompletableFuture<StagedScript> future;
+            try {
+                future = CompletableFuture.supplyAsync(() -> stager.apply(source), fileStagingExecutor)
+                        .handle((stagedFile, e) -> e == null
+                                ? StagedScript.staged(fileName, stagedFile)
+                                : StagedScript.failed(fileName, e instanceof CompletionException ? e.getCause() : e));
+            } catch (TaskRejectedException e) {
+                future = CompletableFuture.completedFuture(StagedScript.failed(fileName, e));
+            }
+            futures.add(future);
+        }
+
+        List<StagedScript> scripts = futures.stream()
+                .map(CompletableFuture::join)
+                .toList();
+
+        long failed = scripts.stream().filter(script -> !script.isStaged()).count();
+        if (failed > 0) {
+            log.warn("스크립트 임시 저장 일부 실패: 전체={}, 실패={}", scripts.size(), failed);
+        }
+        return scripts;
+    }
+
+    /**
+     * 임시 저장된 스크립트를 검증하고, 유효한 회차를 한 트랜잭션에서 저장한 뒤 업로드를 예약합니다.
+     */
+    private EpisodeBulkResponse createEpisodes(EpisodeBulkRequest request, List<StagedScript> scripts) {
+        long startedAt = System.nanoTime();
+        List<String> titles;
+        EpisodeBulkResult[] results = new EpisodeBulkResult[scripts.size()];
+        Map<Integer, NewEpisode> newEpisodes;
+
+        try {
+            titles = resolveTitles(request, scripts);
+            validateTitleLengths(titles);
+            Map<Integer, StagedScript> validScripts = selectValidScripts(request.novelId(), titles, scripts, results);
+
+            newEpisodes = validScripts.isEmpty()
+                    ? Map.of()
+                    : transactionTemplate.execute(status -> saveEpisodes(request, titles, validScripts));
+        } catch (RuntimeException e) {
+            // 커밋되지 않은 회차의 임시 파일은 업로드되지 않으므로 모두 삭제합니다.
+            deleteStagedFiles(scripts);
+            throw e;
+        }
+
+        Map<String, String> presignedUrls = fileService.generatePresignedGetUrls(newEpisodes.values().stream()
+                .map(NewEpisode::objectKey)
+                .toList());
+
+        newEpisodes.forEach((i, newEpisode) -> results[i] = EpisodeBulkResult.created(
+                i,
+                titles.get(i),
+                newEpisode.episode().getChapterNumber(),
+                newEpisode.episode().getId(),
+                presignedUrls.get(newEpisode.objectKey())));
+
+        EpisodeBulkResponse response = EpisodeBulkResponse.of(request.novelId(), Arrays.asList(results), System.nanoTime() - startedAt);
+        log.info("에피소드 일괄 등록 완료: novelId={}, 전체={}, 등록={}, 건너뜀={}, 소요={}ms",
+                request.novelId(), response.totalCount(), response.createdCount(), response.skippedCount(), response.elapsedMillis());
+        return response;
+    }
+
+    /**
+     * 임시 저장에 실패한 항목, 제목이 비었거나 파일이 비어 있는 항목, 이미 등록되었거나 요청 안에서 중복된 제목을 걸러냅니다.
+     * 걸러진 항목의 결과를 채우고 임시 파일을 삭제합니다.
+     *
+     * @return 요청 내 순번을 키로 하는 유효한 스크립트
+     */
+    private Map<Integer, StagedScript> selectValidScripts(String novelId, List<String> titles,
+                                                          List<StagedScript> scripts, EpisodeBulkResult[] results) {
+        Set<String> registeredTitles = new HashSet<>(episodeRepository.findTitlesByNovelIdAndTitleIn(novelId,
+                titles.stream().filter(StringUtils::hasText).distinct().toList()));
+
+        Map<Integer, StagedScript> validScripts = new LinkedHashMap<>();
+        for (int i = 0; i < scripts.size(); i++) {
+            String title = titles.get(i);
+            StagedScript script = scripts.get(i);
+
+            if (!script.isStaged()) {
+                results[i] = EpisodeBulkResult.failed(i, title, script.failure());
+                continue;
+            } else if (!StringUtils.hasText(title)) {
+                results[i] = EpisodeBulkResult.invalid(i, title, "에피소드 제목은 필수입니다.");
+            } else if (script.size() == 0) {
+                results[i] = EpisodeBulkResult.invalid(i, title, "빈 파일은 등록할 수 없습니다.");
+            } else if (!registeredTitles.add(title)) {
+                results[i] = EpisodeBulkResult.duplicated(i, title);
+            } else {
+                validScripts.put(i, script);
+                continue;
+            }
+            fileService.deleteStagedFile(script.stagingKey());
+        }
+        return validScripts;
+    }
+
+    /**
+     * 회차 번호를 한 번에 할당하고 회차, 파일 메타데이터, 업로드 작업을 저장합니다.
+     * INSERT는 Hibernate 배치로 묶이며, 업로드 요청 이벤트는 커밋 이후 작업자 풀에 전달됩니다.
+     *
+     * @throws NovelNotFoundException 소설이 존재하지 않을 경우
+     */
+    private Map<Integer, NewEpisode> saveEpisodes(EpisodeBulkRequest request, List<String> titles,
+                                                  Map<Integer, StagedScript> scripts) {
+        int firstChapter = chapterSequenceRepository.allocate(request.novelId(), scripts.size())
+                .orElseThrow(() -> new NovelNotFoundException(NOVEL_NOT_FOUND));
+        Novel novel = novelRepository.getReferenceById(request.novelId());
+
+        Map<Integer, NewEpisode> newEpisodes = new LinkedHashMap<>();
+        List<Episode> episodes = new ArrayList<>(scripts.size());
+        List<FileMetadata> fileMetadataList = new ArrayList<>(scripts.size());
+        List<FileUploadOutbox> outboxes = new ArrayList<>(scripts.size());
+
+        int chapter = firstChapter;
+        for (Map.Entry<Integer, StagedScript> entry : scripts.entrySet()) {
+            Episode episode = Episode.builder()
+                    .title(titles.get(entry.getKey()))
+                    .chapterNumber(chapter++)
+                    .scheduledReleaseDate(request.scheduledReleaseDate())
+                    .releasedDate(request.releaseStatus() == ReleaseStatus.PUBLIC ? LocalDateTime.now() : request.releasedDate())
+                    .releaseStatus(request.releaseStatus())
+                    .novel(novel)
+                    .build();
+
+            FileMetadata fileMetadata = FileMetadata.builder()
+                    .type(SCRIPT)
+                    .episode(episode)
+                    .build();
+            fileMetadata.setPath(getFilePath(privateBucket, region, request.novelId(), episodeDirectory,
+                    episode.getId(), scriptDirectory, fileMetadata.getId()));
+
+            String objectKey = generateRelativePath(request.novelId(), episodeDirectory,
+                    episode.getId(), scriptDirectory, fileMetadata.getId());
+
+            episodes.add(episode);
+            fileMetadataList.add(fileMetadata);
+            outboxes.add(FileUploadOutbox.builder()
+                    .fileMetadataId(fileMetadata.getId())
+                    .bucket(privateBucket)
+                    .objectKey(objectKey)
+                    .contentType(EPISODE_CONTENT_TYPE.getMimeType())
+                    .stagingKey(entry.getValue().stagingKey())
+                    .build());
+            newEpisodes.put(entry.getKey(), new NewEpisode(episode, objectKey));
+        }
+
+        episodeRepository.saveAll(episodes);
+        fileMetadataRepository.saveAll(fileMetadataList);
+        fileUploadOutboxRepository.saveAll(outboxes);
+
+        outboxes.forEach(outbox -> eventPublisher.publishEvent(
+                FileUploadRequestedEvent.of(outbox.getId(), outbox.getStagingKey())));
+
+        return newEpisodes;
+    }
+
+    private List<String> resolveTitles(EpisodeBulkRequest request, List<StagedScript> scripts) {
+        if (request.titles() == null || request.titles().isEmpty()) {
+            return scripts.stream()
+                    .map(StagedScript::fileName)
+                    .toList();
+        }
+
+        if (request.titles().size() != scripts.size()) {
+            throw new EpisodeBulkRequestException(EPISODE_BULK_TITLE_MISMATCH,
+                    String.format("제목 %d개, 파일 %d개", request.titles().size(), scripts.size()));
+        }
+        return request.titles().stream()
+                .map(title -> title != null ? title.strip() : null)
+                .toList();
+    }
+
+    /**
+     * 제목이 컬럼 길이를 넘으면 INSERT 중 오류가 나기 전에 요청을 거절합니다.
+     */
+    private static void validateTitleLengths(List<String> titles) {
+        for (int i = 0; i < titles.size(); i++) {
+            String title = titles.get(i);
+            if (title != null && title.length() > MAX_TITLE_LENGTH) {
+                throw new EpisodeBulkRequestException(EPISODE_TITLE_TOO_LONG,
+                        String.format("%d번째 제목이 %d자를 넘습니다.", i + 1, MAX_TITLE_LENGTH));
+            }
+        }
+    }
+
+    private void validateCount(int count) {
+        if (count == 0) {
+            throw new EpisodeBulkRequestException(EPISODE_BULK_EMPTY, EPISODE_BULK_EMPTY.getMessage());
+        }
+        if (count > maxCount) {
+            throw new EpisodeBulkRequestException(EPISODE_BULK_LIMIT_EXCEEDED,
+                    String.format("한 번에 최대 %d개까지 등록할 수 있습니다.", maxCount));
+        }
+    }
+
+    private void deleteStagedFiles(Collection<StagedScript> scripts) {
+        fileService.deleteStagedFiles(scripts.stream()
+                .filter(StagedScript::isStaged)
+                .map(StagedScript::stagingKey)
+                .toList());
+    }
+
+    private static void deleteSpoolFile(Path spoolFile) {
+        if (spoolFile == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(spoolFile);
+        } catch (IOException e) {
+            log.warn("임시 파일 삭제 실패: {}, 원인={}", spoolFile, e.getMessage());
+        }
+    }
+
+    private static boolean isHidden(String entryName) {
+        String fileName = StringUtils.getFilename(entryName);
+        return entryName.startsWith("__MACOSX/") || fileName == null || fileName.startsWith(".");
+    }
+
+    private static String baseName(String fileName) {
+        String name = StringUtils.getFilename(fileName);
+        return name != null ? StringUtils.stripFilenameExtension(name).strip() : null;
+    }
+
+    /**
+     * S3 임시 접두사 아래에 저장된 회차 스크립트.
+     *
+     * @param fileName   확장자를 뺀 원래 파일 이름
+     * @param stagingKey 임시 객체의 키. 저장에 실패했으면 null
+     * @param size       파일 크기
+     * @param failure    저장에 실패한 사유. 저장했으면 null
+     */
+    private record StagedScript(String fileName, String stagingKey, long size, String failure) {
+
+        static StagedScript staged(String fileName, StagedFile stagedFile) {
+            return new StagedScript(fileName, stagedFile.key(), stagedFile.size(), null);
+        }
+
+        static StagedScript failed(String fileName, Throwable cause) {
+            return new StagedScript(fileName, null, 0, cause.getMessage());
+        }
+
+        boolean isStaged() {
+            return failure == null;
+        }
+    }
+
+    private record NewEpisode(Episode episode, String objectKey) {
+    }
+
+    /**
+     * zip 스트림에서 현재 항목을 읽으며 항목 크기와 전체 압축 해제 크기를 제한하는 스트림.
+     * 헤더에 적힌 크기는 조작할 수 있으므로 실제로 읽은 바이트를 셉니다. 닫아도 zip 스트림은 닫지 않습니다.
+     */
+    private static class BoundedEntryStream extends FilterInputStream {
+
+        private final long maxEntryBytes;
+        private final long maxTotalBytes;
+        private String entryName;
+        private long entryBytes;
+        private long totalBytes;
+
+        BoundedEntryStream(InputStream zip, long maxEntryBytes, long maxTotalBytes) {
+            super(zip);
+            this.maxEntryBytes = maxEntryBytes;
+            this.maxTotalBytes = maxTotalBytes;
+        }
+
+        void nextEntry(String name) {
+            entryName = name;
+            entryBytes = 0;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = super.read(b, off, len);
+            if (read > 0) {
+                count(read);
+            }
+            return read;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        private void count(int read) {
+            entryBytes += read;
+            totalBytes += read;
+            if (entryBytes > maxEntryBytes) {
+                throw new EpisodeBulkRequestException(EPISODE_ARCHIVE_TOO_LARGE,
+                        String.format("%s: 항목 하나는 최대 %d바이트까지 허용됩니다.", entryName, maxEntryBytes));
+            }
+            if (totalBytes > maxTotalBytes) {
+                throw new EpisodeBulkRequestException(EPISODE_ARCHIVE_TOO_LARGE,
+                        String.format("압축을 푼 전체 크기는 최대 %d바이트까지 허용됩니다.", maxTotalBytes));
+            }
+        }
+    }
+}
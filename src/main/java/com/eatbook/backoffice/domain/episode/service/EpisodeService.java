@@ -6,20 +6,30 @@ import com.eatbook.backoffice.domain.episode.dto.EpisodeResponse;
 import com.eatbook.backoffice.domain.episode.exception.EpisodeAlreadyExistsException;
 import com.eatbook.backoffice.domain.episode.exception.EpisodeNotFoundException;
 import com.eatbook.backoffice.domain.episode.repository.EpisodeRepository;
+import com.eatbook.backoffice.domain.episode.event.FileUploadRequestedEvent;
 import com.eatbook.backoffice.domain.episode.repository.FileMetadataRepository;
+import com.eatbook.backoffice.domain.episode.repository.FileUploadOutboxRepository;
+import com.eatbook.backoffice.domain.episode.repository.jdbc.ChapterSequenceRepository;
 import com.eatbook.backoffice.domain.novel.exception.NovelNotFoundException;
 import com.eatbook.backoffice.domain.novel.repository.NovelRepository;
 import com.eatbook.backoffice.domain.novel.service.FileService;
+import com.eatbook.backoffice.domain.novel.service.FileService.StagedFile;
+import com.eatbook.backoffice.domain.statistics.service.ViewCountService;
 import com.eatbook.backoffice.entity.Episode;
 import com.eatbook.backoffice.entity.FileMetadata;
+import com.eatbook.backoffice.entity.FileUploadOutbox;
 import com.eatbook.backoffice.entity.Novel;
 import com.eatbook.backoffice.entity.constant.ContentType;
 import com.eatbook.backoffice.entity.constant.ReleaseStatus;
+import com.eatbook.backoffice.global.utils.UuidGenerator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDateTime;
@@ -29,6 +39,7 @@ import static com.eatbook.backoffice.domain.episode.response.EpisodeErrorCode.EP
 import static com.eatbook.backoffice.domain.novel.response.NovelErrorCode.NOVEL_NOT_FOUND;
 import static com.eatbook.backoffice.entity.constant.ContentType.TXT;
 import static com.eatbook.backoffice.entity.constant.FileType.SCRIPT;
+import static com.eatbook.backoffice.global.config.CacheConfig.NOVEL_EPISODES;
 import static com.eatbook.backoffice.global.utils.PathGenerator.generateRelativePath;
 import static com.eatbook.backoffice.global.utils.PathGenerator.getFilePath;
 
@@ -44,7 +55,12 @@ public class EpisodeService {
     private final EpisodeRepository episodeRepository;
     private final NovelRepository novelRepository;
     private final FileMetadataRepository fileMetadataRepository;
+    private final FileUploadOutboxRepository fileUploadOutboxRepository;
+    private final ChapterSequenceRepository chapterSequenceRepository;
     private final FileService fileService;
+    private final ViewCountService viewCountService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
     private static final ContentType EPISODE_CONTENT_TYPE = TXT;
 
@@ -72,6 +88,9 @@ public class EpisodeService {
 
     /**
      * 제공된 요청과 파일로 새 에피소드를 생성합니다.
+     * 파일은 트랜잭션을 열기 전에 임시 저장하고, 회차 번호 할당과 저장만 짧은 트랜잭션에서 수행합니다.
+     * 회차 번호 할당은 소설 행을 잠그므로, S3 업로드 동안 잠금과 커넥션을 붙잡지 않기 위함입니다.
+     * 저장에 실패하면 임시 파일을 삭제하며, 커밋 이후에는 작업자가 임시 파일을 최종 위치로 게시합니다.
      *
      * @param episodeRequest 에피소드를 생성하기 위한 요청 정보
      * @param file 에피소드와 연결할 파일
@@ -79,10 +98,36 @@ public class EpisodeService {
      * @throws EpisodeAlreadyExistsException 에피소드 제목이 이미 존재할 경우
      * @throws NovelNotFoundException 소설이 존재하지 않을 경우
      */
-    @Transactional
+    @CacheEvict(cacheNames = NOVEL_EPISODES, key = "#episodeRequest.novelId()")
     public EpisodeResponse createEpisode(EpisodeRequest episodeRequest, MultipartFile file) {
         checkForDuplicateEpisodeTitle(episodeRequest);
+        findNovelById(episodeRequest.novelId());
 
+        StagedFile stagedFile = fileService.stageFile(file, UuidGenerator.generate());
+
+        String filePath;
+        Episode episode;
+        try {
+            NewEpisode newEpisode = transactionTemplate.execute(status -> saveEpisode(episodeRequest, stagedFile));
+            filePath = newEpisode.objectKey();
+            episode = newEpisode.episode();
+        } catch (RuntimeException e) {
+            // 커밋되지 않은 회차의 임시 파일은 게시되지 않으므로 삭제합니다.
+            fileService.deleteStagedFile(stagedFile.key());
+            throw e;
+        }
+
+        String presignedURL = fileService.generatePresignedGetUrl(filePath);
+        return new EpisodeResponse(episode.getId(), presignedURL);
+    }
+
+    /**
+     * 회차 번호를 할당하고 회차, 파일 메타데이터, 업로드 작업을 저장합니다.
+     * 업로드 요청 이벤트는 커밋 이후 작업자에게 전달됩니다.
+     *
+     * @throws NovelNotFoundException 소설이 존재하지 않을 경우
+     */
+    private NewEpisode saveEpisode(EpisodeRequest episodeRequest, StagedFile stagedFile) {
         Novel novel = findNovelById(episodeRequest.novelId());
         Episode episode = createAndSaveEpisode(episodeRequest, novel);
         FileMetadata fileMetadata = createAndSaveFileMetadata(episode, novel.getId());
@@ -95,13 +140,21 @@ public class EpisodeService {
                 fileMetadata.getId()
         );
 
-        String presignedURL = fileService.uploadFileToBucket(filePath, file, TXT.getMimeType(), privateBucket);
+        FileUploadOutbox outbox = fileUploadOutboxRepository.save(FileUploadOutbox.builder()
+                .fileMetadataId(fileMetadata.getId())
+                .bucket(privateBucket)
+                .objectKey(filePath)
+                .contentType(EPISODE_CONTENT_TYPE.getMimeType())
+                .stagingKey(stagedFile.key())
+                .build());
+        eventPublisher.publishEvent(FileUploadRequestedEvent.of(outbox.getId(), outbox.getStagingKey()));
 
-        return new EpisodeResponse(episode.getId(), presignedURL);
+        return new NewEpisode(episode, filePath);
     }
 
     /**
-     * 에피소드 ID를 기반으로 상세 정보를 조회합니다.
+     * 에피소드 ID를 기반으로 상세 정보를 조회하고 조회수를 기록합니다.
+     * 응답의 조회수에는 아직 DB에 기록되지 않은 조회까지 포함됩니다.
      *
      * @param episodeId 조회할 에피소드의 ID
      * @return 조회된 에피소드 상세 정보
@@ -109,21 +162,21 @@ public class EpisodeService {
      */
     @Transactional(readOnly = true)
     public EpisodeDetailResponse getEpisodeDetails(String episodeId) {
-        Episode episode = episodeRepository.findById(episodeId)
-                .orElseThrow(() -> new EpisodeNotFoundException(EPISODE_NOT_FOUND));
-
-        return EpisodeDetailResponse.builder()
-                .id(episode.getId())
-                .title(episode.getTitle())
-                .chapter(episode.getChapterNumber())
-                .scheduledDate(episode.getScheduledReleaseDate())
-                .releaseDate(episode.getReleasedDate())
-                .releaseStatus(episode.getReleaseStatus())
-                .novelId(episode.getNovel().getId())
-                .viewCount(episode.getViewCount())
-                .createdAt(episode.getCreatedAt())
-                .updatedAt(episode.getUpdatedAt())
-                .build();
+        return viewCountService.recordEpisodeView(episodeId,
+                () -> episodeRepository.findById(episodeId)
+                        .orElseThrow(() -> new EpisodeNotFoundException(EPISODE_NOT_FOUND)),
+                (episode, pendingViews) -> EpisodeDetailResponse.builder()
+                        .id(episode.getId())
+                        .title(episode.getTitle())
+                        .chapter(episode.getChapterNumber())
+                        .scheduledDate(episode.getScheduledReleaseDate())
+                        .releaseDate(episode.getReleasedDate())
+                        .releaseStatus(episode.getReleaseStatus())
+                        .novelId(episode.getNovel().getId())
+                        .viewCount(episode.getViewCount() + pendingViews)
+                        .createdAt(episode.getCreatedAt())
+                        .updatedAt(episode.getUpdatedAt())
+                        .build());
     }
 
     /**
@@ -151,14 +204,16 @@ public class EpisodeService {
 
     /**
      * 에피소드를 생성하고, 저장합니다.
+     * 회차 번호는 소설의 채번 컬럼을 증가시켜 할당하므로, 같은 소설에 동시에 등록되는 회차도 번호가 겹치지 않습니다.
      *
      * @param episodeRequest 에피소드 생성 요청
      * @param novel 에피소드가 속한 소설
      * @return 생성된 에피소드
+     * @throws NovelNotFoundException 채번 도중 소설이 삭제된 경우
      */
     private Episode createAndSaveEpisode(EpisodeRequest episodeRequest, Novel novel) {
-        Integer maxChapterNumber = episodeRepository.findMaxChapterNumberByNovelId(novel.getId());
-        int nextChapterNumber = (maxChapterNumber != null ? maxChapterNumber : 0) + 1;
+        int nextChapterNumber = chapterSequenceRepository.allocate(novel.getId(), 1)
+                .orElseThrow(() -> new NovelNotFoundException(NOVEL_NOT_FOUND));
 
         Episode episode = Episode.builder()
                 .title(episodeRequest.title())
@@ -184,14 +239,13 @@ public class EpisodeService {
      * @return 생성된 파일 메타데이터
      */
     private FileMetadata createAndSaveFileMetadata(Episode episode, String novelId) {
-
-        FileMetadata fileMetadata = fileMetadataRepository.save(FileMetadata.builder()
+        FileMetadata fileMetadata = FileMetadata.builder()
                 .type(SCRIPT)
                 .episode(episode)
-                .path("")
-                .build());
+                .build();
 
-        String filePath = getFilePath(
+        // Id가 생성 시점에 할당되므로 파일 경로를 저장 전에 채워 INSERT 한 번으로 저장합니다.
+        fileMetadata.setPath(getFilePath(
                 privateBucket,
                 region,
                 novelId,
@@ -199,9 +253,11 @@ public class EpisodeService {
                 episode.getId(),
                 scriptDirectory,
                 fileMetadata.getId()
-        );
+        ));
 
-        fileMetadata.setPath(filePath);
         return fileMetadataRepository.save(fileMetadata);
     }
-}
\ No newline at end of file
+
+    private record NewEpisode(Episode episode, String objectKey) {
+    }
+}
@@ -0,0 +1,35 @@
+package com.eatbook.backoffice.domain.episode.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 커밋 직후 제출되지 못했거나(대기열 초과, 서버 종료), 재시도가 예약된 업로드 작업을 주기적으로 다시 제출합니다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class FileUploadOutboxRelay {
+
+    private final FileUploadOutboxService fileUploadOutboxService;
+    private final FileUploadWorker fileUploadWorker;
+
+    @Value("${cloud.aws.s3.upload.relay-batch-size:50}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${cloud.aws.s3.upload.relay-interval-ms:30000}")
+    public void relay() {
+        List<String> dueIds = fileUploadOutboxService.findDueIds(batchSize);
+        if (dueIds.isEmpty()) {
+            return;
+        }
+
+        log.info("파일 업로드 작업 재제출: {}건", dueIds.size());
+        dueIds.forEach(fileUploadWorker::submit);
+    }
+}
@@ -0,0 +1,115 @@
+package com.eatbook.backoffice.domain.episode.service;
+
+import com.eatbook.backoffice.domain.episode.repository.FileMetadataRepository;
+import com.eatbook.backoffice.domain.episode.repository.FileUploadOutboxRepository;
+import com.eatbook.backoffice.entity.FileUploadOutbox;
+import com.eatbook.backoffice.entity.constant.FileStatus;
+import com.eatbook.backoffice.entity.constant.OutboxStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static com.eatbook.backoffice.entity.constant.FileStatus.UPLOADED;
+import static com.eatbook.backoffice.entity.constant.OutboxStatus.PENDING;
+import static com.eatbook.backoffice.entity.constant.OutboxStatus.PROCESSING;
+
+/**
+ * 파일 업로드 아웃박스 작업의 상태 전이를 담당합니다.
+ * 각 메서드는 짧은 트랜잭션으로 실행되며, S3 업로드 자체는 트랜잭션 밖에서 수행됩니다.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class FileUploadOutboxService {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final FileUploadOutboxRepository fileUploadOutboxRepository;
+    private final FileMetadataRepository fileMetadataRepository;
+
+    @Value("${cloud.aws.s3.upload.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${cloud.aws.s3.upload.initial-backoff:30s}")
+    private Duration initialBackoff;
+
+    @Value("${cloud.aws.s3.upload.max-backoff:30m}")
+    private Duration maxBackoff;
+
+    @Value("${cloud.aws.s3.upload.lease:10m}")
+    private Duration lease;
+
+    @Transactional(readOnly = true)
+    public List<String> findDueIds(int limit) {
+        return fileUploadOutboxRepository.findDueIds(PENDING, PROCESSING, LocalDateTime.now(), PageRequest.of(0, limit));
+    }
+
+    /**
+     * 작업을 점유하고 점유한 작업을 반환합니다.
+     * 점유 시간(lease)이 지나도록 완료되지 않으면 작업자가 종료된 것으로 보고 다른 작업자가 다시 점유할 수 있습니다.
+     *
+     * @param outboxId 업로드 작업 ID
+     * @return 점유에 성공한 작업. 다른 작업자가 이미 점유했거나 처리할 시각이 아니면 빈 값
+     */
+    @Transactional
+    public Optional<FileUploadOutbox> claim(String outboxId) {
+        LocalDateTime now = LocalDateTime.now();
+        int claimed = fileUploadOutboxRepository.claim(outboxId, PENDING, PROCESSING, now, now.plus(lease));
+        if (claimed == 0) {
+            return Optional.empty();
+        }
+        return fileUploadOutboxRepository.findById(outboxId);
+    }
+
+    /**
+     * 업로드가 끝난 파일을 완료 상태로 바꾸고 작업을 삭제합니다.
+     */
+    @Transactional
+    public void complete(FileUploadOutbox outbox) {
+        fileMetadataRepository.updateStatus(outbox.getFileMetadataId(), UPLOADED);
+        fileUploadOutboxRepository.deleteById(outbox.getId());
+    }
+
+    /**
+     * 업로드 실패를 기록합니다. 재시도할 수 있고 최대 시도 횟수에 도달하지 않았다면
+     * 지수 백오프 이후로 다시 예약하고, 그렇지 않으면 작업과 파일을 실패 상태로 둡니다.
+     *
+     * @param outbox    실패한 작업
+     * @param cause     실패 원인
+     * @param retryable 재시도로 해결될 수 있는 실패인지 여부
+     */
+    @Transactional
+    public void recordFailure(FileUploadOutbox outbox, Exception cause, boolean retryable) {
+        String error = truncate(cause.getClass().getSimpleName() + ": " + cause.getMessage());
+
+        if (retryable && outbox.getAttempts() < maxAttempts) {
+            LocalDateTime nextAttemptAt = LocalDateTime.now().plus(backoff(outbox.getAttempts()));
+            fileUploadOutboxRepository.release(outbox.getId(), PENDING, nextAttemptAt, error);
+            log.warn("파일 업로드 실패, 재시도 예약: outboxId={}, 시도={}, 다음 시도={}, 원인={}",
+                    outbox.getId(), outbox.getAttempts(), nextAttemptAt, error);
+            return;
+        }
+
+        fileUploadOutboxRepository.release(outbox.getId(), OutboxStatus.FAILED, outbox.getNextAttemptAt(), error);
+        fileMetadataRepository.updateStatus(outbox.getFileMetadataId(), FileStatus.FAILED);
+        log.error("파일 업로드 최종 실패: outboxId={}, fileMetadataId={}, 시도={}, 원인={}",
+                outbox.getId(), outbox.getFileMetadataId(), outbox.getAttempts(), error);
+    }
+
+    private Duration backoff(int attempts) {
+        Duration delay = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private static String truncate(String message) {
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+}
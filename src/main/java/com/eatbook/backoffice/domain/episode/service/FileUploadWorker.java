@@ -0,0 +1,83 @@
+package com.eatbook.backoffice.domain.episode.service;
+
+import com.eatbook.backoffice.domain.episode.event.FileUploadRequestedEvent;
+import com.eatbook.backoffice.domain.novel.service.FileService;
+import com.eatbook.backoffice.entity.FileUploadOutbox;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+
+import java.util.Optional;
+
+/**
+ * 아웃박스에 기록된 파일을 작업자 풀에서 S3로 업로드합니다.
+ * 업로드는 트랜잭션 밖에서 수행되므로 전송 중에는 DB 커넥션을 점유하지 않습니다.
+ * 파일은 S3 임시 접두사에 보관되어 있으므로 어느 노드가 작업을 점유하든 서버 측 복사로 게시할 수 있습니다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class FileUploadWorker {
+
+    private final FileService fileService;
+    private final FileUploadOutboxService fileUploadOutboxService;
+    private final ThreadPoolTaskExecutor fileUploadExecutor;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onUploadRequested(FileUploadRequestedEvent event) {
+        submit(event.outboxId());
+    }
+
+    /**
+     * 트랜잭션이 롤백되면 아웃박스 작업도 함께 사라지므로, 임시 저장한 파일을 삭제합니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
+    public void onUploadRolledBack(FileUploadRequestedEvent event) {
+        fileService.deleteStagedFile(event.stagingKey());
+    }
+
+    /**
+     * 업로드 작업을 작업자 풀에 제출합니다. 대기열이 가득 차 거절되면 릴레이가 다음 주기에 다시 제출합니다.
+     */
+    public void submit(String outboxId) {
+        try {
+            fileUploadExecutor.execute(() -> process(outboxId));
+        } catch (TaskRejectedException e) {
+            log.warn("파일 업로드 대기열이 가득 차 릴레이로 넘깁니다: outboxId={}", outboxId);
+        }
+    }
+
+    void process(String outboxId) {
+        Optional<FileUploadOutbox> claimed = fileUploadOutboxService.claim(outboxId);
+        if (claimed.isEmpty()) {
+            return;
+        }
+
+        FileUploadOutbox outbox = claimed.get();
+
+        try {
+            boolean published = fileService.publishStagedFile(
+                    outbox.getStagingKey(), outbox.getObjectKey(), outbox.getContentType(), outbox.getBucket());
+            if (!published && !fileService.objectExists(outbox.getObjectKey(), outbox.getBucket())) {
+                // 임시 객체가 아직 보이지 않거나 유실된 경우입니다. 재시도하고, 끝내 없으면 최종 실패로 기록되어 오류 로그가 남습니다.
+                fileUploadOutboxService.recordFailure(outbox, NoSuchKeyException.builder()
+                        .message("임시 객체가 없습니다: " + outbox.getStagingKey())
+                        .build(), true);
+                return;
+            }
+            // 임시 객체가 없어도 대상 객체가 있으면 이전 시도가 게시한 뒤 완료 처리 전에 중단된 것입니다.
+        } catch (Exception e) {
+            fileUploadOutboxService.recordFailure(outbox, e, true);
+            return;
+        }
+
+        fileUploadOutboxService.complete(outbox);
+        fileService.deleteStagedFile(outbox.getStagingKey());
+        log.info("파일 업로드 완료: fileMetadataId={}, key={}", outbox.getFileMetadataId(), outbox.getObjectKey());
+    }
+}
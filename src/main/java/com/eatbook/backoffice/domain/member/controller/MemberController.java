@@ -1,20 +1,32 @@
 package com.eatbook.backoffice.domain.member.controller;
 
+import com.eatbook.backoffice.domain.member.dto.MemberCursorListResponse;
 import com.eatbook.backoffice.domain.member.dto.MemberListResponse;
+import com.eatbook.backoffice.domain.member.dto.MemberRoleBulkUpdateRequest;
+import com.eatbook.backoffice.domain.member.dto.MemberRoleBulkUpdateResponse;
+import com.eatbook.backoffice.domain.member.dto.MemberSearchCondition;
+import com.eatbook.backoffice.domain.member.service.MemberExportService;
 import com.eatbook.backoffice.domain.member.service.MemberService;
+import com.eatbook.backoffice.entity.constant.ExportFormat;
 import com.eatbook.backoffice.entity.constant.Role;
 import com.eatbook.backoffice.entity.constant.SortDirection;
 import com.eatbook.backoffice.entity.constant.SortField;
 import com.eatbook.backoffice.global.response.ApiResponse;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import static com.eatbook.backoffice.domain.member.response.MemberSuccessCode.GET_MEMBER_LIST;
 import static com.eatbook.backoffice.domain.member.response.MemberSuccessCode.UPDATE_MEMBER_ROLE;
+import static com.eatbook.backoffice.domain.member.response.MemberSuccessCode.UPDATE_MEMBER_ROLES;
 
 @RestController
 @RequiredArgsConstructor
@@ -22,28 +34,68 @@ import static com.eatbook.backoffice.domain.member.response.MemberSuccessCode.UP
 @RequestMapping("/api/admin")
 public class MemberController {
     private final MemberService memberService;
+    private final MemberExportService memberExportService;
 
     /**
-     * 제공된 조건에 따라 페이지별 멤버 목록을 검색합니다.
+     * 제공된 조건에 따라 멤버 목록을 검색합니다.
+     * page가 주어지면 기존의 페이지 번호 기반 목록을, 생략하면 커서 기반 목록을 반환합니다.
      *
-     * @param page 검색할 페이지 번호 (양의 정수여야 함).
+     * @param page 검색할 페이지 번호 (양의 정수여야 함). 생략하면 커서 기반으로 조회합니다.
      * @param size 페이지당 멤버 수 (양의 정수여야 함).
+     * @param cursor 커서 기반 조회 시 이전 응답의 nextCursor 값. 첫 페이지는 생략합니다.
+     * @param condition 검색 조건 (role, emailPrefix, nicknamePrefix, gender, ageGroup, createdFrom, createdTo,
+     *                  lastLoginFrom, lastLoginTo, deleted). 생략한 조건은 적용하지 않습니다.
      * @param sortField 멤버를 정렬할 필드 (기본값은 'id').
      * @param sortDirection 정렬 방향 (기본값은 'asc').
      * @return 멤버 목록을 포함하는 {@link ResponseEntity}
      */
     @GetMapping("/members")
-    public ResponseEntity<ApiResponse> getMemberList(@RequestParam(name = "page") @Min(1) final int page,
+    public ResponseEntity<ApiResponse> getMemberList(@RequestParam(name = "page", required = false) @Min(1) final Integer page,
                                                      @RequestParam(name = "size") @Min(1) final int size,
-                                                     @RequestParam(name = "role", required = false) final Role role,
+                                                     @RequestParam(name = "cursor", required = false) final String cursor,
+                                                     @ModelAttribute final MemberSearchCondition condition,
                                                      @RequestParam(name = "sortField", defaultValue = "ID") final SortField sortField,
                                                      @RequestParam(name = "sortDirection", defaultValue = "ASC") final SortDirection sortDirection) {
-        MemberListResponse memberList = memberService.getMemberList(page, size, role, sortField, sortDirection);
+        if (page == null) {
+            MemberCursorListResponse memberList = memberService.getMemberListByCursor(cursor, size, condition, sortField, sortDirection);
+            return ResponseEntity
+                    .status(HttpStatus.OK)
+                    .body(ApiResponse.of(GET_MEMBER_LIST, memberList));
+        }
+
+        MemberListResponse memberList = memberService.getMemberList(page, size, condition, sortField, sortDirection);
         return ResponseEntity
                 .status(HttpStatus.OK)
                 .body(ApiResponse.of(GET_MEMBER_LIST, memberList));
     }
 
+    /**
+     * 회원 전체를 CSV 또는 NDJSON 파일로 내보냅니다.
+     * 페이지를 나누지 않고 DB 커서에서 읽는 대로 응답에 기록하므로 회원 수와 관계없이 메모리 사용량이 일정합니다.
+     *
+     * @param format 파일 형식 (기본값은 'CSV').
+     * @param gzip gzip으로 압축할지 여부. 압축하면 파일 이름에 .gz가 붙습니다.
+     * @param role 내보낼 역할. 생략하면 모든 역할을 내보냅니다.
+     * @param sortField 멤버를 정렬할 필드 (기본값은 'id').
+     * @param sortDirection 정렬 방향 (기본값은 'asc').
+     * @return 회원 목록 파일을 스트리밍하는 {@link ResponseEntity}
+     */
+    @GetMapping("/members/export")
+    public ResponseEntity<StreamingResponseBody> exportMembers(@RequestParam(name = "format", defaultValue = "CSV") final ExportFormat format,
+                                                               @RequestParam(name = "gzip", defaultValue = "false") final boolean gzip,
+                                                               @RequestParam(name = "role", required = false) final Role role,
+                                                               @RequestParam(name = "sortField", defaultValue = "ID") final SortField sortField,
+                                                               @RequestParam(name = "sortDirection", defaultValue = "ASC") final SortDirection sortDirection) {
+        StreamingResponseBody body = memberExportService.streamMembers(format, gzip, role, sortField, sortDirection);
+
+        String filename = "members." + format.getExtension() + (gzip ? ".gz" : "");
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .contentType(MediaType.parseMediaType(gzip ? "application/gzip" : format.getMimeType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+
     @PutMapping("/members/{memberId}/roles/{role}")
     public ResponseEntity<ApiResponse> updateMemberRole(
                                                         @PathVariable("memberId") String memberId,
@@ -53,4 +105,19 @@ public class MemberController {
                 .status(HttpStatus.OK)
                 .body(ApiResponse.of(UPDATE_MEMBER_ROLE));
     }
+
+    /**
+     * 회원 Id 목록 또는 검색 조건에 해당하는 회원의 권한을 한 번에 변경합니다.
+     * 예: 특정 시점 이전에 가입한 PENDING_ADMIN 회원을 모두 ADMIN으로 승인
+     *
+     * @param request 변경할 권한과 대상 회원 Id 목록 또는 검색 조건
+     * @return 대상 회원 수와 변경된 회원 수를 포함하는 {@link ResponseEntity}
+     */
+    @PutMapping("/members/roles")
+    public ResponseEntity<ApiResponse> updateMemberRoles(@Valid @RequestBody MemberRoleBulkUpdateRequest request) {
+        MemberRoleBulkUpdateResponse response = memberService.updateMemberRoles(request);
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(ApiResponse.of(UPDATE_MEMBER_ROLES, response));
+    }
 }
@@ -0,0 +1,88 @@
+package com.eatbook.backoffice.domain.member.dto;
+
+import com.eatbook.backoffice.entity.constant.SortDirection;
+import com.eatbook.backoffice.entity.constant.SortField;
+import com.eatbook.backoffice.global.exception.exceptions.InvalidCursorException;
+import com.eatbook.backoffice.global.utils.CursorCodec;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+import static com.eatbook.backoffice.global.response.GlobalErrorCode.INVALID_CURSOR;
+
+/**
+ * 회원 목록 커서 페이지네이션의 정렬 키 (정렬 필드 값, id) 입니다.
+ * 커서에는 정렬 필드와 방향도 함께 담아, 다른 정렬 조건으로 만든 커서가 섞여 들어오는 것을 막습니다.
+ * 정렬 필드 값이 null(이메일 미등록)일 수 있으므로, null이 아닌 값에는 접두어를 붙여 빈 문자열과 구분합니다.
+ */
+public record MemberCursor(
+        SortField sortField,
+        SortDirection sortDirection,
+        String value,
+        String id
+) {
+    private static final String VALUE_PREFIX = "=";
+
+    public static MemberCursor of(
+            final SortField sortField,
+            final SortDirection sortDirection,
+            final MemberInfo last
+    ) {
+        String value = switch (sortField) {
+            case ID -> last.id();
+            case NICKNAME -> last.nickname();
+            case EMAIL -> last.email();
+            case CREATED_AT -> last.createdAt().toString();
+        };
+        return new MemberCursor(sortField, sortDirection, value, last.id());
+    }
+
+    /**
+     * 클라이언트가 전달한 커서 문자열을 정렬 키로 변환합니다.
+     *
+     * @param cursor 이전 응답의 nextCursor 값
+     * @param sortField 요청의 정렬 필드
+     * @param sortDirection 요청의 정렬 방향
+     * @return 디코딩된 정렬 키
+     * @throws InvalidCursorException 커서 형식이 올바르지 않거나 요청의 정렬 조건과 다를 경우 발생
+     */
+    public static MemberCursor decode(String cursor, SortField sortField, SortDirection sortDirection) {
+        List<String> values = CursorCodec.decode(cursor, 4);
+        if (!sortField.name().equals(values.get(0)) || !sortDirection.name().equals(values.get(1))) {
+            throw new InvalidCursorException(INVALID_CURSOR);
+        }
+
+        String value = values.get(2);
+        if (!value.isEmpty() && !value.startsWith(VALUE_PREFIX)) {
+            throw new InvalidCursorException(INVALID_CURSOR);
+        }
+        MemberCursor memberCursor = new MemberCursor(sortField, sortDirection,
+                value.isEmpty() ? null : value.substring(VALUE_PREFIX.length()), values.get(3));
+
+        if (sortField == SortField.CREATED_AT) {
+            memberCursor.createdAt();
+        }
+        return memberCursor;
+    }
+
+    public String encode() {
+        return CursorCodec.encode(sortField.name(), sortDirection.name(), value == null ? "" : VALUE_PREFIX + value, id);
+    }
+
+    /**
+     * CREATED_AT 정렬 커서의 값을 시각으로 변환합니다.
+     *
+     * @throws InvalidCursorException 값이 시각 형식이 아닐 경우 발생
+     */
+    public LocalDateTime createdAt() {
+        if (value == null) {
+            throw new InvalidCursorException(INVALID_CURSOR);
+        }
+        try {
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new InvalidCursorException(INVALID_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.eatbook.backoffice.domain.member.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+public record MemberCursorListResponse(
+        @JsonProperty("totalElements")
+        Long totalElements,
+
+        @JsonProperty("size")
+        int size,
+
+        @JsonProperty("hasNext")
+        boolean hasNext,
+
+        @JsonProperty("nextCursor")
+        String nextCursor,
+
+        @JsonProperty("memberList")
+        List<MemberInfo> memberList
+) {
+    public static MemberCursorListResponse of(
+            final Long totalElements,
+            final int size,
+            final boolean hasNext,
+            final String nextCursor,
+            final List<MemberInfo> memberList
+    ) {
+        return new MemberCursorListResponse(totalElements, size, hasNext, nextCursor, memberList);
+    }
+}
@@ -0,0 +1,23 @@
+package com.eatbook.backoffice.domain.member.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+import java.util.List;
+
+/**
+ * 여러 회원의 권한을 한 번에 변경하는 요청.
+ * memberIds와 filter 중 하나만 지정해야 합니다.
+ *
+ * @param role      변경할 권한
+ * @param memberIds 권한을 변경할 회원 Id 목록
+ * @param filter    권한을 변경할 회원의 검색 조건. 예: role = PENDING_ADMIN, createdTo = 2024-11-01T00:00:00
+ */
+public record MemberRoleBulkUpdateRequest(
+        @NotBlank(message = "변경할 권한은 필수입니다.")
+        String role,
+
+        List<String> memberIds,
+
+        MemberSearchCondition filter
+) {
+}
@@ -0,0 +1,35 @@
+package com.eatbook.backoffice.domain.member.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * @param requestedCount 요청한 Id 또는 검색 조건에 해당하는 회원 수
+ * @param updatedCount   권한이 변경된 회원 수
+ * @param skippedCount   존재하지 않거나 탈퇴하여 변경하지 않은 회원 수
+ * @param chunkCount     실행한 UPDATE 문 수
+ */
+public record MemberRoleBulkUpdateResponse(
+        @JsonProperty("role")
+        String role,
+
+        @JsonProperty("requestedCount")
+        int requestedCount,
+
+        @JsonProperty("updatedCount")
+        int updatedCount,
+
+        @JsonProperty("skippedCount")
+        int skippedCount,
+
+        @JsonProperty("chunkCount")
+        int chunkCount
+) {
+    public static MemberRoleBulkUpdateResponse of(
+            final String role,
+            final int requestedCount,
+            final int updatedCount,
+            final int chunkCount
+    ) {
+        return new MemberRoleBulkUpdateResponse(role, requestedCount, updatedCount, requestedCount - updatedCount, chunkCount);
+    }
+}
@@ -0,0 +1,59 @@
+package com.eatbook.backoffice.domain.member.dto;
+
+import com.eatbook.backoffice.entity.constant.AgeGroup;
+import com.eatbook.backoffice.entity.constant.DeletedStatus;
+import com.eatbook.backoffice.entity.constant.Gender;
+import com.eatbook.backoffice.entity.constant.Role;
+import lombok.Builder;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDateTime;
+
+import static org.springframework.format.annotation.DateTimeFormat.ISO.DATE_TIME;
+
+/**
+ * 관리자 회원 검색 조건. null인 조건은 적용하지 않습니다.
+ * 기간 조건은 시작 시각을 포함하고 종료 시각은 포함하지 않으며, 탈퇴 여부를 생략하면 탈퇴하지 않은 회원만 조회합니다.
+ */
+@Builder
+public record MemberSearchCondition(
+        Role role,
+        String emailPrefix,
+        String nicknamePrefix,
+        Gender gender,
+        AgeGroup ageGroup,
+        @DateTimeFormat(iso = DATE_TIME) LocalDateTime createdFrom,
+        @DateTimeFormat(iso = DATE_TIME) LocalDateTime createdTo,
+        @DateTimeFormat(iso = DATE_TIME) LocalDateTime lastLoginFrom,
+        @DateTimeFormat(iso = DATE_TIME) LocalDateTime lastLoginTo,
+        DeletedStatus deleted
+) {
+    public MemberSearchCondition {
+        if (deleted == null) {
+            deleted = DeletedStatus.ACTIVE;
+        }
+    }
+
+    public static MemberSearchCondition of(final Role role) {
+        return MemberSearchCondition.builder()
+                .role(role)
+                .build();
+    }
+
+    /**
+     * 역할과 탈퇴 여부 외에 대상 회원을 좁히는 조건이 있는지 확인합니다.
+     * 역할별 회원 수는 {@code MemberCountCache}가 집계하지만, 그 밖의 조건에 맞는 회원 수는 알 수 없습니다.
+     */
+    public boolean hasPredicate() {
+        return StringUtils.hasText(emailPrefix) || StringUtils.hasText(nicknamePrefix) || gender != null || ageGroup != null
+                || createdFrom != null || createdTo != null || lastLoginFrom != null || lastLoginTo != null;
+    }
+
+    /**
+     * 탈퇴한 회원도 조회 대상인지 확인합니다. 탈퇴 여부는 대상을 넓힐 수도 있으므로 {@link #hasPredicate()}와 따로 판단합니다.
+     */
+    public boolean includesDeleted() {
+        return deleted != DeletedStatus.ACTIVE;
+    }
+}
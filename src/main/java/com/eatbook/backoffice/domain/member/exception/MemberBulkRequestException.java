@@ -0,0 +1,11 @@
+package com.eatbook.backoffice.domain.member.exception;
+
+import com.eatbook.backoffice.global.exception.exceptions.BusinessException;
+import com.eatbook.backoffice.global.response.StatusCode;
+
+public class MemberBulkRequestException extends BusinessException {
+
+    public MemberBulkRequestException(StatusCode code, String detailMessage) {
+        super(detailMessage, code);
+    }
+}
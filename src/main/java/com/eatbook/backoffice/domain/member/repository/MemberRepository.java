@@ -7,6 +7,8 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
 import java.util.Optional;
 
 public interface MemberRepository extends JpaRepository<Member, String>, MemberCustomRepository {
@@ -17,4 +19,11 @@ public interface MemberRepository extends JpaRepository<Member, String>, MemberC
     @Modifying
     @Query("UPDATE Member m SET m.role = :role WHERE m.id = :id")
     void updateMemberRole(@Param("id") String id, @Param("role") Role role);
+
+    /**
+     * @return 권한이 변경된 회원 수. 탈퇴한 회원은 변경하지 않습니다.
+     */
+    @Modifying
+    @Query("UPDATE Member m SET m.role = :role WHERE m.id IN :ids AND m.deletedAt IS NULL")
+    int updateMemberRoles(@Param("ids") Collection<String> ids, @Param("role") Role role);
 }
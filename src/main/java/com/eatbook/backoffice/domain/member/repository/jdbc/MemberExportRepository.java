@@ -0,0 +1,84 @@
+package com.eatbook.backoffice.domain.member.repository.jdbc;
+
+import com.eatbook.backoffice.domain.member.dto.MemberInfo;
+import com.eatbook.backoffice.entity.constant.Role;
+import com.eatbook.backoffice.entity.constant.SortDirection;
+import com.eatbook.backoffice.entity.constant.SortField;
+import com.eatbook.backoffice.global.utils.BinaryUuid;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+/**
+ * 회원 전체를 JDBC 커서로 한 행씩 읽어 전달하는 리포지토리.
+ * OFFSET 페이지를 반복하지 않고 쿼리 한 번으로 읽으며, 결과를 모으지 않으므로 회원 수와 관계없이 메모리 사용량이 일정합니다.
+ */
+@Repository
+public class MemberExportRepository {
+
+    private static final String SELECT_MEMBERS =
+            "SELECT id, role, nickname, profile_image_url, email, created_at, updated_at, deleted_at " +
+            "FROM member " +
+            "WHERE deleted_at IS NULL ";
+
+    private static final String ROLE_FILTER = "AND role = ? ";
+
+    private final JdbcTemplate streamingJdbcTemplate;
+
+    public MemberExportRepository(@Qualifier("streamingJdbcTemplate") JdbcTemplate streamingJdbcTemplate) {
+        this.streamingJdbcTemplate = streamingJdbcTemplate;
+    }
+
+    /**
+     * 회원을 (정렬 필드, id) 순서대로 읽으며 한 건씩 consumer에 전달합니다.
+     *
+     * @param role 내보낼 역할. null이면 모든 역할을 읽습니다.
+     * @param sortField 정렬 필드
+     * @param sortDirection 정렬 방향
+     * @param consumer 각 회원을 처리할 함수
+     */
+    public void streamMembers(Role role, SortField sortField, SortDirection sortDirection, Consumer<MemberInfo> consumer) {
+        String sql = SELECT_MEMBERS;
+        Object[] args = {};
+        if (role != null) {
+            sql += ROLE_FILTER;
+            args = new Object[]{role.name()};
+        }
+        sql += orderBy(sortField, sortDirection);
+
+        streamingJdbcTemplate.query(sql, (RowCallbackHandler) rs -> {
+            consumer.accept(MemberInfo.of(
+                    BinaryUuid.fromBytes(rs.getBytes("id")),
+                    rs.getString("role"),
+                    rs.getString("nickname"),
+                    rs.getString("profile_image_url"),
+                    rs.getString("email"),
+                    toLocalDateTime(rs.getTimestamp("created_at")),
+                    toLocalDateTime(rs.getTimestamp("updated_at")),
+                    toLocalDateTime(rs.getTimestamp("deleted_at"))));
+        }, args);
+    }
+
+    private static String orderBy(SortField sortField, SortDirection sortDirection) {
+        String direction = sortDirection == SortDirection.DESC ? " DESC" : " ASC";
+        String column = switch (sortField) {
+            case ID -> null;
+            case NICKNAME -> "nickname";
+            case EMAIL -> "email";
+            case CREATED_AT -> "created_at";
+        };
+        if (column == null) {
+            return "ORDER BY id" + direction;
+        }
+        return "ORDER BY " + column + direction + ", id" + direction;
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+}
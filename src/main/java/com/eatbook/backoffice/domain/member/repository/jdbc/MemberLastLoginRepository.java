@@ -0,0 +1,47 @@
+package com.eatbook.backoffice.domain.member.repository.jdbc;
+
+import com.eatbook.backoffice.global.utils.BinaryUuid;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Map;
+
+/**
+ * 회원의 마지막 로그인 시각을 JDBC 배치로 갱신하는 리포지토리.
+ * 엔티티를 조회하지 않고 UPDATE만 실행하며, 이미 더 최근 시각이 기록된 행은 덮어쓰지 않습니다.
+ */
+@Repository
+public class MemberLastLoginRepository {
+
+    private static final String UPDATE_LAST_LOGIN =
+            "UPDATE member SET last_login = ? WHERE id = ? AND (last_login IS NULL OR last_login < ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public MemberLastLoginRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 회원별 마지막 로그인 시각을 batchSize 단위로 나누어 갱신합니다.
+     *
+     * @param lastLogins 회원 Id별 마지막 로그인 시각
+     * @param batchSize  한 번에 전송할 UPDATE 문 수
+     */
+    public void updateLastLogins(Map<String, LocalDateTime> lastLogins, int batchSize) {
+        if (lastLogins.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(UPDATE_LAST_LOGIN, new ArrayList<>(lastLogins.entrySet()), batchSize,
+                (ps, entry) -> {
+                    Timestamp lastLogin = Timestamp.valueOf(entry.getValue());
+                    ps.setTimestamp(1, lastLogin);
+                    ps.setBytes(2, BinaryUuid.toBytes(entry.getKey()));
+                    ps.setTimestamp(3, lastLogin);
+                });
+    }
+}
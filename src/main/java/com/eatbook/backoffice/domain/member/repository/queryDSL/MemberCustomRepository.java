@@ -1,9 +1,26 @@
 package com.eatbook.backoffice.domain.member.repository.queryDSL;
 
+import com.eatbook.backoffice.domain.member.dto.MemberCursor;
+import com.eatbook.backoffice.domain.member.dto.MemberInfo;
 import com.eatbook.backoffice.domain.member.dto.MemberListResponse;
+import com.eatbook.backoffice.domain.member.dto.MemberSearchCondition;
 import com.eatbook.backoffice.entity.constant.Role;
+import com.eatbook.backoffice.entity.constant.SortDirection;
+import com.eatbook.backoffice.entity.constant.SortField;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
 public interface MemberCustomRepository {
-    MemberListResponse findMembers(Pageable pageable, Role role);
+    MemberListResponse findMembers(Pageable pageable, MemberSearchCondition condition);
+
+    List<MemberInfo> findMembersAfter(MemberCursor cursor, int limit, MemberSearchCondition condition, SortField sortField, SortDirection sortDirection);
+
+    List<String> findMemberIds(MemberSearchCondition condition);
+
+    long updateMatchingMemberRoles(Collection<String> ids, MemberSearchCondition condition, Role role);
+
+    Map<Role, Long> countMembersByRole();
 }
\ No newline at end of file
@@ -1,20 +1,39 @@
 package com.eatbook.backoffice.domain.member.repository.queryDSL;
 
+import com.eatbook.backoffice.domain.member.dto.MemberCursor;
 import com.eatbook.backoffice.domain.member.dto.MemberInfo;
 import com.eatbook.backoffice.domain.member.dto.MemberListResponse;
+import com.eatbook.backoffice.domain.member.dto.MemberSearchCondition;
+import com.eatbook.backoffice.entity.Member;
+import com.eatbook.backoffice.entity.constant.DeletedStatus;
 import com.eatbook.backoffice.entity.constant.Role;
+import com.eatbook.backoffice.entity.constant.SortDirection;
 import com.eatbook.backoffice.entity.constant.SortField;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpression;
+import com.querydsl.core.types.dsl.DateTimePath;
+import com.querydsl.core.types.dsl.StringPath;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
+import org.springframework.util.StringUtils;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
 
 import static com.eatbook.backoffice.entity.QMember.member;
 
@@ -23,11 +42,16 @@ import static com.eatbook.backoffice.entity.QMember.member;
 public class MemberCustomRepositoryImpl implements MemberCustomRepository {
 
     private final JPAQueryFactory jpaQueryFactory;
+    private final EntityManager entityManager;
 
     @Override
-    public MemberListResponse findMembers(Pageable pageable, Role role) {
+    public MemberListResponse findMembers(Pageable pageable, MemberSearchCondition condition) {
+        return withDeletedStatus(condition.deleted(), () -> findMemberPage(pageable, condition));
+    }
 
+    private MemberListResponse findMemberPage(Pageable pageable, MemberSearchCondition condition) {
         OrderSpecifier<?> orderSpecifier = toOrderSpecifier(pageable.getSort());
+        Predicate[] filters = matches(condition);
 
         List<MemberInfo> memberInfoList = jpaQueryFactory
                 .select(Projections.constructor(MemberInfo.class,
@@ -41,7 +65,7 @@ public class MemberCustomRepositoryImpl implements MemberCustomRepository {
                         member.deletedAt
                 ))
                 .from(member)
-                .where(role == null ? null : member.role.eq(role))
+                .where(filters)
                 .orderBy(orderSpecifier)
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
@@ -50,9 +74,7 @@ public class MemberCustomRepositoryImpl implements MemberCustomRepository {
         long totalElements = jpaQueryFactory
                 .select(member.count())
                 .from(member)
-                .where(
-                        role == null ? null : member.role.eq(role)
-                )
+                .where(filters)
                 .fetchOne();
 
         Page<MemberInfo> page = new PageImpl<>(memberInfoList, pageable, totalElements);
@@ -66,6 +88,175 @@ public class MemberCustomRepositoryImpl implements MemberCustomRepository {
         );
     }
 
+    /**
+     * 회원 목록을 (정렬 필드, id) 순으로 커서 이후부터 조회합니다.
+     * OFFSET 없이 인덱스 범위를 읽으므로 페이지 깊이와 관계없이 비용이 일정하며, 정렬 값이 같은 회원은 id로 순서를 정합니다.
+     *
+     * @param cursor 마지막으로 조회한 회원의 정렬 키. 첫 페이지의 경우 null
+     * @param limit 조회할 최대 개수
+     * @param condition 검색 조건
+     * @param sortField 정렬 필드
+     * @param sortDirection 정렬 방향
+     * @return 정렬된 회원 목록
+     */
+    @Override
+    public List<MemberInfo> findMembersAfter(MemberCursor cursor, int limit, MemberSearchCondition condition,
+                                             SortField sortField, SortDirection sortDirection) {
+        boolean isDesc = sortDirection == SortDirection.DESC;
+
+        return withDeletedStatus(condition.deleted(), () -> jpaQueryFactory
+                .select(Projections.constructor(MemberInfo.class,
+                        member.id,
+                        member.role.stringValue(),
+                        member.nickname,
+                        member.profileImageUrl,
+                        member.email,
+                        member.createdAt,
+                        member.updatedAt,
+                        member.deletedAt
+                ))
+                .from(member)
+                .where(matches(condition))
+                .where(isAfter(cursor, isDesc))
+                .orderBy(toOrderSpecifiers(sortField, isDesc))
+                .limit(limit)
+                .fetch());
+    }
+
+    /**
+     * 검색 조건에 맞는 회원 Id를 Id 순으로 조회합니다.
+     * 이어지는 일괄 UPDATE가 항상 같은 순서로 행을 잠그도록 정렬합니다.
+     */
+    @Override
+    public List<String> findMemberIds(MemberSearchCondition condition) {
+        return withDeletedStatus(condition.deleted(), () -> jpaQueryFactory
+                .select(member.id)
+                .from(member)
+                .where(matches(condition))
+                .orderBy(member.id.asc())
+                .fetch());
+    }
+
+    /**
+     * Id 목록 중 검색 조건에 여전히 맞는 회원의 권한만 변경합니다.
+     * Id를 조회한 뒤 다른 요청이 역할 등을 바꾼 회원까지 변경하지 않도록 UPDATE 조건에 검색 조건을 다시 적용하며,
+     * 탈퇴한 회원은 검색 조건과 관계없이 변경하지 않습니다.
+     *
+     * @return 권한이 변경된 회원 수
+     */
+    @Override
+    public long updateMatchingMemberRoles(Collection<String> ids, MemberSearchCondition condition, Role role) {
+        return jpaQueryFactory
+                .update(member)
+                .set(member.role, role)
+                .where(member.id.in(ids), member.deletedAt.isNull())
+                .where(matches(condition))
+                .execute();
+    }
+
+    /**
+     * 역할별 회원 수를 GROUP BY 한 번으로 집계합니다.
+     */
+    @Override
+    public Map<Role, Long> countMembersByRole() {
+        List<Tuple> rows = jpaQueryFactory
+                .select(member.role, member.count())
+                .from(member)
+                .groupBy(member.role)
+                .fetch();
+
+        Map<Role, Long> counts = new EnumMap<>(Role.class);
+        rows.forEach(row -> counts.put(row.get(member.role), row.get(member.count())));
+        return counts;
+    }
+
+    /**
+     * 검색 조건을 QueryDSL 조건으로 변환합니다. 값이 없는 조건은 null이 되어 WHERE 절에서 제외됩니다.
+     * 이메일과 닉네임은 LIKE 'prefix%' 범위 조건으로 만들어 (role, email), (role, nickname) 등의 인덱스를 그대로 사용합니다.
+     */
+    private Predicate[] matches(MemberSearchCondition condition) {
+        return new Predicate[]{
+                condition.role() == null ? null : member.role.eq(condition.role()),
+                startsWith(member.email, condition.emailPrefix()),
+                startsWith(member.nickname, condition.nicknamePrefix()),
+                condition.gender() == null ? null : member.gender.eq(condition.gender()),
+                condition.ageGroup() == null ? null : member.ageGroup.eq(condition.ageGroup()),
+                between(member.createdAt, condition.createdFrom(), condition.createdTo()),
+                between(member.lastLogin, condition.lastLoginFrom(), condition.lastLoginTo()),
+                condition.deleted() == DeletedStatus.DELETED ? member.deletedAt.isNotNull() : null
+        };
+    }
+
+    private BooleanExpression startsWith(StringPath path, String prefix) {
+        return StringUtils.hasText(prefix) ? path.startsWith(prefix) : null;
+    }
+
+    /**
+     * from 이상 to 미만 조건입니다.
+     */
+    private BooleanExpression between(DateTimePath<LocalDateTime> path, LocalDateTime from, LocalDateTime to) {
+        BooleanExpression goe = from == null ? null : path.goe(from);
+        BooleanExpression lt = to == null ? null : path.lt(to);
+        if (goe == null) {
+            return lt;
+        }
+        return goe.and(lt);
+    }
+
+    /**
+     * 탈퇴 회원까지 조회해야 하면 {@link Member#ACTIVE_FILTER}를 끈 상태로 쿼리를 실행하고 다시 켭니다.
+     * 필터는 현재 트랜잭션의 세션에 적용되므로 읽기 전용 트랜잭션 안에서 호출해야 합니다.
+     */
+    private <T> T withDeletedStatus(DeletedStatus status, Supplier<T> query) {
+        if (status == DeletedStatus.ACTIVE) {
+            return query.get();
+        }
+
+        Session session = entityManager.unwrap(Session.class);
+        session.disableFilter(Member.ACTIVE_FILTER);
+        try {
+            return query.get();
+        } finally {
+            session.enableFilter(Member.ACTIVE_FILTER);
+        }
+    }
+
+    private OrderSpecifier<?>[] toOrderSpecifiers(SortField sortField, boolean isDesc) {
+        OrderSpecifier<?> idOrder = SortField.ID.getOrderSpecifier(isDesc);
+        if (sortField == SortField.ID) {
+            return new OrderSpecifier<?>[]{idOrder};
+        }
+        return new OrderSpecifier<?>[]{sortField.getOrderSpecifier(isDesc), idOrder};
+    }
+
+    private BooleanExpression isAfter(MemberCursor cursor, boolean isDesc) {
+        if (cursor == null) {
+            return null;
+        }
+        return switch (cursor.sortField()) {
+            case ID -> isDesc ? member.id.lt(cursor.id()) : member.id.gt(cursor.id());
+            case NICKNAME -> isAfter(member.nickname, cursor.value(), cursor.id(), isDesc);
+            case EMAIL -> isAfter(member.email, cursor.value(), cursor.id(), isDesc);
+            case CREATED_AT -> isAfter(member.createdAt, cursor.createdAt(), cursor.id(), isDesc);
+        };
+    }
+
+    /**
+     * (path, id)가 커서 키보다 뒤에 있는 행의 조건입니다.
+     * MySQL은 NULL을 오름차순에서 가장 앞, 내림차순에서 가장 뒤에 정렬하므로 NULL 값의 위치도 같은 규칙으로 비교합니다.
+     */
+    private <T extends Comparable> BooleanExpression isAfter(ComparableExpression<T> path, T value, String id, boolean isDesc) {
+        BooleanExpression idAfter = isDesc ? member.id.lt(id) : member.id.gt(id);
+        if (value == null) {
+            BooleanExpression sameValue = path.isNull().and(idAfter);
+            return isDesc ? sameValue : sameValue.or(path.isNotNull());
+        }
+
+        BooleanExpression after = (isDesc ? path.lt(value) : path.gt(value))
+                .or(path.eq(value).and(idAfter));
+        return isDesc ? after.or(path.isNull()) : after;
+    }
+
     private OrderSpecifier<?> toOrderSpecifier(Sort sort) {
         for (Sort.Order order : sort) {
             SortField sortField = SortField.from(order.getProperty());
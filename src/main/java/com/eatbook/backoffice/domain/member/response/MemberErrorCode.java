@@ -15,6 +15,7 @@ public enum MemberErrorCode implements StatusCode {
     REFRESH_TOKEN_IS_NOT_VALID("REFRESH_TOKEN_IS_NOT_VALID", "유효하지 않은 리프레시 토큰입니다."),
     REFRESH_TOKEN_IS_MISSING("REFRESH_TOKEN_IS_MISSING", "리프레시 토큰이 없습니다."),
     INVALID_AGE_GROUP("INVALID_AGE_GROUP", "유효하지 않은 연령대입니다."),
+    INVALID_BULK_ROLE_UPDATE("INVALID_BULK_ROLE_UPDATE", "권한을 변경할 회원을 올바르게 지정하지 않았습니다."),
     ;
 
     private final String code;
@@ -0,0 +1,74 @@
+package com.eatbook.backoffice.domain.member.service;
+
+import com.eatbook.backoffice.domain.member.repository.jdbc.MemberLastLoginRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 로그인 시각을 메모리에 모아 두었다가 주기적으로 한 번에 기록합니다.
+ * 로그인 요청은 DB 쓰기를 기다리지 않으며, 같은 회원의 로그인이 여러 번 쌓이면 가장 최근 시각만 기록합니다.
+ * 기록에 실패한 항목은 다음 주기에 다시 시도하고, 서버 종료 시에는 남은 항목을 모두 기록합니다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class LastLoginRecorder {
+
+    private final MemberLastLoginRepository memberLastLoginRepository;
+
+    private final ConcurrentHashMap<String, LocalDateTime> pending = new ConcurrentHashMap<>();
+
+    @Value("${member.last-login.flush-batch-size:500}")
+    private int batchSize;
+
+    /**
+     * 회원의 로그인 시각을 기록 대기열에 추가합니다.
+     *
+     * @param memberId   회원 Id
+     * @param loggedInAt 로그인 시각
+     */
+    public void record(String memberId, LocalDateTime loggedInAt) {
+        pending.merge(memberId, loggedInAt, LastLoginRecorder::latest);
+    }
+
+    @Scheduled(fixedDelayString = "${member.last-login.flush-interval-ms:5000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        Map<String, LocalDateTime> drained = new HashMap<>();
+        for (String memberId : pending.keySet()) {
+            LocalDateTime loggedInAt = pending.remove(memberId);
+            if (loggedInAt != null) {
+                drained.put(memberId, loggedInAt);
+            }
+        }
+
+        try {
+            memberLastLoginRepository.updateLastLogins(drained, batchSize);
+        } catch (DataAccessException e) {
+            log.warn("마지막 로그인 시각 기록 실패: {}건은 다음 주기에 다시 시도합니다. {}", drained.size(), e.getMessage());
+            drained.forEach(this::record);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flush();
+    }
+
+    private static LocalDateTime latest(LocalDateTime current, LocalDateTime candidate) {
+        return candidate.isAfter(current) ? candidate : current;
+    }
+}
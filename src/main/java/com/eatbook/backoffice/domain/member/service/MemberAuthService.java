@@ -12,23 +12,19 @@ import com.eatbook.backoffice.entity.constant.Gender;
 import com.eatbook.backoffice.entity.constant.Role;
 import com.eatbook.backoffice.security.auth.jwt.JwtAuthToken;
 import com.eatbook.backoffice.security.auth.jwt.JwtAuthTokenProvider;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.annotation.Lazy;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
-import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
 
 import static com.eatbook.backoffice.domain.member.response.MemberErrorCode.MEMBER_ALREADY_EXISTS;
 import static com.eatbook.backoffice.entity.constant.ContentType.JPEG;
@@ -49,11 +45,21 @@ public class MemberAuthService {
     private final FileService fileService;
     private final JwtAuthTokenProvider tokenProvider;
     private final BCryptPasswordEncoder passwordEncoder;
-    @Lazy
-    private final AuthenticationManager authenticationManager;
+    private final LastLoginRecorder lastLoginRecorder;
 
     private static final String PROFILE_IMAGE_PATH = "profile-images/";
 
+    /**
+     * 존재하지 않는 이메일로 로그인할 때도 BCrypt 검증을 한 번 수행하기 위한 해시.
+     * 응답 시간 차이로 가입 여부를 추측할 수 없도록 합니다.
+     */
+    private String dummyPasswordHash;
+
+    @PostConstruct
+    void init() {
+        dummyPasswordHash = passwordEncoder.encode(UUID.randomUUID().toString());
+    }
+
     /**
      * 제공된 가입 요청과 프로필 이미지를 사용하여 새로운 멤버를 등록합니다.
      *
@@ -69,13 +75,8 @@ public class MemberAuthService {
         String profileImageUrl = null;
 
         if (profileImage != null && !profileImage.isEmpty()) {
-            try {
-                byte[] fileBytes = profileImage.getBytes();
-                String objectKey = PROFILE_IMAGE_PATH + dto.email();
-                profileImageUrl = fileService.uploadProfileImage(objectKey, fileBytes, JPEG);
-            } catch (IOException e) {
-                throw new RuntimeException("프로필 이미지 업로드 중 오류 발생", e);
-            }
+            String objectKey = PROFILE_IMAGE_PATH + dto.email();
+            profileImageUrl = fileService.uploadProfileImage(objectKey, profileImage, JPEG);
         }
 
         Member newUser = Member.builder()
@@ -92,34 +93,31 @@ public class MemberAuthService {
 
     /**
      * 로그인 요청을 처리하고, 유효한 경우 JWT 토큰을 발행합니다.
+     * 회원 조회와 BCrypt 검증을 한 번씩만 수행하며, 마지막 로그인 시각은 {@link LastLoginRecorder}가 모아서 기록합니다.
+     * BCrypt 검증 동안 DB 커넥션을 잡고 있지 않도록 트랜잭션 없이 실행합니다.
      *
      * @param dto 로그인 요청 정보를 포함하는 DTO.
      * @return 로그인 성공 시 로그인 응답 DTO.
      * @throws AuthenticationException 인증 실패 시 발생.
      */
-    @Transactional
     public LoginResponse login(LoginRequest dto) throws AuthenticationException {
-        Member member = memberRepository.findMemberByEmail(dto.email())
-                .orElseThrow(() -> new MemberAuthenticationException(NOT_EXIST_USER));
+        Optional<Member> found = memberRepository.findMemberByEmail(dto.email());
+
+        String passwordHash = found.map(Member::getPasswordHash).orElse(dummyPasswordHash);
+        boolean passwordMatched = passwordEncoder.matches(dto.password(), passwordHash);
 
-        if (!passwordEncoder.matches(dto.password(), member.getPasswordHash())) {
+        Member member = found.orElseThrow(() -> new MemberAuthenticationException(NOT_EXIST_USER));
+        if (!passwordMatched) {
             throw new MemberAuthenticationException(USER_PASSWORD_NOT_MATCHED);
         }
 
-        Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(dto.email(), dto.password())
-        );
-
-        String role = authentication.getAuthorities().stream()
-                .map(GrantedAuthority::getAuthority)
-                .findAny().orElseThrow(() -> new BadCredentialsException(SECURITY_ROLE_NOT_FOUND.getMessage()));
-
-        String accessToken = createAccessToken(member.getId(), role);
+        Role role = member.getRole();
+        String accessToken = createAccessToken(member.getId(), role.name());
         String refreshToken = createRefreshToken(member.getId());
 
-        updateLastLogin(member);
+        lastLoginRecorder.record(member.getId(), LocalDateTime.now());
 
-        return LoginResponse.of(accessToken, refreshToken, Role.valueOf(role));
+        return LoginResponse.of(accessToken, refreshToken, role);
     }
 
     /**
@@ -157,14 +155,4 @@ public class MemberAuthService {
         JwtAuthToken jwtAuthToken = tokenProvider.createRefreshToken(userId);
         return jwtAuthToken.getToken();
     }
-
-    /**
-     * 멤버의 마지막 로그인 시간을 업데이트합니다.
-     *
-     * @param member 업데이트할 멤버.
-     */
-    protected void updateLastLogin(Member member) {
-        member.setLastLogin(LocalDateTime.now());
-        memberRepository.save(member);
-    }
-}
\ No newline at end of file
+}
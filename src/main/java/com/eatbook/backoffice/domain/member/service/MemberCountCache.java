@@ -0,0 +1,58 @@
+package com.eatbook.backoffice.domain.member.service;
+
+import com.eatbook.backoffice.domain.member.repository.MemberRepository;
+import com.eatbook.backoffice.entity.constant.Role;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 역할별 회원 수를 주기적으로 집계해 보관합니다.
+ * 목록 조회마다 COUNT 쿼리를 실행하지 않도록 하며, 반환하는 값은 마지막 집계 시점 기준의 근사치입니다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class MemberCountCache {
+
+    private final MemberRepository memberRepository;
+
+    private volatile Map<Role, Long> counts;
+
+    /**
+     * 회원 수를 반환합니다. 아직 집계된 적이 없으면 먼저 집계합니다.
+     *
+     * @param role 역할. null이면 전체 회원 수를 반환합니다.
+     * @return 마지막 집계 시점의 회원 수
+     */
+    public long count(Role role) {
+        Map<Role, Long> current = counts;
+        if (current == null) {
+            current = load();
+        }
+        if (role == null) {
+            return current.values().stream().mapToLong(Long::longValue).sum();
+        }
+        return current.getOrDefault(role, 0L);
+    }
+
+    @Scheduled(fixedDelayString = "${member.count.refresh-interval-ms:60000}",
+            initialDelayString = "${member.count.refresh-interval-ms:60000}")
+    public void refresh() {
+        try {
+            load();
+        } catch (DataAccessException e) {
+            log.warn("회원 수 집계 실패, 이전 값을 유지합니다: {}", e.getMessage());
+        }
+    }
+
+    private Map<Role, Long> load() {
+        Map<Role, Long> loaded = Map.copyOf(memberRepository.countMembersByRole());
+        counts = loaded;
+        return loaded;
+    }
+}
@@ -0,0 +1,173 @@
+package com.eatbook.backoffice.domain.member.service;
+
+import com.eatbook.backoffice.domain.member.dto.MemberInfo;
+import com.eatbook.backoffice.domain.member.repository.jdbc.MemberExportRepository;
+import com.eatbook.backoffice.entity.constant.ExportFormat;
+import com.eatbook.backoffice.entity.constant.Role;
+import com.eatbook.backoffice.entity.constant.SortDirection;
+import com.eatbook.backoffice.entity.constant.SortField;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 회원 전체를 CSV 또는 NDJSON으로 내보내는 서비스.
+ * DB 커서에서 읽은 회원을 바로 응답에 기록하므로 회원 수와 관계없이 메모리 사용량이 일정합니다.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class MemberExportService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final String[] CSV_HEADER = {"id", "role", "nickname", "email", "profileImageUrl", "createdAt", "updatedAt"};
+
+    private final MemberExportRepository memberExportRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 회원 목록을 내보내는 응답 본문을 만듭니다.
+     *
+     * @param format 내보낼 형식
+     * @param gzip gzip으로 압축할지 여부
+     * @param role 내보낼 역할. null이면 모든 역할을 내보냅니다.
+     * @param sortField 정렬 필드
+     * @param sortDirection 정렬 방향
+     * @return 회원 목록을 스트리밍하는 응답 본문
+     */
+    public StreamingResponseBody streamMembers(ExportFormat format, boolean gzip, Role role,
+                                               SortField sortField, SortDirection sortDirection) {
+        return outputStream -> {
+            long count = exportMembers(outputStream, format, gzip, role, sortField, sortDirection);
+            log.info("회원 내보내기 완료: format={}, gzip={}, role={}, {}건", format, gzip, role, count);
+        };
+    }
+
+    /**
+     * 회원 목록을 outputStream에 기록합니다. outputStream은 닫지 않습니다.
+     *
+     * @return 기록한 회원 수
+     * @throws IOException 기록 중 오류가 발생하거나 클라이언트가 연결을 끊은 경우
+     */
+    public long exportMembers(OutputStream outputStream, ExportFormat format, boolean gzip, Role role,
+                              SortField sortField, SortDirection sortDirection) throws IOException {
+        GZIPOutputStream gzipStream = gzip ? new GZIPOutputStream(outputStream, BUFFER_SIZE) : null;
+        OutputStream target = gzipStream != null ? gzipStream : outputStream;
+
+        try {
+            long count = switch (format) {
+                case CSV -> writeCsv(target, role, sortField, sortDirection);
+                case NDJSON -> writeNdjson(target, role, sortField, sortDirection);
+            };
+            if (gzipStream != null) {
+                gzipStream.finish();
+            }
+            return count;
+        } catch (UncheckedIOException e) {
+            // 클라이언트가 연결을 끊으면 쿼리를 중단하고 커넥션을 반환합니다.
+            log.warn("회원 내보내기 중단: format={}, 원인={}", format, e.getCause().getMessage());
+            throw e.getCause();
+        }
+    }
+
+    private long writeCsv(OutputStream target, Role role, SortField sortField, SortDirection sortDirection) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8), BUFFER_SIZE);
+        writeCsvRow(writer, CSV_HEADER);
+
+        long[] count = {0};
+        memberExportRepository.streamMembers(role, sortField, sortDirection, member -> {
+            try {
+                writeCsvRow(writer, member.id(), member.role(), member.nickname(), member.email(), member.profileImageUrl(),
+                        toString(member.createdAt()), toString(member.updatedAt()));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            count[0]++;
+        });
+
+        writer.flush();
+        return count[0];
+    }
+
+    private long writeNdjson(OutputStream target, Role role, SortField sortField, SortDirection sortDirection) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(target)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // 줄바꿈은 writeNdjsonLine이 직접 기록하므로, 최상위 값 사이에 기본 구분자(공백)를 넣지 않습니다.
+            generator.setRootValueSeparator(null);
+
+            long[] count = {0};
+            memberExportRepository.streamMembers(role, sortField, sortDirection, member -> {
+                try {
+                    writeNdjsonLine(generator, member);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                count[0]++;
+            });
+
+            generator.flush();
+            return count[0];
+        }
+    }
+
+    private void writeNdjsonLine(JsonGenerator generator, MemberInfo member) throws IOException {
+        generator.writeObject(member);
+        generator.writeRaw('\n');
+    }
+
+    /**
+     * RFC 4180 형식으로 한 행을 기록합니다.
+     */
+    private static void writeCsvRow(Writer writer, String... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeCsvField(writer, values[i]);
+        }
+        writer.write("\r\n");
+    }
+
+    /**
+     * 쉼표, 따옴표, 줄바꿈이 있는 값은 따옴표로 감쌉니다.
+     * 스프레드시트에서 수식으로 실행되지 않도록 =, +, -, @ 또는 탭(\t), 캐리지 리턴(\r)으로 시작하는 값 앞에는 ' 를 붙입니다.
+     * 탭과 캐리지 리턴은 스프레드시트가 앞의 공백을 지우고 뒤에 오는 수식을 실행할 수 있으므로 함께 막습니다.
+     */
+    private static void writeCsvField(Writer writer, String value) throws IOException {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+
+        String field = switch (value.charAt(0)) {
+            case '=', '+', '-', '@', '\t', '\r' -> "'" + value;
+            default -> value;
+        };
+
+        if (field.indexOf(',') < 0 && field.indexOf('"') < 0 && field.indexOf('\n') < 0 && field.indexOf('\r') < 0) {
+            writer.write(field);
+            return;
+        }
+
+        writer.write('"');
+        writer.write(field.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private static String toString(LocalDateTime dateTime) {
+        return dateTime == null ? null : dateTime.toString();
+    }
+}
@@ -1,20 +1,35 @@
 package com.eatbook.backoffice.domain.member.service;
 
+import com.eatbook.backoffice.domain.member.dto.MemberCursor;
+import com.eatbook.backoffice.domain.member.dto.MemberCursorListResponse;
+import com.eatbook.backoffice.domain.member.dto.MemberInfo;
 import com.eatbook.backoffice.domain.member.dto.MemberListResponse;
+import com.eatbook.backoffice.domain.member.dto.MemberRoleBulkUpdateRequest;
+import com.eatbook.backoffice.domain.member.dto.MemberRoleBulkUpdateResponse;
+import com.eatbook.backoffice.domain.member.dto.MemberSearchCondition;
 import com.eatbook.backoffice.domain.member.exception.InvalidRoleException;
+import com.eatbook.backoffice.domain.member.exception.MemberBulkRequestException;
 import com.eatbook.backoffice.domain.member.repository.MemberRepository;
 import com.eatbook.backoffice.entity.constant.Role;
 import com.eatbook.backoffice.entity.constant.SortDirection;
 import com.eatbook.backoffice.entity.constant.SortField;
+import com.eatbook.backoffice.global.exception.exceptions.InvalidCursorException;
 import com.eatbook.backoffice.global.exception.exceptions.PageOutOfBoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
 
+import java.util.List;
+
+import static com.eatbook.backoffice.domain.member.response.MemberErrorCode.INVALID_BULK_ROLE_UPDATE;
 import static com.eatbook.backoffice.domain.member.response.MemberErrorCode.INVALID_ROLE;
 import static com.eatbook.backoffice.global.response.GlobalErrorCode.PAGE_OUT_OF_BOUNDS;
 
@@ -28,6 +43,10 @@ import static com.eatbook.backoffice.global.response.GlobalErrorCode.PAGE_OUT_OF
 public class MemberService {
 
     private final MemberRepository memberRepository;
+    private final MemberCountCache memberCountCache;
+
+    @Value("${member.role-update.chunk-size:1000}")
+    private int roleUpdateChunkSize;
 
     /**
      * 멤버 목록을 페이징 처리하여 조회합니다.
@@ -35,23 +54,60 @@ public class MemberService {
      *
      * @param page 요청된 페이지 번호 (1부터 시작하는 인덱스)
      * @param size 페이지당 멤버 수
+     * @param condition 검색 조건
      * @param sortField 정렬할 필드
      * @param sortDirection 정렬 방향 ("ASC" 또는 "DESC")
      * @return 요청된 페이지에 해당하는 멤버 목록을 담은 {@link MemberListResponse} 객체
      * @throws PageOutOfBoundException 요청한 페이지 번호가 전체 페이지 수를 초과할 경우 발생
      */
     @Transactional(readOnly = true)
-    public MemberListResponse getMemberList(int page, int size, Role role, SortField sortField, SortDirection sortDirection) {
+    public MemberListResponse getMemberList(int page, int size, MemberSearchCondition condition,
+                                            SortField sortField, SortDirection sortDirection) {
         Sort sort = Sort.by(Sort.Direction.fromString(sortDirection.name()), sortField.name());
         Pageable pageable = PageRequest.of(page - 1, size, sort);
 
-        MemberListResponse members = memberRepository.findMembers(pageable, role);
+        MemberListResponse members = memberRepository.findMembers(pageable, condition);
 
         validatePageRequest(pageable, members.totalElements());
 
         return members;
     }
 
+    /**
+     * 멤버 목록을 커서 기반으로 조회합니다.
+     * (정렬 필드, id) 키로 이전 페이지의 마지막 멤버 다음부터 조회하므로 페이지 깊이와 관계없이 일정한 비용이 들며,
+     * 전체 개수는 {@link MemberCountCache}가 주기적으로 집계한 근사치를 사용하며,
+     * 역할 외의 검색 조건이 있거나 탈퇴 회원을 포함하면 COUNT 쿼리를 실행하지 않고 null로 응답합니다.
+     *
+     * @param cursor 이전 응답의 nextCursor 값. 첫 페이지의 경우 null 또는 빈 문자열
+     * @param size 페이지당 멤버 수
+     * @param condition 검색 조건
+     * @param sortField 정렬할 필드
+     * @param sortDirection 정렬 방향
+     * @return 멤버 목록과 다음 페이지 커서를 담은 {@link MemberCursorListResponse} 객체
+     * @throws InvalidCursorException 커서 형식이 올바르지 않거나 정렬 조건과 맞지 않을 경우 발생
+     */
+    @Transactional(readOnly = true)
+    public MemberCursorListResponse getMemberListByCursor(String cursor, int size, MemberSearchCondition condition,
+                                                          SortField sortField, SortDirection sortDirection) {
+        MemberCursor after = StringUtils.hasText(cursor) ? MemberCursor.decode(cursor, sortField, sortDirection) : null;
+
+        // 다음 페이지 존재 여부를 판단하기 위해 한 건을 더 조회합니다.
+        List<MemberInfo> members = memberRepository.findMembersAfter(after, size + 1, condition, sortField, sortDirection);
+        boolean hasNext = members.size() > size;
+        List<MemberInfo> pageMembers = hasNext ? members.subList(0, size) : members;
+
+        String nextCursor = hasNext
+                ? MemberCursor.of(sortField, sortDirection, pageMembers.get(pageMembers.size() - 1)).encode()
+                : null;
+
+        Long totalElements = condition.hasPredicate() || condition.includesDeleted()
+                ? null
+                : memberCountCache.count(condition.role());
+
+        return MemberCursorListResponse.of(totalElements, pageMembers.size(), hasNext, nextCursor, pageMembers);
+    }
+
     /**
      * 멤버의 역할을 업데이트합니다.
      * 이 메서드는 관리자 권한을 가진 멤버만 호출할 수 있으며,
@@ -68,6 +124,77 @@ public class MemberService {
         memberRepository.updateMemberRole(memberId, newRole);
     }
 
+    /**
+     * 여러 회원의 권한을 한 트랜잭션에서 일괄 변경합니다.
+     * 대상 Id를 member.role-update.chunk-size개씩 나누어 UPDATE ... WHERE id IN (...) 한 번으로 변경하므로,
+     * 회원 수만큼 요청과 트랜잭션을 반복하지 않습니다. 행 잠금 순서가 항상 같도록 Id 순으로 변경합니다.
+     * 검색 조건으로 지정한 경우 UPDATE에도 같은 조건을 적용하여, 조회 이후 조건에서 벗어난 회원은 변경하지 않습니다.
+     *
+     * @param request 변경할 권한과 대상 회원 Id 목록 또는 검색 조건
+     * @return 대상 회원 수와 실제로 변경된 회원 수
+     * @throws InvalidRoleException 요청된 역할이 유효하지 않은 경우
+     * @throws MemberBulkRequestException 대상 회원 Id 목록과 검색 조건을 모두 지정하거나 모두 생략한 경우,
+     *                                    또는 탈퇴 여부 외에 아무 조건이 없는 검색 조건을 지정한 경우
+     */
+    @Transactional
+    public MemberRoleBulkUpdateResponse updateMemberRoles(MemberRoleBulkUpdateRequest request) {
+        Role newRole = validateRole(request.role());
+        List<String> memberIds = resolveMemberIds(request);
+        MemberSearchCondition filter = request.filter();
+
+        int updatedCount = 0;
+        int chunkCount = 0;
+        for (int from = 0; from < memberIds.size(); from += roleUpdateChunkSize) {
+            List<String> chunk = memberIds.subList(from, Math.min(from + roleUpdateChunkSize, memberIds.size()));
+            updatedCount += filter == null
+                    ? memberRepository.updateMemberRoles(chunk, newRole)
+                    : Math.toIntExact(memberRepository.updateMatchingMemberRoles(chunk, filter, newRole));
+            chunkCount++;
+        }
+        refreshMemberCountAfterCommit();
+
+        log.info("회원 권한 일괄 변경: role={}, 대상 {}명, 변경 {}명", newRole, memberIds.size(), updatedCount);
+        return MemberRoleBulkUpdateResponse.of(newRole.name(), memberIds.size(), updatedCount, chunkCount);
+    }
+
+    private List<String> resolveMemberIds(MemberRoleBulkUpdateRequest request) {
+        boolean hasMemberIds = request.memberIds() != null && !request.memberIds().isEmpty();
+        MemberSearchCondition filter = request.filter();
+        if (hasMemberIds == (filter != null)) {
+            throw new MemberBulkRequestException(INVALID_BULK_ROLE_UPDATE, "memberIds와 filter 중 하나만 지정해야 합니다.");
+        }
+
+        if (hasMemberIds) {
+            return request.memberIds().stream()
+                    .distinct()
+                    .sorted()
+                    .toList();
+        }
+
+        // 탈퇴 여부는 대상을 좁히지 않으므로(deleted = ALL) 역할이나 다른 조건이 있어야 합니다.
+        if (filter.role() == null && !filter.hasPredicate()) {
+            throw new MemberBulkRequestException(INVALID_BULK_ROLE_UPDATE, "조건이 없는 filter로 전체 회원의 권한을 변경할 수 없습니다.");
+        }
+        return memberRepository.findMemberIds(filter);
+    }
+
+    /**
+     * 권한 변경이 커밋된 뒤 역할별 회원 수를 다시 집계합니다.
+     * 커밋 전에 집계하면 집계 쿼리가 실패했을 때 권한 변경까지 롤백되므로 커밋 이후에 실행합니다.
+     */
+    private void refreshMemberCountAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            memberCountCache.refresh();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                memberCountCache.refresh();
+            }
+        });
+    }
+
     /**
      * 주어진 역할 문자열을 검증하고, 해당하는 {@link Role} 열거형 값을 반환합니다.
      * 역할 문자열이 유효한 열거형 값이 아니면 {@link InvalidRoleException}이 발생합니다.
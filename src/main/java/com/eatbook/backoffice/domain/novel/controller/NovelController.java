@@ -1,18 +1,26 @@
 package com.eatbook.backoffice.domain.novel.controller;
 
 import com.eatbook.backoffice.domain.novel.dto.*;
+import com.eatbook.backoffice.domain.novel.exception.NovelNotFoundException;
 import com.eatbook.backoffice.domain.novel.response.NovelSuccessCode;
+import com.eatbook.backoffice.domain.novel.service.NovelCommentStreamService;
+import com.eatbook.backoffice.domain.novel.service.NovelImportService;
 import com.eatbook.backoffice.domain.novel.service.NovelService;
 import com.eatbook.backoffice.global.response.ApiResponse;
 import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
 
 import static com.eatbook.backoffice.domain.novel.response.NovelSuccessCode.GET_NOVEL_LIST;
+import static com.eatbook.backoffice.domain.novel.response.NovelSuccessCode.NOVELS_IMPORTED;
 import static com.eatbook.backoffice.domain.novel.response.NovelSuccessCode.NOVEL_CREATED;
 
 /**
@@ -26,6 +34,8 @@ import static com.eatbook.backoffice.domain.novel.response.NovelSuccessCode.NOVE
 @RequestMapping("/api/admin")
 public class NovelController {
     private final NovelService novelService;
+    private final NovelCommentStreamService novelCommentStreamService;
+    private final NovelImportService novelImportService;
 
     /**
      * 새로운 소설을 생성합니다.
@@ -47,18 +57,48 @@ public class NovelController {
                 .body(ApiResponse.of(NOVEL_CREATED, response));
     }
 
+    /**
+     * 여러 소설을 한 번에 등록합니다.
+     * 요청 본문은 소설 요청의 JSON 배열이나, 한 줄에 소설 요청 하나씩 담은 NDJSON 형식이며 메모리에 모으지 않고 스트림으로 읽습니다.
+     *
+     * @param payload {@link NovelRequest}의 JSON 배열 또는 NDJSON 스트림
+     * @return {@link HttpStatus#OK} 상태 코드를 갖는 ResponseEntity와
+     * 성공 코드 {@link NovelSuccessCode#NOVELS_IMPORTED}를 포함하는 ApiResponse입니다.
+     * 이 ApiResponse에는 항목별 등록 결과와 커버 이미지용 presigned URL, 처리량이 포함됩니다.
+     */
+    @PostMapping(value = "/novels/import", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<ApiResponse> importNovels(final InputStream payload) {
+
+        NovelImportResponse response = novelImportService.importNovels(payload);
+
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(ApiResponse.of(NOVELS_IMPORTED, response));
+    }
+
     /**
      * 소설 목록을 조회합니다.
+     * page가 주어지면 기존의 페이지 번호 기반 목록을, 생략하면 커서 기반 목록을 반환합니다.
      *
-     * @param page 조회할 페이지 번호. 1 이상의 값이어야 합니다.
+     * @param page 조회할 페이지 번호. 1 이상의 값이어야 합니다. 생략하면 커서 기반으로 조회합니다.
      * @param size 페이지당 표시할 소설 수. 1 이상의 값이어야 합니다.
+     * @param cursor 커서 기반 조회 시 이전 응답의 nextCursor 값. 첫 페이지는 생략합니다.
      * @return {@link HttpStatus#OK} 상태 코드를 갖는 ResponseEntity와
      * 성공 코드 {@link NovelSuccessCode#GET_NOVEL_LIST}를 포함하는 ApiResponse입니다.
      * 이 ApiResponse에는 조회된 소설 목록이 포함됩니다.
      */
     @GetMapping("/novels")
-    public ResponseEntity<ApiResponse> getNovelList(@RequestParam(name = "page") @Min(1) final int page,
-                                                    @RequestParam(name = "size") @Min(1) final int size) {
+    public ResponseEntity<ApiResponse> getNovelList(@RequestParam(name = "page", required = false) @Min(1) final Integer page,
+                                                    @RequestParam(name = "size") @Min(1) final int size,
+                                                    @RequestParam(name = "cursor", required = false) final String cursor) {
+
+        if (page == null) {
+            NovelCursorListResponse novelList = novelService.getNovelListByCursor(cursor, size);
+
+            return ResponseEntity
+                    .status(HttpStatus.OK)
+                    .body(ApiResponse.of(GET_NOVEL_LIST, novelList));
+        }
 
         NovelListResponse novelList = novelService.getNovelList(page, size);
 
@@ -68,7 +108,7 @@ public class NovelController {
     }
 
     /**
-     * 소설 상세 정보를 조회합니다.
+     * 소설 상세 정보를 조회하고 조회수를 기록합니다.
      *
      * @param novelId 조회할 소설의 Id
      * @return {@link HttpStatus#OK} 상태 코드를 갖는 ResponseEntity와
@@ -86,23 +126,50 @@ public class NovelController {
     }
 
     /**
-     * 소설의 댓글 목록을 조회합니다.
+     * 소설의 댓글 목록을 커서 기반으로 조회합니다.
      *
      * @param novelId 조회할 소설의 Id. 이 값은 URL 경로에 지정되며, 비어 있지 않아야 합니다.
+     * @param episodeId 특정 회차의 댓글만 조회할 경우 회차 Id. 생략하면 모든 회차의 댓글을 조회합니다.
+     * @param cursor 이전 응답의 nextCursor 값. 첫 페이지는 생략합니다.
+     * @param size 페이지당 표시할 댓글 수. 1 이상의 값이어야 합니다.
      * @return {@link HttpStatus#OK} 상태 코드를 갖는 ResponseEntity와
      * 성공 코드 {@link NovelSuccessCode#GET_NOVEL_COMMENT_LIST}를 포함하는 ApiResponse입니다.
-     * 이 ApiResponse에는 조회된 소설의 댓글 목록이 포함됩니다.
+     * 이 ApiResponse에는 조회된 소설의 댓글 목록과 다음 페이지 커서가 포함됩니다.
      */
     @GetMapping("/novels/{novelId}/comments")
-    public ResponseEntity<ApiResponse> getNovelComments(@PathVariable(name = "novelId") final String novelId) {
-    
-        NovelCommentListResponse novelComments = novelService.getNovelComments(novelId);
-    
+    public ResponseEntity<ApiResponse> getNovelComments(@PathVariable(name = "novelId") final String novelId,
+                                                        @RequestParam(name = "episodeId", required = false) final String episodeId,
+                                                        @RequestParam(name = "cursor", required = false) final String cursor,
+                                                        @RequestParam(name = "size", defaultValue = "50") @Min(1) final int size) {
+
+        NovelCommentListResponse novelComments = novelService.getNovelComments(novelId, episodeId, cursor, size);
+
         return ResponseEntity
                 .status(HttpStatus.OK)
                 .body(ApiResponse.of(NovelSuccessCode.GET_NOVEL_COMMENT_LIST, novelComments));
     }
 
+    /**
+     * 소설의 댓글 전체를 JSON으로 스트리밍합니다.
+     * 댓글을 메모리에 모으지 않고 DB 커서에서 읽는 대로 응답에 기록하므로 댓글 수가 많은 소설의 내보내기에 사용합니다.
+     *
+     * @param novelId 조회할 소설의 Id. 이 값은 URL 경로에 지정되며, 비어 있지 않아야 합니다.
+     * @param episodeId 특정 회차의 댓글만 조회할 경우 회차 Id. 생략하면 모든 회차의 댓글을 기록합니다.
+     * @return {@link HttpStatus#OK} 상태 코드를 갖는 ResponseEntity와
+     * 댓글 목록 조회와 같은 형식의 ApiResponse를 기록하는 스트리밍 응답 본문입니다.
+     */
+    @GetMapping("/novels/{novelId}/comments/stream")
+    public ResponseEntity<StreamingResponseBody> streamNovelComments(@PathVariable(name = "novelId") final String novelId,
+                                                                     @RequestParam(name = "episodeId", required = false) final String episodeId) {
+
+        StreamingResponseBody body = novelCommentStreamService.streamNovelComments(novelId, episodeId);
+
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
     /**
      * 소설의 에피소드 목록을 조회합니다.
      *
@@ -141,4 +208,22 @@ public class NovelController {
                 .status(HttpStatus.OK)
                 .body(ApiResponse.of(NovelSuccessCode.SEARCH_NOVELS, novelListResponse));
     }
-}
\ No newline at end of file
+
+    /**
+     * 존재하지 않는 소설에 대한 요청을 처리합니다.
+     * 전역 처리기는 비즈니스 예외를 모두 BAD_REQUEST로 응답하지만, 소설 API에서는 대상 소설이 없으면 NOT_FOUND로 응답합니다.
+     * 댓글 스트리밍은 응답을 쓰기 전에 소설이 없음을 확인하므로 비동기 디스패치에서도 같은 응답을 받습니다.
+     *
+     * @param e NovelNotFoundException이 발생한 경우.
+     * @return NOT_FOUND 상태 코드와 오류 코드, 설명이 포함된 ApiResponse를 포함하는 ResponseEntity.
+     */
+    @ExceptionHandler(NovelNotFoundException.class)
+    protected ResponseEntity<ApiResponse> handleNovelNotFoundException(final NovelNotFoundException e) {
+
+        log.error("[Novel Not Found] {}", e.getErrorCode());
+
+        return ResponseEntity
+                .status(HttpStatus.NOT_FOUND)
+                .body(ApiResponse.of(e.getErrorCode()));
+    }
+}
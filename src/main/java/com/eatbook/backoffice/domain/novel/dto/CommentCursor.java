@@ -0,0 +1,51 @@
+package com.eatbook.backoffice.domain.novel.dto;
+
+import com.eatbook.backoffice.global.exception.exceptions.InvalidCursorException;
+import com.eatbook.backoffice.global.utils.CursorCodec;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+import static com.eatbook.backoffice.global.response.GlobalErrorCode.INVALID_CURSOR;
+
+/**
+ * 소설 댓글 목록 커서 페이지네이션의 정렬 키 (chapter_number, created_at, id) 입니다.
+ */
+public record CommentCursor(
+        int chapterNumber,
+        LocalDateTime createdAt,
+        String id
+) {
+    public static CommentCursor of(
+            final int chapterNumber,
+            final LocalDateTime createdAt,
+            final String id
+    ) {
+        return new CommentCursor(chapterNumber, createdAt, id);
+    }
+
+    public static CommentCursor from(CommentInfo comment) {
+        return new CommentCursor(comment.episodeNumber(), comment.createdAt(), comment.id());
+    }
+
+    /**
+     * 클라이언트가 전달한 커서 문자열을 정렬 키로 변환합니다.
+     *
+     * @param cursor 이전 응답의 nextCursor 값
+     * @return 디코딩된 정렬 키
+     * @throws InvalidCursorException 커서 형식이 올바르지 않을 경우 발생
+     */
+    public static CommentCursor decode(String cursor) {
+        List<String> values = CursorCodec.decode(cursor, 3);
+        try {
+            return new CommentCursor(Integer.parseInt(values.get(0)), LocalDateTime.parse(values.get(1)), values.get(2));
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new InvalidCursorException(INVALID_CURSOR);
+        }
+    }
+
+    public String encode() {
+        return CursorCodec.encode(String.valueOf(chapterNumber), createdAt.toString(), id);
+    }
+}
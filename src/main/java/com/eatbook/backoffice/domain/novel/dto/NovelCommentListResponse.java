@@ -4,12 +4,23 @@ import java.util.List;
 
 public record NovelCommentListResponse(
         String id,
-        List<CommentInfo> commentList
+        List<CommentInfo> commentList,
+        boolean hasNext,
+        String nextCursor
 ) {
     public static NovelCommentListResponse of(
             final String id,
             final List<CommentInfo> commentList
     ) {
-        return new NovelCommentListResponse(id, commentList);
+        return new NovelCommentListResponse(id, commentList, false, null);
+    }
+
+    public static NovelCommentListResponse of(
+            final String id,
+            final List<CommentInfo> commentList,
+            final boolean hasNext,
+            final String nextCursor
+    ) {
+        return new NovelCommentListResponse(id, commentList, hasNext, nextCursor);
     }
 }
@@ -0,0 +1,45 @@
+package com.eatbook.backoffice.domain.novel.dto;
+
+import com.eatbook.backoffice.global.exception.exceptions.InvalidCursorException;
+import com.eatbook.backoffice.global.utils.CursorCodec;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+import static com.eatbook.backoffice.global.response.GlobalErrorCode.INVALID_CURSOR;
+
+/**
+ * 소설 목록 커서 페이지네이션의 정렬 키 (created_at, id) 입니다.
+ */
+public record NovelCursor(
+        LocalDateTime createdAt,
+        String id
+) {
+    public static NovelCursor of(
+            final LocalDateTime createdAt,
+            final String id
+    ) {
+        return new NovelCursor(createdAt, id);
+    }
+
+    /**
+     * 클라이언트가 전달한 커서 문자열을 정렬 키로 변환합니다.
+     *
+     * @param cursor 이전 응답의 nextCursor 값
+     * @return 디코딩된 정렬 키
+     * @throws InvalidCursorException 커서 형식이 올바르지 않을 경우 발생
+     */
+    public static NovelCursor decode(String cursor) {
+        List<String> values = CursorCodec.decode(cursor, 2);
+        try {
+            return new NovelCursor(LocalDateTime.parse(values.get(0)), values.get(1));
+        } catch (DateTimeParseException e) {
+            throw new InvalidCursorException(INVALID_CURSOR);
+        }
+    }
+
+    public String encode() {
+        return CursorCodec.encode(createdAt.toString(), id);
+    }
+}
@@ -0,0 +1,28 @@
+package com.eatbook.backoffice.domain.novel.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+public record NovelCursorListResponse(
+        @JsonProperty("size")
+        int size,
+
+        @JsonProperty("hasNext")
+        boolean hasNext,
+
+        @JsonProperty("nextCursor")
+        String nextCursor,
+
+        @JsonProperty("novelList")
+        List<NovelInfo> novelList
+) {
+    public static NovelCursorListResponse of(
+            final int size,
+            final boolean hasNext,
+            final String nextCursor,
+            final List<NovelInfo> novelList
+    ) {
+        return new NovelCursorListResponse(size, hasNext, nextCursor, novelList);
+    }
+}
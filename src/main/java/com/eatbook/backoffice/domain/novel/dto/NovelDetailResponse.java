@@ -60,4 +60,12 @@ public record NovelDetailResponse(
         this.views = views;
         this.likes = likes;
     }
-}
\ No newline at end of file
+
+    /**
+     * 조회수만 바꾼 사본을 반환합니다. 캐시된 응답에 아직 기록되지 않은 조회수를 더할 때 사용합니다.
+     */
+    public NovelDetailResponse withViews(int views) {
+        return new NovelDetailResponse(id, title, authorList, categoryList, coverImageUrl, summary,
+                isCompleted, publicationYear, views, likes);
+    }
+}
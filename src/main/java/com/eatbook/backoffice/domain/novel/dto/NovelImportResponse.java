@@ -0,0 +1,41 @@
+package com.eatbook.backoffice.domain.novel.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+public record NovelImportResponse(
+        @JsonProperty("totalCount")
+        int totalCount,
+
+        @JsonProperty("createdCount")
+        int createdCount,
+
+        @JsonProperty("skippedCount")
+        int skippedCount,
+
+        @JsonProperty("elapsedMillis")
+        long elapsedMillis,
+
+        @JsonProperty("novelsPerSecond")
+        double novelsPerSecond,
+
+        @JsonProperty("results")
+        List<NovelImportResult> results
+) {
+    public static NovelImportResponse of(final List<NovelImportResult> results, final long elapsedNanos) {
+        int createdCount = (int) results.stream()
+                .filter(result -> result.status() == NovelImportResult.Status.CREATED)
+                .count();
+        double elapsedSeconds = elapsedNanos / 1_000_000_000.0;
+        double novelsPerSecond = elapsedSeconds > 0 ? createdCount / elapsedSeconds : 0;
+
+        return new NovelImportResponse(
+                results.size(),
+                createdCount,
+                results.size() - createdCount,
+                elapsedNanos / 1_000_000,
+                novelsPerSecond,
+                results);
+    }
+}
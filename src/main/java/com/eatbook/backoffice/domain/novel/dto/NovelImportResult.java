@@ -0,0 +1,44 @@
+package com.eatbook.backoffice.domain.novel.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record NovelImportResult(
+        @JsonProperty("index")
+        int index,
+
+        @JsonProperty("title")
+        String title,
+
+        @JsonProperty("author")
+        String author,
+
+        @JsonProperty("status")
+        Status status,
+
+        @JsonProperty("novelId")
+        String novelId,
+
+        @JsonProperty("presignedUrl")
+        String presignedUrl,
+
+        @JsonProperty("message")
+        String message
+) {
+    public enum Status {
+        CREATED, DUPLICATED, INVALID
+    }
+
+    public static NovelImportResult created(final int index, final NovelRequest request, final String novelId, final String presignedUrl) {
+        return new NovelImportResult(index, request.title(), request.author(), Status.CREATED, novelId, presignedUrl, null);
+    }
+
+    public static NovelImportResult duplicated(final int index, final NovelRequest request) {
+        return new NovelImportResult(index, request.title(), request.author(), Status.DUPLICATED, null, null, null);
+    }
+
+    public static NovelImportResult invalid(final int index, final NovelRequest request, final String message) {
+        return new NovelImportResult(index, request.title(), request.author(), Status.INVALID, null, null, message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.eatbook.backoffice.domain.novel.exception;
+
+import com.eatbook.backoffice.global.exception.exceptions.BusinessException;
+import com.eatbook.backoffice.global.response.StatusCode;
+
+public class NovelImportPayloadException extends BusinessException {
+
+    public NovelImportPayloadException(StatusCode code, String detailMessage) {
+        super(detailMessage, code);
+    }
+}
@@ -5,6 +5,7 @@ import com.eatbook.backoffice.entity.Novel;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -12,7 +13,7 @@ import java.util.List;
 
 public interface NovelRepository extends JpaRepository<Novel, String>, NovelCustomRepository {
 
-    @Query("SELECT n.id FROM Novel n ORDER BY n.createdAt DESC")
+    @Query("SELECT n.id FROM Novel n WHERE n.deletedAt IS NULL ORDER BY n.createdAt DESC")
     Page<String> findNovelIds(Pageable pageable);
 
     @Query("SELECT n.id FROM Novel n " +
@@ -27,11 +28,68 @@ public interface NovelRepository extends JpaRepository<Novel, String>, NovelCust
             "ORDER BY n.createdAt DESC")
     Page<String> findNovelIdsByQuery(@Param("query") String query, Pageable pageable);
 
-    @Query("SELECT n FROM Novel n " +
-            "LEFT JOIN FETCH n.novelAuthors na " +
-            "LEFT JOIN FETCH na.author " +
-            "LEFT JOIN FETCH n.novelCategories nc " +
-            "LEFT JOIN FETCH nc.category " +
-            "WHERE n.id IN :ids")
-    List<Novel> findAllByIdsWithAuthorsAndCategories(@Param("ids") List<String> ids);
+    /**
+     * FULLTEXT(ngram) 인덱스로 제목, 작가명, 카테고리명을 검색하여 관련도 순으로 소설 ID를 가져오는 쿼리.
+     * 제목 일치에 가장 큰 가중치를 주며, 관련도가 같으면 최신 소설이 먼저 옵니다.
+     * NovelSearchBenchmark가 같은 SQL을 측정하도록 상수로 둡니다.
+     */
+    String FULLTEXT_SEARCH_QUERY = "SELECT BIN_TO_UUID(s.novel_id) FROM (" +
+            "  SELECT n.id AS novel_id, n.created_at, MATCH(n.title) AGAINST(:query IN BOOLEAN MODE) * 3 AS score " +
+            "  FROM novel n " +
+            "  WHERE n.deleted_at IS NULL AND MATCH(n.title) AGAINST(:query IN BOOLEAN MODE) " +
+            "  UNION ALL " +
+            "  SELECT n.id, n.created_at, MATCH(a.name) AGAINST(:query IN BOOLEAN MODE) * 2 " +
+            "  FROM author a " +
+            "  JOIN novel_author na ON na.author_id = a.id " +
+            "  JOIN novel n ON n.id = na.novel_id AND n.deleted_at IS NULL " +
+            "  WHERE a.deleted_at IS NULL AND MATCH(a.name) AGAINST(:query IN BOOLEAN MODE) " +
+            "  UNION ALL " +
+            "  SELECT n.id, n.created_at, MATCH(c.name) AGAINST(:query IN BOOLEAN MODE) " +
+            "  FROM category c " +
+            "  JOIN novel_category nc ON nc.category_id = c.id " +
+            "  JOIN novel n ON n.id = nc.novel_id AND n.deleted_at IS NULL " +
+            "  WHERE c.deleted_at IS NULL AND MATCH(c.name) AGAINST(:query IN BOOLEAN MODE) " +
+            ") s " +
+            "GROUP BY s.novel_id " +
+            "ORDER BY SUM(s.score) DESC, MAX(s.created_at) DESC";
+
+    /**
+     * {@link #FULLTEXT_SEARCH_QUERY}와 같은 조건으로 검색된 소설 수를 세는 쿼리.
+     */
+    String FULLTEXT_SEARCH_COUNT_QUERY = "SELECT COUNT(DISTINCT s.novel_id) FROM (" +
+            "  SELECT n.id AS novel_id FROM novel n " +
+            "  WHERE n.deleted_at IS NULL AND MATCH(n.title) AGAINST(:query IN BOOLEAN MODE) " +
+            "  UNION ALL " +
+            "  SELECT na.novel_id FROM author a " +
+            "  JOIN novel_author na ON na.author_id = a.id " +
+            "  JOIN novel n ON n.id = na.novel_id AND n.deleted_at IS NULL " +
+            "  WHERE a.deleted_at IS NULL AND MATCH(a.name) AGAINST(:query IN BOOLEAN MODE) " +
+            "  UNION ALL " +
+            "  SELECT nc.novel_id FROM category c " +
+            "  JOIN novel_category nc ON nc.category_id = c.id " +
+            "  JOIN novel n ON n.id = nc.novel_id AND n.deleted_at IS NULL " +
+            "  WHERE c.deleted_at IS NULL AND MATCH(c.name) AGAINST(:query IN BOOLEAN MODE) " +
+            ") s";
+
+    /**
+     * FULLTEXT(ngram) 인덱스로 제목, 작가명, 카테고리명을 검색하여 관련도 순으로 소설 ID를 가져옵니다.
+     *
+     * @param query BOOLEAN MODE 검색식 (예: {@code "검색어"})
+     * @param pageable 정렬 정보가 없는 페이지 정보. 정렬은 쿼리에서 관련도 순으로 고정됩니다.
+     */
+    @Query(value = FULLTEXT_SEARCH_QUERY, countQuery = FULLTEXT_SEARCH_COUNT_QUERY, nativeQuery = true)
+    Page<String> findNovelIdsByFullText(@Param("query") String query, Pageable pageable);
+
+    /**
+     * 좋아요 집계 컬럼을 favorite 테이블의 실제 개수와 맞춥니다.
+     *
+     * @return 값이 보정된 소설 수
+     */
+    @Modifying
+    @Query(value = "UPDATE novel n " +
+            "LEFT JOIN (SELECT novel_id, COUNT(*) AS cnt FROM favorite GROUP BY novel_id) f ON f.novel_id = n.id " +
+            "SET n.like_count = COALESCE(f.cnt, 0) " +
+            "WHERE n.like_count <> COALESCE(f.cnt, 0)",
+            nativeQuery = true)
+    int reconcileLikeCounts();
 }
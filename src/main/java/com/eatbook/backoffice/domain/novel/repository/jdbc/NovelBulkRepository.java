@@ -0,0 +1,171 @@
+package com.eatbook.backoffice.domain.novel.repository.jdbc;
+
+import com.eatbook.backoffice.domain.novel.dto.NovelRequest;
+import com.eatbook.backoffice.global.utils.BinaryUuid;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 소설 일괄 등록에 사용하는 JDBC 리포지토리.
+ * 이름 조회는 IN 쿼리 한 번으로, 저장은 JDBC 배치로 처리하여 소설 수와 관계없이 왕복 횟수를 일정하게 유지합니다.
+ * 배치 INSERT가 한 문장으로 합쳐지려면 JDBC URL에 rewriteBatchedStatements=true가 설정되어 있어야 합니다.
+ * Id 컬럼은 BINARY(16)이므로 {@link BinaryUuid}로 변환하여 바인딩합니다.
+ */
+@Repository
+public class NovelBulkRepository {
+
+    private static final String SELECT_EXISTING_TITLE_AUTHORS =
+            "SELECT n.title, a.name FROM novel n " +
+            "JOIN novel_author na ON na.novel_id = n.id " +
+            "JOIN author a ON a.id = na.author_id " +
+            "WHERE n.title IN (:titles) AND a.name IN (:authors) AND n.deleted_at IS NULL";
+
+    private static final String SELECT_AUTHOR_IDS =
+            "SELECT id, name FROM author WHERE name IN (:names) AND deleted_at IS NULL";
+
+    private static final String SELECT_CATEGORY_IDS =
+            "SELECT id, name FROM category WHERE name IN (:names) AND deleted_at IS NULL";
+
+    private static final String INSERT_AUTHOR =
+            "INSERT INTO author (id, name, created_at, updated_at) VALUES (?, ?, ?, ?)";
+
+    private static final String INSERT_CATEGORY =
+            "INSERT INTO category (id, name, created_at, updated_at) VALUES (?, ?, ?, ?)";
+
+    private static final String INSERT_NOVEL =
+            "INSERT INTO novel (id, title, cover_image_url, summary, is_completed, publication_year, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_NOVEL_AUTHOR =
+            "INSERT INTO novel_author (novel_id, author_id, created_at) VALUES (?, ?, ?)";
+
+    private static final String INSERT_NOVEL_CATEGORY =
+            "INSERT INTO novel_category (novel_id, category_id, created_at) VALUES (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public NovelBulkRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    /**
+     * 주어진 제목과 저자명 조합 중 이미 등록된 소설을 찾습니다.
+     *
+     * @param titles 소설 제목 목록
+     * @param authorNames 저자명 목록
+     * @return 이미 존재하는 (제목, 저자명) 조합
+     */
+    public Set<TitleAuthor> findExistingTitleAuthors(Collection<String> titles, Collection<String> authorNames) {
+        if (titles.isEmpty() || authorNames.isEmpty()) {
+            return new HashSet<>();
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("titles", titles)
+                .addValue("authors", authorNames);
+
+        return new HashSet<>(namedParameterJdbcTemplate.query(SELECT_EXISTING_TITLE_AUTHORS, params,
+                (rs, rowNum) -> new TitleAuthor(rs.getString("title"), rs.getString("name"))));
+    }
+
+    /**
+     * 저자명으로 저자 Id를 조회합니다.
+     *
+     * @return 저자명을 키로 하는 저자 Id 맵. 존재하지 않는 이름은 포함되지 않습니다.
+     */
+    public Map<String, String> findAuthorIdsByNames(Collection<String> names) {
+        return findIdsByNames(SELECT_AUTHOR_IDS, names);
+    }
+
+    /**
+     * 카테고리명으로 카테고리 Id를 조회합니다.
+     *
+     * @return 카테고리명을 키로 하는 카테고리 Id 맵. 존재하지 않는 이름은 포함되지 않습니다.
+     */
+    public Map<String, String> findCategoryIdsByNames(Collection<String> names) {
+        return findIdsByNames(SELECT_CATEGORY_IDS, names);
+    }
+
+    public void insertAuthors(Map<String, String> idsByName) {
+        insertNamed(INSERT_AUTHOR, idsByName);
+    }
+
+    public void insertCategories(Map<String, String> idsByName) {
+        insertNamed(INSERT_CATEGORY, idsByName);
+    }
+
+    /**
+     * 소설과 저자, 카테고리 연결을 배치로 저장합니다.
+     *
+     * @param novels 저장할 소설 목록
+     */
+    public void insertNovels(List<NewNovel> novels) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(INSERT_NOVEL, novels.stream()
+                .map(novel -> new Object[]{
+                        BinaryUuid.toBytes(novel.id()),
+                        novel.request().title(),
+                        novel.coverImageUrl(),
+                        novel.request().summary(),
+                        novel.request().isCompleted(),
+                        novel.request().publicationYear(),
+                        now,
+                        now})
+                .toList());
+
+        jdbcTemplate.batchUpdate(INSERT_NOVEL_AUTHOR, novels.stream()
+                .map(novel -> new Object[]{BinaryUuid.toBytes(novel.id()), BinaryUuid.toBytes(novel.authorId()), now})
+                .toList());
+
+        jdbcTemplate.batchUpdate(INSERT_NOVEL_CATEGORY, novels.stream()
+                .flatMap(novel -> novel.categoryIds().stream()
+                        .map(categoryId -> new Object[]{BinaryUuid.toBytes(novel.id()), BinaryUuid.toBytes(categoryId), now}))
+                .toList());
+    }
+
+    private Map<String, String> findIdsByNames(String sql, Collection<String> names) {
+        Map<String, String> idsByName = new HashMap<>();
+        if (names.isEmpty()) {
+            return idsByName;
+        }
+
+        namedParameterJdbcTemplate.query(sql, new MapSqlParameterSource("names", names),
+                (RowCallbackHandler) rs -> idsByName.putIfAbsent(rs.getString("name"), BinaryUuid.fromBytes(rs.getBytes("id"))));
+        return idsByName;
+    }
+
+    private void insertNamed(String sql, Map<String, String> idsByName) {
+        if (idsByName.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(sql, idsByName.entrySet().stream()
+                .map(entry -> new Object[]{BinaryUuid.toBytes(entry.getValue()), entry.getKey(), now, now})
+                .toList());
+    }
+
+    public record TitleAuthor(String title, String author) {
+    }
+
+    /**
+     * 저장할 소설 한 건. 저자와 카테고리는 이미 Id로 해석된 상태입니다.
+     */
+    public record NewNovel(String id, String coverImageUrl, NovelRequest request, String authorId, Set<String> categoryIds) {
+    }
+}
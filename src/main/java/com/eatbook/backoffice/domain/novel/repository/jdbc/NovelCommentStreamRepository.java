@@ -0,0 +1,94 @@
+package com.eatbook.backoffice.domain.novel.repository.jdbc;
+
+import com.eatbook.backoffice.domain.novel.dto.CommentInfo;
+import com.eatbook.backoffice.global.utils.BinaryUuid;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 소설 댓글을 JDBC 커서로 한 행씩 읽어 전달하는 리포지토리.
+ * 영속성 컨텍스트와 결과 리스트를 거치지 않으므로 댓글 수와 관계없이 메모리 사용량이 일정합니다.
+ */
+@Repository
+public class NovelCommentStreamRepository {
+
+    /**
+     * 소설 행을 기준으로 회차와 댓글을 LEFT JOIN 하므로, 결과가 비어 있으면 소설이 존재하지 않는 것입니다.
+     * 댓글이 없는 회차는 댓글 컬럼이 null인 행 하나로 나옵니다.
+     */
+    private static final String SELECT_COMMENTS =
+            "SELECT c.id, e.chapter_number, e.title, m.id AS member_id, m.nickname, c.content, c.created_at, c.updated_at " +
+            "FROM novel n " +
+            "LEFT JOIN episode e ON e.novel_id = n.id AND e.deleted_at IS NULL %s" +
+            "LEFT JOIN comment c ON c.episode_id = e.id AND c.deleted_at IS NULL " +
+            "LEFT JOIN member m ON m.id = c.member_id " +
+            "WHERE n.id = ? AND n.deleted_at IS NULL ";
+
+    private static final String EPISODE_FILTER = "AND e.id = ? ";
+
+    private static final String ORDER_BY = "ORDER BY e.chapter_number, c.created_at, c.id";
+
+    private final JdbcTemplate streamingJdbcTemplate;
+
+    public NovelCommentStreamRepository(@Qualifier("streamingJdbcTemplate") JdbcTemplate streamingJdbcTemplate) {
+        this.streamingJdbcTemplate = streamingJdbcTemplate;
+    }
+
+    /**
+     * 소설의 댓글을 정렬 순서대로 읽으며 한 건씩 consumer에 전달합니다.
+     * 소설 존재 여부를 별도 쿼리로 확인하지 않고, 같은 쿼리의 첫 행이 도착하면 onNovelFound를 먼저 호출합니다.
+     *
+     * @param novelId 소설 Id
+     * @param episodeId 회차 Id. null이면 모든 회차의 댓글을 읽습니다.
+     * @param onNovelFound 소설이 존재할 때 첫 댓글보다 먼저 한 번 호출할 함수
+     * @param consumer 각 댓글을 처리할 함수
+     * @return 소설이 존재하면 true
+     */
+    public boolean streamComments(String novelId, String episodeId, Runnable onNovelFound, Consumer<CommentInfo> consumer) {
+        List<Object> args = new ArrayList<>();
+        String sql;
+        if (episodeId != null) {
+            sql = String.format(SELECT_COMMENTS, EPISODE_FILTER);
+            args.add(BinaryUuid.toBytes(episodeId));
+        } else {
+            sql = String.format(SELECT_COMMENTS, "");
+        }
+        args.add(BinaryUuid.toBytes(novelId));
+        sql += ORDER_BY;
+
+        boolean[] found = {false};
+        streamingJdbcTemplate.query(sql, (RowCallbackHandler) rs -> {
+            if (!found[0]) {
+                found[0] = true;
+                onNovelFound.run();
+            }
+
+            byte[] commentId = rs.getBytes("id");
+            if (commentId == null) {
+                return;
+            }
+            consumer.accept(CommentInfo.of(
+                    BinaryUuid.fromBytes(commentId),
+                    rs.getInt("chapter_number"),
+                    rs.getString("title"),
+                    BinaryUuid.fromBytes(rs.getBytes("member_id")),
+                    rs.getString("nickname"),
+                    rs.getString("content"),
+                    toLocalDateTime(rs.getTimestamp("created_at")),
+                    toLocalDateTime(rs.getTimestamp("updated_at"))));
+        }, args.toArray());
+        return found[0];
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+}
@@ -1,14 +1,23 @@
 package com.eatbook.backoffice.domain.novel.repository.queryDSL;
 
-import com.eatbook.backoffice.domain.novel.dto.NovelCommentListResponse;
+import com.eatbook.backoffice.domain.novel.dto.CommentCursor;
+import com.eatbook.backoffice.domain.novel.dto.CommentInfo;
+import com.eatbook.backoffice.domain.novel.dto.NovelCursor;
 import com.eatbook.backoffice.domain.novel.dto.NovelDetailResponse;
 import com.eatbook.backoffice.domain.novel.dto.NovelEpisodeListResponse;
+import com.eatbook.backoffice.domain.novel.dto.NovelInfo;
+
+import java.util.List;
 
 public interface NovelCustomRepository {
 
     NovelDetailResponse findNovelDetailById(String novelId);
 
-    NovelCommentListResponse findNovelCommentListById(String novelId);
+    List<CommentInfo> findNovelComments(String novelId, String episodeId, CommentCursor cursor, int limit);
 
     NovelEpisodeListResponse findNovelEpisodeListById(String novelId);
+
+    List<NovelCursor> findNovelCursors(NovelCursor cursor, int limit);
+
+    List<NovelInfo> findNovelInfosByIds(List<String> novelIds);
 }
\ No newline at end of file
@@ -3,12 +3,15 @@ package com.eatbook.backoffice.domain.novel.repository.queryDSL;
 import com.eatbook.backoffice.domain.novel.dto.*;
 import com.eatbook.backoffice.domain.novel.exception.NovelNotFoundException;
 import com.eatbook.backoffice.entity.Novel;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import static com.eatbook.backoffice.domain.novel.response.NovelErrorCode.NOVEL_NOT_FOUND;
@@ -16,7 +19,7 @@ import static com.eatbook.backoffice.entity.QAuthor.author;
 import static com.eatbook.backoffice.entity.QCategory.category;
 import static com.eatbook.backoffice.entity.QComment.comment;
 import static com.eatbook.backoffice.entity.QEpisode.episode;
-import static com.eatbook.backoffice.entity.QFavorite.favorite;
+import static com.eatbook.backoffice.entity.QMember.member;
 import static com.eatbook.backoffice.entity.QNovel.novel;
 import static com.eatbook.backoffice.entity.QNovelAuthor.novelAuthor;
 import static com.eatbook.backoffice.entity.QNovelCategory.novelCategory;
@@ -29,18 +32,19 @@ public class NovelCustomRepositoryImpl implements NovelCustomRepository {
 
     @Override
     public NovelDetailResponse findNovelDetailById(String novelId) {
-        validateNovelExistence(novelId);
-
         Novel novelEntity = jpaQueryFactory
                 .selectFrom(novel)
                 .leftJoin(novel.novelAuthors, novelAuthor).fetchJoin()
                 .leftJoin(novelAuthor.author, author).fetchJoin()
                 .leftJoin(novel.novelCategories, novelCategory).fetchJoin()
                 .leftJoin(novelCategory.category, category).fetchJoin()
-                .leftJoin(novel.favorites, favorite).fetchJoin()
                 .where(novel.id.eq(novelId))
                 .fetchOne();
 
+        if (novelEntity == null) {
+            throw new NovelNotFoundException(NOVEL_NOT_FOUND);
+        }
+
         List<String> authorList = novelEntity.getNovelAuthors().stream()
                 .map(novelAuthor -> novelAuthor.getAuthor().getName())
                 .collect(Collectors.toList());
@@ -49,8 +53,6 @@ public class NovelCustomRepositoryImpl implements NovelCustomRepository {
                 .map(novelCategory -> novelCategory.getCategory().getName())
                 .collect(Collectors.toList());
 
-        int likes = novelEntity.getFavorites().size();
-
         return new NovelDetailResponse(
                 novelEntity.getId(),
                 novelEntity.getTitle(),
@@ -61,62 +63,191 @@ public class NovelCustomRepositoryImpl implements NovelCustomRepository {
                 novelEntity.isCompleted(),
                 novelEntity.getPublicationYear(),
                 novelEntity.getViewCount(),
-                likes
+                novelEntity.getLikeCount()
         );
     }
 
+    /**
+     * 소설의 댓글을 (chapter_number, created_at, id) 순으로 커서 이후부터 조회합니다.
+     * 조회 결과가 없을 때만 소설 존재 여부를 확인하여, 댓글이 없는 소설과 존재하지 않는 소설을 구분합니다.
+     *
+     * @param novelId 소설 Id
+     * @param episodeId 회차 Id. null이면 모든 회차의 댓글을 조회합니다.
+     * @param cursor 마지막으로 조회한 댓글의 정렬 키. 첫 페이지의 경우 null
+     * @param limit 조회할 최대 개수
+     * @return 정렬된 댓글 목록
+     * @throws NovelNotFoundException 소설이 존재하지 않을 경우 발생
+     */
     @Override
-    public NovelCommentListResponse findNovelCommentListById(String novelId) {
-        validateNovelExistence(novelId);
-
+    public List<CommentInfo> findNovelComments(String novelId, String episodeId, CommentCursor cursor, int limit) {
         List<CommentInfo> comments = jpaQueryFactory
                 .select(Projections.constructor(CommentInfo.class,
                         comment.id,
                         episode.chapterNumber,
                         episode.title,
-                        comment.member.id,
-                        comment.member.nickname,
+                        member.id,
+                        member.nickname,
                         comment.content,
                         comment.createdAt,
                         comment.updatedAt
                 ))
                 .from(comment)
                 .join(comment.episode, episode)
-                .join(episode.novel, novel)
-                .where(novel.id.eq(novelId))
-                .orderBy(episode.chapterNumber.asc(), comment.createdAt.asc())
+                .join(comment.member, member)
+                .where(episode.novel.id.eq(novelId),
+                        episodeIdEq(episodeId),
+                        isAfter(cursor))
+                .orderBy(episode.chapterNumber.asc(), comment.createdAt.asc(), comment.id.asc())
+                .limit(limit)
                 .fetch();
 
-        return NovelCommentListResponse.of(novelId, comments);
+        if (comments.isEmpty() && !existsNovel(novelId)) {
+            throw new NovelNotFoundException(NOVEL_NOT_FOUND);
+        }
+
+        return comments;
     }
 
+    /**
+     * 소설의 회차 목록을 조회합니다.
+     * 소설 행을 기준으로 회차를 LEFT JOIN 하여, 회차가 없는 소설과 존재하지 않는 소설을 한 번의 쿼리로 구분합니다.
+     */
     @Override
     public NovelEpisodeListResponse findNovelEpisodeListById(String novelId) {
-        validateNovelExistence(novelId);
-
-        List<EpisodeInfo> episodes = jpaQueryFactory
-                .select(Projections.constructor(EpisodeInfo.class,
+        List<Tuple> rows = jpaQueryFactory
+                .select(novel.id,
                         episode.id,
                         episode.chapterNumber,
-                        episode.title
-                ))
-                .from(episode)
-                .where(episode.novel.id.eq(novelId))
+                        episode.title)
+                .from(novel)
+                .leftJoin(novel.episodes, episode)
+                .where(novel.id.eq(novelId))
                 .orderBy(episode.chapterNumber.asc())
                 .fetch();
 
+        if (rows.isEmpty()) {
+            throw new NovelNotFoundException(NOVEL_NOT_FOUND);
+        }
+
+        List<EpisodeInfo> episodes = rows.stream()
+                .filter(row -> row.get(episode.id) != null)
+                .map(row -> EpisodeInfo.of(
+                        row.get(episode.id),
+                        row.get(episode.chapterNumber),
+                        row.get(episode.title)))
+                .collect(Collectors.toList());
+
         return NovelEpisodeListResponse.of(novelId, episodes);
     }
 
-    private void validateNovelExistence(String novelId) {
-        Boolean exists = jpaQueryFactory
+    /**
+     * (created_at, id) 내림차순으로 커서 이후의 소설 정렬 키를 조회합니다.
+     * OFFSET 없이 인덱스 범위 조회만으로 다음 페이지를 가져오며, 전체 개수는 계산하지 않습니다.
+     *
+     * @param cursor 마지막으로 조회한 소설의 정렬 키. 첫 페이지의 경우 null
+     * @param limit 조회할 최대 개수
+     * @return 정렬된 소설 정렬 키 목록
+     */
+    @Override
+    public List<NovelCursor> findNovelCursors(NovelCursor cursor, int limit) {
+        return jpaQueryFactory
+                .select(Projections.constructor(NovelCursor.class,
+                        novel.createdAt,
+                        novel.id
+                ))
+                .from(novel)
+                .where(novel.deletedAt.isNull(), isBefore(cursor))
+                .orderBy(novel.createdAt.desc(), novel.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * 소설 목록 화면에 필요한 정보를 엔티티 로딩 없이 DTO로 조회합니다.
+     * 저자와 카테고리를 한 번에 fetch join 하면 소설마다 (저자 수 × 카테고리 수)만큼 행이 늘어나므로,
+     * 소설 기본 정보, (소설 ID, 저자명), (소설 ID, 카테고리명)을 각각 IN 쿼리로 가져와 조립합니다.
+     * 저자와 카테고리는 이름순으로 정렬하여, 실행 계획이 바뀌어도 목록 순서가 조회마다 달라지지 않도록 합니다.
+     *
+     * @param novelIds 정렬된 소설 ID 목록
+     * @return ID 목록과 같은 순서의 {@link NovelInfo} 목록. 존재하지 않는 ID는 건너뜁니다.
+     */
+    @Override
+    public List<NovelInfo> findNovelInfosByIds(List<String> novelIds) {
+        if (novelIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<String, Tuple> novelsById = jpaQueryFactory
+                .select(novel.id, novel.title, novel.coverImageUrl)
+                .from(novel)
+                .where(novel.id.in(novelIds))
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(tuple -> tuple.get(novel.id), tuple -> tuple));
+
+        Map<String, List<String>> authorNamesByNovelId = jpaQueryFactory
+                .select(novelAuthor.novel.id, author.name)
+                .from(novelAuthor)
+                .join(novelAuthor.author, author)
+                .where(novelAuthor.novel.id.in(novelIds))
+                .orderBy(author.name.asc())
+                .fetch()
+                .stream()
+                .collect(Collectors.groupingBy(tuple -> tuple.get(novelAuthor.novel.id),
+                        Collectors.mapping(tuple -> tuple.get(author.name), Collectors.toList())));
+
+        Map<String, List<String>> categoryNamesByNovelId = jpaQueryFactory
+                .select(novelCategory.novel.id, category.name)
+                .from(novelCategory)
+                .join(novelCategory.category, category)
+                .where(novelCategory.novel.id.in(novelIds))
+                .orderBy(category.name.asc())
+                .fetch()
+                .stream()
+                .collect(Collectors.groupingBy(tuple -> tuple.get(novelCategory.novel.id),
+                        Collectors.mapping(tuple -> tuple.get(category.name), Collectors.toList())));
+
+        return novelIds.stream()
+                .filter(novelsById::containsKey)
+                .map(novelId -> {
+                    Tuple novelTuple = novelsById.get(novelId);
+                    return NovelInfo.of(
+                            novelId,
+                            novelTuple.get(novel.title),
+                            authorNamesByNovelId.getOrDefault(novelId, List.of()),
+                            categoryNamesByNovelId.getOrDefault(novelId, List.of()),
+                            novelTuple.get(novel.coverImageUrl));
+                })
+                .collect(Collectors.toList());
+    }
+
+    private BooleanExpression episodeIdEq(String episodeId) {
+        return episodeId == null ? null : episode.id.eq(episodeId);
+    }
+
+    private BooleanExpression isAfter(CommentCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return episode.chapterNumber.gt(cursor.chapterNumber())
+                .or(episode.chapterNumber.eq(cursor.chapterNumber())
+                        .and(comment.createdAt.gt(cursor.createdAt())
+                                .or(comment.createdAt.eq(cursor.createdAt()).and(comment.id.gt(cursor.id())))));
+    }
+
+    private boolean existsNovel(String novelId) {
+        return jpaQueryFactory
                 .selectOne()
                 .from(novel)
                 .where(novel.id.eq(novelId))
                 .fetchFirst() != null;
+    }
 
-        if (!exists) {
-            throw new NovelNotFoundException(NOVEL_NOT_FOUND);
+    private BooleanExpression isBefore(NovelCursor cursor) {
+        if (cursor == null) {
+            return null;
         }
+        return novel.createdAt.lt(cursor.createdAt())
+                .or(novel.createdAt.eq(cursor.createdAt()).and(novel.id.lt(cursor.id())));
     }
-}
\ No newline at end of file
+}
@@ -12,6 +12,7 @@ public enum NovelErrorCode implements StatusCode {
     NOVEL_NOT_FOUND("NOVEL_NOT_FOUND", "존재하지 않는 소설입니다."),
     PRESIGNED_URL_GENERATION_FAILED("PRESIGNED_URL_GENERATION_FAILED", "presinged url 생성에 실패했습니다. 에러메세지: %s"),
     S3_PRE_SIGNED_URL_GENERATION_FAILED("S3_PRE_SIGNED_URL_GENERATION_FAILED", "S3 presinged url 생성에 실패했습니다."),
+    INVALID_IMPORT_PAYLOAD("INVALID_IMPORT_PAYLOAD", "일괄 등록 요청 본문을 읽을 수 없습니다."),
     ;
 
     private final String code;
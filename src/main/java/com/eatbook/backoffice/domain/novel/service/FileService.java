@@ -2,21 +2,62 @@ package com.eatbook.backoffice.domain.novel.service;
 
 import com.eatbook.backoffice.domain.novel.exception.PresignedUrlGenerationException;
 import com.eatbook.backoffice.entity.constant.ContentType;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.Delete;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.MetadataDirective;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Error;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static com.amazonaws.services.s3.internal.BucketNameUtils.validateBucketName;
 import static com.eatbook.backoffice.domain.novel.response.NovelErrorCode.S3_PRE_SIGNED_URL_GENERATION_FAILED;
@@ -30,9 +71,20 @@ import static com.eatbook.backoffice.global.utils.PathGenerator.getFilePath;
 @RequiredArgsConstructor
 @Slf4j
 public class FileService {
+    private static final String STAGING_CONTENT_TYPE = "application/octet-stream";
+
+    /**
+     * S3 멀티파트 업로드에서 마지막 파트를 제외한 파트의 최소 크기.
+     */
+    private static final DataSize MIN_PART_SIZE = DataSize.ofMegabytes(5);
+
     private final S3Client s3Client;
 
     private final S3Presigner s3Presigner;
+
+    private final ExecutorService s3TransferExecutor;
+
+    private final S3AsyncClient s3AsyncClient;
     
     @Value("${cloud.aws.s3.bucket.public}")
     private String publicBucket;
@@ -42,6 +94,62 @@ public class FileService {
     
     @Value("${presigned.url.expiration}")
     private int presignedUrlExpiration;
+
+    @Value("${cloud.aws.s3.upload.multipart-threshold:16MB}")
+    private DataSize multipartThreshold;
+
+    @Value("${cloud.aws.s3.upload.part-size:8MB}")
+    private DataSize partSize;
+
+    @Value("${cloud.aws.s3.upload.max-concurrent-parts:4}")
+    private int maxConcurrentParts;
+
+    /**
+     * 커밋 이후 게시할 파일을 임시로 보관하는 private 버킷의 접두사.
+     * 게시되지 못하고 남은 객체는 버킷 수명 주기 규칙으로 만료시킵니다.
+     */
+    @Value("${cloud.aws.s3.upload.staging-prefix:staging/}")
+    private String stagingPrefix;
+
+    @Value("${presigned.url.cache.maximum-size:10000}")
+    private long presignedUrlCacheSize;
+
+    @Value("${cloud.aws.s3.async.delete-concurrency:4}")
+    private int deleteConcurrency;
+
+    @Value("${cloud.aws.s3.async.delete-batch-size:1000}")
+    private int deleteBatchSize;
+
+    /**
+     * 서명된 URL을 (버킷, 키, 메서드, 콘텐츠 타입) 단위로 재사용하기 위한 캐시.
+     * 항목은 서명 유효 시간의 절반이 지나면 만료되므로, 캐시에서 꺼낸 URL도 최소 절반의 유효 시간이 남아 있습니다.
+     */
+    private Cache<PresignKey, String> presignedUrls;
+
+    private final Set<String> validatedBuckets = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    void init() {
+        validateBucket(publicBucket);
+        validateBucket(privateBucket);
+        validatePartSize();
+
+        presignedUrls = Caffeine.newBuilder()
+                .maximumSize(presignedUrlCacheSize)
+                .expireAfterWrite(Duration.ofMinutes(presignedUrlExpiration).dividedBy(2))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 파트 크기가 S3 최소 파트 크기보다 작으면 첫 멀티파트 업로드의 완료 요청이 EntityTooSmall로 실패하므로, 시작할 때 거절합니다.
+     */
+    private void validatePartSize() {
+        if (partSize.toBytes() < MIN_PART_SIZE.toBytes()) {
+            throw new IllegalStateException(String.format(
+                    "cloud.aws.s3.upload.part-size는 %dMB 이상이어야 합니다: %s", MIN_PART_SIZE.toMegabytes(), partSize));
+        }
+    }
     
     /**
      * 지정된 S3 버킷에 객체를 업로드하기 위해 preSignedURL을 생성합니다.
@@ -52,21 +160,38 @@ public class FileService {
      * @throws PresignedUrlGenerationException  preSignedURL 생성 중에 예외가 발생할 경우
      */
     public String getPresignUrl(String objectKey, ContentType contentType) {
-        PutObjectRequest putObjectRequest = createPutObjectRequest(objectKey, contentType.getMimeType(), privateBucket);
+        PresignKey presignKey = new PresignKey(privateBucket, objectKey, SdkHttpMethod.PUT, contentType.getMimeType());
 
-        PresignedPutObjectRequest presignedPutObjectRequest;
         try {
-            validateBucketName(privateBucket);
-            presignedPutObjectRequest = createPresignedPutObjectRequest(putObjectRequest);
+            return presignedUrls.get(presignKey, this::presignPutObject);
         } catch (Exception e) {
             throw new PresignedUrlGenerationException(S3_PRE_SIGNED_URL_GENERATION_FAILED, e.getMessage());
         }
+    }
 
-        return presignedPutObjectRequest.url().toString();
+    /**
+     * 여러 객체를 업로드하기 위한 preSignedURL을 한 번에 생성합니다.
+     *
+     * @param objectKeys    S3 버킷에 저장될 객체의 키 목록
+     * @param contentType   업로드할 객체의 MIME 유형
+     * @return              객체 키와 preSignedURL의 맵. 입력 순서를 유지합니다.
+     * @throws PresignedUrlGenerationException  preSignedURL 생성 중에 예외가 발생할 경우
+     */
+    public Map<String, String> getPresignUrls(Collection<String> objectKeys, ContentType contentType) {
+        List<PresignKey> presignKeys = objectKeys.stream()
+                .map(objectKey -> new PresignKey(privateBucket, objectKey, SdkHttpMethod.PUT, contentType.getMimeType()))
+                .toList();
+
+        try {
+            return presignAll(presignKeys, this::presignPutObject);
+        } catch (Exception e) {
+            throw new PresignedUrlGenerationException(S3_PRE_SIGNED_URL_GENERATION_FAILED, e.getMessage());
+        }
     }
 
     /**
      * 지정된 S3 버킷에 파일을 업로드하고, 업로드된 파일에 대한 preSigned URL을 생성합니다.
+     * 파일은 힙에 모두 올리지 않고 스트림으로 전송하며, 크기가 임계값 이상이면 멀티파트 업로드를 사용합니다.
      *
      * @param objectKey     S3 버킷에 저장될 객체(파일)의 키
      * @param file          업로드할 파일
@@ -77,15 +202,9 @@ public class FileService {
      */
     public String uploadFileToBucket(String objectKey, MultipartFile file, String contentType, String bucketName) {
         try {
-            validateBucketName(bucketName);
-
-            PutObjectRequest putObjectRequest = createPutObjectRequest(
-                    objectKey,
-                    contentType,
-                    bucketName
-            );
+            validateBucket(bucketName);
 
-            s3Client.putObject(putObjectRequest, RequestBody.fromBytes(file.getBytes()));
+            uploadStream(objectKey, file, contentType, bucketName);
 
             String fileUrl = generatePresignedGetUrl(objectKey);
 
@@ -100,17 +219,13 @@ public class FileService {
      * 지정된 S3 버킷에 프로필 이미지를 업로드합니다.
      *
      * @param objectKey   S3 버킷에 저장될 객체의 키
-     * @param fileBytes   업로드할 파일의 바이트 배열
+     * @param file        업로드할 프로필 이미지 파일
      * @param contentType 파일의 MIME 유형
      * @return 업로드된 파일의 URL
      */
-    public String uploadProfileImage(String objectKey, byte[] fileBytes, ContentType contentType) {
+    public String uploadProfileImage(String objectKey, MultipartFile file, ContentType contentType) {
         try {
-            validateBucketName(publicBucket);
-
-            PutObjectRequest putObjectRequest = createPutObjectRequest(objectKey, contentType.getMimeType(), publicBucket);
-
-            s3Client.putObject(putObjectRequest, RequestBody.fromBytes(fileBytes));
+            uploadStream(objectKey, file, contentType.getMimeType(), publicBucket);
             String profileImageUrl = getFilePath(publicBucket, objectKey);
             return profileImageUrl;
         } catch (Exception e) {
@@ -119,6 +234,224 @@ public class FileService {
         }
     }
 
+    /**
+     * 업로드할 파일을 private 버킷의 임시 접두사(cloud.aws.s3.upload.staging-prefix) 아래에 저장합니다.
+     * 요청이 끝나면 MultipartFile은 사라지므로, 트랜잭션 커밋 이후 게시할 파일은 먼저 이 메서드로 보관합니다.
+     * 임시 객체는 S3에 있으므로 서버가 재시작되거나 다른 노드가 작업을 점유해도 게시할 수 있습니다.
+     *
+     * @param file     저장할 파일
+     * @param fileName 임시 접두사 아래에서 사용할 객체 이름
+     * @return 임시 객체의 키와 크기
+     * @throws RuntimeException 파일 저장에 실패한 경우 발생
+     */
+    public StagedFile stageFile(MultipartFile file, String fileName) {
+        String stagingKey = stagingPrefix + fileName;
+        try {
+            uploadStream(stagingKey, file, STAGING_CONTENT_TYPE, privateBucket);
+            return new StagedFile(stagingKey, file.getSize());
+        } catch (IOException | RuntimeException e) {
+            log.error("업로드 파일 임시 저장 실패: {}", e.getMessage());
+            throw new RuntimeException("업로드 파일 임시 저장 실패", e);
+        }
+    }
+
+    /**
+     * 로컬 파일의 내용을 private 버킷의 임시 접두사 아래에 저장합니다. 압축 파일의 각 항목처럼
+     * 요청 스트림에서 먼저 디스크로 풀어 둔 입력을 보관할 때 사용하며, 로컬 파일은 호출한 쪽에서 삭제해야 합니다.
+     *
+     * @param file     저장할 로컬 파일
+     * @param fileName 임시 접두사 아래에서 사용할 객체 이름
+     * @return 임시 객체의 키와 크기
+     * @throws RuntimeException 파일 저장에 실패한 경우 발생
+     */
+    public StagedFile stageFile(Path file, String fileName) {
+        String stagingKey = stagingPrefix + fileName;
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            long size = Files.size(file);
+            uploadStream(stagingKey, inputStream, size, STAGING_CONTENT_TYPE, privateBucket);
+            return new StagedFile(stagingKey, size);
+        } catch (IOException | SdkException e) {
+            log.error("업로드 파일 임시 저장 실패: {}", e.getMessage());
+            throw new RuntimeException("업로드 파일 임시 저장 실패", e);
+        }
+    }
+
+    /**
+     * 임시 객체를 S3 서버 측 복사로 최종 위치에 게시합니다. 파일 내용은 서버를 거치지 않습니다.
+     *
+     * @param stagingKey  임시 객체의 키
+     * @param objectKey   게시할 객체의 키
+     * @param contentType 게시할 객체의 MIME 유형
+     * @param bucketName  게시할 S3 버킷 이름
+     * @return 게시했으면 true, 임시 객체가 없으면 false
+     */
+    public boolean publishStagedFile(String stagingKey, String objectKey, String contentType, String bucketName) {
+        validateBucket(bucketName);
+
+        try {
+            s3Client.copyObject(b -> b
+                    .sourceBucket(privateBucket)
+                    .sourceKey(stagingKey)
+                    .destinationBucket(bucketName)
+                    .destinationKey(objectKey)
+                    .contentType(contentType)
+                    .metadataDirective(MetadataDirective.REPLACE));
+            return true;
+        } catch (S3Exception e) {
+            if (e.statusCode() == HttpStatus.NOT_FOUND.value()) {
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 객체가 존재하는지 확인합니다.
+     */
+    public boolean objectExists(String objectKey, String bucketName) {
+        try {
+            s3Client.headObject(b -> b.bucket(bucketName).key(objectKey));
+            return true;
+        } catch (S3Exception e) {
+            if (e.statusCode() == HttpStatus.NOT_FOUND.value()) {
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 임시 객체를 삭제합니다. 실패해도 버킷 수명 주기 규칙으로 정리되므로 경고만 남깁니다.
+     */
+    public void deleteStagedFile(String stagingKey) {
+        try {
+            s3Client.deleteObject(b -> b.bucket(privateBucket).key(stagingKey));
+        } catch (Exception e) {
+            log.warn("임시 객체 삭제 실패: {}, 원인={}", stagingKey, e.getMessage());
+        }
+    }
+
+    /**
+     * 파일을 스트림으로 업로드합니다. 크기가 멀티파트 임계값보다 작으면 한 번의 PutObject로,
+     * 그 이상이면 파트 단위 병렬 업로드로 전송합니다.
+     */
+    private void uploadStream(String objectKey, MultipartFile file, String contentType, String bucketName) throws IOException {
+        try (InputStream inputStream = file.getInputStream()) {
+            uploadStream(objectKey, inputStream, file.getSize(), contentType, bucketName);
+        }
+    }
+
+    private void uploadStream(String objectKey, InputStream inputStream, long size, String contentType, String bucketName) throws IOException {
+        if (size < multipartThreshold.toBytes()) {
+            PutObjectRequest putObjectRequest = createPutObjectRequest(objectKey, contentType, bucketName);
+            s3Client.putObject(putObjectRequest, RequestBody.fromInputStream(inputStream, size));
+            return;
+        }
+
+        uploadMultipart(objectKey, inputStream, size, contentType, bucketName);
+    }
+
+    /**
+     * 스트림을 파트 크기만큼 읽어 병렬로 업로드합니다.
+     * 동시에 메모리에 존재하는 파트는 최대 maxConcurrentParts개이므로, 파일 크기와 관계없이
+     * 업로드 하나가 사용하는 힙은 (파트 크기 × 동시 파트 수)로 제한됩니다.
+     * 업로드 중 하나라도 실패하면 멀티파트 업로드를 중단(abort)하여 S3에 불완전한 파트가 남지 않도록 합니다.
+     */
+    private void uploadMultipart(String objectKey, InputStream inputStream, long size, String contentType, String bucketName) throws IOException {
+        CreateMultipartUploadRequest createRequest = CreateMultipartUploadRequest.builder()
+                .bucket(bucketName)
+                .key(objectKey)
+                .contentType(contentType)
+                .build();
+        String uploadId = s3Client.createMultipartUpload(createRequest).uploadId();
+
+        Semaphore inFlightParts = new Semaphore(maxConcurrentParts);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<CompletableFuture<CompletedPart>> parts = new ArrayList<>();
+
+        try {
+            long remaining = size;
+            int partNumber = 1;
+
+            while (remaining > 0) {
+                inFlightParts.acquire();
+                if (failure.get() != null) {
+                    inFlightParts.release();
+                    break;
+                }
+
+                int length = (int) Math.min(partSize.toBytes(), remaining);
+                byte[] buffer = inputStream.readNBytes(length);
+                if (buffer.length != length) {
+                    inFlightParts.release();
+                    throw new EOFException("파일 크기보다 스트림이 먼저 끝났습니다: " + objectKey);
+                }
+
+                int currentPartNumber = partNumber++;
+                parts.add(CompletableFuture
+                        .supplyAsync(() -> uploadPart(bucketName, objectKey, uploadId, currentPartNumber, buffer), s3TransferExecutor)
+                        .whenComplete((part, e) -> {
+                            if (e != null) {
+                                failure.compareAndSet(null, e);
+                            }
+                            inFlightParts.release();
+                        }));
+                remaining -= length;
+            }
+
+            List<CompletedPart> completedParts = parts.stream()
+                    .map(CompletableFuture::join)
+                    .toList();
+
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(objectKey)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(completedParts).build())
+                    .build());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abortMultipartUpload(objectKey, bucketName, uploadId, parts);
+            throw new IOException("멀티파트 업로드가 중단되었습니다: " + objectKey, e);
+        } catch (IOException | RuntimeException e) {
+            abortMultipartUpload(objectKey, bucketName, uploadId, parts);
+            throw e;
+        }
+    }
+
+    private CompletedPart uploadPart(String bucketName, String objectKey, String uploadId, int partNumber, byte[] buffer) {
+        UploadPartRequest uploadPartRequest = UploadPartRequest.builder()
+                .bucket(bucketName)
+                .key(objectKey)
+                .uploadId(uploadId)
+                .partNumber(partNumber)
+                .contentLength((long) buffer.length)
+                .build();
+
+        // fromBytes는 배열을 복사하므로, 파트 버퍼를 그대로 읽도록 스트림으로 감쌉니다.
+        RequestBody requestBody = RequestBody.fromInputStream(new ByteArrayInputStream(buffer), buffer.length);
+        String eTag = s3Client.uploadPart(uploadPartRequest, requestBody).eTag();
+
+        return CompletedPart.builder()
+                .partNumber(partNumber)
+                .eTag(eTag)
+                .build();
+    }
+
+    private void abortMultipartUpload(String objectKey, String bucketName, String uploadId,
+                                      List<CompletableFuture<CompletedPart>> parts) {
+        parts.forEach(part -> part.cancel(true));
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(objectKey)
+                    .uploadId(uploadId)
+                    .build());
+        } catch (Exception e) {
+            log.error("멀티파트 업로드 중단 실패: key={}, uploadId={}, 원인={}", objectKey, uploadId, e.getMessage());
+        }
+    }
+
     /**
      * S3 PutObject 요청 객체를 생성합니다.
      *
@@ -135,30 +468,193 @@ public class FileService {
     }
 
     /**
-     S3 GetObject 요청에 대한 presigned URL을 생성합니다.
+     S3 GetObject 요청에 대한 presigned URL을 생성합니다. 유효 시간이 절반 이상 남은 URL이 캐시에 있으면 재사용합니다.
      @param objectKey S3 버킷에 저장된 객체(파일)의 키
      @return 생성된 presigned GET URL. URL을 통해 S3 버킷의 객체를 읽기 위해 사용할 수 있습니다.
      @throws RuntimeException presigned GET URL 생성 중에 예외가 발생할 경우
      */
-    private String generatePresignedGetUrl(String objectKey) {
+    public String generatePresignedGetUrl(String objectKey) {
         try {
-            GetObjectPresignRequest presignRequest = GetObjectPresignRequest.builder()
-                    .signatureDuration(Duration.ofMinutes(presignedUrlExpiration))
-                    .getObjectRequest(b -> b.bucket(privateBucket).key(objectKey))
-                    .build();
-
-            PresignedGetObjectRequest presignedRequest = s3Presigner.presignGetObject(presignRequest);
+            return presignedUrls.get(PresignKey.get(privateBucket, objectKey), this::presignGetObject);
+        } catch (Exception e) {
+            log.error("Presigned GET URL 생성 실패: {}", e.getMessage());
+            throw new RuntimeException("Presigned GET URL 생성 실패", e);
+        }
+    }
 
-            String presignedUrl = presignedRequest.url().toString();
-            log.info("Presigned GET URL 생성됨: {}", presignedUrl);
+    /**
+     * 여러 객체의 presigned GET URL을 한 번에 생성합니다.
+     * 캐시에 없는 키만 서명하며, 결과는 입력 순서를 유지합니다.
+     *
+     * @param objectKeys S3 버킷에 저장된 객체(파일)의 키 목록
+     * @return 객체 키와 presigned GET URL의 맵
+     * @throws RuntimeException presigned GET URL 생성 중에 예외가 발생할 경우
+     */
+    public Map<String, String> generatePresignedGetUrls(Collection<String> objectKeys) {
+        List<PresignKey> presignKeys = objectKeys.stream()
+                .map(objectKey -> PresignKey.get(privateBucket, objectKey))
+                .toList();
 
-            return presignedUrl;
+        try {
+            return presignAll(presignKeys, this::presignGetObject);
         } catch (Exception e) {
-            log.error("Presigned GET URL 생성 실패: {}", e.getMessage());
+            log.error("Presigned GET URL 일괄 생성 실패: {}", e.getMessage());
             throw new RuntimeException("Presigned GET URL 생성 실패", e);
         }
     }
 
+    /**
+     * 캐시에 없는 키만 서명하고, 입력 순서대로 객체 키와 URL의 맵을 만듭니다.
+     */
+    private Map<String, String> presignAll(List<PresignKey> presignKeys, Function<PresignKey, String> presigner) {
+        Map<PresignKey, String> cached = presignedUrls.getAll(presignKeys, missingKeys -> {
+            Map<PresignKey, String> signed = new LinkedHashMap<>();
+            missingKeys.forEach(key -> signed.put(key, presigner.apply(key)));
+            return signed;
+        });
+
+        Map<String, String> presignedUrlsByKey = new LinkedHashMap<>();
+        presignKeys.forEach(key -> presignedUrlsByKey.put(key.objectKey(), cached.get(key)));
+        return presignedUrlsByKey;
+    }
+
+    /**
+     * 임시 객체를 한꺼번에 삭제합니다. 요청 스레드는 삭제가 끝날 때까지 기다리지 않으며,
+     * 실패한 객체는 버킷 수명 주기 규칙으로 정리되므로 경고만 남깁니다.
+     *
+     * @param stagingKeys 삭제할 임시 객체의 키 목록
+     */
+    public void deleteStagedFiles(Collection<String> stagingKeys) {
+        if (stagingKeys.isEmpty()) {
+            return;
+        }
+
+        deleteObjects(stagingKeys, privateBucket).whenComplete((result, e) -> {
+            if (e != null) {
+                log.warn("임시 객체 일괄 삭제 실패: {}개, 원인={}", stagingKeys.size(), e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 객체를 DeleteObjects 요청으로 묶어 삭제합니다. 요청 하나에는 최대 deleteBatchSize개의 키가 담기며,
+     * 동시에 진행되는 요청은 최대 deleteConcurrency개입니다.
+     *
+     * @param objectKeys 삭제할 객체 키 목록
+     * @param bucketName S3 버킷 이름
+     * @return 삭제 결과로 완료되는 future. 실패한 항목은 객체 키와 원인으로 기록됩니다.
+     */
+    public CompletableFuture<S3BatchResult> deleteObjects(Collection<String> objectKeys, String bucketName) {
+        validateBucket(bucketName);
+
+        List<String> keys = new ArrayList<>(objectKeys);
+        List<List<String>> batches = new ArrayList<>();
+        for (int from = 0; from < keys.size(); from += deleteBatchSize) {
+            batches.add(keys.subList(from, Math.min(from + deleteBatchSize, keys.size())));
+        }
+
+        return runBounded(batches, deleteConcurrency, batch -> batch, batch -> s3AsyncClient
+                .deleteObjects(DeleteObjectsRequest.builder()
+                        .bucket(bucketName)
+                        .delete(Delete.builder()
+                                .objects(batch.stream().map(key -> ObjectIdentifier.builder().key(key).build()).toList())
+                                .quiet(true)
+                                .build())
+                        .build())
+                .thenApply(response -> response.errors().stream()
+                        .collect(Collectors.toMap(S3Error::key, S3Error::message, (first, second) -> first))));
+    }
+
+    /**
+     * 비동기 작업을 최대 concurrency개까지 동시에 실행합니다. 호출한 스레드는 기다리지 않으며,
+     * concurrency개의 실행 흐름이 각자 작업 하나가 끝나면 다음 작업을 시작합니다.
+     * 작업이 예외로 끝나면 그 작업에 포함된 모든 키를 실패로 기록합니다.
+     *
+     * @param tasks       실행할 작업 목록
+     * @param concurrency 동시에 진행할 수 있는 작업 수
+     * @param keysOf      작업에 포함된 객체 키
+     * @param operation   작업을 시작하고, 실패한 키와 원인의 맵으로 완료되는 future를 반환하는 함수
+     * @return 모든 작업이 끝나면 결과로 완료되는 future
+     */
+    private <T> CompletableFuture<S3BatchResult> runBounded(List<T> tasks, int concurrency, Function<T, Collection<String>> keysOf,
+                                                            Function<T, CompletableFuture<Map<String, String>>> operation) {
+        Map<String, String> failures = new ConcurrentHashMap<>();
+        AtomicInteger nextTask = new AtomicInteger();
+        int requested = tasks.stream().mapToInt(task -> keysOf.apply(task).size()).sum();
+
+        CompletableFuture<?>[] lanes = IntStream.range(0, Math.min(concurrency, tasks.size()))
+                .mapToObj(lane -> runNext(tasks, nextTask, keysOf, operation, failures))
+                .toArray(CompletableFuture[]::new);
+
+        return CompletableFuture.allOf(lanes).thenApply(done -> {
+            if (!failures.isEmpty()) {
+                log.warn("S3 일괄 작업 일부 실패: 요청={}, 실패={}", requested, failures.size());
+            }
+            return new S3BatchResult(requested, requested - failures.size(), Map.copyOf(failures));
+        });
+    }
+
+    private <T> CompletableFuture<Void> runNext(List<T> tasks, AtomicInteger nextTask, Function<T, Collection<String>> keysOf,
+                                                Function<T, CompletableFuture<Map<String, String>>> operation,
+                                                Map<String, String> failures) {
+        int index = nextTask.getAndIncrement();
+        if (index >= tasks.size()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        T task = tasks.get(index);
+        CompletableFuture<Map<String, String>> future;
+        try {
+            future = operation.apply(task);
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+
+        return future
+                .handle((partialFailures, e) -> {
+                    if (e != null) {
+                        String cause = e.getCause() != null ? e.getCause().getMessage() : e.getMessage();
+                        keysOf.apply(task).forEach(key -> failures.put(key, String.valueOf(cause)));
+                    } else {
+                        failures.putAll(partialFailures);
+                    }
+                    return null;
+                })
+                .thenCompose(done -> runNext(tasks, nextTask, keysOf, operation, failures));
+    }
+
+    private String presignPutObject(PresignKey key) {
+        PutObjectRequest putObjectRequest = createPutObjectRequest(key.objectKey(), key.contentType(), key.bucket());
+        PresignedPutObjectRequest presignedPutObjectRequest = createPresignedPutObjectRequest(putObjectRequest);
+        log.debug("Presigned PUT URL 생성됨: {}/{}", key.bucket(), key.objectKey());
+        return presignedPutObjectRequest.url().toString();
+    }
+
+    private String presignGetObject(PresignKey key) {
+        GetObjectPresignRequest presignRequest = GetObjectPresignRequest.builder()
+                .signatureDuration(Duration.ofMinutes(presignedUrlExpiration))
+                .getObjectRequest(b -> b.bucket(key.bucket()).key(key.objectKey()))
+                .build();
+
+        PresignedGetObjectRequest presignedRequest = s3Presigner.presignGetObject(presignRequest);
+
+        // 쿼리 문자열에 서명이 포함되어 있으므로 버킷과 키만 기록합니다.
+        log.debug("Presigned GET URL 생성됨: {}/{}", key.bucket(), key.objectKey());
+
+        return presignedRequest.url().toString();
+    }
+
+    /**
+     * 버킷 이름을 검증합니다. 한 번 통과한 이름은 다시 검증하지 않습니다.
+     */
+    private void validateBucket(String bucketName) {
+        if (validatedBuckets.contains(bucketName)) {
+            return;
+        }
+        validateBucketName(bucketName);
+        validatedBuckets.add(bucketName);
+    }
+
     /**
      * S3 PutObject 요청에 대한 presigned URL을 생성합니다.
      *
@@ -173,4 +669,29 @@ public class FileService {
 
         return s3Presigner.presignPutObject(presignRequest);
     }
-}
\ No newline at end of file
+
+    /**
+     * S3 일괄 작업의 결과.
+     *
+     * @param requestedCount 요청한 객체 수
+     * @param succeededCount 성공한 객체 수
+     * @param failures       실패한 객체 키와 원인
+     */
+    public record S3BatchResult(int requestedCount, int succeededCount, Map<String, String> failures) {
+    }
+
+    /**
+     * 임시 접두사 아래에 저장된 파일.
+     *
+     * @param key  임시 객체의 키
+     * @param size 파일 크기
+     */
+    public record StagedFile(String key, long size) {
+    }
+
+    private record PresignKey(String bucket, String objectKey, SdkHttpMethod method, String contentType) {
+        static PresignKey get(String bucket, String objectKey) {
+            return new PresignKey(bucket, objectKey, SdkHttpMethod.GET, null);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.eatbook.backoffice.domain.novel.service;
+
+import com.eatbook.backoffice.domain.novel.exception.NovelNotFoundException;
+import com.eatbook.backoffice.domain.novel.repository.jdbc.NovelCommentStreamRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import static com.eatbook.backoffice.domain.novel.response.NovelErrorCode.NOVEL_NOT_FOUND;
+import static com.eatbook.backoffice.domain.novel.response.NovelSuccessCode.GET_NOVEL_COMMENT_LIST;
+
+/**
+ * 소설 댓글 전체를 메모리에 모으지 않고 응답으로 바로 스트리밍하는 서비스.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class NovelCommentStreamService {
+
+    private final NovelCommentStreamRepository novelCommentStreamRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 소설의 댓글을 JDBC 커서에서 읽는 즉시 JSON으로 기록하는 응답 본문을 만듭니다.
+     * 응답 형식은 {@code ApiResponse<NovelCommentListResponse>}와 같으며, 페이지 정보는 포함하지 않습니다.
+     * 소설 존재 여부는 댓글 쿼리의 결과로 판단합니다. 존재하지 않으면 응답에 아무것도 쓰기 전에 예외가 발생하므로
+     * 비동기 디스패치에서 일반 오류 응답으로 처리됩니다.
+     * 생성기는 응답 스트림을 닫거나 플러시하지 않도록 만들어, 오류가 나도 응답이 커밋되지 않고 스트림은 컨테이너가 닫습니다.
+     * 중간에 실패했을 때 열린 배열과 객체를 닫지 않으므로, 잘린 응답이 완전한 JSON으로 보이지 않습니다.
+     *
+     * @param novelId 소설 Id
+     * @param episodeId 회차 Id. null이면 모든 회차의 댓글을 기록합니다.
+     * @return 댓글을 스트리밍하는 응답 본문. 소설이 존재하지 않으면 NovelNotFoundException을 던집니다.
+     */
+    public StreamingResponseBody streamNovelComments(String novelId, String episodeId) {
+        return outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                    .disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT)) {
+                boolean found = novelCommentStreamRepository.streamComments(novelId, episodeId,
+                        () -> writeHeader(generator, novelId),
+                        comment -> {
+                            try {
+                                generator.writeObject(comment);
+                            } catch (IOException e) {
+                                throw new UncheckedIOException(e);
+                            }
+                        });
+
+                if (!found) {
+                    throw new NovelNotFoundException(NOVEL_NOT_FOUND);
+                }
+
+                generator.writeEndArray();
+                generator.writeBooleanField("hasNext", false);
+                generator.writeNullField("nextCursor");
+                generator.writeEndObject();
+                generator.writeEndObject();
+            } catch (UncheckedIOException e) {
+                // 클라이언트가 연결을 끊으면 쿼리를 중단하고 커넥션을 반환합니다.
+                log.warn("댓글 스트리밍 중단: novelId={}, 원인={}", novelId, e.getCause().getMessage());
+                throw e.getCause();
+            }
+        };
+    }
+
+    private static void writeHeader(JsonGenerator generator, String novelId) {
+        try {
+            generator.writeStartObject();
+            generator.writeObjectField("code", GET_NOVEL_COMMENT_LIST);
+            generator.writeStringField("message", GET_NOVEL_COMMENT_LIST.getMessage());
+            generator.writeObjectFieldStart("data");
+            generator.writeStringField("id", novelId);
+            generator.writeArrayFieldStart("commentList");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
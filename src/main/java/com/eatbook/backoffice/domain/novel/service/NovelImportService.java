@@ -0,0 +1,256 @@
+package com.eatbook.backoffice.domain.novel.service;
+
+import com.eatbook.backoffice.domain.novel.dto.NovelImportResponse;
+import com.eatbook.backoffice.domain.novel.dto.NovelImportResult;
+import com.eatbook.backoffice.domain.novel.dto.NovelRequest;
+import com.eatbook.backoffice.domain.novel.exception.NovelImportPayloadException;
+import com.eatbook.backoffice.domain.novel.repository.jdbc.NovelBulkRepository;
+import com.eatbook.backoffice.domain.novel.repository.jdbc.NovelBulkRepository.NewNovel;
+import com.eatbook.backoffice.domain.novel.repository.jdbc.NovelBulkRepository.TitleAuthor;
+import com.eatbook.backoffice.entity.constant.ContentType;
+import com.eatbook.backoffice.global.utils.UuidGenerator;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static com.eatbook.backoffice.domain.novel.response.NovelErrorCode.INVALID_IMPORT_PAYLOAD;
+import static com.eatbook.backoffice.entity.constant.ContentType.JPEG;
+import static com.eatbook.backoffice.global.config.CacheConfig.NOVEL_LIST;
+import static com.eatbook.backoffice.global.utils.PathGenerator.generateRelativePath;
+import static com.eatbook.backoffice.global.utils.PathGenerator.getFilePath;
+
+/**
+ * 출판사 보유 목록과 같은 대량의 소설을 한 번에 등록하는 서비스입니다.
+ * 요청 본문을 스트림으로 읽어 청크 단위로 처리하며, 청크마다 저자/카테고리 이름을 IN 쿼리로 한 번에 해석하고
+ * 소설과 연결 테이블을 JDBC 배치로 저장합니다.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class NovelImportService {
+
+    private static final ContentType COVER_IMAGE_CONTENT_TYPE = JPEG;
+    private static final String NOVEL_DIRECTORY = "novels";
+    private static final String COVER_IMAGE_DIRECTORY = "cover";
+    private static final Pattern TRAILING_SPACES = Pattern.compile(" +$");
+
+    /**
+     * 저자/카테고리 이름을 조회하고 중복을 제거할 때 사용하는 순서. 이름을 normalizeName으로 비교합니다.
+     */
+    private static final Comparator<String> NAME_ORDER = Comparator.comparing(NovelImportService::normalizeName);
+
+    private final NovelBulkRepository novelBulkRepository;
+    private final FileService fileService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${cloud.aws.s3.bucket.public}")
+    private String publicBucket;
+
+    @Value("${cloud.aws.region.static}")
+    private String region;
+
+    @Value("${novel.import.chunk-size:1000}")
+    private int chunkSize;
+
+    /**
+     * JSON 배열 또는 NDJSON(한 줄에 소설 하나) 형식의 요청 본문을 읽어 소설을 일괄 등록합니다.
+     * 청크마다 별도의 트랜잭션으로 커밋하므로 등록 도중 실패하면 앞선 청크는 저장된 상태로 남습니다.
+     * 이미 등록된 제목/저자 조합은 DUPLICATED로 건너뛰므로, 같은 요청을 다시 보내 이어서 등록할 수 있습니다.
+     *
+     * @param payload 요청 본문 스트림
+     * @return 항목별 등록 결과와 처리량을 담은 {@link NovelImportResponse}
+     * @throws NovelImportPayloadException 요청 본문을 JSON으로 읽을 수 없는 경우 발생
+     */
+    @CacheEvict(cacheNames = NOVEL_LIST, allEntries = true)
+    public NovelImportResponse importNovels(InputStream payload) {
+        long startedAt = System.nanoTime();
+        List<NovelImportResult> results = new ArrayList<>();
+        List<NovelRequest> chunk = new ArrayList<>(chunkSize);
+
+        // 최상위가 JSON 배열이면 배열의 원소를, 아니면 줄 단위 값을 차례로 읽습니다.
+        try (MappingIterator<NovelRequest> requests = objectMapper.readerFor(NovelRequest.class).readValues(payload)) {
+            while (requests.hasNextValue()) {
+                chunk.add(requests.nextValue());
+                if (chunk.size() == chunkSize) {
+                    results.addAll(importChunk(results.size(), chunk));
+                    chunk.clear();
+                }
+            }
+        } catch (IOException e) {
+            throw new NovelImportPayloadException(INVALID_IMPORT_PAYLOAD,
+                    String.format("%d번째 항목을 읽을 수 없습니다: %s", results.size() + chunk.size(), e.getMessage()));
+        }
+
+        if (!chunk.isEmpty()) {
+            results.addAll(importChunk(results.size(), chunk));
+        }
+
+        NovelImportResponse response = NovelImportResponse.of(results, System.nanoTime() - startedAt);
+        log.info("소설 일괄 등록 완료: 전체={}, 등록={}, 건너뜀={}, 소요={}ms, 초당 {}건",
+                response.totalCount(), response.createdCount(), response.skippedCount(),
+                response.elapsedMillis(), String.format("%.1f", response.novelsPerSecond()));
+        return response;
+    }
+
+    /**
+     * 청크 하나를 검증하고 저장한 뒤, 커밋된 소설의 커버 이미지 업로드 URL을 한 번에 생성합니다.
+     *
+     * @param offset 청크 첫 항목의 전체 요청 내 순번
+     * @param chunk 등록할 소설 목록
+     * @return 청크 항목별 등록 결과
+     */
+    private List<NovelImportResult> importChunk(int offset, List<NovelRequest> chunk) {
+        NovelImportResult[] results = new NovelImportResult[chunk.size()];
+        Map<Integer, NovelRequest> validRequests = new LinkedHashMap<>();
+
+        for (int i = 0; i < chunk.size(); i++) {
+            NovelRequest request = chunk.get(i);
+            Set<ConstraintViolation<NovelRequest>> violations = validator.validate(request);
+            if (violations.isEmpty()) {
+                validRequests.put(i, request);
+            } else {
+                results[i] = NovelImportResult.invalid(offset + i, request, violations.stream()
+                        .map(ConstraintViolation::getMessage)
+                        .sorted()
+                        .collect(Collectors.joining(", ")));
+            }
+        }
+
+        Map<Integer, NewNovel> newNovels = transactionTemplate.execute(status -> saveNovels(validRequests));
+
+        Map<String, String> presignedUrls = fileService.getPresignUrls(newNovels.values().stream()
+                .map(novel -> coverImageKey(novel.id()))
+                .toList(), COVER_IMAGE_CONTENT_TYPE);
+
+        validRequests.forEach((i, request) -> {
+            NewNovel novel = newNovels.get(i);
+            results[i] = novel == null
+                    ? NovelImportResult.duplicated(offset + i, request)
+                    : NovelImportResult.created(offset + i, request, novel.id(), presignedUrls.get(coverImageKey(novel.id())));
+        });
+
+        return Arrays.asList(results);
+    }
+
+    /**
+     * 이미 존재하거나 청크 안에서 중복된 소설을 제외하고, 저자와 카테고리를 해석하여 저장합니다.
+     * 제목과 저자명은 normalizeName으로 비교하므로, DB 콜레이션이 같다고 보는 조합은 표기가 달라도 중복으로 봅니다.
+     *
+     * @param requests 청크 내 순번을 키로 하는 유효한 요청
+     * @return 청크 내 순번을 키로 하는 저장된 소설. 중복으로 제외된 항목은 포함되지 않습니다.
+     */
+    private Map<Integer, NewNovel> saveNovels(Map<Integer, NovelRequest> requests) {
+        Set<TitleAuthor> registered = novelBulkRepository.findExistingTitleAuthors(
+                        requests.values().stream()
+                                .map(NovelRequest::title)
+                                .collect(Collectors.toCollection(() -> new TreeSet<>(NAME_ORDER))),
+                        requests.values().stream()
+                                .map(NovelRequest::author)
+                                .collect(Collectors.toCollection(() -> new TreeSet<>(NAME_ORDER))))
+                .stream()
+                .map(existing -> normalizedTitleAuthor(existing.title(), existing.author()))
+                .collect(Collectors.toCollection(HashSet::new));
+
+        Map<Integer, NovelRequest> uniqueRequests = new LinkedHashMap<>();
+        requests.forEach((i, request) -> {
+            if (registered.add(normalizedTitleAuthor(request.title(), request.author()))) {
+                uniqueRequests.put(i, request);
+            }
+        });
+
+        Map<Integer, NewNovel> newNovels = new LinkedHashMap<>();
+        if (uniqueRequests.isEmpty()) {
+            return newNovels;
+        }
+
+        Map<String, String> authorIds = resolveAuthorIds(uniqueRequests.values());
+        Map<String, String> categoryIds = resolveCategoryIds(uniqueRequests.values());
+
+        uniqueRequests.forEach((i, request) -> {
+            String novelId = UuidGenerator.generate();
+            newNovels.put(i, new NewNovel(
+                    novelId,
+                    getFilePath(publicBucket, region, COVER_IMAGE_DIRECTORY, novelId),
+                    request,
+                    authorIds.get(request.author()),
+                    request.category().stream()
+                            .map(categoryIds::get)
+                            .collect(Collectors.toCollection(LinkedHashSet::new))));
+        });
+
+        novelBulkRepository.insertNovels(new ArrayList<>(newNovels.values()));
+        return newNovels;
+    }
+
+    /**
+     * 저자명을 한 번의 IN 쿼리로 조회하고, 없는 저자는 배치로 생성합니다.
+     */
+    private Map<String, String> resolveAuthorIds(Collection<NovelRequest> requests) {
+        Set<String> names = requests.stream()
+                .map(NovelRequest::author)
+                .collect(Collectors.toCollection(() -> new TreeSet<>(NAME_ORDER)));
+
+        Map<String, String> authorIds = new TreeMap<>(NAME_ORDER);
+        authorIds.putAll(novelBulkRepository.findAuthorIdsByNames(names));
+        Map<String, String> newAuthorIds = newIdsForMissingNames(names, authorIds);
+        novelBulkRepository.insertAuthors(newAuthorIds);
+
+        authorIds.putAll(newAuthorIds);
+        return authorIds;
+    }
+
+    /**
+     * 카테고리명을 한 번의 IN 쿼리로 조회하고, 없는 카테고리는 배치로 생성합니다.
+     */
+    private Map<String, String> resolveCategoryIds(Collection<NovelRequest> requests) {
+        Set<String> names = requests.stream()
+                .flatMap(request -> request.category().stream())
+                .collect(Collectors.toCollection(() -> new TreeSet<>(NAME_ORDER)));
+
+        Map<String, String> categoryIds = new TreeMap<>(NAME_ORDER);
+        categoryIds.putAll(novelBulkRepository.findCategoryIdsByNames(names));
+        Map<String, String> newCategoryIds = newIdsForMissingNames(names, categoryIds);
+        novelBulkRepository.insertCategories(newCategoryIds);
+
+        categoryIds.putAll(newCategoryIds);
+        return categoryIds;
+    }
+
+    private static Map<String, String> newIdsForMissingNames(Set<String> names, Map<String, String> existingIds) {
+        Map<String, String> newIds = new LinkedHashMap<>();
+        names.stream()
+                .filter(name -> !existingIds.containsKey(name))
+                .forEach(name -> newIds.put(name, UuidGenerator.generate()));
+        return newIds;
+    }
+
+    /**
+     * DB 콜레이션이 같다고 보는 이름을 같은 키로 만듭니다. 대소문자를 구분하지 않고 끝의 공백을 무시합니다.
+     */
+    static String normalizeName(String name) {
+        return TRAILING_SPACES.matcher(name).replaceFirst("").toLowerCase(Locale.ROOT);
+    }
+
+    private static TitleAuthor normalizedTitleAuthor(String title, String author) {
+        return new TitleAuthor(normalizeName(title), normalizeName(author));
+    }
+
+    private static String coverImageKey(String novelId) {
+        return generateRelativePath(NOVEL_DIRECTORY, novelId, COVER_IMAGE_DIRECTORY, novelId);
+    }
+}
@@ -0,0 +1,30 @@
+package com.eatbook.backoffice.domain.novel.service;
+
+import com.eatbook.backoffice.domain.novel.repository.NovelRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 소설 좋아요 집계 컬럼(like_count)을 주기적으로 favorite 테이블과 맞추는 작업.
+ * 집계 값은 트리거로 증감되지만, 트리거 도입 이전 데이터나 직접 수정된 데이터로 인한 오차를 보정합니다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class NovelLikeCountReconciler {
+
+    private final NovelRepository novelRepository;
+
+    @Scheduled(fixedDelayString = "${novel.like-count.reconcile-interval-ms:3600000}",
+            initialDelayString = "${novel.like-count.reconcile-interval-ms:3600000}")
+    @Transactional
+    public void reconcile() {
+        int corrected = novelRepository.reconcileLikeCounts();
+        if (corrected > 0) {
+            log.warn("좋아요 수 보정 완료: {}개 소설의 like_count가 실제 값과 달랐습니다.", corrected);
+        }
+    }
+}
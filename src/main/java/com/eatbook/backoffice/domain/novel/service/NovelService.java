@@ -2,25 +2,33 @@ package com.eatbook.backoffice.domain.novel.service;
 
 import com.eatbook.backoffice.domain.novel.dto.*;
 import com.eatbook.backoffice.domain.novel.exception.NovelAlreadyExistsException;
+import com.eatbook.backoffice.domain.novel.exception.NovelNotFoundException;
+import com.eatbook.backoffice.global.exception.exceptions.InvalidCursorException;
 import com.eatbook.backoffice.global.exception.exceptions.PageOutOfBoundException;
 import com.eatbook.backoffice.domain.novel.repository.*;
+import com.eatbook.backoffice.domain.statistics.service.ViewCountService;
 import com.eatbook.backoffice.entity.*;
 import com.eatbook.backoffice.entity.constant.ContentType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 import static com.eatbook.backoffice.domain.novel.response.NovelErrorCode.NOVEL_ALREADY_EXISTS;
 import static com.eatbook.backoffice.entity.constant.ContentType.JPEG;
+import static com.eatbook.backoffice.global.config.CacheConfig.*;
 import static com.eatbook.backoffice.global.response.GlobalErrorCode.PAGE_OUT_OF_BOUNDS;
 import static com.eatbook.backoffice.global.utils.PathGenerator.generateRelativePath;
 import static com.eatbook.backoffice.global.utils.PathGenerator.getFilePath;
@@ -36,6 +44,7 @@ public class NovelService {
     private static final ContentType COVER_IMAGE_CONTENT_TYPE = JPEG;
     private static final String NOVEL_DIRECTORY = "novels";
     private static final String COVER_IMAGE_DIRECTORY = "cover";
+    private static final String FULLTEXT_OPERATORS = "[+\\-<>()~*\"@]";
 
     private final NovelRepository novelRepository;
     private final AuthorRepository authorRepository;
@@ -43,6 +52,8 @@ public class NovelService {
     private final NovelCategoryRepository novelCategoryRepository;
     private final NovelAuthorRepository novelAuthorRepository;
     private final FileService fileService;
+    private final ViewCountService viewCountService;
+    private final CacheManager cacheManager;
 
     @Value("${cloud.aws.s3.bucket.public}")
     private String publicBucket;
@@ -50,6 +61,9 @@ public class NovelService {
     @Value("${cloud.aws.region.static}")
     private String region;
 
+    @Value("${search.fulltext.min-query-length:2}")
+    private int fullTextMinQueryLength;
+
     /**
      * 소설 생성 후, 저자와 카테고리를 연결합니다.
      *
@@ -57,6 +71,7 @@ public class NovelService {
      * @return 소설 ID와 presignedURL 정보
      * @throws NovelAlreadyExistsException 중복 소설이 있을 경우 발생
      */
+    @CacheEvict(cacheNames = NOVEL_LIST, allEntries = true)
     @Transactional
     public NovelResponse createNovel(NovelRequest novelRequest) {
         validateNovelUniqueness(novelRequest.title(), novelRequest.author());
@@ -83,6 +98,7 @@ public class NovelService {
      * @return NovelListResponse - 소설 목록과 메타 정보
      * @throws PageOutOfBoundException 페이지 범위 초과 시 발생
      */
+    @Cacheable(cacheNames = NOVEL_LIST, key = "#page + ':' + #size")
     @Transactional(readOnly = true)
     public NovelListResponse getNovelList(int page, int size) {
         Pageable pageable = PageRequest.of(page - 1, size, Sort.by(Sort.Direction.DESC, "createdAt"));
@@ -91,25 +107,84 @@ public class NovelService {
     }
 
     /**
-     * 소설 Id로 소설에 대한 상세 정보를 가져옵니다.
+     * 커서 기반으로 소설 목록을 가져옵니다.
+     * (created_at, id) 키로 이전 페이지의 마지막 소설 다음부터 조회하므로 페이지 깊이와 관계없이 일정한 비용이 들며,
+     * 전체 개수를 세는 쿼리는 실행하지 않습니다.
+     *
+     * @param cursor 이전 응답의 nextCursor 값. 첫 페이지의 경우 null 또는 빈 문자열
+     * @param size 페이지 당 소설 수
+     * @return NovelCursorListResponse - 소설 목록과 다음 페이지 커서
+     * @throws InvalidCursorException 커서 형식이 올바르지 않을 경우 발생
+     */
+    @Cacheable(cacheNames = NOVEL_LIST, key = "'cursor:' + #cursor + ':' + #size")
+    @Transactional(readOnly = true)
+    public NovelCursorListResponse getNovelListByCursor(String cursor, int size) {
+        NovelCursor after = StringUtils.hasText(cursor) ? NovelCursor.decode(cursor) : null;
+
+        // 다음 페이지 존재 여부를 판단하기 위해 한 건을 더 조회합니다.
+        List<NovelCursor> novelCursors = novelRepository.findNovelCursors(after, size + 1);
+        boolean hasNext = novelCursors.size() > size;
+        List<NovelCursor> pageCursors = hasNext ? novelCursors.subList(0, size) : novelCursors;
+
+        List<NovelInfo> novelInfoList = novelRepository.findNovelInfosByIds(pageCursors.stream()
+                .map(NovelCursor::id)
+                .toList());
+
+        String nextCursor = hasNext ? pageCursors.get(pageCursors.size() - 1).encode() : null;
+
+        return NovelCursorListResponse.of(novelInfoList.size(), hasNext, nextCursor, novelInfoList);
+    }
+
+    /**
+     * 소설 Id로 소설에 대한 상세 정보를 가져오고 조회를 기록합니다.
+     * 조회수에는 DB에 아직 기록되지 않은 증가분이 포함됩니다.
+     * 조회수 기록이 커밋되는 사이에 이전 값을 캐시에 다시 넣지 않도록, 캐시 조회와 적재는 조회수 카운터의 읽기 잠금 안에서 직접 수행합니다.
+     * 트랜잭션 안에서는 캐시 적재가 커밋 이후로 미뤄지므로 이 메서드에는 트랜잭션을 걸지 않습니다.
      *
      * @param novelId 소설 Id
      * @return {@link NovelDetailResponse} 객체로, 소설에 대한 상세 정보를 담고 있습니다.
+     * @throws NovelNotFoundException 소설이 존재하지 않을 경우 발생
      */
-    @Transactional(readOnly = true)
     public NovelDetailResponse getNovelDetail(String novelId) {
-        return novelRepository.findNovelDetailById(novelId);
+        return viewCountService.recordNovelView(novelId,
+                () -> loadNovelDetail(novelId),
+                (detail, pendingViews) -> detail.withViews(detail.views() + pendingViews));
+    }
+
+    private NovelDetailResponse loadNovelDetail(String novelId) {
+        Cache novelDetailCache = cacheManager.getCache(NOVEL_DETAIL);
+        NovelDetailResponse cached = novelDetailCache.get(novelId, NovelDetailResponse.class);
+        if (cached != null) {
+            return cached;
+        }
+
+        NovelDetailResponse detail = novelRepository.findNovelDetailById(novelId);
+        novelDetailCache.put(novelId, detail);
+        return detail;
     }
 
     /**
-     * 소설 Id로 소설에 대한 댓글 목록을 가져옵니다.
+     * 소설 Id로 소설에 대한 댓글 목록을 커서 기반으로 가져옵니다.
      *
      * @param novelId 소설 Id
-     * @return {@link NovelCommentListResponse} 객체로, 지정된 소설에 대한 댓글 목록을 포함합니다.
+     * @param episodeId 회차 Id. null이면 모든 회차의 댓글을 가져옵니다.
+     * @param cursor 이전 응답의 nextCursor 값. 첫 페이지의 경우 null 또는 빈 문자열
+     * @param size 페이지 당 댓글 수
+     * @return {@link NovelCommentListResponse} 객체로, 지정된 소설에 대한 댓글 목록과 다음 페이지 커서를 포함합니다.
+     * @throws InvalidCursorException 커서 형식이 올바르지 않을 경우 발생
      */
     @Transactional(readOnly = true)
-    public NovelCommentListResponse getNovelComments(String novelId) {
-        return novelRepository.findNovelCommentListById(novelId);
+    public NovelCommentListResponse getNovelComments(String novelId, String episodeId, String cursor, int size) {
+        CommentCursor after = StringUtils.hasText(cursor) ? CommentCursor.decode(cursor) : null;
+
+        // 다음 페이지 존재 여부를 판단하기 위해 한 건을 더 조회합니다.
+        List<CommentInfo> comments = novelRepository.findNovelComments(novelId, episodeId, after, size + 1);
+        boolean hasNext = comments.size() > size;
+        List<CommentInfo> pageComments = hasNext ? comments.subList(0, size) : comments;
+
+        String nextCursor = hasNext ? CommentCursor.from(pageComments.get(size - 1)).encode() : null;
+
+        return NovelCommentListResponse.of(novelId, pageComments, hasNext, nextCursor);
     }
 
     /**
@@ -119,6 +194,7 @@ public class NovelService {
      * @return 지정된 소설에 대한 에피소드 목록이 포함된 {@link NovelEpisodeListResponse} 객체
      *         에피소드가 없으면 빈 목록을 반환합니다.
      */
+    @Cacheable(cacheNames = NOVEL_EPISODES, key = "#novelId")
     @Transactional(readOnly = true)
     public NovelEpisodeListResponse getNovelEpisodes(String novelId) {
         return novelRepository.findNovelEpisodeListById(novelId);
@@ -126,6 +202,8 @@ public class NovelService {
 
     /**
      * 지정된 검색어로 소설을 검색하고, 페이지네이션된 결과를 반환합니다.
+     * FULLTEXT(ngram) 인덱스를 사용해 관련도 순으로 정렬하며,
+     * 검색어가 ngram 토큰보다 짧아 인덱스로 찾을 수 없는 경우에만 LIKE 검색으로 처리합니다.
      *
      * @param query 검색할 키워드
      * @param page 페이지 번호 (1-indexed)
@@ -135,9 +213,16 @@ public class NovelService {
      */
     @Transactional(readOnly = true)
     public NovelListResponse searchNovels(String query, int page, int size) {
-        Pageable pageable = PageRequest.of(page - 1, size, Sort.by(Sort.Direction.DESC, "createdAt"));
+        String keyword = query.replaceAll(FULLTEXT_OPERATORS, " ").trim();
 
-        Page<String> novelIdsPage = novelRepository.findNovelIdsByQuery(query, pageable);
+        if (keyword.length() < fullTextMinQueryLength) {
+            Pageable pageable = PageRequest.of(page - 1, size, Sort.by(Sort.Direction.DESC, "createdAt"));
+            return getNovelListResponse(page, novelRepository.findNovelIdsByQuery(query, pageable));
+        }
+
+        // 구문 검색으로 감싸 연속된 ngram 토큰이 모두 일치하는 경우만 찾습니다. (LIKE '%검색어%'와 같은 의미)
+        Page<String> novelIdsPage = novelRepository.findNovelIdsByFullText(
+                "\"" + keyword + "\"", PageRequest.of(page - 1, size));
 
         return getNovelListResponse(page, novelIdsPage);
     }
@@ -151,22 +236,12 @@ public class NovelService {
      * @throws PageOutOfBoundException 페이지 번호가 범위를 초과할 경우 발생
      */
     private NovelListResponse getNovelListResponse(int page, Page<String> novelIdsPage) {
-        // 소설 ID를 사용하여 소설, 저자, 카테고리를 함께 가져옵니다.
-        List<Novel> novels = novelRepository.findAllByIdsWithAuthorsAndCategories(novelIdsPage.getContent());
-
         // 요청한 페이지가 존재하지 않는 경우 예외를 발생시킵니다.
         if (page > novelIdsPage.getTotalPages() + 1) {
             throw new PageOutOfBoundException(PAGE_OUT_OF_BOUNDS);
         }
 
-        List<NovelInfo> novelInfoList = novels.stream()
-                .map(novel -> NovelInfo.of(
-                        novel.getId(),
-                        novel.getTitle(),
-                        getAuthorNames(novel),
-                        getCategoryNames(novel),
-                        novel.getCoverImageUrl()))
-                .collect(Collectors.toList());
+        List<NovelInfo> novelInfoList = novelRepository.findNovelInfosByIds(novelIdsPage.getContent());
 
         return NovelListResponse.of(
                 (int) novelIdsPage.getTotalElements(),
@@ -196,16 +271,16 @@ public class NovelService {
      * @return 저장된 소설 엔티티
      */
     private Novel createAndSaveNovel(NovelRequest novelRequest) {
-        Novel newNovel = novelRepository.save(Novel.builder()
+        Novel novel = Novel.builder()
                 .title(novelRequest.title())
                 .summary(novelRequest.summary())
                 .isCompleted(novelRequest.isCompleted())
                 .publicationYear(novelRequest.publicationYear())
-                .build());
+                .build();
 
-        String coverImageUrl = getFilePath(publicBucket, region, COVER_IMAGE_DIRECTORY, newNovel.getId());
-        newNovel.setCoverImageUrl(coverImageUrl);
-        newNovel = novelRepository.save(newNovel);
+        // Id가 생성 시점에 할당되므로 커버 이미지 경로를 저장 전에 채워 INSERT 한 번으로 저장합니다.
+        novel.setCoverImageUrl(getFilePath(publicBucket, region, COVER_IMAGE_DIRECTORY, novel.getId()));
+        Novel newNovel = novelRepository.save(novel);
 
         log.info("새 소설 생성됨: ID={}, 제목={}", newNovel.getId(), newNovel.getTitle());
         return newNovel;
@@ -254,30 +329,4 @@ public class NovelService {
         }
         novelCategoryRepository.saveAll(novel.getNovelCategories());
     }
-
-    /**
-     * 소설과 연관된 저자 이름 목록을 반환합니다.
-     *
-     * @param novel 저자 목록을 가져올 소설 엔티티
-     * @return 저자 이름 목록
-     */
-    private List<String> getAuthorNames(Novel novel) {
-        return novel.getNovelAuthors().stream()
-                .map(NovelAuthor::getAuthor)
-                .map(Author::getName)
-                .collect(Collectors.toList());
-    }
-
-    /**
-     * 소설과 연관된 카테고리 이름 목록을 반환합니다.
-     *
-     * @param novel 카테고리 목록을 가져올 소설 엔티티
-     * @return 카테고리 이름 목록
-     */
-    private List<String> getCategoryNames(Novel novel) {
-        return novel.getNovelCategories().stream()
-                .map(NovelCategory::getCategory)
-                .map(Category::getName)
-                .collect(Collectors.toList());
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,54 @@
+package com.eatbook.backoffice.domain.statistics.repository;
+
+import com.eatbook.backoffice.global.utils.BinaryUuid;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 메모리에 모은 조회수 증가분을 novel, episode 테이블에 JDBC 배치로 더하는 리포지토리.
+ * 값을 덮어쓰지 않고 view_count + ? 로 더하므로 여러 서버가 동시에 기록해도 증가분이 유실되지 않습니다.
+ * 서버 간 교착을 피하기 위해 항상 Id 순서로 갱신합니다.
+ */
+@Repository
+public class ViewCountRepository {
+
+    private static final String ADD_NOVEL_VIEWS = "UPDATE novel SET view_count = view_count + ? WHERE id = ?";
+
+    private static final String ADD_EPISODE_VIEWS = "UPDATE episode SET view_count = view_count + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ViewCountRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * @param deltas    소설 Id별 조회수 증가분
+     * @param batchSize 한 번에 전송할 UPDATE 문 수
+     */
+    public void addNovelViews(Map<String, Long> deltas, int batchSize) {
+        addViews(ADD_NOVEL_VIEWS, deltas, batchSize);
+    }
+
+    /**
+     * @param deltas    회차 Id별 조회수 증가분
+     * @param batchSize 한 번에 전송할 UPDATE 문 수
+     */
+    public void addEpisodeViews(Map<String, Long> deltas, int batchSize) {
+        addViews(ADD_EPISODE_VIEWS, deltas, batchSize);
+    }
+
+    private void addViews(String sql, Map<String, Long> deltas, int batchSize) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(sql, new TreeMap<>(deltas).entrySet(), batchSize, (ps, entry) -> {
+            ps.setLong(1, entry.getValue());
+            ps.setBytes(2, BinaryUuid.toBytes(entry.getKey()));
+        });
+    }
+}
@@ -0,0 +1,143 @@
+package com.eatbook.backoffice.domain.statistics.service;
+
+import com.eatbook.backoffice.domain.novel.dto.NovelDetailResponse;
+import com.eatbook.backoffice.domain.statistics.repository.ViewCountRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.TransactionStatus;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+import static com.eatbook.backoffice.global.config.CacheConfig.NOVEL_DETAIL;
+
+/**
+ * 소설과 회차의 조회수를 메모리에 누적했다가 주기적으로 DB에 더하는 서비스.
+ * 조회마다 같은 행을 UPDATE 하지 않으므로 인기 소설의 행 잠금 경합이 없습니다.
+ * 서버가 비정상 종료되면 마지막 기록 이후 최대 한 주기(statistics.view-count.flush-interval-ms) 동안의 조회수가 유실될 수 있으며,
+ * 정상 종료 시에는 남은 증가분을 모두 기록합니다.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ViewCountService {
+
+    private final ViewCountRepository viewCountRepository;
+    private final CacheManager cacheManager;
+    private final PlatformTransactionManager transactionManager;
+
+    private final ViewCounter novelViews = new ViewCounter();
+    private final ViewCounter episodeViews = new ViewCounter();
+
+    @Value("${statistics.view-count.flush-batch-size:500}")
+    private int batchSize;
+
+    /**
+     * 소설 상세 정보를 읽고 조회를 기록합니다.
+     * 읽는 동안 조회수 기록이 커밋되면 loader가 캐시에 넣은 값이 커밋 전 값일 수 있으므로 캐시에서 버리며,
+     * 이때 응답의 조회수는 최대 한 주기의 증가분만큼 적을 수 있습니다.
+     *
+     * @param novelId 소설 Id
+     * @param loader  캐시 또는 DB에서 소설을 읽는 함수. 예외를 던지면 조회를 기록하지 않습니다.
+     * @param mapper  읽은 값과 DB에 아직 반영되지 않은 조회수로 응답을 만드는 함수
+     */
+    public <T, R> R recordNovelView(String novelId, Supplier<T> loader, BiFunction<T, Integer, R> mapper) {
+        return novelViews.record(novelId, loader, mapper, () -> evictNovelDetail(novelId));
+    }
+
+    /**
+     * 회차를 읽고 조회를 기록합니다.
+     *
+     * @param episodeId 회차 Id
+     * @param loader    DB에서 회차를 읽는 함수. 예외를 던지면 조회를 기록하지 않습니다.
+     * @param mapper    읽은 값과 DB에 아직 반영되지 않은 조회수로 응답을 만드는 함수
+     */
+    public <T, R> R recordEpisodeView(String episodeId, Supplier<T> loader, BiFunction<T, Integer, R> mapper) {
+        return episodeViews.record(episodeId, loader, mapper, () -> { });
+    }
+
+    @Scheduled(fixedDelayString = "${statistics.view-count.flush-interval-ms:10000}")
+    public synchronized void flush() {
+        Map<String, Long> novelDeltas = novelViews.drain();
+        // 캐시된 상세 정보는 기록과 같은 단계에서 증가분을 더해 갱신하므로, 다음 조회에서 DB를 다시 읽지 않아도 됩니다.
+        write(novelViews, novelDeltas, viewCountRepository::addNovelViews, "소설", () -> refreshNovelDetails(novelDeltas));
+
+        write(episodeViews, episodeViews.drain(), viewCountRepository::addEpisodeViews, "회차", () -> { });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flush();
+    }
+
+    /**
+     * 증가분을 한 트랜잭션으로 기록합니다. 커밋과 캐시 갱신은 카운터가 기록 중임을 표시한 상태에서 실행되며, 조회를 막지 않습니다.
+     * 실패하면 증가분을 카운터로 되돌려 다음 주기에 다시 기록합니다.
+     */
+    private void write(ViewCounter counter, Map<String, Long> deltas, BiConsumer<Map<String, Long>, Integer> writer,
+                       String target, Runnable afterCommit) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        TransactionStatus transaction = transactionManager.getTransaction(TransactionDefinition.withDefaults());
+        try {
+            writer.accept(deltas, batchSize);
+            counter.complete(() -> {
+                transactionManager.commit(transaction);
+                afterCommit.run();
+            });
+        } catch (DataAccessException | TransactionException e) {
+            if (!transaction.isCompleted()) {
+                transactionManager.rollback(transaction);
+            }
+            log.warn("{} 조회수 기록 실패: {}건은 다음 주기에 다시 시도합니다. {}", target, deltas.size(), e.getMessage());
+            counter.restore(deltas);
+        }
+    }
+
+    /**
+     * 캐시된 소설 상세 정보에 기록한 증가분을 더합니다.
+     * 같은 시점에 조회가 항목을 버릴 수 있으므로, 읽고 다시 넣지 않고 Caffeine 맵에서 항목 단위로 원자적으로 갱신합니다.
+     */
+    private void refreshNovelDetails(Map<String, Long> deltas) {
+        Cache novelDetailCache = cacheManager.getCache(NOVEL_DETAIL);
+        if (novelDetailCache == null) {
+            return;
+        }
+        if (!(novelDetailCache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> caffeineCache)) {
+            deltas.keySet().forEach(novelDetailCache::evictIfPresent);
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        ConcurrentMap<Object, Object> entries = (ConcurrentMap<Object, Object>) caffeineCache.asMap();
+        deltas.forEach((novelId, delta) -> entries.computeIfPresent(novelId, (key, value) ->
+                value instanceof NovelDetailResponse cached
+                        ? cached.withViews(cached.views() + Math.toIntExact(delta))
+                        : value));
+    }
+
+    /**
+     * 트랜잭션 동기화 여부와 관계없이 즉시 버립니다.
+     */
+    private void evictNovelDetail(String novelId) {
+        Cache novelDetailCache = cacheManager.getCache(NOVEL_DETAIL);
+        if (novelDetailCache != null) {
+            novelDetailCache.evictIfPresent(novelId);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.eatbook.backoffice.domain.statistics.service;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+/**
+ * Id별 조회수 증가분을 LongAdder로 누적하는 카운터.
+ * 같은 Id에 동시에 들어오는 증가도 스레드별 셀에 나누어 더해지므로 잠금 경합이 없습니다.
+ * 증가분을 꺼내거나 기록을 마치는 단계는 세대 번호를 홀수로 올렸다가 다시 짝수로 올려 표시하며,
+ * 조회({@link #record})는 잠금 없이 읽은 뒤 세대 번호가 그대로인지로 DB 값과 미기록 증가분이 서로 맞는지 판단합니다.
+ * 조회는 기록을 기다리지 않고, 기록 중에 읽은 조회수는 최대 한 주기의 증가분만큼 적게 보일 수 있습니다.
+ * drain(), complete(), restore()는 기록 스레드 하나에서만 호출해야 합니다.
+ */
+class ViewCounter {
+
+    private final ConcurrentHashMap<String, LongAdder> counters = new ConcurrentHashMap<>();
+
+    /**
+     * 증가분을 꺼내거나 기록을 마치는 중이면 홀수인 세대 번호.
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * 한 주기 동안 증가가 없어 맵에서 제거한 카운터.
+     * 제거 직전에 카운터를 얻은 스레드가 뒤늦게 더한 값을 다음 drain()에서 함께 거둡니다.
+     */
+    private Map<String, LongAdder> retired = new HashMap<>();
+
+    /**
+     * 꺼내 갔지만 아직 DB에 커밋되지 않은 증가분. 기록 중에도 조회 결과에 반영하기 위해 보관합니다.
+     */
+    private volatile Map<String, Long> inFlight = Collections.emptyMap();
+
+    /**
+     * 대상을 읽고 조회를 기록한 뒤, 읽은 값과 DB에 아직 기록되지 않은 증가분으로 결과를 만듭니다.
+     * 읽는 동안 세대 번호가 바뀌지 않았으면 읽은 값은 꺼낸 증가분이 커밋되기 전 또는 후 한쪽만 보므로 꺼낸 증가분까지 더합니다.
+     * 바뀌었으면 읽은 값이 커밋 전후 어느 쪽인지 알 수 없으므로, 중복해서 세지 않도록 카운터에 남은 증가분만 더하고
+     * onInconsistentRead를 호출합니다. 이때 결과는 최대 한 주기의 증가분만큼 적을 수 있습니다.
+     * loader가 예외를 던지면 조회를 기록하지 않습니다.
+     *
+     * @param onInconsistentRead 기록과 겹쳐 읽었을 때 호출됩니다. loader가 캐시에 넣은 값을 버리는 데 사용합니다.
+     */
+    <T, R> R record(String id, Supplier<T> loader, BiFunction<T, Integer, R> mapper, Runnable onInconsistentRead) {
+        long start = generation.get();
+        T value = loader.get();
+        increment(id);
+
+        LongAdder counter = counters.get(id);
+        long pending = counter == null ? 0 : counter.sum();
+        long drained = inFlight.getOrDefault(id, 0L);
+
+        if ((start & 1) == 0 && generation.get() == start) {
+            return mapper.apply(value, Math.toIntExact(pending + drained));
+        }
+        onInconsistentRead.run();
+        return mapper.apply(value, Math.toIntExact(pending));
+    }
+
+    private void increment(String id) {
+        LongAdder counter = counters.get(id);
+        if (counter == null) {
+            counter = counters.computeIfAbsent(id, key -> new LongAdder());
+        }
+        counter.increment();
+    }
+
+    /**
+     * 누적된 증가분을 꺼내고 카운터를 0으로 되돌립니다.
+     * 꺼낸 값은 {@link #complete(Runnable)} 또는 {@link #restore(Map)}를 호출할 때까지 조회 결과에 포함됩니다.
+     */
+    Map<String, Long> drain() {
+        generation.incrementAndGet();
+        try {
+            Map<String, Long> deltas = new HashMap<>();
+            retired.forEach((id, counter) -> addDelta(deltas, id, counter.sumThenReset()));
+            retired = new HashMap<>();
+
+            counters.forEach((id, counter) -> {
+                long delta = counter.sumThenReset();
+                if (delta != 0) {
+                    addDelta(deltas, id, delta);
+                } else if (counters.remove(id, counter)) {
+                    retired.put(id, counter);
+                }
+            });
+
+            inFlight = deltas;
+            return deltas;
+        } finally {
+            generation.incrementAndGet();
+        }
+    }
+
+    /**
+     * 꺼낸 증가분의 기록을 커밋하고 조회 결과에서 뺍니다.
+     * 커밋하는 동안 세대 번호가 홀수이므로, 그 사이에 읽은 조회는 커밋된 DB 값에 같은 증가분을 한 번 더 더하지 않습니다.
+     * 잠금을 잡지 않으므로 커밋이 오래 걸려도 조회는 기다리지 않습니다.
+     *
+     * @param commit 기록을 커밋하고 캐시를 갱신하는 작업. 예외를 던지면 증가분은 조회 결과에 남습니다.
+     */
+    void complete(Runnable commit) {
+        generation.incrementAndGet();
+        try {
+            commit.run();
+            inFlight = Collections.emptyMap();
+        } finally {
+            generation.incrementAndGet();
+        }
+    }
+
+    /**
+     * 기록에 실패한 증가분을 카운터로 되돌려 다음 주기에 다시 기록합니다.
+     */
+    void restore(Map<String, Long> deltas) {
+        generation.incrementAndGet();
+        try {
+            deltas.forEach((id, delta) -> counters.computeIfAbsent(id, key -> new LongAdder()).add(delta));
+            inFlight = Collections.emptyMap();
+        } finally {
+            generation.incrementAndGet();
+        }
+    }
+
+    private static void addDelta(Map<String, Long> deltas, String id, long delta) {
+        if (delta != 0) {
+            deltas.merge(id, delta, Long::sum);
+        }
+    }
+}
@@ -1,12 +1,15 @@
 package com.eatbook.backoffice.entity;
 
 import com.eatbook.backoffice.entity.base.SoftDeletableEntity;
+import com.eatbook.backoffice.entity.type.BinaryUuidType;
+import com.eatbook.backoffice.global.utils.UuidGenerator;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.antlr.v4.runtime.misc.NotNull;
+import org.hibernate.annotations.Type;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -18,8 +21,8 @@ import java.util.List;
 public class Author extends SoftDeletableEntity {
 
     @Id
-    @Column(length = 36)
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(columnDefinition = "BINARY(16)")
+    @Type(BinaryUuidType.class)
     private String id;
 
     @Column(nullable = false)
@@ -31,6 +34,7 @@ public class Author extends SoftDeletableEntity {
 
     @Builder
     public Author(String name) {
+        this.id = UuidGenerator.generate();
         this.name = name;
     }
 
@@ -2,6 +2,7 @@ package com.eatbook.backoffice.entity;
 
 import com.eatbook.backoffice.entity.idClass.BookmarkId;
 import com.eatbook.backoffice.entity.idClass.NovelCategoryId;
+import com.eatbook.backoffice.entity.type.BinaryUuidType;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -10,6 +11,7 @@ import lombok.NoArgsConstructor;
 import org.antlr.v4.runtime.misc.NotNull;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
+import org.hibernate.annotations.Type;
 import org.springframework.data.annotation.CreatedDate;
 
 import java.time.LocalDateTime;
@@ -22,11 +24,13 @@ import java.time.LocalDateTime;
 public class Bookmark {
 
     @Id
-    @Column(name = "novel_id", length = 36)
+    @Column(name = "novel_id", columnDefinition = "BINARY(16)")
+    @Type(BinaryUuidType.class)
     private String novelId;
 
     @Id
-    @Column(name = "member_id", length = 36)
+    @Column(name = "member_id", columnDefinition = "BINARY(16)")
+    @Type(BinaryUuidType.class)
     private String memberId;
 
     @Column(nullable = false)
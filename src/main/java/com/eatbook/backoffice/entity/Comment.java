@@ -1,12 +1,15 @@
 package com.eatbook.backoffice.entity;
 
 import com.eatbook.backoffice.entity.base.SoftDeletableEntity;
+import com.eatbook.backoffice.entity.type.BinaryUuidType;
+import com.eatbook.backoffice.global.utils.UuidGenerator;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.antlr.v4.runtime.misc.NotNull;
+import org.hibernate.annotations.Type;
 
 import java.util.Objects;
 
@@ -17,26 +20,27 @@ import java.util.Objects;
 public class Comment extends SoftDeletableEntity {
 
     @Id
-    @Column(length = 36)
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(columnDefinition = "BINARY(16)")
+    @Type(BinaryUuidType.class)
     private String id;
 
     @Column(nullable = false, length = 300)
     @NotNull
     private String content;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(nullable = false)
     @NotNull
     private Member member;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(nullable = false)
     @NotNull
     private Episode episode;
 
     @Builder
     public Comment(String content, Member member, Episode episode) {
+        this.id = UuidGenerator.generate();
         this.content = content;
         this.member = member;
         this.episode = episode;
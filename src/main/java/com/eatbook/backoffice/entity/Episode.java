@@ -2,12 +2,15 @@ package com.eatbook.backoffice.entity;
 
 import com.eatbook.backoffice.entity.base.SoftDeletableEntity;
 import com.eatbook.backoffice.entity.constant.ReleaseStatus;
+import com.eatbook.backoffice.entity.type.BinaryUuidType;
+import com.eatbook.backoffice.global.utils.UuidGenerator;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.antlr.v4.runtime.misc.NotNull;
+import org.hibernate.annotations.Type;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -21,8 +24,8 @@ import java.util.Objects;
 public class Episode extends SoftDeletableEntity {
 
     @Id
-    @Column(length = 36)
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(columnDefinition = "BINARY(16)")
+    @Type(BinaryUuidType.class)
     private String id;
 
     @Column(nullable = false)
@@ -44,7 +47,10 @@ public class Episode extends SoftDeletableEntity {
     @Column
     private LocalDateTime releasedDate;
 
-    @Column(nullable = false)
+    /**
+     * 조회수는 ViewCountService가 증가분을 직접 더하므로, 엔티티 저장 시 이전 값으로 덮어쓰지 않도록 UPDATE에서 제외합니다.
+     */
+    @Column(nullable = false, updatable = false)
     @NotNull
     private int viewCount = 0;
 
@@ -58,6 +64,7 @@ public class Episode extends SoftDeletableEntity {
 
     @Builder
     public Episode(String title, int chapterNumber, LocalDateTime scheduledReleaseDate, LocalDateTime releasedDate, ReleaseStatus releaseStatus, int viewCount, Novel novel) {
+        this.id = UuidGenerator.generate();
         this.title = title;
         this.chapterNumber = chapterNumber;
         this.scheduledReleaseDate = scheduledReleaseDate;
@@ -1,6 +1,7 @@
 package com.eatbook.backoffice.entity;
 
 import com.eatbook.backoffice.entity.idClass.FavoriteId;
+import com.eatbook.backoffice.entity.type.BinaryUuidType;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -9,6 +10,7 @@ import lombok.NoArgsConstructor;
 import org.antlr.v4.runtime.misc.NotNull;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
+import org.hibernate.annotations.Type;
 import org.springframework.data.annotation.CreatedDate;
 
 import java.time.LocalDateTime;
@@ -21,11 +23,13 @@ import java.time.LocalDateTime;
 public class Favorite {
 
     @Id
-    @Column(name = "novel_id", length = 36)
+    @Column(name = "novel_id", columnDefinition = "BINARY(16)")
+    @Type(BinaryUuidType.class)
     private String novelId;
 
     @Id
-    @Column(name = "member_id", length = 36)
+    @Column(name = "member_id", columnDefinition = "BINARY(16)")
+    @Type(BinaryUuidType.class)
     private String memberId;
 
     @Column(nullable = false)
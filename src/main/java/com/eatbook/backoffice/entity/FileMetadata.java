@@ -1,12 +1,16 @@
 package com.eatbook.backoffice.entity;
 
 import com.eatbook.backoffice.entity.base.BaseEntity;
+import com.eatbook.backoffice.entity.constant.FileStatus;
 import com.eatbook.backoffice.entity.constant.FileType;
+import com.eatbook.backoffice.entity.type.BinaryUuidType;
+import com.eatbook.backoffice.global.utils.UuidGenerator;
 import jakarta.persistence.*;
 import lombok.*;
 import org.antlr.v4.runtime.misc.NotNull;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
+import org.hibernate.annotations.Type;
 
 @Entity
 @Getter
@@ -15,8 +19,8 @@ import org.hibernate.annotations.OnDeleteAction;
 public class FileMetadata extends BaseEntity {
 
     @Id
-    @Column(length = 36)
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(columnDefinition = "BINARY(16)")
+    @Type(BinaryUuidType.class)
     private String id;
 
     @Column(nullable = false)
@@ -28,6 +32,11 @@ public class FileMetadata extends BaseEntity {
     @NotNull
     private String path;
 
+    @Column(nullable = false)
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    private FileStatus status = FileStatus.PENDING;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(nullable = false)
     @NotNull
@@ -36,6 +45,7 @@ public class FileMetadata extends BaseEntity {
 
     @Builder
     public FileMetadata(FileType type, String path, Episode episode) {
+        this.id = UuidGenerator.generate();
         this.type = type;
         this.path = path;
         this.episode = episode;
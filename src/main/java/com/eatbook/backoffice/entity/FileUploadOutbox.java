@@ -0,0 +1,84 @@
+package com.eatbook.backoffice.entity;
+
+import com.eatbook.backoffice.entity.base.BaseEntity;
+import com.eatbook.backoffice.entity.constant.OutboxStatus;
+import com.eatbook.backoffice.entity.type.BinaryUuidType;
+import com.eatbook.backoffice.global.utils.UuidGenerator;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.antlr.v4.runtime.misc.NotNull;
+import org.hibernate.annotations.Type;
+
+import java.time.LocalDateTime;
+
+/**
+ * 트랜잭션 커밋 이후 S3에 업로드해야 할 파일 작업.
+ * 파일 메타데이터와 같은 트랜잭션에 기록되므로, 업로드 중 서버가 종료되어도 작업이 유실되지 않습니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "file_upload_outbox")
+public class FileUploadOutbox extends BaseEntity {
+
+    @Id
+    @Column(columnDefinition = "BINARY(16)")
+    @Type(BinaryUuidType.class)
+    private String id;
+
+    @Column(nullable = false, columnDefinition = "BINARY(16)")
+    @Type(BinaryUuidType.class)
+    @NotNull
+    private String fileMetadataId;
+
+    @Column(nullable = false)
+    @NotNull
+    private String bucket;
+
+    @Column(nullable = false, length = 512)
+    @NotNull
+    private String objectKey;
+
+    @Column(nullable = false, length = 100)
+    @NotNull
+    private String contentType;
+
+    /**
+     * 업로드할 파일이 임시 저장된 private 버킷의 객체 키.
+     */
+    @Column(name = "staging_path", nullable = false, length = 512)
+    @NotNull
+    private String stagingKey;
+
+    @Column(nullable = false)
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    private OutboxStatus status = OutboxStatus.PENDING;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(nullable = false)
+    @NotNull
+    private LocalDateTime nextAttemptAt;
+
+    @Column
+    private LocalDateTime lockedUntil;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    @Builder
+    public FileUploadOutbox(String fileMetadataId, String bucket, String objectKey, String contentType, String stagingKey) {
+        this.id = UuidGenerator.generate();
+        this.fileMetadataId = fileMetadataId;
+        this.bucket = bucket;
+        this.objectKey = objectKey;
+        this.contentType = contentType;
+        this.stagingKey = stagingKey;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+}
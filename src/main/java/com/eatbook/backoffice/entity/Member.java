@@ -1,16 +1,22 @@
 package com.eatbook.backoffice.entity;
 
-import com.eatbook.backoffice.entity.base.SoftDeletableEntity;
+import com.eatbook.backoffice.entity.base.BaseEntity;
 import com.eatbook.backoffice.entity.constant.AgeGroup;
 import com.eatbook.backoffice.entity.constant.AgeGroupConverter;
 import com.eatbook.backoffice.entity.constant.Gender;
 import com.eatbook.backoffice.entity.constant.Role;
+import com.eatbook.backoffice.entity.type.BinaryUuidType;
+import com.eatbook.backoffice.global.utils.UuidGenerator;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.antlr.v4.runtime.misc.NotNull;
+import org.hibernate.annotations.Filter;
+import org.hibernate.annotations.FilterDef;
+import org.hibernate.annotations.SQLDelete;
+import org.hibernate.annotations.Type;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -21,11 +27,21 @@ import java.util.Objects;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Table(name = "member")
-public class Member extends SoftDeletableEntity {
+@SQLDelete(sql = "UPDATE member SET deleted_at = NOW() WHERE id = ?")
+@FilterDef(name = Member.ACTIVE_FILTER, defaultCondition = "deleted_at IS NULL", autoEnabled = true, applyToLoadByKey = true)
+@Filter(name = Member.ACTIVE_FILTER)
+public class Member extends BaseEntity {
+
+    /**
+     * 탈퇴하지 않은 회원만 조회하는 필터.
+     * 다른 엔티티의 @Where(deleted_at IS NULL)와 같은 조건이지만 항상 켜져 있는 필터로 두어,
+     * 관리자 회원 검색에서 탈퇴 회원을 조회할 때만 세션 단위로 끌 수 있도록 합니다.
+     */
+    public static final String ACTIVE_FILTER = "activeMember";
 
     @Id
-    @Column(length = 36)
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(columnDefinition = "BINARY(16)")
+    @Type(BinaryUuidType.class)
     private String id;
 
     @Column
@@ -46,6 +62,7 @@ public class Member extends SoftDeletableEntity {
     @Column
     private String email;
 
+    // V9에서 컬럼을 새로 추가한 DB는 기존 회원 행의 gender, age_group이 NULL일 수 있습니다 (V9 주석 참고).
     @NotNull
     @Column(nullable = false)
     @Enumerated(EnumType.STRING)
@@ -59,11 +76,14 @@ public class Member extends SoftDeletableEntity {
     @Column
     private String profileImageUrl;
 
+    private LocalDateTime deletedAt;
+
     @OneToMany(mappedBy = "member", fetch = FetchType.LAZY)
     private List<Bookmark> bookmarks = new ArrayList<>();
 
     @Builder
     public Member(LocalDateTime lastLogin, Role role, String nickname, String passwordHash, String email, Gender gender, AgeGroup ageGroup, String profileImageUrl) {
+        this.id = UuidGenerator.generate();
         this.lastLogin = lastLogin;
         this.role = role;
         this.nickname = nickname;
@@ -90,4 +110,16 @@ public class Member extends SoftDeletableEntity {
     public void setLastLogin(LocalDateTime lastLogin) {
         this.lastLogin = lastLogin;
     }
+
+    public boolean isDeleted() {
+        return deletedAt != null;
+    }
+
+    public void softDelete() {
+        this.deletedAt = LocalDateTime.now();
+    }
+
+    public void restore() {
+        this.deletedAt = null;
+    }
 }
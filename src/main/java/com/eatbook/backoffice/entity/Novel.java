@@ -1,12 +1,15 @@
 package com.eatbook.backoffice.entity;
 
 import com.eatbook.backoffice.entity.base.SoftDeletableEntity;
+import com.eatbook.backoffice.entity.type.BinaryUuidType;
+import com.eatbook.backoffice.global.utils.UuidGenerator;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.antlr.v4.runtime.misc.NotNull;
+import org.hibernate.annotations.Type;
 
 import java.util.*;
 
@@ -17,8 +20,8 @@ import java.util.*;
 public class Novel extends SoftDeletableEntity {
 
     @Id
-    @Column(length = 36)
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(columnDefinition = "BINARY(16)")
+    @Type(BinaryUuidType.class)
     private String id;
 
     @Column(nullable = false)
@@ -31,7 +34,10 @@ public class Novel extends SoftDeletableEntity {
     @Column(length = 1000)
     private String summary;
 
-    @Column(nullable = false)
+    /**
+     * 조회수는 ViewCountService가 증가분을 직접 더하므로, 엔티티 저장 시 이전 값으로 덮어쓰지 않도록 UPDATE에서 제외합니다.
+     */
+    @Column(nullable = false, updatable = false)
     @NotNull
     private int viewCount=0;
 
@@ -42,6 +48,10 @@ public class Novel extends SoftDeletableEntity {
     @Column
     private int publicationYear;
 
+    // favorite 테이블 트리거로 증감되는 집계 값이므로 애플리케이션에서는 쓰지 않습니다.
+    @Column(nullable = false, insertable = false, updatable = false)
+    private int likeCount;
+
     @OneToMany(mappedBy = "novel", fetch = FetchType.LAZY, orphanRemoval = true)
     private Set<NovelAuthor> novelAuthors = new HashSet<>();
 
@@ -56,6 +66,7 @@ public class Novel extends SoftDeletableEntity {
 
     @Builder
     public Novel(String title, String coverImageUrl, String summary, int viewCount, boolean isCompleted, int publicationYear) {
+        this.id = UuidGenerator.generate();
         this.title = title;
         this.coverImageUrl = coverImageUrl;
         this.summary = summary;
@@ -3,17 +3,26 @@ package com.eatbook.backoffice.entity.base;
 import jakarta.persistence.Column;
 import jakarta.persistence.EntityListeners;
 import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Transient;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.domain.Persistable;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
 
+/**
+ * 엔티티 Id는 생성 시점에 애플리케이션에서 할당하므로, Id 유무로는 새 엔티티인지 판단할 수 없습니다.
+ * 저장/조회 여부를 직접 기록하여 save() 시 merge(SELECT 후 INSERT) 대신 persist(INSERT)가 실행되도록 합니다.
+ */
 @EntityListeners(AuditingEntityListener.class)
 @Getter
 @MappedSuperclass
-public abstract class BaseEntity {
+public abstract class BaseEntity implements Persistable<String> {
 
     @CreatedDate
     @Column(nullable = false, updatable = false)
@@ -22,4 +31,19 @@ public abstract class BaseEntity {
     @LastModifiedDate
     @Column(nullable = false)
     private LocalDateTime updatedAt;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean persisted;
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostPersist
+    @PostLoad
+    void markPersisted() {
+        this.persisted = true;
+    }
 }
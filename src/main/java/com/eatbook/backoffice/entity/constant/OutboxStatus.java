@@ -0,0 +1,7 @@
+package com.eatbook.backoffice.entity.constant;
+
+public enum OutboxStatus {
+    PENDING,
+    PROCESSING,
+    FAILED,
+}
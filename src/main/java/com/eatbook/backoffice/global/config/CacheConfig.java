@@ -0,0 +1,104 @@
+package com.eatbook.backoffice.global.config;
+
+import com.eatbook.backoffice.domain.novel.dto.NovelCursorListResponse;
+import com.eatbook.backoffice.domain.novel.dto.NovelDetailResponse;
+import com.eatbook.backoffice.domain.novel.dto.NovelEpisodeListResponse;
+import com.eatbook.backoffice.domain.novel.dto.NovelListResponse;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 소설 카탈로그 조회 결과를 노드 메모리에 보관하는 Caffeine 캐시 설정.
+ * 항목 무게는 응답에 포함된 목록 원소 수 기준이며, 전체 무게 상한으로 노드당 메모리를 제한합니다.
+ * 적중/미스/제거 통계는 Actuator의 cache.* 메트릭으로 노출됩니다.
+ * 소설 상세 정보에는 조회수와 좋아요 수처럼 자주 바뀌는 값이 들어 있으므로 다른 캐시보다 짧게 보관합니다.
+ * 좋아요 수는 최대 cache.novel-detail.expire-after-write(기본 30초)만큼 늦게 반영될 수 있으며,
+ * 조회수는 기록할 때마다 캐시된 항목을 갱신하고 조회 시 아직 기록되지 않은 증가분을 더하므로 캐시 보관 시간과 관계없이 반영됩니다.
+ * 조회수 갱신은 항목의 만료 시각을 늦추지 않으므로, 자주 조회되는 소설도 좋아요 수가 보관 시간보다 늦게 반영되지 않습니다.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String NOVEL_LIST = "novelList";
+    public static final String NOVEL_DETAIL = "novelDetail";
+    public static final String NOVEL_EPISODES = "novelEpisodes";
+
+    @Value("${cache.catalog.maximum-weight:20000}")
+    private long maximumWeight;
+
+    @Value("${cache.catalog.expire-after-write:10m}")
+    private Duration expireAfterWrite;
+
+    @Value("${cache.novel-detail.expire-after-write:30s}")
+    private Duration novelDetailExpireAfterWrite;
+
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
+        caffeineCacheManager.setCaffeine(catalogCache().expireAfterWrite(expireAfterWrite));
+        caffeineCacheManager.setCacheNames(List.of(NOVEL_LIST, NOVEL_EPISODES));
+        caffeineCacheManager.setAllowNullValues(false);
+        caffeineCacheManager.registerCustomCache(NOVEL_DETAIL, catalogCache()
+                .expireAfter(expireAfterCreate(novelDetailExpireAfterWrite))
+                .build());
+
+        // 무효화가 트랜잭션 커밋 이후에 적용되도록 하여, 커밋 전에 다른 요청이 이전 값을 다시 적재하는 것을 막습니다.
+        return new TransactionAwareCacheManagerProxy(caffeineCacheManager);
+    }
+
+    private Caffeine<Object, Object> catalogCache() {
+        return Caffeine.newBuilder()
+                .maximumWeight(maximumWeight)
+                .weigher((key, value) -> weigh(value))
+                .recordStats();
+    }
+
+    /**
+     * 처음 적재한 시점부터 duration이 지나면 만료합니다. 갱신하거나 읽어도 남은 시간은 그대로입니다.
+     */
+    private static Expiry<Object, Object> expireAfterCreate(Duration duration) {
+        return new Expiry<>() {
+            @Override
+            public long expireAfterCreate(Object key, Object value, long currentTime) {
+                return duration.toNanos();
+            }
+
+            @Override
+            public long expireAfterUpdate(Object key, Object value, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+
+            @Override
+            public long expireAfterRead(Object key, Object value, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+        };
+    }
+
+    private static int weigh(Object value) {
+        if (value instanceof NovelListResponse response) {
+            return response.novelList().size() + 1;
+        }
+        if (value instanceof NovelCursorListResponse response) {
+            return response.novelList().size() + 1;
+        }
+        if (value instanceof NovelEpisodeListResponse response) {
+            return response.episodeList().size() + 1;
+        }
+        if (value instanceof NovelDetailResponse response) {
+            return response.authorList().size() + response.categoryList().size() + 1;
+        }
+        return 1;
+    }
+}
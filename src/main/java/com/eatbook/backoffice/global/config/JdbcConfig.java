@@ -0,0 +1,46 @@
+package com.eatbook.backoffice.global.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class JdbcConfig {
+
+    /**
+     * MySQL Connector/J는 fetchSize가 Integer.MIN_VALUE일 때만 결과를 한 행씩 스트리밍합니다.
+     * 그 외에는 전체 결과를 메모리에 올리므로 대용량 조회에는 이 템플릿을 사용합니다.
+     */
+    private static final int MYSQL_STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+
+    @Bean
+    @Primary
+    public JdbcTemplate jdbcTemplate(DataSource dataSource) {
+        return new JdbcTemplate(dataSource);
+    }
+
+    @Bean
+    public JdbcTemplate streamingJdbcTemplate(DataSource dataSource) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.setFetchSize(MYSQL_STREAMING_FETCH_SIZE);
+        return jdbcTemplate;
+    }
+
+    /**
+     * 여러 엔티티를 한 번에 저장할 때 INSERT가 JDBC 배치로 묶이도록 Hibernate 배치 설정을 기본값으로 둡니다.
+     * 외부 설정에 같은 항목이 있으면 그 값을 그대로 사용합니다.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer hibernateBatchCustomizer(@Value("${jpa.batch-size:100}") int batchSize) {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+            properties.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+        };
+    }
+}
@@ -3,12 +3,25 @@ package com.eatbook.backoffice.global.config;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.StringUtils;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3AsyncClientBuilder;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.S3Configuration;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
+import java.net.URI;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 @Configuration
 public class S3Config {
 
@@ -18,20 +31,113 @@ public class S3Config {
     private String secretKey;
     @Value("${cloud.aws.region.static}")
     private String region;
+    @Value("${cloud.aws.s3.upload.transfer-threads:16}")
+    private int transferThreads;
+    @Value("${cloud.aws.s3.upload.workers:4}")
+    private int uploadWorkers;
+    @Value("${cloud.aws.s3.upload.queue-capacity:100}")
+    private int uploadQueueCapacity;
+    @Value("${cloud.aws.s3.upload.staging-threads:8}")
+    private int stagingThreads;
+    @Value("${cloud.aws.s3.max-connections:50}")
+    private int maxConnections;
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+    @Value("${cloud.aws.s3.endpoint:}")
+    private String endpoint;
+    @Value("${cloud.aws.s3.async.max-concurrency:64}")
+    private int asyncMaxConcurrency;
 
+    /**
+     * 가상 스레드 모드에서는 요청 스레드 수가 S3 호출의 동시성을 제한하지 않으므로,
+     * HTTP 커넥션 풀 크기가 S3로 나가는 동시 요청 수의 상한이 됩니다.
+     */
     @Bean
     public S3Client s3Client() {
-        return S3Client.builder()
+        S3ClientBuilder builder = S3Client.builder()
                 .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey)))
                 .region(Region.of(region))
-                .build();
+                .httpClientBuilder(ApacheHttpClient.builder().maxConnections(maxConnections));
+        if (StringUtils.hasText(endpoint)) {
+            builder.endpointOverride(URI.create(endpoint)).forcePathStyle(true);
+        }
+        return builder.build();
     }
 
     @Bean
     public S3Presigner presigner() {
-        return S3Presigner.builder()
+        S3Presigner.Builder builder = S3Presigner.builder()
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey)))
+                .region(Region.of(region));
+        if (StringUtils.hasText(endpoint)) {
+            builder.endpointOverride(URI.create(endpoint))
+                    .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build());
+        }
+        return builder.build();
+    }
+
+    /**
+     * 임시 객체 일괄 삭제에 사용하는 Netty 기반 비동기 클라이언트.
+     * 요청 스레드를 점유하지 않고 이벤트 루프에서 I/O를 처리하며, 동시 요청 수는 cloud.aws.s3.async.max-concurrency로 제한합니다.
+     * cloud.aws.s3.endpoint를 지정하면 LocalStack 같은 로컬 S3 호환 서버로 요청합니다.
+     */
+    @Bean
+    public S3AsyncClient s3AsyncClient() {
+        S3AsyncClientBuilder builder = S3AsyncClient.builder()
                 .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey)))
                 .region(Region.of(region))
-                .build();
+                .httpClientBuilder(NettyNioAsyncHttpClient.builder().maxConcurrency(asyncMaxConcurrency));
+        if (StringUtils.hasText(endpoint)) {
+            builder.endpointOverride(URI.create(endpoint)).forcePathStyle(true);
+        }
+        return builder.build();
+    }
+
+    /**
+     * 멀티파트 업로드의 파트 전송에 사용하는 스레드 풀. 모든 업로드가 함께 사용하므로,
+     * 업로드 하나의 동시 파트 수(cloud.aws.s3.upload.max-concurrent-parts)와 별개로 프로세스 전체의 동시 전송 파트 수를
+     * cloud.aws.s3.upload.transfer-threads로 지정합니다.
+     * 가상 스레드 모드에서는 파트마다 가상 스레드를 만들며, 동시 전송 파트 수는 업로드마다 세마포어로 제한됩니다.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService s3TransferExecutor() {
+        if (virtualThreads) {
+            return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("s3-transfer-", 0).factory());
+        }
+        return Executors.newFixedThreadPool(transferThreads, new CustomizableThreadFactory("s3-transfer-"));
+    }
+
+    /**
+     * 트랜잭션 커밋 이후 파일을 업로드하는 작업자 풀.
+     * 대기열이 가득 차면 작업을 거절하며, 거절된 작업은 아웃박스 릴레이가 다시 처리합니다.
+     * 가상 스레드 모드에서도 작업자 수로 동시 업로드 수와 대기열을 제한하되, 작업자를 가상 스레드로 실행합니다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor fileUploadExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(uploadWorkers);
+        executor.setMaxPoolSize(uploadWorkers);
+        executor.setQueueCapacity(uploadQueueCapacity);
+        executor.setThreadNamePrefix("file-upload-");
+        executor.setVirtualThreads(virtualThreads);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * 일괄 등록 요청의 스크립트를 임시 접두사에 병렬로 저장하는 스레드 풀.
+     * 여러 요청이 동시에 들어와도 S3로 나가는 임시 저장 업로드 수는 스레드 수로 제한되며, 나머지 항목은 대기열에서 기다립니다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor fileStagingExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(stagingThreads);
+        executor.setMaxPoolSize(stagingThreads);
+        executor.setThreadNamePrefix("file-staging-");
+        executor.setVirtualThreads(virtualThreads);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
     }
-}
\ No newline at end of file
+}
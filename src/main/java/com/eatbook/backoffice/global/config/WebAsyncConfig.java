@@ -0,0 +1,24 @@
+package com.eatbook.backoffice.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+
+/**
+ * 회원 내보내기처럼 StreamingResponseBody로 응답하는 비동기 요청의 처리 시간 제한을 지정합니다.
+ * 지정하지 않으면 서블릿 컨테이너의 기본값(Tomcat 30초)이 적용되어, 회원이 많을 때 내보내기가 중간에 끊깁니다.
+ */
+@Configuration
+public class WebAsyncConfig implements WebMvcConfigurer {
+
+    @Value("${web.async.request-timeout:10m}")
+    private Duration requestTimeout;
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setDefaultTimeout(requestTimeout.toMillis());
+    }
+}
@@ -0,0 +1,9 @@
+package com.eatbook.backoffice.global.exception.exceptions;
+
+import com.eatbook.backoffice.global.response.StatusCode;
+
+public class InvalidCursorException extends BusinessException {
+    public InvalidCursorException(StatusCode code) {
+        super(code);
+    }
+}
@@ -12,6 +12,7 @@ public enum GlobalErrorCode implements StatusCode {
     API_NOT_FOUND("API_NOT_FOUND", "요청하신 API를 찾을 수 없습니다."),
     VALIDATION_ERROR("VALIDATION_ERROR", "요청한 데이터가 유효하지 않습니다."),
     PAGE_OUT_OF_BOUNDS("PAGE_OUT_OF_BOUNDS", "요청된 페이지가 총 페이지 수를 초과했습니다."),
+    INVALID_CURSOR("INVALID_CURSOR", "유효하지 않은 커서입니다."),
     UNHANDLED_EXCEPTION("UNHANDLED_EXCEPTION", "처리되지 않은 예외가 발생하였습니다."),
     NOT_EXIST_USER("NOT_EXIST_USER", "존재하지 않는 유저입니다."),
     USER_PASSWORD_NOT_MATCHED("USER_PASSWORD_NOT_MATCHED", "비밀번호가 틀렸습니다."),
@@ -0,0 +1,46 @@
+package com.eatbook.backoffice.global.utils;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+public class BinaryUuid {
+
+    private static final int UUID_BYTES = 16;
+
+    /**
+     * UUID 문자열을 BINARY(16) 컬럼에 저장할 16바이트 배열로 변환합니다.
+     * UUID 형식이 아닌 문자열은 UTF-8 바이트를 그대로 반환하므로, 조회 조건으로 사용하면 일치하는 행이 없습니다.
+     *
+     * @param uuid UUID 문자열
+     * @return 상위 비트부터 순서대로 담긴 16바이트 배열
+     */
+    public static byte[] toBytes(String uuid) {
+        UUID parsed;
+        try {
+            parsed = UUID.fromString(uuid);
+        } catch (IllegalArgumentException e) {
+            return uuid.getBytes(StandardCharsets.UTF_8);
+        }
+
+        return ByteBuffer.allocate(UUID_BYTES)
+                .putLong(parsed.getMostSignificantBits())
+                .putLong(parsed.getLeastSignificantBits())
+                .array();
+    }
+
+    /**
+     * BINARY(16) 컬럼 값을 UUID 문자열로 변환합니다. MySQL의 BIN_TO_UUID와 같은 결과를 반환합니다.
+     *
+     * @param bytes 16바이트 배열
+     * @return 소문자 UUID 문자열
+     */
+    public static String fromBytes(byte[] bytes) {
+        if (bytes.length != UUID_BYTES) {
+            throw new IllegalArgumentException("UUID는 16바이트여야 합니다: " + bytes.length);
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong()).toString();
+    }
+}
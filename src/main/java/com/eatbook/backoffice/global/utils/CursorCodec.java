@@ -0,0 +1,53 @@
+package com.eatbook.backoffice.global.utils;
+
+import com.eatbook.backoffice.global.exception.exceptions.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+import static com.eatbook.backoffice.global.response.GlobalErrorCode.INVALID_CURSOR;
+
+public class CursorCodec {
+
+    private static final String DELIMITER = ".";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    /**
+     * 정렬 키 값들을 클라이언트에 노출할 불투명한 커서 문자열로 인코딩합니다.
+     * 각 값은 URL-safe Base64로 인코딩된 뒤 '.'으로 연결되므로, 값에 어떤 문자가 포함되어도 안전합니다.
+     *
+     * @param values 커서를 구성할 정렬 키 값들
+     * @return 인코딩된 커서 문자열
+     */
+    public static String encode(String... values) {
+        return String.join(DELIMITER, Arrays.stream(values)
+                .map(value -> ENCODER.encodeToString(value.getBytes(StandardCharsets.UTF_8)))
+                .toList());
+    }
+
+    /**
+     * {@link #encode(String...)}로 만든 커서 문자열을 정렬 키 값 목록으로 디코딩합니다.
+     *
+     * @param cursor 디코딩할 커서 문자열
+     * @param expectedSize 커서에 포함되어야 하는 값의 개수
+     * @return 디코딩된 정렬 키 값 목록
+     * @throws InvalidCursorException 커서 형식이 올바르지 않거나 값의 개수가 맞지 않을 경우 발생
+     */
+    public static List<String> decode(String cursor, int expectedSize) {
+        String[] tokens = cursor.split("\\" + DELIMITER, -1);
+        if (tokens.length != expectedSize) {
+            throw new InvalidCursorException(INVALID_CURSOR);
+        }
+
+        try {
+            return Arrays.stream(tokens)
+                    .map(token -> new String(DECODER.decode(token), StandardCharsets.UTF_8))
+                    .toList();
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException(INVALID_CURSOR);
+        }
+    }
+}
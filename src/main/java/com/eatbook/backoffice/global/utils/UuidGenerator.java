@@ -0,0 +1,38 @@
+package com.eatbook.backoffice.global.utils;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+
+public class UuidGenerator {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private static final long VERSION_7 = 0x7000L;
+    private static final long VARIANT_RFC_4122 = 0x8000000000000000L;
+
+    /**
+     * 엔티티 Id로 사용할 UUIDv7 문자열을 생성합니다.
+     * 상위 48비트가 밀리초 단위 생성 시각이므로 BINARY(16)으로 저장해도 생성 순서대로 정렬되어,
+     * 기본 키 인덱스의 끝에 순서대로 삽입됩니다.
+     *
+     * @return 'xxxxxxxx-xxxx-7xxx-yxxx-xxxxxxxxxxxx' 형식의 UUID 문자열
+     */
+    public static String generate() {
+        return generateV7().toString();
+    }
+
+    /**
+     * RFC 9562의 UUIDv7을 생성합니다.
+     * [48비트 Unix 밀리초 | 4비트 버전 | 12비트 난수 | 2비트 variant | 62비트 난수]
+     *
+     * @return UUIDv7
+     */
+    public static UUID generateV7() {
+        long timestamp = System.currentTimeMillis();
+
+        long mostSigBits = (timestamp << 16) | VERSION_7 | RANDOM.nextInt(1 << 12);
+        long leastSigBits = (RANDOM.nextLong() >>> 2) | VARIANT_RFC_4122;
+
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
@@ -64,7 +64,7 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
             JwtAuthToken authToken = tokenProvider.convertAuthToken(accessToken.get());
 
             if (validateAccessToken(authToken)) {
-                setAuthentication(accessToken.get());
+                setAuthentication(authToken);
                 filterChain.doFilter(request, response);
                 return;
             }
@@ -125,7 +125,7 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
                 log.info("새로운 Refresh Token이 발급되었습니다.");
             }
 
-            setAuthentication(newAccessToken);
+            setAuthentication(tokenProvider.convertAuthToken(newAccessToken));
             return true;
         } catch (JwtTokenException e) {
             return false;
@@ -159,9 +159,11 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
                 .map(Cookie::getValue);
     }
 
-    private void setAuthentication(String token) {
+    /**
+     * 검증을 마친 토큰 객체를 그대로 넘겨받아, 보관된 Claims로 인증 정보를 만듭니다.
+     */
+    private void setAuthentication(JwtAuthToken jwtAuthToken) {
         try {
-            JwtAuthToken jwtAuthToken = tokenProvider.convertAuthToken(token);
             Authentication authentication = tokenProvider.getAuthentication(jwtAuthToken);
             SecurityContextHolder.getContext().setAuthentication(authentication);
         } catch (Exception e) {
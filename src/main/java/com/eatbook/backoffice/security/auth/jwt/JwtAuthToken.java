@@ -23,14 +23,27 @@ public class JwtAuthToken implements AuthToken<Claims> {
 
     private final Key key;
 
-    public JwtAuthToken(String token, Key key) {
+    private final JwtParser parser;
+
+    private final JwtClaimsCache claimsCache;
+
+    /**
+     * 한 번 검증한 Claims를 보관하여, 같은 요청 안에서 getData()를 여러 번 호출해도 검증은 한 번만 수행합니다.
+     */
+    private Claims claims;
+
+    public JwtAuthToken(String token, Key key, JwtParser parser, JwtClaimsCache claimsCache) {
         this.token = token;
         this.key = key;
+        this.parser = parser;
+        this.claimsCache = claimsCache;
     }
 
-    public JwtAuthToken(String id, Key key, String role,
+    public JwtAuthToken(String id, Key key, JwtParser parser, String role,
                         Map<String, String> claims, Date expiredDate) {
         this.key = key;
+        this.parser = parser;
+        this.claimsCache = null;
         this.token = createJwtToken(id, role, claims, expiredDate)
                 .orElseThrow(()-> new JwtTokenException(JWT_MALFORMED));
     }
@@ -42,12 +55,15 @@ public class JwtAuthToken implements AuthToken<Claims> {
 
     @Override
     public Claims getData() {
+        if (claims == null) {
+            claims = claimsCache == null ? parse(token) : claimsCache.get(token, this::parse);
+        }
+        return claims;
+    }
+
+    private Claims parse(String token) {
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            return parser.parseClaimsJws(token).getBody();
         } catch (ExpiredJwtException e) {
             throw new JwtTokenException(JWT_EXPIRED);
         } catch (MalformedJwtException e) {
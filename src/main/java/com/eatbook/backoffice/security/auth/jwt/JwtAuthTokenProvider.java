@@ -4,10 +4,11 @@ import com.eatbook.backoffice.security.auth.AuthTokenProvider;
 import com.eatbook.backoffice.security.error.exception.JwtTokenException;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
-import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -25,6 +26,7 @@ import java.util.Date;
 import java.util.Map;
 
 @Component
+@RequiredArgsConstructor
 public class JwtAuthTokenProvider implements AuthTokenProvider<JwtAuthToken> {
 
     @Value("${jwt.access-token.expiration}")
@@ -36,11 +38,21 @@ public class JwtAuthTokenProvider implements AuthTokenProvider<JwtAuthToken> {
     @Value("${jwt.access-token.secret}")
     private String secret;
 
+    private final JwtClaimsCache claimsCache;
+
     private Key key;
 
+    /**
+     * 서명 키가 고정되어 있으므로 파서는 한 번만 만들어 모든 요청에서 재사용합니다. JwtParser는 스레드 안전합니다.
+     */
+    private JwtParser parser;
+
     @PostConstruct
     public void init() {
         this.key = Keys.hmacShaKeyFor(secret.getBytes());
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
     }
 
     public int getRefreshTokenExpiration() {
@@ -59,20 +71,17 @@ public class JwtAuthTokenProvider implements AuthTokenProvider<JwtAuthToken> {
                         .atZone(ZoneId.systemDefault())
                         .toInstant()
         );
-        return new JwtAuthToken(id, key, role, claims, expiredDate);
+        return new JwtAuthToken(id, key, parser, role, claims, expiredDate);
     }
 
     @Override
     public JwtAuthToken convertAuthToken(String token) {
-        return new JwtAuthToken(token, key);
+        return new JwtAuthToken(token, key, parser, claimsCache);
     }
 
     @Override
     public Authentication getAuthentication(JwtAuthToken authToken) {
-        if (!authToken.validate()) {
-            throw new JwtException("JWT 토큰이 적절하지 않습니다.");
-        }
-
+        // 검증에 실패하면 getData()가 JwtTokenException을 던지며, 이미 검증된 토큰은 보관된 Claims를 그대로 사용합니다.
         Claims claims = authToken.getData();
         Collection<? extends GrantedAuthority> authorities = Collections.singleton(
                 new SimpleGrantedAuthority(claims.get(JwtAuthToken.AUTHORITIES_KEY, String.class))
@@ -90,16 +99,12 @@ public class JwtAuthTokenProvider implements AuthTokenProvider<JwtAuthToken> {
         );
 
         Map<String, String> claims = Map.of("id", id);
-        return new JwtAuthToken(id, key, "ROLE_REFRESH", claims, expiredDate);
+        return new JwtAuthToken(id, key, parser, "ROLE_REFRESH", claims, expiredDate);
     }
 
     public Claims getClaimsFromExpiredToken(String token) throws JwtTokenException {
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            return parser.parseClaimsJws(token).getBody();
         } catch (ExpiredJwtException e) {
             return e.getClaims();
         }
@@ -0,0 +1,96 @@
+package com.eatbook.backoffice.security.auth.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.function.Function;
+
+/**
+ * 서명 검증을 통과한 토큰의 Claims를 보관하는 캐시입니다.
+ * 같은 토큰으로 들어오는 요청마다 HMAC 검증과 JSON 파싱을 반복하지 않도록, 토큰의 SHA-256 해시를 키로 Claims를 재사용합니다.
+ * 항목은 토큰 만료 시각과 최대 보관 시간 중 이른 시점에 만료되므로, 만료된 토큰이 캐시를 통해 통과하는 일은 없습니다.
+ * 검증에 실패한 토큰은 캐시에 저장하지 않습니다.
+ */
+@Component
+public class JwtClaimsCache {
+
+    @Value("${jwt.claims-cache.maximum-size:10000}")
+    private long maximumSize;
+
+    @Value("${jwt.claims-cache.maximum-ttl:5m}")
+    private Duration maximumTtl;
+
+    private Cache<String, Claims> claims;
+
+    @PostConstruct
+    void init() {
+        claims = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<String, Claims>() {
+                    @Override
+                    public long expireAfterCreate(String key, Claims value, long currentTime) {
+                        return timeToLive(value, Instant.now(), maximumTtl).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Claims value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Claims value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 캐시된 Claims를 반환하고, 없으면 verifier로 검증한 결과를 저장한 뒤 반환합니다.
+     * 반환된 Claims는 여러 요청이 공유하므로 읽기 전용으로 사용해야 합니다.
+     *
+     * @param token     검증할 토큰 문자열
+     * @param verifier  캐시에 없을 때 서명을 검증하고 Claims를 꺼내는 함수
+     * @return          검증된 Claims
+     */
+    public Claims get(String token, Function<String, Claims> verifier) {
+        return claims.get(hash(token), key -> verifier.apply(token));
+    }
+
+    /**
+     * 토큰 만료 시각까지 남은 시간과 최대 보관 시간 중 짧은 쪽을 반환합니다.
+     */
+    static Duration timeToLive(Claims claims, Instant now, Duration maximumTtl) {
+        Date expiration = claims.getExpiration();
+        if (expiration == null) {
+            return maximumTtl;
+        }
+        Duration remaining = Duration.between(now, expiration.toInstant());
+        if (remaining.isNegative()) {
+            return Duration.ZERO;
+        }
+        return remaining.compareTo(maximumTtl) < 0 ? remaining : maximumTtl;
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
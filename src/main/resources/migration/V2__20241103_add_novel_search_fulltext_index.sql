@@ -0,0 +1,7 @@
+-- 소설 검색용 FULLTEXT 인덱스
+-- 한글 제목/작가명 검색을 위해 ngram 파서를 사용합니다. (토큰 크기는 서버 설정 ngram_token_size, 기본값 2)
+ALTER TABLE novel ADD FULLTEXT INDEX ft_novel_title (title) WITH PARSER ngram;
+
+ALTER TABLE author ADD FULLTEXT INDEX ft_author_name (name) WITH PARSER ngram;
+
+ALTER TABLE category ADD FULLTEXT INDEX ft_category_name (name) WITH PARSER ngram;
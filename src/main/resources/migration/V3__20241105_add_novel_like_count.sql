@@ -0,0 +1,24 @@
+-- 소설 좋아요 수 집계 컬럼
+--
+-- [배포 요구 사항] 바이너리 로그가 켜진 MySQL(RDS 포함)에서는 SUPER 권한이 없는 계정이 트리거를 만들 수 없습니다.
+-- RDS에서는 마스터 계정에도 SUPER 권한이 없으므로, 이 마이그레이션을 적용하기 전에
+-- DB 파라미터 그룹에서 log_bin_trust_function_creators = 1 로 설정해야 합니다. (동적 파라미터이므로 재시작은 필요 없습니다.)
+-- 설정하지 않으면 CREATE TRIGGER가 ERROR 1419로 실패합니다.
+-- 테스트 컨테이너(MySqlTestSupport)는 같은 옵션으로 MySQL을 띄웁니다.
+ALTER TABLE novel ADD COLUMN like_count INT NOT NULL DEFAULT 0;
+
+UPDATE novel n
+    JOIN (SELECT novel_id, COUNT(*) AS cnt FROM favorite GROUP BY novel_id) f ON f.novel_id = n.id
+SET n.like_count = f.cnt;
+
+-- 좋아요 추가/취소 시 집계 컬럼을 증감합니다.
+-- 좋아요는 사용자 서비스에서도 기록되므로 애플리케이션이 아닌 트리거로 유지합니다.
+CREATE TRIGGER trg_favorite_after_insert
+    AFTER INSERT ON favorite
+    FOR EACH ROW
+    UPDATE novel SET like_count = like_count + 1 WHERE id = NEW.novel_id;
+
+CREATE TRIGGER trg_favorite_after_delete
+    AFTER DELETE ON favorite
+    FOR EACH ROW
+    UPDATE novel SET like_count = GREATEST(like_count - 1, 0) WHERE id = OLD.novel_id;
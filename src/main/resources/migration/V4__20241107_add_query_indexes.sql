@@ -0,0 +1,27 @@
+-- 조회 쿼리 조건/정렬 컬럼 인덱스
+
+-- 소설 목록: WHERE deleted_at IS NULL ORDER BY created_at DESC, id DESC (페이지/커서 조회)
+CREATE INDEX idx_novel_deleted_at_created_at ON novel (deleted_at, created_at, id);
+
+-- 소설 중복 검사: NovelAuthorRepository.findByNovelTitleAndAuthorName
+CREATE INDEX idx_novel_title ON novel (title);
+
+-- 회차 번호 채번(MAX), 회차 목록 정렬, 댓글 조회 시 회차 조인
+CREATE INDEX idx_episode_novel_id_chapter_number ON episode (novel_id, chapter_number);
+
+-- 회차 제목 중복 검사: EpisodeRepository.findByTitleAndNovelId
+CREATE INDEX idx_episode_novel_id_title ON episode (novel_id, title);
+
+-- 회차별 댓글 커서 조회: ORDER BY created_at, id
+CREATE INDEX idx_comment_episode_id_created_at ON comment (episode_id, created_at, id);
+
+-- 로그인: MemberRepository.findMemberByEmail
+CREATE INDEX idx_member_email ON member (email);
+
+-- 회원 목록: WHERE role = ? ORDER BY created_at
+CREATE INDEX idx_member_role_created_at ON member (role, created_at);
+
+-- 작가/카테고리 이름 조회: findByName
+CREATE INDEX idx_author_name ON author (name);
+
+CREATE INDEX idx_category_name ON category (name);
@@ -0,0 +1,23 @@
+-- 파일 업로드 상태: 기존 파일은 모두 업로드가 끝난 상태입니다.
+ALTER TABLE file_metadata ADD COLUMN status VARCHAR(20) NOT NULL DEFAULT 'UPLOADED';
+ALTER TABLE file_metadata ALTER COLUMN status SET DEFAULT 'PENDING';
+
+-- 파일 업로드 아웃박스 테이블
+CREATE TABLE file_upload_outbox (
+                                    id VARCHAR(36) NOT NULL,
+                                    created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+                                    updated_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+                                    file_metadata_id VARCHAR(36) NOT NULL,
+                                    bucket VARCHAR(255) NOT NULL,
+                                    object_key VARCHAR(512) NOT NULL,
+                                    content_type VARCHAR(100) NOT NULL,
+                                    staging_path VARCHAR(512) NOT NULL,
+                                    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+                                    attempts INT NOT NULL DEFAULT 0,
+                                    next_attempt_at DATETIME NOT NULL,
+                                    locked_until DATETIME NULL,
+                                    last_error VARCHAR(1000) NULL,
+                                    PRIMARY KEY (id),
+                                    INDEX idx_file_upload_outbox_status_next_attempt_at (status, next_attempt_at),
+                                    FOREIGN KEY (file_metadata_id) REFERENCES file_metadata(id) ON DELETE CASCADE
+);
@@ -0,0 +1,102 @@
+-- UUID 기본 키와 외래 키를 VARCHAR(36)에서 BINARY(16)으로 변환합니다.
+-- 키 크기가 36바이트(utf8mb4 기준 최대 144바이트)에서 16바이트로 줄어 클러스터드 인덱스와 모든 보조 인덱스가 작아집니다.
+-- 변환은 결정적이므로 부모와 자식 테이블을 따로 변환해도 참조 관계가 유지됩니다.
+
+-- 1. 외래 키 제거
+ALTER TABLE member_setting DROP FOREIGN KEY member_setting_ibfk_1;
+ALTER TABLE novel_author DROP FOREIGN KEY novel_author_ibfk_1;
+ALTER TABLE novel_author DROP FOREIGN KEY novel_author_ibfk_2;
+ALTER TABLE novel_category DROP FOREIGN KEY novel_category_ibfk_1;
+ALTER TABLE novel_category DROP FOREIGN KEY novel_category_ibfk_2;
+ALTER TABLE episode DROP FOREIGN KEY episode_ibfk_1;
+ALTER TABLE reading_log DROP FOREIGN KEY reading_log_ibfk_1;
+ALTER TABLE reading_log DROP FOREIGN KEY reading_log_ibfk_2;
+ALTER TABLE reading_log DROP FOREIGN KEY reading_log_ibfk_3;
+ALTER TABLE comment DROP FOREIGN KEY comment_ibfk_1;
+ALTER TABLE comment DROP FOREIGN KEY comment_ibfk_2;
+ALTER TABLE favorite DROP FOREIGN KEY favorite_ibfk_1;
+ALTER TABLE favorite DROP FOREIGN KEY favorite_ibfk_2;
+ALTER TABLE bookmark DROP FOREIGN KEY bookmark_ibfk_1;
+ALTER TABLE bookmark DROP FOREIGN KEY bookmark_ibfk_2;
+ALTER TABLE file_metadata DROP FOREIGN KEY file_metadata_ibfk_1;
+ALTER TABLE file_upload_outbox DROP FOREIGN KEY file_upload_outbox_ibfk_1;
+
+-- 2. 문자열 UUID를 바이트 그대로 보존하는 VARBINARY로 바꾼 뒤, UUID_TO_BIN으로 16바이트 값으로 변환하고 BINARY(16)으로 고정합니다.
+ALTER TABLE member MODIFY id VARBINARY(36) NOT NULL;
+UPDATE member SET id = UUID_TO_BIN(id);
+ALTER TABLE member MODIFY id BINARY(16) NOT NULL;
+
+ALTER TABLE member_setting MODIFY id VARBINARY(36) NOT NULL;
+UPDATE member_setting SET id = UUID_TO_BIN(id);
+ALTER TABLE member_setting MODIFY id BINARY(16) NOT NULL;
+
+ALTER TABLE category MODIFY id VARBINARY(36) NOT NULL;
+UPDATE category SET id = UUID_TO_BIN(id);
+ALTER TABLE category MODIFY id BINARY(16) NOT NULL;
+
+ALTER TABLE novel MODIFY id VARBINARY(36) NOT NULL;
+UPDATE novel SET id = UUID_TO_BIN(id);
+ALTER TABLE novel MODIFY id BINARY(16) NOT NULL;
+
+ALTER TABLE author MODIFY id VARBINARY(36) NOT NULL;
+UPDATE author SET id = UUID_TO_BIN(id);
+ALTER TABLE author MODIFY id BINARY(16) NOT NULL;
+
+ALTER TABLE novel_author MODIFY novel_id VARBINARY(36) NOT NULL, MODIFY author_id VARBINARY(36) NOT NULL;
+UPDATE novel_author SET novel_id = UUID_TO_BIN(novel_id), author_id = UUID_TO_BIN(author_id);
+ALTER TABLE novel_author MODIFY novel_id BINARY(16) NOT NULL, MODIFY author_id BINARY(16) NOT NULL;
+
+ALTER TABLE novel_category MODIFY novel_id VARBINARY(36) NOT NULL, MODIFY category_id VARBINARY(36) NOT NULL;
+UPDATE novel_category SET novel_id = UUID_TO_BIN(novel_id), category_id = UUID_TO_BIN(category_id);
+ALTER TABLE novel_category MODIFY novel_id BINARY(16) NOT NULL, MODIFY category_id BINARY(16) NOT NULL;
+
+ALTER TABLE episode MODIFY id VARBINARY(36) NOT NULL, MODIFY novel_id VARBINARY(36) NOT NULL;
+UPDATE episode SET id = UUID_TO_BIN(id), novel_id = UUID_TO_BIN(novel_id);
+ALTER TABLE episode MODIFY id BINARY(16) NOT NULL, MODIFY novel_id BINARY(16) NOT NULL;
+
+ALTER TABLE reading_log MODIFY id VARBINARY(36) NOT NULL, MODIFY member_id VARBINARY(36) NOT NULL, MODIFY novel_id VARBINARY(36) NOT NULL, MODIFY episode_id VARBINARY(36) NOT NULL;
+UPDATE reading_log SET id = UUID_TO_BIN(id), member_id = UUID_TO_BIN(member_id), novel_id = UUID_TO_BIN(novel_id), episode_id = UUID_TO_BIN(episode_id);
+ALTER TABLE reading_log MODIFY id BINARY(16) NOT NULL, MODIFY member_id BINARY(16) NOT NULL, MODIFY novel_id BINARY(16) NOT NULL, MODIFY episode_id BINARY(16) NOT NULL;
+
+ALTER TABLE comment MODIFY id VARBINARY(36) NOT NULL, MODIFY member_id VARBINARY(36) NOT NULL, MODIFY episode_id VARBINARY(36) NOT NULL;
+UPDATE comment SET id = UUID_TO_BIN(id), member_id = UUID_TO_BIN(member_id), episode_id = UUID_TO_BIN(episode_id);
+ALTER TABLE comment MODIFY id BINARY(16) NOT NULL, MODIFY member_id BINARY(16) NOT NULL, MODIFY episode_id BINARY(16) NOT NULL;
+
+ALTER TABLE favorite MODIFY novel_id VARBINARY(36) NOT NULL, MODIFY member_id VARBINARY(36) NOT NULL;
+UPDATE favorite SET novel_id = UUID_TO_BIN(novel_id), member_id = UUID_TO_BIN(member_id);
+ALTER TABLE favorite MODIFY novel_id BINARY(16) NOT NULL, MODIFY member_id BINARY(16) NOT NULL;
+
+ALTER TABLE bookmark MODIFY novel_id VARBINARY(36) NOT NULL, MODIFY member_id VARBINARY(36) NOT NULL;
+UPDATE bookmark SET novel_id = UUID_TO_BIN(novel_id), member_id = UUID_TO_BIN(member_id);
+ALTER TABLE bookmark MODIFY novel_id BINARY(16) NOT NULL, MODIFY member_id BINARY(16) NOT NULL;
+
+ALTER TABLE file_metadata MODIFY id VARBINARY(36) NOT NULL, MODIFY episode_id VARBINARY(36) NOT NULL;
+UPDATE file_metadata SET id = UUID_TO_BIN(id), episode_id = UUID_TO_BIN(episode_id);
+ALTER TABLE file_metadata MODIFY id BINARY(16) NOT NULL, MODIFY episode_id BINARY(16) NOT NULL;
+
+ALTER TABLE search_log MODIFY id VARBINARY(36) NOT NULL;
+UPDATE search_log SET id = UUID_TO_BIN(id);
+ALTER TABLE search_log MODIFY id BINARY(16) NOT NULL;
+
+ALTER TABLE file_upload_outbox MODIFY id VARBINARY(36) NOT NULL, MODIFY file_metadata_id VARBINARY(36) NOT NULL;
+UPDATE file_upload_outbox SET id = UUID_TO_BIN(id), file_metadata_id = UUID_TO_BIN(file_metadata_id);
+ALTER TABLE file_upload_outbox MODIFY id BINARY(16) NOT NULL, MODIFY file_metadata_id BINARY(16) NOT NULL;
+
+-- 3. 외래 키 복원
+ALTER TABLE member_setting ADD CONSTRAINT fk_member_setting_id FOREIGN KEY (id) REFERENCES member(id);
+ALTER TABLE novel_author ADD CONSTRAINT fk_novel_author_novel_id FOREIGN KEY (novel_id) REFERENCES novel(id);
+ALTER TABLE novel_author ADD CONSTRAINT fk_novel_author_author_id FOREIGN KEY (author_id) REFERENCES author(id);
+ALTER TABLE novel_category ADD CONSTRAINT fk_novel_category_novel_id FOREIGN KEY (novel_id) REFERENCES novel(id);
+ALTER TABLE novel_category ADD CONSTRAINT fk_novel_category_category_id FOREIGN KEY (category_id) REFERENCES category(id);
+ALTER TABLE episode ADD CONSTRAINT fk_episode_novel_id FOREIGN KEY (novel_id) REFERENCES novel(id);
+ALTER TABLE reading_log ADD CONSTRAINT fk_reading_log_member_id FOREIGN KEY (member_id) REFERENCES member(id);
+ALTER TABLE reading_log ADD CONSTRAINT fk_reading_log_novel_id FOREIGN KEY (novel_id) REFERENCES novel(id);
+ALTER TABLE reading_log ADD CONSTRAINT fk_reading_log_episode_id FOREIGN KEY (episode_id) REFERENCES episode(id);
+ALTER TABLE comment ADD CONSTRAINT fk_comment_member_id FOREIGN KEY (member_id) REFERENCES member(id);
+ALTER TABLE comment ADD CONSTRAINT fk_comment_episode_id FOREIGN KEY (episode_id) REFERENCES episode(id);
+ALTER TABLE favorite ADD CONSTRAINT fk_favorite_novel_id FOREIGN KEY (novel_id) REFERENCES novel(id);
+ALTER TABLE favorite ADD CONSTRAINT fk_favorite_member_id FOREIGN KEY (member_id) REFERENCES member(id);
+ALTER TABLE bookmark ADD CONSTRAINT fk_bookmark_novel_id FOREIGN KEY (novel_id) REFERENCES novel(id);
+ALTER TABLE bookmark ADD CONSTRAINT fk_bookmark_member_id FOREIGN KEY (member_id) REFERENCES member(id);
+ALTER TABLE file_metadata ADD CONSTRAINT fk_file_metadata_episode_id FOREIGN KEY (episode_id) REFERENCES episode(id) ON DELETE CASCADE;
+ALTER TABLE file_upload_outbox ADD CONSTRAINT fk_file_upload_outbox_file_metadata_id FOREIGN KEY (file_metadata_id) REFERENCES file_metadata(id) ON DELETE CASCADE;
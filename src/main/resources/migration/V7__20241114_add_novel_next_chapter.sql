@@ -0,0 +1,7 @@
+-- 소설별 다음 회차 번호 채번 컬럼
+-- 회차 등록마다 MAX(chapter_number)를 조회하지 않고, 이 컬럼을 원자적으로 증가시켜 회차 번호를 할당합니다.
+ALTER TABLE novel ADD COLUMN next_chapter INT NOT NULL DEFAULT 1;
+
+UPDATE novel n
+    JOIN (SELECT novel_id, MAX(chapter_number) AS max_chapter FROM episode GROUP BY novel_id) e ON e.novel_id = n.id
+SET n.next_chapter = e.max_chapter + 1;
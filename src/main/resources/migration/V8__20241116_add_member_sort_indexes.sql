@@ -0,0 +1,15 @@
+-- 회원 목록 커서 조회: [WHERE role = ?] AND (정렬 필드, id) > (?, ?) ORDER BY 정렬 필드, id
+-- InnoDB 보조 인덱스는 끝에 기본 키(id)를 포함하므로 (role, 정렬 필드) 인덱스가 (role, 정렬 필드, id) 순서를 제공합니다.
+-- 기존 idx_member_role_created_at과 idx_member_email이 각각 (role, created_at), (email) 정렬을 담당합니다.
+
+-- 역할별 id 정렬: (role, id)
+CREATE INDEX idx_member_role ON member (role);
+
+CREATE INDEX idx_member_role_nickname ON member (role, nickname);
+
+CREATE INDEX idx_member_role_email ON member (role, email);
+
+-- 역할 조건 없는 정렬
+CREATE INDEX idx_member_nickname ON member (nickname);
+
+CREATE INDEX idx_member_created_at ON member (created_at);
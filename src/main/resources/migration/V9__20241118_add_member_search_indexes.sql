@@ -0,0 +1,36 @@
+-- 관리자 회원 검색 필터: 이메일/닉네임 접두사, 성별, 연령대, 가입일/마지막 로그인 기간, 탈퇴 여부
+-- 이메일/닉네임 접두사(LIKE 'prefix%')와 가입일 기간은 기존 (email), (nickname), (created_at) 및 (role, ...) 인덱스의 범위 조건으로 처리됩니다.
+
+-- Member 엔티티의 gender, age_group 컬럼이 V1에 없으므로, 컬럼이 없는 환경에서만 추가합니다.
+-- 엔티티는 두 컬럼을 nullable = false로 매핑하지만, 이미 있는 회원 행에는 채울 값이 없으므로 여기서는 NULL을 허용합니다.
+-- NOT NULL로 추가하면 MySQL이 기존 행을 'MALE'과 0으로 채우는데, 0은 AgeGroup 값이 아니어서 해당 회원을 읽을 수 없게 됩니다.
+-- 값을 채운 뒤 NOT NULL로 바꾸는 것은 별도 마이그레이션에서 처리하며, 그 전까지 검색 필터는 NULL인 회원을 조건에서 제외합니다.
+SET @add_gender = IF(
+        (SELECT COUNT(*) FROM information_schema.COLUMNS
+         WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'member' AND COLUMN_NAME = 'gender') = 0,
+        'ALTER TABLE member ADD COLUMN gender ENUM(''MALE'', ''FEMALE'', ''OTHER'') NULL',
+        'DO 0');
+PREPARE add_gender FROM @add_gender;
+EXECUTE add_gender;
+DEALLOCATE PREPARE add_gender;
+
+SET @add_age_group = IF(
+        (SELECT COUNT(*) FROM information_schema.COLUMNS
+         WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'member' AND COLUMN_NAME = 'age_group') = 0,
+        'ALTER TABLE member ADD COLUMN age_group TINYINT UNSIGNED NULL',
+        'DO 0');
+PREPARE add_age_group FROM @add_age_group;
+EXECUTE add_age_group;
+DEALLOCATE PREPARE add_age_group;
+
+-- 성별 단독 또는 성별 + 연령대
+CREATE INDEX idx_member_gender_age_group ON member (gender, age_group);
+
+-- 연령대 단독
+CREATE INDEX idx_member_age_group ON member (age_group);
+
+-- 마지막 로그인 기간
+CREATE INDEX idx_member_last_login ON member (last_login);
+
+-- 탈퇴 회원 조회: deleted_at IS NOT NULL 은 소수의 행만 읽습니다.
+CREATE INDEX idx_member_deleted_at ON member (deleted_at);
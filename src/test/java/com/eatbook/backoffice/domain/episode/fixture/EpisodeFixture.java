@@ -1,5 +1,6 @@
 package com.eatbook.backoffice.domain.episode.fixture;
 
+import com.eatbook.backoffice.domain.novel.service.FileService.StagedFile;
 import com.eatbook.backoffice.entity.Episode;
 import com.eatbook.backoffice.entity.FileMetadata;
 import com.eatbook.backoffice.entity.Novel;
@@ -19,6 +20,7 @@ public class EpisodeFixture {
     public static final String summary = "Valid Episode Summary";
     public static final int publicationYear = 1800;
     public static final MultipartFile file = null;
+    public static final StagedFile stagedFile = new StagedFile("staging/" + fileMetadataId, 1024);
 
     // 헬퍼 메서드: FileMetadata ID 설정
     public static FileMetadata createFileMetadataWithId(String id) {
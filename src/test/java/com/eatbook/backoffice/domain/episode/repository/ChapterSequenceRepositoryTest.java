@@ -0,0 +1,104 @@
+package com.eatbook.backoffice.domain.episode.repository;
+
+import com.eatbook.backoffice.domain.episode.repository.jdbc.ChapterSequenceRepository;
+import com.eatbook.backoffice.global.utils.BinaryUuid;
+import com.eatbook.backoffice.global.utils.UuidGenerator;
+import com.eatbook.backoffice.support.MySqlTestSupport;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers(disabledWithoutDocker = true)
+class ChapterSequenceRepositoryTest {
+
+    private static final int THREAD_COUNT = 16;
+    private static final int ALLOCATIONS_PER_THREAD = 50;
+
+    @Container
+    private static final MySQLContainer<?> mysql = MySqlTestSupport.container();
+
+    private static JdbcTemplate jdbcTemplate;
+    private static TransactionTemplate transactionTemplate;
+    private static ChapterSequenceRepository chapterSequenceRepository;
+
+    @BeforeAll
+    static void setUp() {
+        MySqlTestSupport.migrate(mysql);
+
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                mysql.getJdbcUrl(), mysql.getUsername(), mysql.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        chapterSequenceRepository = new ChapterSequenceRepository(jdbcTemplate);
+    }
+
+    @Test
+    void should_AllocateUniqueContiguousChapters_When_AllocatingConcurrentlyForOneNovel() throws Exception {
+        // given
+        String novelId = insertNovel();
+        ConcurrentLinkedQueue<Integer> chapters = new ConcurrentLinkedQueue<>();
+        CountDownLatch start = new CountDownLatch(1);
+
+        // when
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREAD_COUNT; t++) {
+            // 일부 스레드는 일괄 등록처럼 여러 회차를 한 번에 할당합니다.
+            int count = t % 4 == 0 ? 3 : 1;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < ALLOCATIONS_PER_THREAD; i++) {
+                    int first = transactionTemplate.execute(status ->
+                            chapterSequenceRepository.allocate(novelId, count).orElseThrow());
+                    IntStream.range(first, first + count).forEach(chapters::add);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // then
+        int total = chapters.size();
+        assertThat(chapters).doesNotHaveDuplicates();
+        assertThat(chapters).containsExactlyInAnyOrderElementsOf(IntStream.rangeClosed(1, total).boxed().toList());
+        assertThat(jdbcTemplate.queryForObject("SELECT next_chapter FROM novel WHERE id = ?", Integer.class,
+                BinaryUuid.toBytes(novelId))).isEqualTo(total + 1);
+    }
+
+    @Test
+    void should_ReturnEmpty_When_NovelDoesNotExist() {
+        OptionalInt chapter = transactionTemplate.execute(status ->
+                chapterSequenceRepository.allocate(UuidGenerator.generate(), 1));
+
+        assertThat(chapter).isEmpty();
+    }
+
+    private static String insertNovel() {
+        String novelId = UuidGenerator.generate();
+        jdbcTemplate.update("INSERT INTO novel (id, title, is_completed) VALUES (?, ?, FALSE)",
+                BinaryUuid.toBytes(novelId), "title-" + novelId);
+        return novelId;
+    }
+}
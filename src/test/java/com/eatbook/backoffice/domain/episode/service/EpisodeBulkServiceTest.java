@@ -0,0 +1,361 @@
+package com.eatbook.backoffice.domain.episode.service;
+
+import com.eatbook.backoffice.domain.episode.dto.EpisodeBulkRequest;
+import com.eatbook.backoffice.domain.episode.dto.EpisodeBulkResponse;
+import com.eatbook.backoffice.domain.episode.dto.EpisodeBulkResult;
+import com.eatbook.backoffice.domain.episode.event.FileUploadRequestedEvent;
+import com.eatbook.backoffice.domain.episode.exception.EpisodeBulkRequestException;
+import com.eatbook.backoffice.domain.episode.repository.EpisodeRepository;
+import com.eatbook.backoffice.domain.episode.repository.FileMetadataRepository;
+import com.eatbook.backoffice.domain.episode.repository.FileUploadOutboxRepository;
+import com.eatbook.backoffice.domain.episode.repository.jdbc.ChapterSequenceRepository;
+import com.eatbook.backoffice.domain.novel.exception.NovelNotFoundException;
+import com.eatbook.backoffice.domain.novel.repository.NovelRepository;
+import com.eatbook.backoffice.domain.novel.service.FileService;
+import com.eatbook.backoffice.domain.novel.service.FileService.StagedFile;
+import com.eatbook.backoffice.entity.Episode;
+import com.eatbook.backoffice.entity.FileUploadOutbox;
+import com.eatbook.backoffice.entity.constant.ReleaseStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.TreeMap;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static com.eatbook.backoffice.domain.episode.fixture.EpisodeFixture.createNovelWithId;
+import static com.eatbook.backoffice.domain.episode.fixture.EpisodeFixture.novelId;
+import static com.eatbook.backoffice.domain.episode.fixture.EpisodeFixture.novelTitle;
+import static com.eatbook.backoffice.domain.episode.fixture.EpisodeFixture.publicationYear;
+import static com.eatbook.backoffice.domain.episode.fixture.EpisodeFixture.summary;
+import static com.eatbook.backoffice.domain.episode.response.EpisodeErrorCode.EPISODE_ARCHIVE_TOO_LARGE;
+import static com.eatbook.backoffice.domain.episode.response.EpisodeErrorCode.EPISODE_BULK_TITLE_MISMATCH;
+import static com.eatbook.backoffice.domain.episode.response.EpisodeErrorCode.EPISODE_TITLE_TOO_LONG;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EpisodeBulkServiceTest {
+
+    @Mock
+    private EpisodeRepository episodeRepository;
+    @Mock
+    private NovelRepository novelRepository;
+    @Mock
+    private FileMetadataRepository fileMetadataRepository;
+    @Mock
+    private FileUploadOutboxRepository fileUploadOutboxRepository;
+    @Mock
+    private ChapterSequenceRepository chapterSequenceRepository;
+    @Mock
+    private FileService fileService;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ThreadPoolTaskExecutor fileStagingExecutor;
+    private EpisodeBulkService episodeBulkService;
+
+    @BeforeEach
+    void setUp() {
+        fileStagingExecutor = new ThreadPoolTaskExecutor();
+        fileStagingExecutor.setCorePoolSize(2);
+        fileStagingExecutor.setMaxPoolSize(2);
+        fileStagingExecutor.initialize();
+
+        episodeBulkService = new EpisodeBulkService(
+                episodeRepository,
+                novelRepository,
+                fileMetadataRepository,
+                fileUploadOutboxRepository,
+                chapterSequenceRepository,
+                fileService,
+                eventPublisher,
+                new TransactionTemplate(transactionManager),
+                fileStagingExecutor);
+        ReflectionTestUtils.setField(episodeBulkService, "episodeDirectory", "episodes");
+        ReflectionTestUtils.setField(episodeBulkService, "scriptDirectory", "scripts");
+        ReflectionTestUtils.setField(episodeBulkService, "privateBucket", "eatbook-private");
+        ReflectionTestUtils.setField(episodeBulkService, "region", "ap-northeast-2");
+        ReflectionTestUtils.setField(episodeBulkService, "maxCount", 10);
+        ReflectionTestUtils.setField(episodeBulkService, "maxEntrySize", DataSize.ofBytes(16));
+        ReflectionTestUtils.setField(episodeBulkService, "maxTotalSize", DataSize.ofBytes(24));
+
+        lenient().when(fileService.stageFile(any(MultipartFile.class), anyString())).thenAnswer(invocation -> {
+            MultipartFile file = invocation.getArgument(0);
+            return stage(file.getInputStream(), invocation.getArgument(1));
+        });
+        lenient().when(fileService.stageFile(any(Path.class), anyString())).thenAnswer(invocation -> {
+            Path file = invocation.getArgument(0);
+            try (InputStream inputStream = Files.newInputStream(file)) {
+                return stage(inputStream, invocation.getArgument(1));
+            }
+        });
+        lenient().when(fileService.generatePresignedGetUrls(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> objectKeys = invocation.getArgument(0);
+            Map<String, String> presignedUrls = new LinkedHashMap<>();
+            objectKeys.forEach(key -> presignedUrls.put(key, "https://s3.test/" + key));
+            return presignedUrls;
+        });
+        lenient().when(novelRepository.getReferenceById(novelId))
+                .thenReturn(createNovelWithId(novelId, novelTitle, summary, publicationYear));
+    }
+
+    @AfterEach
+    void tearDown() {
+        fileStagingExecutor.shutdown();
+    }
+
+    @Test
+    void should_AllocateChaptersOnceAndSkipInvalidItems_When_CreatingEpisodesFromFiles() {
+        // given
+        List<MultipartFile> files = List.of(
+                script("001 Prologue.txt", "prologue"),
+                script("002 Registered.txt", "registered"),
+                script("003 Empty.txt", ""),
+                script("004 Epilogue.txt", "epilogue"));
+
+        when(episodeRepository.findTitlesByNovelIdAndTitleIn(eq(novelId), anyCollection()))
+                .thenReturn(List.of("002 Registered"));
+        when(chapterSequenceRepository.allocate(novelId, 2)).thenReturn(OptionalInt.of(10));
+
+        // when
+        EpisodeBulkResponse response = episodeBulkService.createEpisodes(request(null), files);
+
+        // then
+        assertThat(response.createdCount()).isEqualTo(2);
+        assertThat(response.results())
+                .extracting(EpisodeBulkResult::status)
+                .containsExactly(
+                        EpisodeBulkResult.Status.CREATED,
+                        EpisodeBulkResult.Status.DUPLICATED,
+                        EpisodeBulkResult.Status.INVALID,
+                        EpisodeBulkResult.Status.CREATED);
+        assertThat(response.results())
+                .extracting(EpisodeBulkResult::chapter)
+                .containsExactly(10, null, null, 11);
+        assertThat(response.results().get(0).presignedUrl()).contains(response.results().get(0).episodeId());
+
+        // 회차 번호 할당과 저장은 유효한 항목 수와 관계없이 한 번씩만 실행되어야 합니다.
+        verify(chapterSequenceRepository, times(1)).allocate(anyString(), anyInt());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Episode>> episodesCaptor = ArgumentCaptor.forClass(List.class);
+        verify(episodeRepository).saveAll(episodesCaptor.capture());
+        assertThat(episodesCaptor.getValue())
+                .extracting(Episode::getTitle)
+                .containsExactly("001 Prologue", "004 Epilogue");
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<FileUploadOutbox>> outboxesCaptor = ArgumentCaptor.forClass(List.class);
+        verify(fileUploadOutboxRepository).saveAll(outboxesCaptor.capture());
+        assertThat(outboxesCaptor.getValue()).hasSize(2);
+
+        verify(eventPublisher, times(2)).publishEvent(any(FileUploadRequestedEvent.class));
+        verify(fileService, times(2)).deleteStagedFile(anyString());
+        verify(fileService, never()).publishStagedFile(anyString(), anyString(), anyString(), anyString());
+    }
+
+    @Test
+    void should_MarkItemFailedAndCreateOthers_When_StagingOneFileFails() {
+        // given
+        List<MultipartFile> files = List.of(
+                script("001 First.txt", "first"),
+                script("002 Broken.txt", "broken"),
+                script("003 Third.txt", "third"));
+
+        when(fileService.stageFile(same(files.get(1)), anyString()))
+                .thenThrow(new RuntimeException("업로드 파일 임시 저장 실패"));
+        when(episodeRepository.findTitlesByNovelIdAndTitleIn(eq(novelId), anyCollection())).thenReturn(List.of());
+        when(chapterSequenceRepository.allocate(novelId, 2)).thenReturn(OptionalInt.of(1));
+
+        // when
+        EpisodeBulkResponse response = episodeBulkService.createEpisodes(request(null), files);
+
+        // then
+        assertThat(response.results())
+                .extracting(EpisodeBulkResult::title, EpisodeBulkResult::status, EpisodeBulkResult::chapter)
+                .containsExactly(
+                        tuple("001 First", EpisodeBulkResult.Status.CREATED, 1),
+                        tuple("002 Broken", EpisodeBulkResult.Status.FAILED, null),
+                        tuple("003 Third", EpisodeBulkResult.Status.CREATED, 2));
+        assertThat(response.results().get(1).message()).isEqualTo("업로드 파일 임시 저장 실패");
+        verify(fileService, never()).deleteStagedFile(anyString());
+    }
+
+    @Test
+    void should_DeleteOnlyStagedFiles_When_SavingFailsAfterPartialStaging() {
+        // given
+        List<MultipartFile> files = List.of(script("001.txt", "one"), script("002.txt", "two"));
+
+        when(fileService.stageFile(same(files.get(0)), anyString())).thenThrow(new RuntimeException("timeout"));
+        when(episodeRepository.findTitlesByNovelIdAndTitleIn(eq(novelId), anyCollection())).thenReturn(List.of());
+        when(chapterSequenceRepository.allocate(novelId, 1)).thenReturn(OptionalInt.empty());
+
+        // when
+        assertThrows(NovelNotFoundException.class, () -> episodeBulkService.createEpisodes(request(null), files));
+
+        // then
+        verify(fileService).deleteStagedFiles(argThat(keys -> keys.size() == 1 && !keys.contains(null)));
+    }
+
+    @Test
+    void should_AssignChaptersInEntryNameOrder_When_CreatingEpisodesFromArchive() throws IOException {
+        // given
+        MultipartFile archive = new MockMultipartFile("archive", "episodes.zip", "application/zip", zip(
+                Map.of(
+                        "serial/002 Second.txt", "second",
+                        "serial/001 First.txt", "first",
+                        "__MACOSX/serial/._001 First.txt", "metadata",
+                        "serial/.DS_Store", "metadata")));
+
+        when(episodeRepository.findTitlesByNovelIdAndTitleIn(eq(novelId), anyCollection())).thenReturn(List.of());
+        when(chapterSequenceRepository.allocate(novelId, 2)).thenReturn(OptionalInt.of(1));
+
+        // when
+        EpisodeBulkResponse response = episodeBulkService.createEpisodesFromArchive(request(null), archive);
+
+        // then
+        assertThat(response.results())
+                .extracting(EpisodeBulkResult::title, EpisodeBulkResult::chapter)
+                .containsExactly(
+                        tuple("001 First", 1),
+                        tuple("002 Second", 2));
+    }
+
+    @Test
+    void should_RejectArchive_When_EntryExceedsUncompressedLimit() throws IOException {
+        // given
+        MultipartFile archive = new MockMultipartFile("archive", "episodes.zip", "application/zip", zip(
+                Map.of("001 First.txt", "x".repeat(1024))));
+
+        // when
+        EpisodeBulkRequestException exception = assertThrows(EpisodeBulkRequestException.class,
+                () -> episodeBulkService.createEpisodesFromArchive(request(null), archive));
+
+        // then
+        assertThat(exception.getErrorCode()).isEqualTo(EPISODE_ARCHIVE_TOO_LARGE);
+        verify(chapterSequenceRepository, never()).allocate(anyString(), anyInt());
+    }
+
+    @Test
+    void should_RejectArchiveBeforeStaging_When_TotalExceedsUncompressedLimit() throws IOException {
+        // given
+        Map<String, String> entries = new TreeMap<>(Map.of(
+                "001 First.txt", "x".repeat(16),
+                "002 Second.txt", "x".repeat(16)));
+        MultipartFile archive = new MockMultipartFile("archive", "episodes.zip", "application/zip", zip(entries));
+
+        // when
+        EpisodeBulkRequestException exception = assertThrows(EpisodeBulkRequestException.class,
+                () -> episodeBulkService.createEpisodesFromArchive(request(null), archive));
+
+        // then
+        assertThat(exception.getErrorCode()).isEqualTo(EPISODE_ARCHIVE_TOO_LARGE);
+        // 항목을 모두 로컬에 풀기 전에 제한을 넘었으므로 S3에는 아무것도 저장하지 않습니다.
+        verify(fileService, never()).stageFile(any(Path.class), anyString());
+        verify(chapterSequenceRepository, never()).allocate(anyString(), anyInt());
+    }
+
+    @Test
+    void should_ThrowEpisodeBulkRequestException_When_TitleIsTooLong() {
+        // given
+        List<MultipartFile> files = List.of(script("001.txt", "one"), script("002.txt", "two"));
+
+        // when
+        EpisodeBulkRequestException exception = assertThrows(EpisodeBulkRequestException.class,
+                () -> episodeBulkService.createEpisodes(request(List.of("First", "t".repeat(256))), files));
+
+        // then
+        assertThat(exception.getErrorCode()).isEqualTo(EPISODE_TITLE_TOO_LONG);
+        verify(chapterSequenceRepository, never()).allocate(anyString(), anyInt());
+        verify(fileService).deleteStagedFiles(argThat(keys -> keys.size() == 2));
+    }
+
+    @Test
+    void should_DeleteAllStagedFiles_When_NovelDoesNotExist() {
+        // given
+        List<MultipartFile> files = List.of(script("001.txt", "one"), script("002.txt", "two"));
+
+        when(episodeRepository.findTitlesByNovelIdAndTitleIn(eq(novelId), anyCollection())).thenReturn(List.of());
+        when(chapterSequenceRepository.allocate(novelId, 2)).thenReturn(OptionalInt.empty());
+
+        // when
+        assertThrows(NovelNotFoundException.class, () -> episodeBulkService.createEpisodes(request(null), files));
+
+        // then
+        verify(fileService).deleteStagedFiles(argThat(keys -> keys.size() == 2));
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void should_ThrowEpisodeBulkRequestException_When_TitleCountDiffersFromFileCount() {
+        // given
+        List<MultipartFile> files = List.of(script("001.txt", "one"), script("002.txt", "two"));
+
+        // when
+        EpisodeBulkRequestException exception = assertThrows(EpisodeBulkRequestException.class,
+                () -> episodeBulkService.createEpisodes(request(List.of("Only One")), files));
+
+        // then
+        assertThat(exception.getErrorCode()).isEqualTo(EPISODE_BULK_TITLE_MISMATCH);
+        verify(chapterSequenceRepository, never()).allocate(anyString(), anyInt());
+        verify(fileService).deleteStagedFiles(argThat(keys -> keys.size() == 2));
+    }
+
+    private static EpisodeBulkRequest request(List<String> titles) {
+        return EpisodeBulkRequest.builder()
+                .novelId(novelId)
+                .titles(titles)
+                .releaseStatus(ReleaseStatus.PUBLIC)
+                .build();
+    }
+
+    private static MultipartFile script(String fileName, String content) {
+        return new MockMultipartFile("files", fileName, "text/plain", content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static StagedFile stage(InputStream inputStream, String fileName) throws IOException {
+        return new StagedFile("staging/" + fileName, inputStream.readAllBytes().length);
+    }
+
+    private static byte[] zip(Map<String, String> entries) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(bytes)) {
+            for (Map.Entry<String, String> entry : entries.entrySet()) {
+                zip.putNextEntry(new ZipEntry(entry.getKey()));
+                zip.write(entry.getValue().getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            }
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -1,24 +1,43 @@
 package com.eatbook.backoffice.domain.episode.service;
 
+import com.eatbook.backoffice.domain.episode.dto.EpisodeDetailResponse;
 import com.eatbook.backoffice.domain.episode.dto.EpisodeRequest;
 import com.eatbook.backoffice.domain.episode.dto.EpisodeResponse;
+import com.eatbook.backoffice.domain.episode.event.FileUploadRequestedEvent;
 import com.eatbook.backoffice.domain.episode.exception.EpisodeAlreadyExistsException;
 import com.eatbook.backoffice.domain.episode.repository.EpisodeRepository;
 import com.eatbook.backoffice.domain.episode.repository.FileMetadataRepository;
+import com.eatbook.backoffice.domain.episode.repository.FileUploadOutboxRepository;
+import com.eatbook.backoffice.domain.episode.repository.jdbc.ChapterSequenceRepository;
 import com.eatbook.backoffice.domain.novel.repository.NovelRepository;
 import com.eatbook.backoffice.domain.novel.service.FileService;
+import com.eatbook.backoffice.domain.statistics.service.ViewCountService;
 import com.eatbook.backoffice.entity.Episode;
 import com.eatbook.backoffice.entity.FileMetadata;
+import com.eatbook.backoffice.entity.FileUploadOutbox;
 import com.eatbook.backoffice.entity.Novel;
 import com.eatbook.backoffice.entity.constant.ContentType;
+import com.eatbook.backoffice.entity.constant.FileStatus;
 import com.eatbook.backoffice.entity.constant.ReleaseStatus;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
+import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
 import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
 
 import static com.eatbook.backoffice.domain.episode.fixture.EpisodeFixture.*;
 import static com.eatbook.backoffice.domain.episode.response.EpisodeErrorCode.EPISODE_TITLE_DUPLICATED;
@@ -40,12 +59,40 @@ class EpisodeServiceTest {
     @Mock
     private FileMetadataRepository fileMetadataRepository;
 
+    @Mock
+    private FileUploadOutboxRepository fileUploadOutboxRepository;
+
+    @Mock
+    private ChapterSequenceRepository chapterSequenceRepository;
+
     @Mock
     private FileService fileService;
 
-    @InjectMocks
+    @Mock
+    private ViewCountService viewCountService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     private EpisodeService episodeService;
 
+    @BeforeEach
+    void setUp() {
+        episodeService = new EpisodeService(
+                episodeRepository,
+                novelRepository,
+                fileMetadataRepository,
+                fileUploadOutboxRepository,
+                chapterSequenceRepository,
+                fileService,
+                viewCountService,
+                eventPublisher,
+                new TransactionTemplate(transactionManager));
+    }
+
     @Test
     void should_CreateEpisodeAndFileMetadata_When_TitleIsUniqueAndNovelExists() {
         // Given
@@ -61,17 +108,57 @@ class EpisodeServiceTest {
 
         when(novelRepository.findById(novelId)).thenReturn(Optional.of(novel));
         when(episodeRepository.findByTitleAndNovelId(episodeRequest.title(), episodeRequest.novelId())).thenReturn(Optional.empty());
-        when(episodeRepository.findMaxChapterNumberByNovelId(novelId)).thenReturn(1);
+        when(chapterSequenceRepository.allocate(novelId, 1)).thenReturn(OptionalInt.of(2));
         when(episodeRepository.save(any(Episode.class))).thenReturn(episode);
         when(fileMetadataRepository.save(any(FileMetadata.class))).thenReturn(fileMetadata);
+        when(fileService.stageFile(eq(file), anyString())).thenReturn(stagedFile);
+        when(fileUploadOutboxRepository.save(any(FileUploadOutbox.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // When
         EpisodeResponse episodeResponse = episodeService.createEpisode(episodeRequest, file);
 
         // Then
         assertThat(episodeResponse.episodeId()).isEqualTo(episodeId);
-        verify(episodeRepository, times(1)).save(any(Episode.class));
-        verify(fileMetadataRepository, times(2)).save(any(FileMetadata.class));
+        ArgumentCaptor<Episode> episodeCaptor = ArgumentCaptor.forClass(Episode.class);
+        verify(episodeRepository, times(1)).save(episodeCaptor.capture());
+        assertThat(episodeCaptor.getValue().getChapterNumber()).isEqualTo(2);
+        verify(fileMetadataRepository, times(1)).save(any(FileMetadata.class));
+    }
+
+    @Test
+    void should_RecordOutboxInsteadOfUploading_When_CreatingEpisode() throws IOException {
+        // Given
+        EpisodeRequest episodeRequest = EpisodeRequest.builder()
+                .title(episodeTitle)
+                .novelId(novelId)
+                .releaseStatus(ReleaseStatus.PUBLIC)
+                .build();
+
+        Novel novel = createNovelWithId(novelId, novelTitle, summary, publicationYear);
+        Episode episode = createEpisodeWithId(episodeId, episodeRequest.title(), ReleaseStatus.PUBLIC);
+        FileMetadata fileMetadata = createFileMetadataWithId(fileMetadataId);
+
+        when(novelRepository.findById(novelId)).thenReturn(Optional.of(novel));
+        when(episodeRepository.findByTitleAndNovelId(episodeRequest.title(), episodeRequest.novelId())).thenReturn(Optional.empty());
+        when(chapterSequenceRepository.allocate(novelId, 1)).thenReturn(OptionalInt.of(1));
+        when(episodeRepository.save(any(Episode.class))).thenReturn(episode);
+        when(fileMetadataRepository.save(any(FileMetadata.class))).thenReturn(fileMetadata);
+        when(fileService.stageFile(eq(file), anyString())).thenReturn(stagedFile);
+        when(fileUploadOutboxRepository.save(any(FileUploadOutbox.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        episodeService.createEpisode(episodeRequest, file);
+
+        // Then
+        ArgumentCaptor<FileUploadOutbox> outboxCaptor = ArgumentCaptor.forClass(FileUploadOutbox.class);
+        verify(fileUploadOutboxRepository).save(outboxCaptor.capture());
+        assertThat(outboxCaptor.getValue().getFileMetadataId()).isEqualTo(fileMetadataId);
+        assertThat(outboxCaptor.getValue().getStagingKey()).isEqualTo(stagedFile.key());
+        assertThat(fileMetadata.getStatus()).isEqualTo(FileStatus.PENDING);
+
+        verify(eventPublisher).publishEvent(any(FileUploadRequestedEvent.class));
+        verify(fileService, never()).uploadFileToBucket(anyString(), any(), anyString(), anyString());
+        verify(fileService, never()).publishStagedFile(anyString(), anyString(), anyString(), anyString());
     }
 
     @Test
@@ -93,5 +180,92 @@ class EpisodeServiceTest {
 
         // Then
         assertThat(exception.getMessage()).contains(EPISODE_TITLE_DUPLICATED.getMessage());
+        verify(fileService, never()).stageFile(Mockito.<MultipartFile>any(), anyString());
+    }
+
+    @Test
+    void should_StageFileBeforeTransaction_When_CreatingEpisode() {
+        // Given
+        EpisodeRequest episodeRequest = EpisodeRequest.builder()
+                .title(episodeTitle)
+                .novelId(novelId)
+                .releaseStatus(ReleaseStatus.PUBLIC)
+                .build();
+
+        Novel novel = createNovelWithId(novelId, novelTitle, summary, publicationYear);
+        Episode episode = createEpisodeWithId(episodeId, episodeRequest.title(), ReleaseStatus.PUBLIC);
+        FileMetadata fileMetadata = createFileMetadataWithId(fileMetadataId);
+
+        when(novelRepository.findById(novelId)).thenReturn(Optional.of(novel));
+        when(episodeRepository.findByTitleAndNovelId(episodeRequest.title(), episodeRequest.novelId())).thenReturn(Optional.empty());
+        when(chapterSequenceRepository.allocate(novelId, 1)).thenReturn(OptionalInt.of(1));
+        when(episodeRepository.save(any(Episode.class))).thenReturn(episode);
+        when(fileMetadataRepository.save(any(FileMetadata.class))).thenReturn(fileMetadata);
+        when(fileService.stageFile(eq(file), anyString())).thenReturn(stagedFile);
+        when(fileUploadOutboxRepository.save(any(FileUploadOutbox.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        episodeService.createEpisode(episodeRequest, file);
+
+        // Then
+        InOrder inOrder = inOrder(fileService, transactionManager, chapterSequenceRepository);
+        inOrder.verify(fileService).stageFile(eq(file), anyString());
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(chapterSequenceRepository).allocate(novelId, 1);
+        inOrder.verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void should_DeleteStagedFile_When_SavingEpisodeFails() {
+        // Given
+        EpisodeRequest episodeRequest = EpisodeRequest.builder()
+                .title(episodeTitle)
+                .novelId(novelId)
+                .releaseStatus(ReleaseStatus.PUBLIC)
+                .build();
+
+        Novel novel = createNovelWithId(novelId, novelTitle, summary, publicationYear);
+
+        when(novelRepository.findById(novelId)).thenReturn(Optional.of(novel));
+        when(episodeRepository.findByTitleAndNovelId(episodeRequest.title(), episodeRequest.novelId())).thenReturn(Optional.empty());
+        when(chapterSequenceRepository.allocate(novelId, 1)).thenReturn(OptionalInt.of(1));
+        when(episodeRepository.save(any(Episode.class))).thenThrow(new DataIntegrityViolationException("duplicate chapter"));
+        when(fileService.stageFile(eq(file), anyString())).thenReturn(stagedFile);
+
+        // When
+        assertThrows(DataIntegrityViolationException.class,
+                () -> episodeService.createEpisode(episodeRequest, file));
+
+        // Then
+        verify(transactionManager).rollback(any());
+        verify(fileService).deleteStagedFile(stagedFile.key());
+        verify(fileUploadOutboxRepository, never()).save(any(FileUploadOutbox.class));
+        verify(eventPublisher, never()).publishEvent(any(FileUploadRequestedEvent.class));
+    }
+
+    @Test
+    void should_IncludePendingViews_When_GettingEpisodeDetails() {
+        // Given
+        Novel novel = createNovelWithId(novelId, novelTitle, summary, publicationYear);
+        Episode episode = Episode.builder()
+                .title(episodeTitle)
+                .releaseStatus(ReleaseStatus.PUBLIC)
+                .viewCount(7)
+                .novel(novel)
+                .build();
+
+        when(episodeRepository.findById(episode.getId())).thenReturn(Optional.of(episode));
+        when(viewCountService.recordEpisodeView(eq(episode.getId()), any(), any())).thenAnswer(invocation -> {
+            Supplier<Episode> loader = invocation.getArgument(1);
+            BiFunction<Episode, Integer, EpisodeDetailResponse> mapper = invocation.getArgument(2);
+            return mapper.apply(loader.get(), 3);
+        });
+
+        // When
+        EpisodeDetailResponse response = episodeService.getEpisodeDetails(episode.getId());
+
+        // Then
+        assertThat(response.viewCount()).isEqualTo(10);
+        verify(episodeRepository).findById(episode.getId());
     }
-}
\ No newline at end of file
+}
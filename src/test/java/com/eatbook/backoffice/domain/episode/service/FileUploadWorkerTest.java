@@ -0,0 +1,118 @@
+package com.eatbook.backoffice.domain.episode.service;
+
+import com.eatbook.backoffice.domain.novel.service.FileService;
+import com.eatbook.backoffice.entity.FileUploadOutbox;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FileUploadWorkerTest {
+
+    private static final String BUCKET = "eatbook-private";
+    private static final String OBJECT_KEY = "novels/episodes/scripts/episode.txt";
+    private static final String STAGING_KEY = "staging/episode";
+
+    @Mock
+    private FileService fileService;
+    @Mock
+    private FileUploadOutboxService fileUploadOutboxService;
+    @Mock
+    private ThreadPoolTaskExecutor fileUploadExecutor;
+
+    @InjectMocks
+    private FileUploadWorker fileUploadWorker;
+
+    private final FileUploadOutbox outbox = FileUploadOutbox.builder()
+            .fileMetadataId("file-metadata-id")
+            .bucket(BUCKET)
+            .objectKey(OBJECT_KEY)
+            .contentType("text/plain")
+            .stagingKey(STAGING_KEY)
+            .build();
+
+    @Test
+    void should_CompleteAndDeleteStagedObject_When_Published() {
+        // given
+        when(fileUploadOutboxService.claim(outbox.getId())).thenReturn(Optional.of(outbox));
+        when(fileService.publishStagedFile(STAGING_KEY, OBJECT_KEY, "text/plain", BUCKET)).thenReturn(true);
+
+        // when
+        fileUploadWorker.process(outbox.getId());
+
+        // then
+        verify(fileUploadOutboxService).complete(outbox);
+        verify(fileService).deleteStagedFile(STAGING_KEY);
+        verify(fileUploadOutboxService, never()).recordFailure(any(), any(), anyBoolean());
+    }
+
+    @Test
+    void should_ScheduleRetry_When_StagedObjectIsMissing() {
+        // given
+        when(fileUploadOutboxService.claim(outbox.getId())).thenReturn(Optional.of(outbox));
+        when(fileService.publishStagedFile(anyString(), anyString(), anyString(), anyString())).thenReturn(false);
+        when(fileService.objectExists(OBJECT_KEY, BUCKET)).thenReturn(false);
+
+        // when
+        fileUploadWorker.process(outbox.getId());
+
+        // then
+        verify(fileUploadOutboxService).recordFailure(eq(outbox), any(NoSuchKeyException.class), eq(true));
+        verify(fileUploadOutboxService, never()).complete(any());
+        verify(fileService, never()).deleteStagedFile(anyString());
+    }
+
+    @Test
+    void should_Complete_When_StagedObjectIsMissingButAlreadyPublished() {
+        // given
+        when(fileUploadOutboxService.claim(outbox.getId())).thenReturn(Optional.of(outbox));
+        when(fileService.publishStagedFile(anyString(), anyString(), anyString(), anyString())).thenReturn(false);
+        when(fileService.objectExists(OBJECT_KEY, BUCKET)).thenReturn(true);
+
+        // when
+        fileUploadWorker.process(outbox.getId());
+
+        // then
+        verify(fileUploadOutboxService).complete(outbox);
+        verify(fileUploadOutboxService, never()).recordFailure(any(), any(), anyBoolean());
+    }
+
+    @Test
+    void should_ScheduleRetry_When_PublishFails() {
+        // given
+        RuntimeException failure = new RuntimeException("S3 unavailable");
+        when(fileUploadOutboxService.claim(outbox.getId())).thenReturn(Optional.of(outbox));
+        when(fileService.publishStagedFile(anyString(), anyString(), anyString(), anyString())).thenThrow(failure);
+
+        // when
+        fileUploadWorker.process(outbox.getId());
+
+        // then
+        verify(fileUploadOutboxService).recordFailure(outbox, failure, true);
+        verify(fileUploadOutboxService, never()).complete(any());
+    }
+
+    @Test
+    void should_DoNothing_When_OutboxAlreadyClaimed() {
+        // given
+        when(fileUploadOutboxService.claim("claimed")).thenReturn(Optional.empty());
+
+        // when
+        fileUploadWorker.process("claimed");
+
+        // then
+        verifyNoInteractions(fileService);
+    }
+}
@@ -0,0 +1,121 @@
+package com.eatbook.backoffice.domain.member.controller;
+
+import com.eatbook.backoffice.domain.member.dto.MemberInfo;
+import com.eatbook.backoffice.domain.member.repository.jdbc.MemberExportRepository;
+import com.eatbook.backoffice.domain.member.service.MemberExportService;
+import com.eatbook.backoffice.domain.member.service.MemberService;
+import com.eatbook.backoffice.entity.constant.SortDirection;
+import com.eatbook.backoffice.entity.constant.SortField;
+import com.eatbook.backoffice.global.config.WebAsyncConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * 회원 내보내기 응답이 비동기로 스트리밍되는지 컨트롤러부터 확인합니다.
+ * 비동기 설정과 CSV 기록이 실제로 적용되도록 WebAsyncConfig와 MemberExportService를 올리고, DB 조회만 목으로 대체합니다.
+ */
+@SpringBootTest(classes = {MemberController.class, MemberExportService.class, WebAsyncConfig.class,
+        MemberControllerTest.WebConfig.class},
+        properties = "web.async.request-timeout=5m")
+class MemberControllerTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 11, 1, 9, 0);
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @MockBean
+    private MemberService memberService;
+    @MockBean
+    private MemberExportRepository memberExportRepository;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+    }
+
+    @Test
+    void should_StreamCsvWithConfiguredTimeout_When_ExportingMembers() throws Exception {
+        // given
+        doAnswer(invocation -> {
+            Consumer<MemberInfo> consumer = invocation.getArgument(3);
+            consumer.accept(MemberInfo.of("id-1", "MEMBER", "lavin", null, "lavin@eatbook.com", CREATED_AT, CREATED_AT, null));
+            return null;
+        }).when(memberExportRepository).streamMembers(isNull(), eq(SortField.ID), eq(SortDirection.ASC), any());
+
+        // when
+        MvcResult result = mockMvc.perform(get("/api/admin/members/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        assertThat(result.getRequest().getAsyncContext().getTimeout()).isEqualTo(Duration.ofMinutes(5).toMillis());
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename("members.csv").build().toString()))
+                .andExpect(content().string(
+                        "id,role,nickname,email,profileImageUrl,createdAt,updatedAt\r\n" +
+                        "id-1,MEMBER,lavin,lavin@eatbook.com,,2024-11-01T09:00,2024-11-01T09:00\r\n"));
+    }
+
+    @Test
+    void should_EscapeFormulaPrefixes_When_ExportingCsv() throws Exception {
+        // given
+        doAnswer(invocation -> {
+            Consumer<MemberInfo> consumer = invocation.getArgument(3);
+            consumer.accept(MemberInfo.of("id-1", "MEMBER", "\t=1+1", null, "\r@SUM(A1)", CREATED_AT, CREATED_AT, null));
+            return null;
+        }).when(memberExportRepository).streamMembers(any(), any(), any(), any());
+
+        // when
+        MvcResult result = mockMvc.perform(get("/api/admin/members/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().string(
+                        "id,role,nickname,email,profileImageUrl,createdAt,updatedAt\r\n" +
+                        "id-1,MEMBER,'\t=1+1,\"'\r@SUM(A1)\",,2024-11-01T09:00,2024-11-01T09:00\r\n"));
+    }
+
+    @Configuration
+    @EnableWebMvc
+    static class WebConfig {
+
+        @Bean
+        ObjectMapper objectMapper() {
+            return new ObjectMapper();
+        }
+    }
+}
@@ -2,6 +2,9 @@ package com.eatbook.backoffice.domain.member.fixture;
 
 import com.eatbook.backoffice.domain.member.dto.MemberInfo;
 import com.eatbook.backoffice.domain.member.dto.MemberListResponse;
+import com.eatbook.backoffice.entity.Member;
+import com.eatbook.backoffice.entity.constant.AgeGroup;
+import com.eatbook.backoffice.entity.constant.Gender;
 import com.eatbook.backoffice.entity.constant.Role;
 import com.eatbook.backoffice.entity.constant.SortDirection;
 import com.eatbook.backoffice.entity.constant.SortField;
@@ -17,6 +20,8 @@ public class MemberFixture {
     public static int invalidPage = 10000;
     public static SortField defaultSortField = SortField.ID;
     public static SortDirection defaultSortDirection = SortDirection.ASC;
+    public static String email = "lavin@example.com";
+    public static String password = "password1234";
 
 
 
@@ -33,6 +38,17 @@ public class MemberFixture {
         );
     }
 
+    public static Member createMember(String email, String passwordHash, Role role) {
+        return Member.builder()
+                .email(email)
+                .passwordHash(passwordHash)
+                .nickname("lavin")
+                .role(role)
+                .gender(Gender.FEMALE)
+                .ageGroup(AgeGroup.TWENTIES)
+                .build();
+    }
+
     public static MemberListResponse createMemberListResponse(int page, int size, List<MemberInfo> memberList) {
         return MemberListResponse.of(
                 memberList.size(),
@@ -0,0 +1,62 @@
+package com.eatbook.backoffice.domain.member.service;
+
+import com.eatbook.backoffice.domain.member.repository.jdbc.MemberLastLoginRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LastLoginRecorderTest {
+
+    private static final LocalDateTime FIRST_LOGIN = LocalDateTime.of(2024, 11, 20, 9, 0);
+    private static final LocalDateTime SECOND_LOGIN = FIRST_LOGIN.plusMinutes(5);
+
+    @Mock
+    private MemberLastLoginRepository memberLastLoginRepository;
+
+    @InjectMocks
+    private LastLoginRecorder lastLoginRecorder;
+
+    @Test
+    void should_WriteLatestLoginOncePerMember_When_Flushing() {
+        // given
+        lastLoginRecorder.record("member-1", SECOND_LOGIN);
+        lastLoginRecorder.record("member-1", FIRST_LOGIN);
+        lastLoginRecorder.record("member-2", FIRST_LOGIN);
+
+        // when
+        lastLoginRecorder.flush();
+        lastLoginRecorder.flush();
+
+        // then
+        verify(memberLastLoginRepository, times(1)).updateLastLogins(
+                eq(Map.of("member-1", SECOND_LOGIN, "member-2", FIRST_LOGIN)), anyInt());
+    }
+
+    @Test
+    void should_RetryOnNextFlush_When_WriteFails() {
+        // given
+        lastLoginRecorder.record("member-1", FIRST_LOGIN);
+        doThrow(new QueryTimeoutException("timeout"))
+                .doNothing()
+                .when(memberLastLoginRepository).updateLastLogins(anyMap(), anyInt());
+
+        // when
+        lastLoginRecorder.flush();
+        lastLoginRecorder.flush();
+
+        // then
+        verify(memberLastLoginRepository, times(2)).updateLastLogins(eq(Map.of("member-1", FIRST_LOGIN)), anyInt());
+    }
+}
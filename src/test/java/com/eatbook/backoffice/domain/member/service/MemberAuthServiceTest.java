@@ -0,0 +1,117 @@
+package com.eatbook.backoffice.domain.member.service;
+
+import com.eatbook.backoffice.domain.member.dto.LoginRequest;
+import com.eatbook.backoffice.domain.member.dto.LoginResponse;
+import com.eatbook.backoffice.domain.member.exception.MemberAuthenticationException;
+import com.eatbook.backoffice.domain.member.repository.MemberRepository;
+import com.eatbook.backoffice.domain.novel.service.FileService;
+import com.eatbook.backoffice.entity.Member;
+import com.eatbook.backoffice.entity.constant.Role;
+import com.eatbook.backoffice.security.auth.jwt.JwtAuthToken;
+import com.eatbook.backoffice.security.auth.jwt.JwtAuthTokenProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static com.eatbook.backoffice.domain.member.fixture.MemberFixture.createMember;
+import static com.eatbook.backoffice.domain.member.fixture.MemberFixture.email;
+import static com.eatbook.backoffice.domain.member.fixture.MemberFixture.password;
+import static com.eatbook.backoffice.global.response.GlobalErrorCode.NOT_EXIST_USER;
+import static com.eatbook.backoffice.global.response.GlobalErrorCode.USER_PASSWORD_NOT_MATCHED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MemberAuthServiceTest {
+
+    private static final String PASSWORD_HASH = "$2a$10$hashed";
+    private static final String DUMMY_HASH = "$2a$10$dummy";
+
+    @Mock
+    private MemberRepository memberRepository;
+    @Mock
+    private FileService fileService;
+    @Mock
+    private JwtAuthTokenProvider tokenProvider;
+    @Mock
+    private BCryptPasswordEncoder passwordEncoder;
+    @Mock
+    private LastLoginRecorder lastLoginRecorder;
+
+    private MemberAuthService memberAuthService;
+
+    @BeforeEach
+    void setUp() {
+        memberAuthService = new MemberAuthService(memberRepository, fileService, tokenProvider, passwordEncoder, lastLoginRecorder);
+        when(passwordEncoder.encode(anyString())).thenReturn(DUMMY_HASH);
+        memberAuthService.init();
+    }
+
+    @Test
+    void should_QueryAndVerifyPasswordOnce_When_LoginSucceeds() {
+        // given
+        Member member = createMember(email, PASSWORD_HASH, Role.ADMIN);
+        when(memberRepository.findMemberByEmail(email)).thenReturn(Optional.of(member));
+        when(passwordEncoder.matches(password, PASSWORD_HASH)).thenReturn(true);
+        when(tokenProvider.createAuthToken(eq(member.getId()), eq("ADMIN"), anyMap())).thenReturn(token("access"));
+        when(tokenProvider.createRefreshToken(member.getId())).thenReturn(token("refresh"));
+
+        // when
+        LoginResponse response = memberAuthService.login(new LoginRequest(email, password));
+
+        // then
+        assertThat(response.accessToken()).isEqualTo("access");
+        assertThat(response.refreshToken()).isEqualTo("refresh");
+        assertThat(response.role()).isEqualTo(Role.ADMIN);
+
+        verify(memberRepository, times(1)).findMemberByEmail(anyString());
+        verify(passwordEncoder, times(1)).matches(anyString(), anyString());
+        verify(lastLoginRecorder).record(eq(member.getId()), any(LocalDateTime.class));
+        verify(memberRepository, never()).save(any());
+    }
+
+    @Test
+    void should_ThrowMemberAuthenticationException_When_PasswordDoesNotMatch() {
+        // given
+        Member member = createMember(email, PASSWORD_HASH, Role.ADMIN);
+        when(memberRepository.findMemberByEmail(email)).thenReturn(Optional.of(member));
+        when(passwordEncoder.matches(password, PASSWORD_HASH)).thenReturn(false);
+
+        // when
+        MemberAuthenticationException exception = assertThrows(MemberAuthenticationException.class,
+                () -> memberAuthService.login(new LoginRequest(email, password)));
+
+        // then
+        assertThat(exception.getErrorCode()).isEqualTo(USER_PASSWORD_NOT_MATCHED);
+        verifyNoInteractions(lastLoginRecorder);
+    }
+
+    @Test
+    void should_StillVerifyPassword_When_EmailDoesNotExist() {
+        // given
+        when(memberRepository.findMemberByEmail(email)).thenReturn(Optional.empty());
+
+        // when
+        MemberAuthenticationException exception = assertThrows(MemberAuthenticationException.class,
+                () -> memberAuthService.login(new LoginRequest(email, password)));
+
+        // then
+        assertThat(exception.getErrorCode()).isEqualTo(NOT_EXIST_USER);
+        verify(passwordEncoder).matches(password, DUMMY_HASH);
+        verifyNoInteractions(lastLoginRecorder);
+    }
+
+    private static JwtAuthToken token(String value) {
+        JwtAuthToken token = mock(JwtAuthToken.class);
+        when(token.getToken()).thenReturn(value);
+        return token;
+    }
+}
@@ -0,0 +1,206 @@
+package com.eatbook.backoffice.domain.member.service;
+
+import com.eatbook.backoffice.domain.member.dto.MemberInfo;
+import com.eatbook.backoffice.domain.member.repository.jdbc.MemberExportRepository;
+import com.eatbook.backoffice.entity.constant.ExportFormat;
+import com.eatbook.backoffice.entity.constant.Role;
+import com.eatbook.backoffice.entity.constant.SortDirection;
+import com.eatbook.backoffice.entity.constant.SortField;
+import com.eatbook.backoffice.support.MySqlTestSupport;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+
+import static com.eatbook.backoffice.support.MySqlTestSupport.seedIdSql;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 100만 명의 회원을 작은 힙에서 내보내 결과를 메모리에 모으지 않는지 확인합니다.
+ * 결과 전체를 읽어 들이면 힙이 부족하도록 largeTest 태스크(maxHeapSize 128m)에서만 실행하며,
+ * Docker를 사용할 수 없는 환경에서는 건너뜁니다.
+ *
+ * <pre>
+ * ./gradlew largeTest
+ * </pre>
+ */
+@Tag("large")
+@Testcontainers(disabledWithoutDocker = true)
+class MemberExportServiceTest {
+
+    private static final int MEMBER = 1;
+    private static final int MEMBER_COUNT = 1_000_000;
+    private static final int ADMIN_COUNT = MEMBER_COUNT / 50;
+
+    @Container
+    private static final MySQLContainer<?> mysql = MySqlTestSupport.container();
+
+    private static MemberExportService memberExportService;
+
+    @BeforeAll
+    static void setUp() {
+        MySqlTestSupport.migrate(mysql);
+        seed(MySqlTestSupport.jdbcTemplate(mysql));
+
+        JdbcTemplate streamingJdbcTemplate = MySqlTestSupport.jdbcTemplate(mysql);
+        streamingJdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+
+        ObjectMapper objectMapper = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        memberExportService = new MemberExportService(new MemberExportRepository(streamingJdbcTemplate), objectMapper);
+    }
+
+    @Test
+    void should_StreamEveryMemberAsCsv_When_ExportingAllMembers() throws IOException {
+        // given
+        CountingOutputStream sink = new CountingOutputStream();
+
+        // when
+        long count = memberExportService.exportMembers(sink, ExportFormat.CSV, false, null, SortField.ID, SortDirection.ASC);
+
+        // then
+        assertThat(count).isEqualTo(MEMBER_COUNT);
+        assertThat(sink.lines).isEqualTo(MEMBER_COUNT + 1);
+    }
+
+    @Test
+    void should_WriteGzippedNdjsonInSortOrder_When_ExportingAllMembers(@TempDir Path tempDir) throws IOException {
+        // given
+        Path file = tempDir.resolve("members.ndjson.gz");
+
+        // when
+        long count;
+        try (OutputStream outputStream = Files.newOutputStream(file)) {
+            count = memberExportService.exportMembers(outputStream, ExportFormat.NDJSON, true, null,
+                    SortField.CREATED_AT, SortDirection.DESC);
+        }
+
+        // then
+        assertThat(count).isEqualTo(MEMBER_COUNT);
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+            JsonNode first = objectMapper.readTree(reader.readLine());
+            assertThat(first.get("nickname").asText()).isEqualTo("nick-" + MEMBER_COUNT);
+
+            long lines = 1 + reader.lines()
+                    .peek(line -> assertThat(line).startsWith("{\"id\":"))
+                    .count();
+            assertThat(lines).isEqualTo(MEMBER_COUNT);
+        }
+    }
+
+    @Test
+    void should_WriteOneObjectPerLineWithoutSeparators_When_ExportingNdjson() throws IOException {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2024, 11, 1, 9, 0);
+        MemberExportRepository repository = mock(MemberExportRepository.class);
+        doAnswer(invocation -> {
+            Consumer<MemberInfo> consumer = invocation.getArgument(3);
+            consumer.accept(MemberInfo.of("id-1", "MEMBER", "lavin", null, "lavin@eatbook.com", createdAt, createdAt, null));
+            consumer.accept(MemberInfo.of("id-2", "ADMIN", "admin", null, "admin@eatbook.com", createdAt, createdAt, null));
+            return null;
+        }).when(repository).streamMembers(isNull(), eq(SortField.ID), eq(SortDirection.ASC), any());
+        MemberExportService service = new MemberExportService(repository, JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build());
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // when
+        long count = service.exportMembers(outputStream, ExportFormat.NDJSON, false, null, SortField.ID, SortDirection.ASC);
+
+        // then
+        assertThat(count).isEqualTo(2);
+        assertThat(outputStream.toByteArray()).isEqualTo((
+                "{\"id\":\"id-1\",\"role\":\"MEMBER\",\"nickname\":\"lavin\",\"profileImageUrl\":null," +
+                "\"email\":\"lavin@eatbook.com\",\"createdAt\":\"2024-11-01T09:00:00\"," +
+                "\"updatedAt\":\"2024-11-01T09:00:00\",\"deletedAt\":null}\n" +
+                "{\"id\":\"id-2\",\"role\":\"ADMIN\",\"nickname\":\"admin\",\"profileImageUrl\":null," +
+                "\"email\":\"admin@eatbook.com\",\"createdAt\":\"2024-11-01T09:00:00\"," +
+                "\"updatedAt\":\"2024-11-01T09:00:00\",\"deletedAt\":null}\n"
+        ).getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void should_ExportOnlyRequestedRole_When_RoleProvided() throws IOException {
+        // given
+        CountingOutputStream sink = new CountingOutputStream();
+
+        // when
+        long count = memberExportService.exportMembers(sink, ExportFormat.CSV, true, Role.ADMIN, SortField.EMAIL, SortDirection.ASC);
+
+        // then
+        assertThat(count).isEqualTo(ADMIN_COUNT);
+        assertThat(sink.bytes).isPositive();
+    }
+
+    /**
+     * 0~9 숫자 테이블을 여섯 번 교차 조인해 100만 행을 한 번에 넣습니다. 50의 배수 번호는 관리자입니다.
+     */
+    private static void seed(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.execute("INSERT INTO member (id, created_at, nickname, role, email) " +
+                "WITH digits (d) AS (SELECT 0 UNION ALL SELECT 1 UNION ALL SELECT 2 UNION ALL SELECT 3 UNION ALL SELECT 4 " +
+                "UNION ALL SELECT 5 UNION ALL SELECT 6 UNION ALL SELECT 7 UNION ALL SELECT 8 UNION ALL SELECT 9), " +
+                "seq (n) AS (SELECT a.d + b.d * 10 + c.d * 100 + d.d * 1000 + e.d * 10000 + f.d * 100000 + 1 " +
+                "FROM digits a CROSS JOIN digits b CROSS JOIN digits c CROSS JOIN digits d CROSS JOIN digits e CROSS JOIN digits f) " +
+                "SELECT " + seedIdSql(MEMBER, "n") + ", TIMESTAMP('2024-01-01') + INTERVAL n SECOND, CONCAT('nick-', n), " +
+                "IF(n % 50 = 0, 'ADMIN', 'MEMBER'), CONCAT('member-', n, '@eatbook.com') FROM seq");
+    }
+
+    /**
+     * 받은 바이트를 버리고 바이트 수와 줄 수만 세는 출력 스트림.
+     */
+    private static class CountingOutputStream extends OutputStream {
+
+        private long bytes;
+        private long lines;
+
+        @Override
+        public void write(int b) {
+            bytes++;
+            if (b == '\n') {
+                lines++;
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            bytes += len;
+            for (int i = off; i < off + len; i++) {
+                if (b[i] == '\n') {
+                    lines++;
+                }
+            }
+        }
+    }
+}
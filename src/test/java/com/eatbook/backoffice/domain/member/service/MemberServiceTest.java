@@ -1,9 +1,25 @@
 package com.eatbook.backoffice.domain.member.service;
 
+import com.eatbook.backoffice.domain.member.dto.MemberCursor;
+import com.eatbook.backoffice.domain.member.dto.MemberCursorListResponse;
 import com.eatbook.backoffice.domain.member.dto.MemberInfo;
 import com.eatbook.backoffice.domain.member.dto.MemberListResponse;
+import com.eatbook.backoffice.domain.member.dto.MemberRoleBulkUpdateRequest;
+import com.eatbook.backoffice.domain.member.dto.MemberRoleBulkUpdateResponse;
+import com.eatbook.backoffice.domain.member.dto.MemberSearchCondition;
+import com.eatbook.backoffice.domain.member.exception.MemberBulkRequestException;
 import com.eatbook.backoffice.domain.member.repository.MemberRepository;
+import com.eatbook.backoffice.entity.constant.DeletedStatus;
+import com.eatbook.backoffice.entity.constant.Gender;
+import com.eatbook.backoffice.entity.constant.Role;
+import com.eatbook.backoffice.entity.constant.SortDirection;
+import com.eatbook.backoffice.entity.constant.SortField;
+import com.eatbook.backoffice.global.exception.exceptions.InvalidCursorException;
 import com.eatbook.backoffice.global.exception.exceptions.PageOutOfBoundException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -12,12 +28,20 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static com.eatbook.backoffice.domain.member.fixture.MemberFixture.*;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,6 +50,9 @@ class MemberServiceTest {
     @Mock
     private MemberRepository memberRepository;
 
+    @Mock
+    private MemberCountCache memberCountCache;
+
     @InjectMocks
     private MemberService memberService;
     @Test
@@ -37,10 +64,10 @@ class MemberServiceTest {
         List<MemberInfo> sampleMembers = createSampleMembers();
         MemberListResponse mockResponse = createMemberListResponse(page, size, sampleMembers);
 
-        when(memberRepository.findMembers(pageable, role)).thenReturn(mockResponse);
+        when(memberRepository.findMembers(pageable, MemberSearchCondition.of(role))).thenReturn(mockResponse);
 
         // When
-        MemberListResponse result = memberService.getMemberList(page, size, role, defaultSortField, defaultSortDirection);
+        MemberListResponse result = memberService.getMemberList(page, size, MemberSearchCondition.of(role), defaultSortField, defaultSortDirection);
 
         // Then
         assertThat(result).usingRecursiveComparison().isEqualTo(mockResponse);
@@ -52,12 +79,172 @@ class MemberServiceTest {
         List<MemberInfo> sampleMembers = createSampleMembers();
         MemberListResponse mockResponse = createMemberListResponse(page, size, sampleMembers);
 
-        when(memberRepository.findMembers(org.mockito.ArgumentMatchers.any(), org.mockito.ArgumentMatchers.eq(role)))
+        when(memberRepository.findMembers(org.mockito.ArgumentMatchers.any(), org.mockito.ArgumentMatchers.eq(MemberSearchCondition.of(role))))
                 .thenReturn(mockResponse);
 
         // When & Then
-        assertThatThrownBy(() -> memberService.getMemberList(invalidPage, size, role, defaultSortField, defaultSortDirection))
+        assertThatThrownBy(() -> memberService.getMemberList(invalidPage, size, MemberSearchCondition.of(role), defaultSortField, defaultSortDirection))
                 .isInstanceOf(PageOutOfBoundException.class)
                 .hasMessage("요청된 페이지가 총 페이지 수를 초과했습니다.");
     }
-}
\ No newline at end of file
+
+    @Test
+    void should_ReturnNextCursorFromLastMember_When_MoreMembersExist() {
+        // Given
+        List<MemberInfo> sampleMembers = createSampleMembers();
+        when(memberRepository.findMembersAfter(null, 2, MemberSearchCondition.of(role), SortField.NICKNAME, SortDirection.ASC))
+                .thenReturn(sampleMembers);
+        when(memberCountCache.count(role)).thenReturn(1_000_000L);
+
+        // When
+        MemberCursorListResponse result = memberService.getMemberListByCursor(null, 1, MemberSearchCondition.of(role), SortField.NICKNAME, SortDirection.ASC);
+
+        // Then
+        assertThat(result.hasNext()).isTrue();
+        assertThat(result.totalElements()).isEqualTo(1_000_000L);
+        assertThat(result.memberList()).containsExactly(sampleMembers.get(0));
+
+        MemberCursor next = MemberCursor.decode(result.nextCursor(), SortField.NICKNAME, SortDirection.ASC);
+        assertThat(next.value()).isEqualTo(sampleMembers.get(0).nickname());
+        assertThat(next.id()).isEqualTo(sampleMembers.get(0).id());
+    }
+
+    @Test
+    void should_SeekAfterCursor_When_CursorProvided() {
+        // Given
+        MemberInfo last = createSampleMembers().get(1);
+        String cursor = MemberCursor.of(SortField.EMAIL, SortDirection.DESC, last).encode();
+        when(memberRepository.findMembersAfter(any(MemberCursor.class), eq(11), eq(MemberSearchCondition.of(null)), eq(SortField.EMAIL), eq(SortDirection.DESC)))
+                .thenReturn(List.of());
+
+        // When
+        MemberCursorListResponse result = memberService.getMemberListByCursor(cursor, 10, MemberSearchCondition.of(null), SortField.EMAIL, SortDirection.DESC);
+
+        // Then
+        assertThat(result.hasNext()).isFalse();
+        assertThat(result.nextCursor()).isNull();
+        verify(memberRepository).findMembersAfter(
+                eq(new MemberCursor(SortField.EMAIL, SortDirection.DESC, last.email(), last.id())),
+                eq(11), eq(MemberSearchCondition.of(null)), eq(SortField.EMAIL), eq(SortDirection.DESC));
+    }
+
+    @Test
+    void should_ThrowInvalidCursorException_When_CursorWasIssuedForAnotherSort() {
+        // Given
+        String cursor = MemberCursor.of(SortField.NICKNAME, SortDirection.ASC, createSampleMembers().get(0)).encode();
+
+        // When & Then
+        assertThatThrownBy(() -> memberService.getMemberListByCursor(cursor, 10, MemberSearchCondition.of(role), SortField.EMAIL, SortDirection.ASC))
+                .isInstanceOf(InvalidCursorException.class);
+        verify(memberRepository, never()).findMembersAfter(any(), anyInt(), any(), any(), any());
+    }
+
+    @Test
+    void should_OmitTotalElements_When_FilteringBeyondRole() {
+        // Given
+        MemberSearchCondition condition = MemberSearchCondition.builder()
+                .role(role)
+                .emailPrefix("lavin")
+                .gender(Gender.FEMALE)
+                .build();
+        List<MemberInfo> sampleMembers = createSampleMembers();
+        when(memberRepository.findMembersAfter(null, 11, condition, SortField.EMAIL, SortDirection.ASC))
+                .thenReturn(sampleMembers);
+
+        // When
+        MemberCursorListResponse result = memberService.getMemberListByCursor(null, 10, condition, SortField.EMAIL, SortDirection.ASC);
+
+        // Then
+        assertThat(result.totalElements()).isNull();
+        assertThat(result.memberList()).isEqualTo(sampleMembers);
+        verifyNoInteractions(memberCountCache);
+    }
+
+    @Test
+    void should_OmitTotalElements_When_IncludingDeletedMembers() {
+        // Given
+        MemberSearchCondition condition = MemberSearchCondition.builder()
+                .role(role)
+                .deleted(DeletedStatus.ALL)
+                .build();
+        when(memberRepository.findMembersAfter(null, 11, condition, SortField.ID, SortDirection.ASC))
+                .thenReturn(List.of());
+
+        // When
+        MemberCursorListResponse result = memberService.getMemberListByCursor(null, 10, condition, SortField.ID, SortDirection.ASC);
+
+        // Then
+        assertThat(condition.hasPredicate()).isFalse();
+        assertThat(result.totalElements()).isNull();
+        verifyNoInteractions(memberCountCache);
+    }
+
+    @Test
+    void should_UpdateRolesInChunks_When_MemberIdsProvided() {
+        // Given
+        ReflectionTestUtils.setField(memberService, "roleUpdateChunkSize", 2);
+        MemberRoleBulkUpdateRequest request = new MemberRoleBulkUpdateRequest("admin",
+                List.of("id-3", "id-1", "id-2", "id-1", "id-5"), null);
+        when(memberRepository.updateMemberRoles(List.of("id-1", "id-2"), Role.ADMIN)).thenReturn(2);
+        when(memberRepository.updateMemberRoles(List.of("id-3", "id-5"), Role.ADMIN)).thenReturn(1);
+
+        // When
+        MemberRoleBulkUpdateResponse result = memberService.updateMemberRoles(request);
+
+        // Then
+        assertThat(result).isEqualTo(new MemberRoleBulkUpdateResponse("ADMIN", 4, 3, 1, 2));
+        verify(memberCountCache).refresh();
+    }
+
+    @Test
+    void should_UpdateMatchingMembers_When_FilterProvided() {
+        // Given
+        ReflectionTestUtils.setField(memberService, "roleUpdateChunkSize", 1000);
+        MemberSearchCondition filter = MemberSearchCondition.builder()
+                .role(Role.PENDING_ADMIN)
+                .createdTo(LocalDateTime.of(2024, 11, 1, 0, 0))
+                .build();
+        List<String> memberIds = List.of("id-1", "id-2", "id-3");
+        when(memberRepository.findMemberIds(filter)).thenReturn(memberIds);
+        when(memberRepository.updateMatchingMemberRoles(memberIds, filter, Role.ADMIN)).thenReturn(3L);
+
+        // When
+        MemberRoleBulkUpdateResponse result = memberService.updateMemberRoles(
+                new MemberRoleBulkUpdateRequest("ADMIN", null, filter));
+
+        // Then
+        assertThat(result).isEqualTo(new MemberRoleBulkUpdateResponse("ADMIN", 3, 3, 0, 1));
+        verify(memberRepository, never()).updateMemberRoles(any(), any());
+        verify(memberCountCache).refresh();
+    }
+
+    @Test
+    void should_RejectFilter_When_OnlyDeletedStatusProvided() throws JsonProcessingException {
+        // Given
+        ObjectMapper objectMapper = JsonMapper.builder().addModule(new JavaTimeModule()).build();
+        MemberRoleBulkUpdateRequest request = objectMapper.readValue(
+                "{\"role\":\"ADMIN\",\"filter\":{\"deleted\":\"ALL\"}}", MemberRoleBulkUpdateRequest.class);
+
+        // When & Then
+        assertThatThrownBy(() -> memberService.updateMemberRoles(request))
+                .isInstanceOf(MemberBulkRequestException.class);
+        verify(memberRepository, never()).findMemberIds(any());
+        verify(memberRepository, never()).updateMatchingMemberRoles(any(), any(), any());
+    }
+
+    @Test
+    void should_ThrowMemberBulkRequestException_When_TargetIsAmbiguous() {
+        // Given
+        MemberRoleBulkUpdateRequest both = new MemberRoleBulkUpdateRequest("ADMIN",
+                List.of("id-1"), MemberSearchCondition.of(Role.PENDING_ADMIN));
+        MemberRoleBulkUpdateRequest emptyFilter = new MemberRoleBulkUpdateRequest("ADMIN",
+                null, MemberSearchCondition.of(null));
+
+        // When & Then
+        assertThatThrownBy(() -> memberService.updateMemberRoles(both))
+                .isInstanceOf(MemberBulkRequestException.class);
+        assertThatThrownBy(() -> memberService.updateMemberRoles(emptyFilter))
+                .isInstanceOf(MemberBulkRequestException.class);
+        verify(memberRepository, never()).updateMemberRoles(any(), any());
+    }
+}
@@ -0,0 +1,160 @@
+package com.eatbook.backoffice.domain.novel.controller;
+
+import com.eatbook.backoffice.domain.novel.dto.CommentInfo;
+import com.eatbook.backoffice.domain.novel.repository.jdbc.NovelCommentStreamRepository;
+import com.eatbook.backoffice.domain.novel.service.NovelCommentStreamService;
+import com.eatbook.backoffice.domain.novel.service.NovelImportService;
+import com.eatbook.backoffice.domain.novel.service.NovelService;
+import com.eatbook.backoffice.global.config.WebAsyncConfig;
+import com.eatbook.backoffice.global.exception.GlobalExceptionHandler;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * 소설 댓글 스트리밍 응답이 비동기 디스패치까지 거쳐 완성되는지 컨트롤러부터 확인합니다.
+ * JSON 기록과 예외 처리가 실제로 적용되도록 NovelCommentStreamService와 예외 처리기를 올리고, DB 조회만 목으로 대체합니다.
+ */
+@SpringBootTest(classes = {NovelController.class, NovelCommentStreamService.class, GlobalExceptionHandler.class,
+        WebAsyncConfig.class, NovelControllerTest.WebConfig.class})
+class NovelControllerTest {
+
+    private static final String NOVEL_ID = "novel-1";
+    private static final String EPISODE_ID = "episode-2";
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 11, 1, 9, 0);
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @MockBean
+    private NovelService novelService;
+    @MockBean
+    private NovelImportService novelImportService;
+    @MockBean
+    private NovelCommentStreamRepository novelCommentStreamRepository;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+    }
+
+    @Test
+    void should_StreamAllComments_When_NovelExists() throws Exception {
+        // given
+        doAnswer(invocation -> {
+            Runnable onNovelFound = invocation.getArgument(2);
+            Consumer<CommentInfo> consumer = invocation.getArgument(3);
+            onNovelFound.run();
+            consumer.accept(comment("comment-1", 1, "첫 댓글"));
+            consumer.accept(comment("comment-2", 2, "둘째 댓글"));
+            return true;
+        }).when(novelCommentStreamRepository).streamComments(eq(NOVEL_ID), isNull(), any(), any());
+
+        // when
+        MvcResult result = mockMvc.perform(get("/api/admin/novels/{novelId}/comments/stream", NOVEL_ID))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.code").value("GET_NOVEL_COMMENT_LIST"))
+                .andExpect(jsonPath("$.data.id").value(NOVEL_ID))
+                .andExpect(jsonPath("$.data.commentList.length()").value(2))
+                .andExpect(jsonPath("$.data.commentList[0].id").value("comment-1"))
+                .andExpect(jsonPath("$.data.commentList[0].createdAt").value("2024-11-01T09:00:00"))
+                .andExpect(jsonPath("$.data.commentList[1].episodeNumber").value(2))
+                .andExpect(jsonPath("$.data.hasNext").value(false))
+                .andExpect(jsonPath("$.data.nextCursor").value(nullValue()));
+    }
+
+    @Test
+    void should_StreamOnlyEpisodeComments_When_EpisodeIdIsGiven() throws Exception {
+        // given
+        doAnswer(invocation -> {
+            Runnable onNovelFound = invocation.getArgument(2);
+            Consumer<CommentInfo> consumer = invocation.getArgument(3);
+            onNovelFound.run();
+            consumer.accept(comment("comment-2", 2, "둘째 댓글"));
+            return true;
+        }).when(novelCommentStreamRepository).streamComments(eq(NOVEL_ID), eq(EPISODE_ID), any(), any());
+
+        // when
+        MvcResult result = mockMvc.perform(get("/api/admin/novels/{novelId}/comments/stream", NOVEL_ID)
+                        .param("episodeId", EPISODE_ID))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.commentList.length()").value(1))
+                .andExpect(jsonPath("$.data.commentList[0].id").value("comment-2"))
+                .andExpect(jsonPath("$.data.hasNext").value(false));
+        verify(novelCommentStreamRepository).streamComments(eq(NOVEL_ID), eq(EPISODE_ID), any(), any());
+    }
+
+    @Test
+    void should_RespondNotFound_When_NovelDoesNotExist() throws Exception {
+        // given
+        doReturn(false).when(novelCommentStreamRepository).streamComments(eq(NOVEL_ID), isNull(), any(), any());
+
+        // when
+        MvcResult result = mockMvc.perform(get("/api/admin/novels/{novelId}/comments/stream", NOVEL_ID))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code").value("NOVEL_NOT_FOUND"))
+                .andExpect(jsonPath("$.data").value(nullValue()));
+    }
+
+    private static CommentInfo comment(String id, int episodeNumber, String content) {
+        return CommentInfo.of(id, episodeNumber, episodeNumber + "화", "user-1", "lavin", content, CREATED_AT, CREATED_AT);
+    }
+
+    @Configuration
+    @EnableWebMvc
+    static class WebConfig {
+
+        @Bean
+        ObjectMapper objectMapper() {
+            return JsonMapper.builder()
+                    .findAndAddModules()
+                    .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                    .build();
+        }
+    }
+}
@@ -2,7 +2,9 @@ package com.eatbook.backoffice.domain.novel.fixture;
 
 import com.eatbook.backoffice.domain.novel.dto.CommentInfo;
 import com.eatbook.backoffice.domain.novel.dto.EpisodeInfo;
+import com.eatbook.backoffice.domain.novel.dto.NovelCursor;
 import com.eatbook.backoffice.domain.novel.dto.NovelDetailResponse;
+import com.eatbook.backoffice.domain.novel.dto.NovelInfo;
 import com.eatbook.backoffice.domain.novel.dto.NovelRequest;
 import com.eatbook.backoffice.entity.Novel;
 import org.springframework.data.domain.*;
@@ -10,6 +12,7 @@ import org.springframework.data.domain.*;
 import java.lang.reflect.Field;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.IntStream;
 
 public class NovelFixture {
 
@@ -88,6 +91,21 @@ public class NovelFixture {
         return new PageImpl<>(ids.subList(start, end), pageable, ids.size());
     }
 
+    // 헬퍼 메서드: 테스트용 NovelInfo 리스트 생성
+    public static List<NovelInfo> createNovelInfos(List<Novel> novels) {
+        return novels.stream()
+                .map(novel -> NovelInfo.of(novel.getId(), novel.getTitle(), authorList, category, coverImageUrl))
+                .toList();
+    }
+
+    // 헬퍼 메서드: 테스트용 NovelCursor 리스트 생성 (created_at 내림차순)
+    public static List<NovelCursor> createNovelCursors(List<Novel> novels) {
+        LocalDateTime base = LocalDateTime.of(2024, 10, 27, 12, 0);
+        return IntStream.range(0, novels.size())
+                .mapToObj(i -> NovelCursor.of(base.minusMinutes(i), novels.get(i).getId()))
+                .toList();
+    }
+
     // 헬퍼 메서드: 테스트용 NovelDetailResponse 생성
     public static NovelDetailResponse createDetailResponse(String novelId) {
         return NovelDetailResponse.builder()
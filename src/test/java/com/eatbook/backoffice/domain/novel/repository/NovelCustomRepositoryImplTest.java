@@ -0,0 +1,125 @@
+package com.eatbook.backoffice.domain.novel.repository;
+
+import com.eatbook.backoffice.domain.novel.dto.NovelInfo;
+import com.eatbook.backoffice.domain.novel.repository.queryDSL.NovelCustomRepositoryImpl;
+import com.eatbook.backoffice.global.utils.BinaryUuid;
+import com.eatbook.backoffice.global.utils.UuidGenerator;
+import com.eatbook.backoffice.support.MySqlTestSupport;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers(disabledWithoutDocker = true)
+class NovelCustomRepositoryImplTest {
+
+    @Container
+    private static final MySQLContainer<?> mysql = MySqlTestSupport.container();
+
+    private static JdbcTemplate jdbcTemplate;
+    private static EntityManagerFactory entityManagerFactory;
+
+    @BeforeAll
+    static void setUp() {
+        MySqlTestSupport.migrate(mysql);
+
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                mysql.getJdbcUrl(), mysql.getUsername(), mysql.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        entityManagerFactory = MySqlTestSupport.entityManagerFactory(dataSource);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        entityManagerFactory.close();
+    }
+
+    @Test
+    void should_ReturnNovelsInRequestedOrderWithSortedNames_When_IdsAreShuffled() {
+        // given
+        String kim = insertNamed("author", "김작가");
+        String park = insertNamed("author", "박작가");
+        String jung = insertNamed("author", "정작가");
+        String fantasy = insertNamed("category", "판타지");
+        String romance = insertNamed("category", "로맨스");
+        String martialArts = insertNamed("category", "무협");
+
+        // 이름순과 다른 순서로 연결하여, 삽입 순서나 키 순서가 아닌 이름순으로 정렬되는지 확인합니다.
+        String first = insertNovel("첫 번째 소설");
+        link("novel_author", "author_id", first, jung);
+        link("novel_author", "author_id", first, kim);
+        link("novel_author", "author_id", first, park);
+        link("novel_category", "category_id", first, fantasy);
+        link("novel_category", "category_id", first, romance);
+        link("novel_category", "category_id", first, martialArts);
+
+        String second = insertNovel("두 번째 소설");
+        link("novel_author", "author_id", second, park);
+        link("novel_author", "author_id", second, kim);
+        link("novel_category", "category_id", second, romance);
+
+        String third = insertNovel("세 번째 소설");
+        link("novel_author", "author_id", third, jung);
+
+        String missing = UuidGenerator.generate();
+
+        // when
+        List<NovelInfo> novelInfos = findNovelInfosByIds(List.of(third, missing, first, second));
+
+        // then
+        assertThat(novelInfos).extracting(NovelInfo::id).containsExactly(third, first, second);
+
+        assertThat(novelInfos.get(0).title()).isEqualTo("세 번째 소설");
+        assertThat(novelInfos.get(0).authorList()).containsExactly("정작가");
+        assertThat(novelInfos.get(0).categoryList()).isEmpty();
+
+        assertThat(novelInfos.get(1).authorList()).containsExactly("김작가", "박작가", "정작가");
+        assertThat(novelInfos.get(1).categoryList()).containsExactly("로맨스", "무협", "판타지");
+
+        assertThat(novelInfos.get(2).authorList()).containsExactly("김작가", "박작가");
+        assertThat(novelInfos.get(2).categoryList()).containsExactly("로맨스");
+    }
+
+    @Test
+    void should_ReturnEmptyList_When_NoIdsAreGiven() {
+        assertThat(findNovelInfosByIds(List.of())).isEmpty();
+    }
+
+    private static List<NovelInfo> findNovelInfosByIds(List<String> novelIds) {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            return new NovelCustomRepositoryImpl(new JPAQueryFactory(entityManager)).findNovelInfosByIds(novelIds);
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    private static String insertNovel(String title) {
+        String novelId = UuidGenerator.generate();
+        jdbcTemplate.update("INSERT INTO novel (id, title, is_completed) VALUES (?, ?, FALSE)",
+                BinaryUuid.toBytes(novelId), title);
+        return novelId;
+    }
+
+    private static String insertNamed(String table, String name) {
+        String id = UuidGenerator.generate();
+        jdbcTemplate.update("INSERT INTO " + table + " (id, name) VALUES (?, ?)", BinaryUuid.toBytes(id), name);
+        return id;
+    }
+
+    private static void link(String table, String column, String novelId, String targetId) {
+        jdbcTemplate.update("INSERT INTO " + table + " (novel_id, " + column + ") VALUES (?, ?)",
+                BinaryUuid.toBytes(novelId), BinaryUuid.toBytes(targetId));
+    }
+}
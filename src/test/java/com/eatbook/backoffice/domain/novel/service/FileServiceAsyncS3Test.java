@@ -0,0 +1,158 @@
+package com.eatbook.backoffice.domain.novel.service;
+
+import com.eatbook.backoffice.domain.novel.service.FileService.S3BatchResult;
+import com.eatbook.backoffice.domain.novel.service.FileService.StagedFile;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+import org.testcontainers.containers.localstack.LocalStackContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.testcontainers.containers.localstack.LocalStackContainer.Service.S3;
+
+/**
+ * LocalStack S3에 대해 비동기 일괄 삭제와 임시 객체 게시를 검증합니다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class FileServiceAsyncS3Test {
+
+    private static final String PUBLIC_BUCKET = "eatbook-public";
+    private static final String PRIVATE_BUCKET = "eatbook-private";
+
+    @Container
+    private static final LocalStackContainer localStack =
+            new LocalStackContainer(DockerImageName.parse("localstack/localstack:3.5")).withServices(S3);
+
+    private static S3Client s3Client;
+    private static S3AsyncClient s3AsyncClient;
+    private static ExecutorService s3TransferExecutor;
+    private static FileService fileService;
+
+    @BeforeAll
+    static void setUp() {
+        StaticCredentialsProvider credentials = StaticCredentialsProvider.create(
+                AwsBasicCredentials.create(localStack.getAccessKey(), localStack.getSecretKey()));
+        Region region = Region.of(localStack.getRegion());
+
+        s3Client = S3Client.builder()
+                .credentialsProvider(credentials)
+                .region(region)
+                .endpointOverride(localStack.getEndpointOverride(S3))
+                .forcePathStyle(true)
+                .build();
+        s3AsyncClient = S3AsyncClient.builder()
+                .credentialsProvider(credentials)
+                .region(region)
+                .endpointOverride(localStack.getEndpointOverride(S3))
+                .forcePathStyle(true)
+                .build();
+        s3TransferExecutor = Executors.newFixedThreadPool(2);
+
+        S3Presigner s3Presigner = S3Presigner.builder()
+                .credentialsProvider(credentials)
+                .region(region)
+                .endpointOverride(localStack.getEndpointOverride(S3))
+                .build();
+
+        fileService = new FileService(s3Client, s3Presigner, s3TransferExecutor, s3AsyncClient);
+        ReflectionTestUtils.setField(fileService, "privateBucket", PRIVATE_BUCKET);
+        ReflectionTestUtils.setField(fileService, "publicBucket", PUBLIC_BUCKET);
+        ReflectionTestUtils.setField(fileService, "presignedUrlExpiration", 10);
+        ReflectionTestUtils.setField(fileService, "presignedUrlCacheSize", 100L);
+        ReflectionTestUtils.setField(fileService, "deleteConcurrency", 2);
+        ReflectionTestUtils.setField(fileService, "deleteBatchSize", 10);
+        ReflectionTestUtils.setField(fileService, "multipartThreshold", DataSize.ofMegabytes(8));
+        ReflectionTestUtils.setField(fileService, "partSize", DataSize.ofMegabytes(5));
+        ReflectionTestUtils.setField(fileService, "stagingPrefix", "staging/");
+        fileService.init();
+
+        s3Client.createBucket(b -> b.bucket(PRIVATE_BUCKET));
+    }
+
+    @AfterAll
+    static void tearDown() {
+        s3AsyncClient.close();
+        s3Client.close();
+        s3TransferExecutor.shutdownNow();
+    }
+
+    @Test
+    void should_DeleteInBatches_When_UsingAsyncClient() {
+        // given
+        List<String> objectKeys = IntStream.range(0, 25)
+                .mapToObj(i -> String.format("novels/source/cover/%02d", i))
+                .toList();
+        objectKeys.forEach(key -> s3Client.putObject(b -> b.bucket(PRIVATE_BUCKET).key(key), RequestBody.fromString(key)));
+
+        // when: 삭제 요청은 10개씩 3번으로 나뉘어 최대 2개씩 동시에 실행됩니다.
+        CompletableFuture<S3BatchResult> deleting = fileService.deleteObjects(objectKeys, PRIVATE_BUCKET);
+        S3BatchResult deleted = deleting.join();
+
+        // then
+        assertThat(deleted.requestedCount()).isEqualTo(25);
+        assertThat(deleted.succeededCount()).isEqualTo(25);
+        assertThat(deleted.failures()).isEmpty();
+        assertThat(s3Client.listObjectsV2(b -> b.bucket(PRIVATE_BUCKET).prefix("novels/source/")).contents()).isEmpty();
+    }
+
+    @Test
+    void should_CompleteImmediately_When_NothingToDelete() {
+        // when
+        S3BatchResult deleted = fileService.deleteObjects(List.of(), PRIVATE_BUCKET).join();
+
+        // then
+        assertThat(deleted.requestedCount()).isZero();
+        assertThat(deleted.failures()).isEmpty();
+    }
+
+    @Test
+    void should_PublishStagedObject_When_StagedThroughPrivateBucket(@TempDir Path tempDir) throws IOException {
+        // given
+        Path script = Files.writeString(tempDir.resolve("episode-1.txt"), "script", StandardCharsets.UTF_8);
+        StagedFile staged = fileService.stageFile(script, "episode-1");
+
+        // when
+        boolean published = fileService.publishStagedFile(staged.key(), "novels/episode-1.txt", "text/plain", PRIVATE_BUCKET);
+        fileService.deleteStagedFile(staged.key());
+
+        // then
+        assertThat(staged.key()).isEqualTo("staging/episode-1");
+        assertThat(staged.size()).isEqualTo(6);
+        assertThat(published).isTrue();
+        assertThat(s3Client.headObject(b -> b.bucket(PRIVATE_BUCKET).key("novels/episode-1.txt")).contentType())
+                .isEqualTo("text/plain");
+        assertThat(fileService.objectExists(staged.key(), PRIVATE_BUCKET)).isFalse();
+    }
+
+    @Test
+    void should_ReturnFalse_When_StagedObjectDoesNotExist() {
+        // when
+        boolean published = fileService.publishStagedFile("staging/missing", "novels/missing.txt", "text/plain", PRIVATE_BUCKET);
+
+        // then
+        assertThat(published).isFalse();
+    }
+}
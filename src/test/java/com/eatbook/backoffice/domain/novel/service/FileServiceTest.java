@@ -0,0 +1,246 @@
+package com.eatbook.backoffice.domain.novel.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.*;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FileServiceTest {
+
+    private static final String BUCKET = "eatbook-private";
+    private static final String PUBLIC_BUCKET = "eatbook-public";
+    private static final String OBJECT_KEY = "novels/novel-id/episodes/episode-id/scripts/file-id";
+    private static final String CONTENT_TYPE = "text/plain";
+    private static final int MAX_CONCURRENT_PARTS = 2;
+    private static final DataSize PART_SIZE = DataSize.ofMegabytes(5);
+
+    @Mock
+    private S3Client s3Client;
+    @Mock
+    private S3Presigner s3Presigner;
+    @Mock
+    private S3AsyncClient s3AsyncClient;
+
+    private ExecutorService s3TransferExecutor;
+    private FileService fileService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        s3TransferExecutor = Executors.newFixedThreadPool(MAX_CONCURRENT_PARTS);
+        fileService = new FileService(s3Client, s3Presigner, s3TransferExecutor, s3AsyncClient);
+        ReflectionTestUtils.setField(fileService, "privateBucket", BUCKET);
+        ReflectionTestUtils.setField(fileService, "publicBucket", PUBLIC_BUCKET);
+        ReflectionTestUtils.setField(fileService, "presignedUrlExpiration", 10);
+        ReflectionTestUtils.setField(fileService, "multipartThreshold", DataSize.ofMegabytes(16));
+        ReflectionTestUtils.setField(fileService, "partSize", PART_SIZE);
+        ReflectionTestUtils.setField(fileService, "maxConcurrentParts", MAX_CONCURRENT_PARTS);
+        ReflectionTestUtils.setField(fileService, "presignedUrlCacheSize", 100L);
+        fileService.init();
+
+        lenient().when(s3Presigner.presignGetObject(any(GetObjectPresignRequest.class)))
+                .thenAnswer(invocation -> presignedGetObjectRequest(invocation.getArgument(0)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        s3TransferExecutor.shutdownNow();
+    }
+
+    @Test
+    void should_PutObjectFromStream_When_FileIsSmallerThanThreshold() throws IOException {
+        // given
+        long size = DataSize.ofMegabytes(1).toBytes();
+        MultipartFile file = streamingFile(size);
+
+        // when
+        fileService.uploadFileToBucket(OBJECT_KEY, file, CONTENT_TYPE, BUCKET);
+
+        // then
+        ArgumentCaptor<RequestBody> bodyCaptor = ArgumentCaptor.forClass(RequestBody.class);
+        verify(s3Client).putObject(any(PutObjectRequest.class), bodyCaptor.capture());
+        assertThat(bodyCaptor.getValue().optionalContentLength()).contains(size);
+        verify(s3Client, never()).createMultipartUpload(any(CreateMultipartUploadRequest.class));
+        verify(file, never()).getBytes();
+    }
+
+    @Test
+    void should_UploadPartsWithBoundedConcurrency_When_FileExceedsThreshold() throws IOException {
+        // given
+        long size = PART_SIZE.toBytes() * 7 + 1024;
+        MultipartFile file = streamingFile(size);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+
+        when(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+                .thenReturn(CreateMultipartUploadResponse.builder().uploadId("upload-id").build());
+        when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+                .thenAnswer(invocation -> {
+                    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    Thread.sleep(20);
+                    inFlight.decrementAndGet();
+                    UploadPartRequest request = invocation.getArgument(0);
+                    return UploadPartResponse.builder().eTag("etag-" + request.partNumber()).build();
+                });
+
+        // when
+        fileService.uploadFileToBucket(OBJECT_KEY, file, CONTENT_TYPE, BUCKET);
+
+        // then
+        ArgumentCaptor<UploadPartRequest> partCaptor = ArgumentCaptor.forClass(UploadPartRequest.class);
+        verify(s3Client, times(8)).uploadPart(partCaptor.capture(), any(RequestBody.class));
+        assertThat(partCaptor.getAllValues())
+                .allSatisfy(part -> assertThat(part.contentLength()).isLessThanOrEqualTo(PART_SIZE.toBytes()));
+        assertThat(maxInFlight.get()).isLessThanOrEqualTo(MAX_CONCURRENT_PARTS);
+
+        ArgumentCaptor<CompleteMultipartUploadRequest> completeCaptor = ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+        verify(s3Client).completeMultipartUpload(completeCaptor.capture());
+        List<CompletedPart> parts = completeCaptor.getValue().multipartUpload().parts();
+        assertThat(parts).extracting(CompletedPart::partNumber).containsExactly(1, 2, 3, 4, 5, 6, 7, 8);
+
+        verify(s3Client, never()).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+        verify(file, never()).getBytes();
+    }
+
+    @Test
+    void should_AbortMultipartUpload_When_PartUploadFails() {
+        // given
+        MultipartFile file = streamingFile(PART_SIZE.toBytes() * 4);
+
+        when(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+                .thenReturn(CreateMultipartUploadResponse.builder().uploadId("upload-id").build());
+        when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+                .thenThrow(S3Exception.builder().message("part upload failed").build());
+
+        // when, then
+        assertThrows(RuntimeException.class, () -> fileService.uploadFileToBucket(OBJECT_KEY, file, CONTENT_TYPE, BUCKET));
+
+        verify(s3Client).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+        verify(s3Client, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+    }
+
+    @Test
+    void should_FailFast_When_PartSizeIsBelowS3Minimum() {
+        // given
+        ReflectionTestUtils.setField(fileService, "partSize", DataSize.ofMegabytes(4));
+
+        // when
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> fileService.init());
+
+        // then
+        assertThat(exception.getMessage()).contains("cloud.aws.s3.upload.part-size");
+    }
+
+    @Test
+    void should_ReusePresignedUrl_When_SameObjectIsRequestedAgain() {
+        // when
+        String first = fileService.generatePresignedGetUrl(OBJECT_KEY);
+        String second = fileService.generatePresignedGetUrl(OBJECT_KEY);
+
+        // then
+        assertThat(second).isEqualTo(first);
+        verify(s3Presigner, times(1)).presignGetObject(any(GetObjectPresignRequest.class));
+    }
+
+    @Test
+    void should_PresignOnlyUncachedKeys_When_GeneratingUrlsInBatch() {
+        // given
+        List<String> objectKeys = List.of("scripts/a", "scripts/b", "scripts/c");
+        fileService.generatePresignedGetUrl("scripts/b");
+
+        // when
+        Map<String, String> presignedUrls = fileService.generatePresignedGetUrls(objectKeys);
+
+        // then
+        assertThat(presignedUrls.keySet()).containsExactlyElementsOf(objectKeys);
+        assertThat(presignedUrls).containsEntry("scripts/a", "https://s3.test/" + BUCKET + "/scripts/a");
+        verify(s3Presigner, times(3)).presignGetObject(any(GetObjectPresignRequest.class));
+    }
+
+    private static PresignedGetObjectRequest presignedGetObjectRequest(GetObjectPresignRequest request) {
+        String bucket = request.getObjectRequest().bucket();
+        String key = request.getObjectRequest().key();
+        return PresignedGetObjectRequest.builder()
+                .expiration(Instant.now().plus(request.signatureDuration()))
+                .isBrowserExecutable(true)
+                .signedHeaders(Map.of("host", List.of("s3.test")))
+                .httpRequest(SdkHttpRequest.builder()
+                        .method(SdkHttpMethod.GET)
+                        .uri(URI.create("https://s3.test/" + bucket + "/" + key))
+                        .build())
+                .build();
+    }
+
+    /**
+     * 내용을 힙에 올리지 않고 요청한 크기만큼 바이트를 생성하는 파일을 만듭니다.
+     */
+    private static MultipartFile streamingFile(long size) {
+        MultipartFile file = mock(MultipartFile.class);
+        lenient().when(file.getSize()).thenReturn(size);
+        try {
+            lenient().when(file.getInputStream()).thenAnswer(invocation -> new GeneratedInputStream(size));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return file;
+    }
+
+    private static class GeneratedInputStream extends InputStream {
+        private long remaining;
+
+        GeneratedInputStream(long size) {
+            this.remaining = size;
+        }
+
+        @Override
+        public int read() {
+            if (remaining <= 0) {
+                return -1;
+            }
+            remaining--;
+            return 'a';
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int count = (int) Math.min(length, remaining);
+            Arrays.fill(buffer, offset, offset + count, (byte) 'a');
+            remaining -= count;
+            return count;
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package com.eatbook.backoffice.domain.novel.service;
+
+import com.eatbook.backoffice.domain.novel.dto.NovelImportResponse;
+import com.eatbook.backoffice.domain.novel.dto.NovelImportResult;
+import com.eatbook.backoffice.domain.novel.exception.NovelImportPayloadException;
+import com.eatbook.backoffice.domain.novel.repository.jdbc.NovelBulkRepository;
+import com.eatbook.backoffice.domain.novel.repository.jdbc.NovelBulkRepository.NewNovel;
+import com.eatbook.backoffice.domain.novel.repository.jdbc.NovelBulkRepository.TitleAuthor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.eatbook.backoffice.domain.novel.response.NovelErrorCode.INVALID_IMPORT_PAYLOAD;
+import static com.eatbook.backoffice.entity.constant.ContentType.JPEG;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NovelImportServiceTest {
+
+    @Mock
+    private NovelBulkRepository novelBulkRepository;
+    @Mock
+    private FileService fileService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private NovelImportService novelImportService;
+
+    @BeforeEach
+    void setUp() {
+        novelImportService = new NovelImportService(
+                novelBulkRepository,
+                fileService,
+                new ObjectMapper(),
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                new TransactionTemplate(transactionManager));
+        ReflectionTestUtils.setField(novelImportService, "publicBucket", "eatbook-public");
+        ReflectionTestUtils.setField(novelImportService, "region", "ap-northeast-2");
+        ReflectionTestUtils.setField(novelImportService, "chunkSize", 2);
+
+        lenient().when(fileService.getPresignUrls(anyCollection(), eq(JPEG))).thenAnswer(invocation -> {
+            Collection<String> objectKeys = invocation.getArgument(0);
+            Map<String, String> presignedUrls = new LinkedHashMap<>();
+            objectKeys.forEach(key -> presignedUrls.put(key, "https://s3.test/" + key));
+            return presignedUrls;
+        });
+    }
+
+    @Test
+    void should_ResolveNamesOncePerChunk_When_ImportingNdjson() {
+        // given
+        InputStream payload = payload(
+                novelJson("Title 1", "Author A", "Fantasy") + "\n" +
+                novelJson("Title 2", "Author B", "Fantasy") + "\n" +
+                novelJson("Title 3", "Author A", "Romance") + "\n");
+
+        when(novelBulkRepository.findExistingTitleAuthors(anyCollection(), anyCollection())).thenReturn(Set.of());
+        when(novelBulkRepository.findAuthorIdsByNames(anyCollection())).thenReturn(Map.of("Author A", "author-a"));
+        when(novelBulkRepository.findCategoryIdsByNames(anyCollection())).thenReturn(Map.of("Fantasy", "category-fantasy"));
+
+        // when
+        NovelImportResponse response = novelImportService.importNovels(payload);
+
+        // then
+        assertThat(response.createdCount()).isEqualTo(3);
+        assertThat(response.results())
+                .extracting(NovelImportResult::index)
+                .containsExactly(0, 1, 2);
+        assertThat(response.results())
+                .allSatisfy(result -> {
+                    assertThat(result.status()).isEqualTo(NovelImportResult.Status.CREATED);
+                    assertThat(result.presignedUrl()).contains(result.novelId());
+                });
+
+        // 청크(2건)마다 이름 조회와 저장이 한 번씩만 실행되어야 합니다.
+        verify(novelBulkRepository, times(2)).findAuthorIdsByNames(anyCollection());
+        verify(novelBulkRepository, times(2)).findCategoryIdsByNames(anyCollection());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<NewNovel>> novelsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(novelBulkRepository, times(2)).insertNovels(novelsCaptor.capture());
+        assertThat(novelsCaptor.getAllValues()).extracting(List::size).containsExactly(2, 1);
+        assertThat(novelsCaptor.getAllValues().get(0).get(0).authorId()).isEqualTo("author-a");
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<String, String>> authorsCaptor = ArgumentCaptor.forClass(Map.class);
+        verify(novelBulkRepository, times(2)).insertAuthors(authorsCaptor.capture());
+        assertThat(authorsCaptor.getAllValues().get(0)).containsOnlyKeys("Author B");
+    }
+
+    @Test
+    void should_SkipDuplicatedAndInvalidNovels_When_ImportingJsonArray() {
+        // given
+        ReflectionTestUtils.setField(novelImportService, "chunkSize", 10);
+        InputStream payload = payload("[" +
+                novelJson("Existing", "Author A", "Fantasy") + "," +
+                novelJson("New", "Author A", "Fantasy") + "," +
+                novelJson("New", "Author A", "Fantasy") + "," +
+                novelJson("", "Author A", "Fantasy") + "]");
+
+        when(novelBulkRepository.findExistingTitleAuthors(anyCollection(), anyCollection()))
+                .thenReturn(Set.of(new TitleAuthor("Existing", "Author A")));
+        when(novelBulkRepository.findAuthorIdsByNames(anyCollection())).thenReturn(Map.of("Author A", "author-a"));
+        when(novelBulkRepository.findCategoryIdsByNames(anyCollection())).thenReturn(Map.of("Fantasy", "category-fantasy"));
+
+        // when
+        NovelImportResponse response = novelImportService.importNovels(payload);
+
+        // then
+        assertThat(response.totalCount()).isEqualTo(4);
+        assertThat(response.createdCount()).isEqualTo(1);
+        assertThat(response.skippedCount()).isEqualTo(3);
+        assertThat(response.results())
+                .extracting(NovelImportResult::status)
+                .containsExactly(
+                        NovelImportResult.Status.DUPLICATED,
+                        NovelImportResult.Status.CREATED,
+                        NovelImportResult.Status.DUPLICATED,
+                        NovelImportResult.Status.INVALID);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<NewNovel>> novelsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(novelBulkRepository).insertNovels(novelsCaptor.capture());
+        assertThat(novelsCaptor.getValue()).hasSize(1);
+    }
+
+    @Test
+    void should_MatchNamesIgnoringCaseAndTrailingSpaces_When_ImportingMixedCaseNames() {
+        // given
+        ReflectionTestUtils.setField(novelImportService, "chunkSize", 10);
+        InputStream payload = payload(
+                novelJson("Title 1", "author a ", "FANTASY") + "\n" +
+                novelJson("Title 2", "AUTHOR A", "Romance") + "\n" +
+                novelJson("Title 3", "Author B", "romance  ") + "\n" +
+                novelJson("Title 4", "author b", "ROMANCE") + "\n");
+
+        when(novelBulkRepository.findExistingTitleAuthors(anyCollection(), anyCollection())).thenReturn(Set.of());
+        when(novelBulkRepository.findAuthorIdsByNames(anyCollection())).thenReturn(Map.of("Author A", "author-a"));
+        when(novelBulkRepository.findCategoryIdsByNames(anyCollection())).thenReturn(Map.of("Fantasy", "category-fantasy"));
+
+        // when
+        NovelImportResponse response = novelImportService.importNovels(payload);
+
+        // then
+        assertThat(response.createdCount()).isEqualTo(4);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<String>> namesCaptor = ArgumentCaptor.forClass(Collection.class);
+        verify(novelBulkRepository).findAuthorIdsByNames(namesCaptor.capture());
+        assertThat(namesCaptor.getValue()).hasSize(2);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<String, String>> authorsCaptor = ArgumentCaptor.forClass(Map.class);
+        verify(novelBulkRepository).insertAuthors(authorsCaptor.capture());
+        assertThat(authorsCaptor.getValue()).containsOnlyKeys("Author B");
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<String, String>> categoriesCaptor = ArgumentCaptor.forClass(Map.class);
+        verify(novelBulkRepository).insertCategories(categoriesCaptor.capture());
+        assertThat(categoriesCaptor.getValue()).containsOnlyKeys("Romance");
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<NewNovel>> novelsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(novelBulkRepository).insertNovels(novelsCaptor.capture());
+        List<NewNovel> novels = novelsCaptor.getValue();
+        assertThat(novels.get(0).authorId()).isEqualTo("author-a");
+        assertThat(novels.get(1).authorId()).isEqualTo("author-a");
+        assertThat(novels.get(2).authorId()).isEqualTo(novels.get(3).authorId());
+        assertThat(novels.get(0).categoryIds()).containsExactly("category-fantasy");
+        assertThat(novels.get(1).categoryIds()).isEqualTo(novels.get(3).categoryIds());
+    }
+
+    @Test
+    void should_SkipDuplicatesIgnoringCaseAndTrailingSpaces_When_TitleAndAuthorDifferOnlyInCase() {
+        // given
+        ReflectionTestUtils.setField(novelImportService, "chunkSize", 10);
+        InputStream payload = payload(
+                novelJson("existing ", "AUTHOR A", "Fantasy") + "\n" +
+                novelJson("New", "Author B", "Fantasy") + "\n" +
+                novelJson("NEW  ", "author b", "Fantasy") + "\n");
+
+        when(novelBulkRepository.findExistingTitleAuthors(anyCollection(), anyCollection()))
+                .thenReturn(Set.of(new TitleAuthor("Existing", "Author A")));
+        when(novelBulkRepository.findAuthorIdsByNames(anyCollection())).thenReturn(Map.of("Author B", "author-b"));
+        when(novelBulkRepository.findCategoryIdsByNames(anyCollection())).thenReturn(Map.of("Fantasy", "category-fantasy"));
+
+        // when
+        NovelImportResponse response = novelImportService.importNovels(payload);
+
+        // then
+        assertThat(response.results())
+                .extracting(NovelImportResult::status)
+                .containsExactly(
+                        NovelImportResult.Status.DUPLICATED,
+                        NovelImportResult.Status.CREATED,
+                        NovelImportResult.Status.DUPLICATED);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<String>> titlesCaptor = ArgumentCaptor.forClass(Collection.class);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<String>> authorsCaptor = ArgumentCaptor.forClass(Collection.class);
+        verify(novelBulkRepository).findExistingTitleAuthors(titlesCaptor.capture(), authorsCaptor.capture());
+        assertThat(titlesCaptor.getValue()).hasSize(2);
+        assertThat(authorsCaptor.getValue()).hasSize(2);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<NewNovel>> novelsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(novelBulkRepository).insertNovels(novelsCaptor.capture());
+        assertThat(novelsCaptor.getValue())
+                .singleElement()
+                .satisfies(novel -> assertThat(novel.authorId()).isEqualTo("author-b"));
+    }
+
+    @Test
+    void should_ThrowNovelImportPayloadException_When_PayloadIsMalformed() {
+        // given
+        InputStream payload = payload("{\"title\": \"Broken\", ");
+
+        // when
+        NovelImportPayloadException exception = assertThrows(NovelImportPayloadException.class,
+                () -> novelImportService.importNovels(payload));
+
+        // then
+        assertThat(exception.getErrorCode()).isEqualTo(INVALID_IMPORT_PAYLOAD);
+        verify(novelBulkRepository, never()).insertNovels(anyList());
+    }
+
+    private static String novelJson(String title, String author, String category) {
+        return String.format(
+                "{\"title\":\"%s\",\"author\":\"%s\",\"summary\":\"summary\",\"category\":[\"%s\"],\"publicationYear\":2024}",
+                title, author, category);
+    }
+
+    private static InputStream payload(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,177 @@
+package com.eatbook.backoffice.domain.novel.service;
+
+import com.eatbook.backoffice.domain.novel.dto.NovelDetailResponse;
+import com.eatbook.backoffice.domain.novel.dto.NovelEpisodeListResponse;
+import com.eatbook.backoffice.domain.novel.dto.NovelListResponse;
+import com.eatbook.backoffice.domain.novel.repository.*;
+import com.eatbook.backoffice.domain.statistics.service.ViewCountService;
+import com.eatbook.backoffice.entity.Author;
+import com.eatbook.backoffice.entity.Category;
+import com.eatbook.backoffice.entity.Novel;
+import com.eatbook.backoffice.global.config.CacheConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+import static com.eatbook.backoffice.domain.novel.fixture.NovelFixture.*;
+import static com.eatbook.backoffice.global.config.CacheConfig.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * NovelService의 캐시 적중과 무효화를 확인합니다.
+ * 캐시 프록시가 필요하므로 CacheConfig와 NovelService만 올린 컨텍스트에서 리포지토리를 목으로 대체합니다.
+ * 조회수 기록은 읽은 상세 정보를 그대로 돌려주도록 대체합니다.
+ */
+@SpringBootTest(classes = {CacheConfig.class, NovelService.class},
+        properties = {"cloud.aws.s3.bucket.public=test-bucket", "cloud.aws.region.static=ap-northeast-2"})
+class NovelServiceCacheTest {
+
+    @Autowired
+    private NovelService novelService;
+    @Autowired
+    private CacheManager cacheManager;
+
+    @MockBean
+    private NovelRepository novelRepository;
+    @MockBean
+    private AuthorRepository authorRepository;
+    @MockBean
+    private CategoryRepository categoryRepository;
+    @MockBean
+    private NovelCategoryRepository novelCategoryRepository;
+    @MockBean
+    private NovelAuthorRepository novelAuthorRepository;
+    @MockBean
+    private FileService fileService;
+    @MockBean
+    private ViewCountService viewCountService;
+
+    @BeforeEach
+    void clearCaches() {
+        List.of(NOVEL_LIST, NOVEL_DETAIL, NOVEL_EPISODES).forEach(name -> cacheManager.getCache(name).clear());
+        when(viewCountService.recordNovelView(anyString(), any(), any())).thenAnswer(invocation -> {
+            Supplier<NovelDetailResponse> loader = invocation.getArgument(1);
+            BiFunction<NovelDetailResponse, Integer, NovelDetailResponse> mapper = invocation.getArgument(2);
+            return mapper.apply(loader.get(), 0);
+        });
+    }
+
+    @Test
+    void should_ReadNovelListOnce_When_SamePageRequestedTwice() {
+        // given
+        setUpNovelList();
+        stubNovelList();
+
+        // when
+        NovelListResponse first = novelService.getNovelList(page, size);
+        NovelListResponse second = novelService.getNovelList(page, size);
+
+        // then
+        assertThat(second).isEqualTo(first);
+        verify(novelRepository, times(1)).findNovelIds(any(Pageable.class));
+        verify(novelRepository, times(1)).findNovelInfosByIds(anyList());
+    }
+
+    @Test
+    void should_ReloadNovelList_When_NovelCreated() {
+        // given
+        setUpNovelList();
+        stubNovelList();
+        when(novelRepository.save(any(Novel.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(authorRepository.save(any(Author.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(categoryRepository.save(any(Category.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        novelService.getNovelList(page, size);
+
+        // when
+        novelService.createNovel(getNovelRequest());
+        novelService.getNovelList(page, size);
+
+        // then
+        verify(novelRepository, times(2)).findNovelIds(any(Pageable.class));
+    }
+
+    @Test
+    void should_ReadNovelDetailOnce_When_SameNovelRequestedTwice() {
+        // given
+        NovelDetailResponse detail = createDetailResponse(testId);
+        when(novelRepository.findNovelDetailById(testId)).thenReturn(detail);
+
+        // when
+        novelService.getNovelDetail(testId);
+        NovelDetailResponse cached = novelService.getNovelDetail(testId);
+
+        // then
+        assertThat(cached).isEqualTo(detail);
+        verify(novelRepository, times(1)).findNovelDetailById(testId);
+    }
+
+    @Test
+    void should_ReadNovelEpisodesOnce_When_SameNovelRequestedTwice() {
+        // given
+        NovelEpisodeListResponse episodes = NovelEpisodeListResponse.of(testId, setUpMockEpisodes());
+        when(novelRepository.findNovelEpisodeListById(testId)).thenReturn(episodes);
+
+        // when
+        novelService.getNovelEpisodes(testId);
+        NovelEpisodeListResponse cached = novelService.getNovelEpisodes(testId);
+
+        // then
+        assertThat(cached).isEqualTo(episodes);
+        verify(novelRepository, times(1)).findNovelEpisodeListById(testId);
+    }
+
+    @Test
+    void should_ExpireNovelDetailSoonerThanOtherCaches_When_Configured() {
+        // given
+        nativeCache(NOVEL_DETAIL).put(testId, createDetailResponse(testId));
+
+        // then
+        assertThat(expiresAfter(NOVEL_DETAIL, testId)).isLessThanOrEqualTo(Duration.ofSeconds(30));
+        assertThat(nativeCache(NOVEL_LIST).policy().expireAfterWrite().orElseThrow().getExpiresAfter())
+                .isEqualTo(Duration.ofMinutes(10));
+    }
+
+    @Test
+    void should_KeepNovelDetailExpiry_When_CachedEntryRefreshed() throws InterruptedException {
+        // given
+        NovelDetailResponse detail = createDetailResponse(testId);
+        nativeCache(NOVEL_DETAIL).put(testId, detail);
+        Thread.sleep(50);
+        Duration before = expiresAfter(NOVEL_DETAIL, testId);
+
+        // when
+        cacheManager.getCache(NOVEL_DETAIL).put(testId, detail.withViews(detail.views() + 1));
+
+        // then
+        assertThat(expiresAfter(NOVEL_DETAIL, testId)).isLessThanOrEqualTo(before);
+    }
+
+    private void stubNovelList() {
+        List<String> novelIds = novels.stream().map(Novel::getId).toList();
+        when(novelRepository.findNovelIds(any(Pageable.class))).thenReturn(createPaginatedIds(page, size, novelIds));
+        when(novelRepository.findNovelInfosByIds(anyList())).thenReturn(createNovelInfos(novels.subList(0, size)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache(String cacheName) {
+        return (com.github.benmanes.caffeine.cache.Cache<Object, Object>) cacheManager.getCache(cacheName).getNativeCache();
+    }
+
+    private Duration expiresAfter(String cacheName, Object key) {
+        return nativeCache(cacheName).policy().expireVariably().orElseThrow().getExpiresAfter(key).orElseThrow();
+    }
+}
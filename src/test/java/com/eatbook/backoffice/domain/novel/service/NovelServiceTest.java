@@ -3,11 +3,13 @@ package com.eatbook.backoffice.domain.novel.service;
 import com.eatbook.backoffice.domain.novel.dto.*;
 import com.eatbook.backoffice.domain.novel.exception.NovelAlreadyExistsException;
 import com.eatbook.backoffice.domain.novel.exception.NovelNotFoundException;
+import com.eatbook.backoffice.global.exception.exceptions.InvalidCursorException;
 import com.eatbook.backoffice.global.exception.exceptions.PageOutOfBoundException;
 import com.eatbook.backoffice.domain.novel.repository.*;
 import com.eatbook.backoffice.entity.Author;
 import com.eatbook.backoffice.entity.Category;
 import com.eatbook.backoffice.entity.Novel;
+import com.eatbook.backoffice.domain.statistics.service.ViewCountService;
 import com.eatbook.backoffice.entity.NovelAuthor;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -15,15 +17,21 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
 
 import static com.eatbook.backoffice.domain.novel.fixture.NovelFixture.*;
 import static com.eatbook.backoffice.domain.novel.response.NovelErrorCode.NOVEL_ALREADY_EXISTS;
 import static com.eatbook.backoffice.domain.novel.response.NovelErrorCode.NOVEL_NOT_FOUND;
+import static com.eatbook.backoffice.global.config.CacheConfig.NOVEL_DETAIL;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -47,6 +55,12 @@ class NovelServiceTest {
     private NovelAuthorRepository novelAuthorRepository;
     @Mock
     private FileService fileService;
+    @Mock
+    private ViewCountService viewCountService;
+    @Mock
+    private CacheManager cacheManager;
+    @Mock
+    private Cache novelDetailCache;
 
     @Test
     void should_ThrowNovelAlreadyExistsException_When_TryingToCreateNovelWithSameTitleAndAuthor() {
@@ -98,8 +112,8 @@ class NovelServiceTest {
 
         // Then
         assertThat(novelResponse.novelId()).isNotNull();
-        // Repository와 관련된 save 메서드가 2번씩 호출되었는지 확인
-        verify(novelRepository, times(2)).save(any(Novel.class));
+        // 커버 이미지 경로까지 채워진 소설이 한 번만 저장되었는지 확인
+        verify(novelRepository, times(1)).save(argThat((Novel novel) -> novel.getCoverImageUrl().endsWith(novel.getId())));
     }
 
     @Test
@@ -142,8 +156,8 @@ class NovelServiceTest {
         // Then
         assertThat(novelResponse.novelId()).isNotNull();
 
-        // Repository와 관련된 save 메서드가 2번씩 호출되었는지 확인
-        verify(novelRepository, times(2)).save(any(Novel.class));
+        // 소설이 한 번만 저장되었는지 확인
+        verify(novelRepository, times(1)).save(any(Novel.class));
     }
 
     @Test
@@ -155,8 +169,8 @@ class NovelServiceTest {
         Mockito.when(novelRepository.findNovelIds(any(Pageable.class)))
                 .thenReturn(paginatedIds);
 
-        Mockito.when(novelRepository.findAllByIdsWithAuthorsAndCategories(anyList()))
-                .thenReturn(novels);
+        Mockito.when(novelRepository.findNovelInfosByIds(anyList()))
+                .thenReturn(createNovelInfos(novels));
 
         int totalElements = novels.size();
         int expectedTotalPages = (totalElements + size - 1) / size;
@@ -186,12 +200,106 @@ class NovelServiceTest {
     }
 
     @Test
-    void should_ReturnNovelDetail_When_ValidNovelIdProvided() {
+    void should_ReturnNextCursor_When_MoreNovelsExistAfterPage() {
+        // given
+        setUpNovelList();
+        List<NovelCursor> novelCursors = createNovelCursors(novels);
+
+        Mockito.when(novelRepository.findNovelCursors(isNull(), eq(size + 1)))
+                .thenReturn(novelCursors.subList(0, size + 1));
+
+        Mockito.when(novelRepository.findNovelInfosByIds(List.of(novels.get(0).getId(), novels.get(1).getId())))
+                .thenReturn(createNovelInfos(novels.subList(0, size)));
+
+        // when
+        NovelCursorListResponse result = novelService.getNovelListByCursor(null, size);
+
+        // then
+        assertTrue(result.hasNext());
+        assertEquals(size, result.size());
+        assertEquals(novels.get(0).getId(), result.novelList().get(0).id());
+        assertEquals(novels.get(1).getId(), result.novelList().get(1).id());
+        assertEquals(novelCursors.get(size - 1), NovelCursor.decode(result.nextCursor()));
+    }
+
+    @Test
+    void should_ReturnNoNextCursor_When_LastPageReached() {
+        // given
+        setUpNovelList();
+        List<NovelCursor> novelCursors = createNovelCursors(novels);
+        NovelCursor after = novelCursors.get(2);
+
+        Mockito.when(novelRepository.findNovelCursors(eq(after), eq(size + 1)))
+                .thenReturn(novelCursors.subList(3, novelCursors.size()));
+
+        Mockito.when(novelRepository.findNovelInfosByIds(anyList()))
+                .thenReturn(createNovelInfos(novels.subList(3, novels.size())));
+
+        // when
+        NovelCursorListResponse result = novelService.getNovelListByCursor(after.encode(), size);
+
+        // then
+        assertFalse(result.hasNext());
+        assertNull(result.nextCursor());
+        assertEquals(2, result.novelList().size());
+    }
+
+    @Test
+    void should_ThrowInvalidCursorException_When_CursorIsMalformed() {
+        // when, then
+        assertThrows(InvalidCursorException.class, () -> novelService.getNovelListByCursor("not-a-cursor", size));
+
+        verify(novelRepository, never()).findNovelCursors(any(), anyInt());
+    }
+
+    @Test
+    void should_SearchWithFullTextPhrase_When_QueryIsLongEnough() {
         // given
-        NovelDetailResponse expectedResponse = createDetailResponse(testId);
+        ReflectionTestUtils.setField(novelService, "fullTextMinQueryLength", 2);
+        setUpNovelList();
+        List<String> novelIds = novels.stream().map(Novel::getId).toList();
+
+        Mockito.when(novelRepository.findNovelIdsByFullText(eq("\"해리 포터\""), any(Pageable.class)))
+                .thenReturn(createPaginatedIds(page, size, novelIds));
+        Mockito.when(novelRepository.findNovelInfosByIds(anyList()))
+                .thenReturn(createNovelInfos(novels.subList(0, size)));
+
+        // when
+        NovelListResponse result = novelService.searchNovels("+해리 포터*", page, size);
 
+        // then
+        assertEquals(novels.size(), result.totalElements());
+        verify(novelRepository, never()).findNovelIdsByQuery(anyString(), any(Pageable.class));
+    }
+
+    @Test
+    void should_FallBackToLikeSearch_When_QueryIsShorterThanNgramToken() {
+        // given
+        ReflectionTestUtils.setField(novelService, "fullTextMinQueryLength", 2);
+        setUpNovelList();
+        List<String> novelIds = novels.stream().map(Novel::getId).toList();
+
+        Mockito.when(novelRepository.findNovelIdsByQuery(eq("해"), any(Pageable.class)))
+                .thenReturn(createPaginatedIds(page, size, novelIds));
+        Mockito.when(novelRepository.findNovelInfosByIds(anyList()))
+                .thenReturn(createNovelInfos(novels.subList(0, size)));
+
+        // when
+        novelService.searchNovels("해", page, size);
+
+        // then
+        verify(novelRepository, never()).findNovelIdsByFullText(anyString(), any(Pageable.class));
+    }
+
+    @Test
+    void should_ReturnNovelDetailWithPendingViews_When_ValidNovelIdProvided() {
+        // given
+        NovelDetailResponse storedResponse = createDetailResponse(testId);
+
+        stubNovelDetailCache();
+        stubRecordNovelView(2);
         Mockito.when(novelRepository.findNovelDetailById(testId))
-                .thenReturn(expectedResponse);
+                .thenReturn(storedResponse);
 
         // when
         NovelDetailResponse result = novelService.getNovelDetail(testId);
@@ -199,12 +307,33 @@ class NovelServiceTest {
         // then
         assertThat(result)
                 .usingRecursiveComparison()
-                .isEqualTo(expectedResponse);
+                .isEqualTo(storedResponse.withViews(storedResponse.views() + 2));
+        verify(novelDetailCache).put(testId, storedResponse);
+    }
+
+    @Test
+    void should_ReturnCachedNovelDetail_When_NovelDetailIsCached() {
+        // given
+        NovelDetailResponse cachedResponse = createDetailResponse(testId);
+
+        stubNovelDetailCache();
+        stubRecordNovelView(1);
+        Mockito.when(novelDetailCache.get(testId, NovelDetailResponse.class))
+                .thenReturn(cachedResponse);
+
+        // when
+        NovelDetailResponse result = novelService.getNovelDetail(testId);
+
+        // then
+        assertThat(result.views()).isEqualTo(cachedResponse.views() + 1);
+        verify(novelRepository, never()).findNovelDetailById(anyString());
     }
 
     @Test
     void should_ThrowNovelNotFoundException_When_NovelIdIsInvalid() {
         // given
+        stubNovelDetailCache();
+        stubRecordNovelView(1);
         Mockito.when(novelRepository.findNovelDetailById(invalidId))
                 .thenThrow(new NovelNotFoundException(NOVEL_NOT_FOUND));
 
@@ -218,29 +347,48 @@ class NovelServiceTest {
         // given
         List<CommentInfo> mockCommentResponse = setUpMockComments();
 
-        NovelCommentListResponse mockResponse = NovelCommentListResponse.of(testId, mockCommentResponse);
-
-        when(novelRepository.findNovelCommentListById(testId)).thenReturn(mockResponse);
+        when(novelRepository.findNovelComments(testId, null, null, size + 1)).thenReturn(mockCommentResponse);
 
         // when
-        NovelCommentListResponse result = novelService.getNovelComments(testId);
+        NovelCommentListResponse result = novelService.getNovelComments(testId, null, null, size);
 
         // then
         assertNotNull(result);
         assertEquals(testId, result.id());
         assertEquals(mockCommentResponse.size(), result.commentList().size());
         assertEquals(mockCommentResponse.get(0).content(), result.commentList().get(0).content());
+        assertFalse(result.hasNext());
+        assertNull(result.nextCursor());
     }
 
     @Test
-    void should_ReturnEmptyComments_When_NoCommentsExist() {
+    void should_ReturnCommentCursor_When_MoreCommentsExist() {
         // given
-        NovelCommentListResponse mockResponse = NovelCommentListResponse.of(testId, List.of());
+        List<CommentInfo> mockCommentResponse = setUpMockComments();
+        CommentInfo lastComment = mockCommentResponse.get(0);
 
-        when(novelRepository.findNovelCommentListById(testId)).thenReturn(mockResponse);
+        when(novelRepository.findNovelComments(testId, null, null, 2)).thenReturn(mockCommentResponse);
+        when(novelRepository.findNovelComments(eq(testId), isNull(), eq(CommentCursor.from(lastComment)), eq(2)))
+                .thenReturn(mockCommentResponse.subList(1, 2));
 
         // when
-        NovelCommentListResponse result = novelService.getNovelComments(testId);
+        NovelCommentListResponse firstPage = novelService.getNovelComments(testId, null, null, 1);
+        NovelCommentListResponse secondPage = novelService.getNovelComments(testId, null, firstPage.nextCursor(), 1);
+
+        // then
+        assertTrue(firstPage.hasNext());
+        assertEquals(1, firstPage.commentList().size());
+        assertFalse(secondPage.hasNext());
+        assertEquals(mockCommentResponse.get(1).id(), secondPage.commentList().get(0).id());
+    }
+
+    @Test
+    void should_ReturnEmptyComments_When_NoCommentsExist() {
+        // given
+        when(novelRepository.findNovelComments(testId, null, null, size + 1)).thenReturn(List.of());
+
+        // when
+        NovelCommentListResponse result = novelService.getNovelComments(testId, null, null, size);
 
         // then
         assertNotNull(result);
@@ -266,4 +414,16 @@ class NovelServiceTest {
         assertEquals(mockResponse.episodeList().get(0).title(), result.episodeList().get(0).title());
     }
 
-}
\ No newline at end of file
+
+    private void stubNovelDetailCache() {
+        Mockito.when(cacheManager.getCache(NOVEL_DETAIL)).thenReturn(novelDetailCache);
+    }
+
+    private void stubRecordNovelView(int pendingViews) {
+        Mockito.when(viewCountService.recordNovelView(anyString(), any(), any())).thenAnswer(invocation -> {
+            Supplier<NovelDetailResponse> loader = invocation.getArgument(1);
+            BiFunction<NovelDetailResponse, Integer, NovelDetailResponse> mapper = invocation.getArgument(2);
+            return mapper.apply(loader.get(), pendingViews);
+        });
+    }
+}
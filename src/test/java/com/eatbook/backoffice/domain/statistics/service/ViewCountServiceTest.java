@@ -0,0 +1,212 @@
+package com.eatbook.backoffice.domain.statistics.service;
+
+import com.eatbook.backoffice.domain.novel.dto.NovelDetailResponse;
+import com.eatbook.backoffice.domain.statistics.repository.ViewCountRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.eatbook.backoffice.domain.novel.fixture.NovelFixture.createDetailResponse;
+import static com.eatbook.backoffice.global.config.CacheConfig.NOVEL_DETAIL;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ViewCountServiceTest {
+
+    private static final String NOVEL_ID = "2ed5d018-1499-407f-a73f-23ab142ba593";
+    private static final String EPISODE_ID = "3ed5d018-1499-407f-a73f-23ab142ba593";
+
+    @Mock
+    private ViewCountRepository viewCountRepository;
+    @Mock
+    private CacheManager cacheManager;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private Cache novelDetailCache;
+    private ViewCountService viewCountService;
+
+    @BeforeEach
+    void setUp() {
+        viewCountService = new ViewCountService(viewCountRepository, cacheManager, transactionManager);
+        ReflectionTestUtils.setField(viewCountService, "batchSize", 100);
+        novelDetailCache = new CaffeineCache(NOVEL_DETAIL, Caffeine.newBuilder().build(), false);
+        lenient().when(cacheManager.getCache(NOVEL_DETAIL)).thenReturn(novelDetailCache);
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+    }
+
+    @Test
+    void should_ReturnPendingViewsUntilFlushed_When_RecordingViews() {
+        // given
+        NovelDetailResponse cached = createDetailResponse(NOVEL_ID);
+        novelDetailCache.put(NOVEL_ID, cached);
+
+        // when
+        recordNovelView();
+        int pending = recordNovelView();
+
+        // then
+        assertThat(pending).isEqualTo(2);
+
+        // when
+        viewCountService.flush();
+
+        // then
+        verify(viewCountRepository).addNovelViews(Map.of(NOVEL_ID, 2L), 100);
+        verify(transactionManager).commit(any());
+        assertThat(novelDetailCache.get(NOVEL_ID, NovelDetailResponse.class)).isEqualTo(cached.withViews(cached.views() + 2));
+        assertThat(recordNovelView()).isEqualTo(1);
+    }
+
+    @Test
+    void should_EvictCachedDetail_When_FlushCommitsWhileReading() {
+        // given
+        novelDetailCache.put(NOVEL_ID, createDetailResponse(NOVEL_ID));
+        recordNovelView();
+
+        // when
+        int pending = viewCountService.recordNovelView(NOVEL_ID, () -> {
+            viewCountService.flush();
+            return 0;
+        }, (views, pendingViews) -> pendingViews);
+
+        // then
+        verify(viewCountRepository).addNovelViews(Map.of(NOVEL_ID, 1L), 100);
+        assertThat(pending).isEqualTo(1);
+        assertThat(novelDetailCache.get(NOVEL_ID)).isNull();
+    }
+
+    @Test
+    void should_NotCountViewsTwice_When_ReadingWhileFlushing() throws InterruptedException {
+        // given
+        // 기록한 증가분은 커밋할 때 읽는 쪽에 보입니다.
+        AtomicLong uncommitted = new AtomicLong();
+        AtomicLong stored = new AtomicLong();
+        AtomicLong started = new AtomicLong();
+        AtomicBoolean overCounted = new AtomicBoolean();
+        doAnswer(invocation -> {
+            Map<String, Long> deltas = invocation.getArgument(0);
+            uncommitted.addAndGet(deltas.getOrDefault(EPISODE_ID, 0L));
+            return null;
+        }).when(viewCountRepository).addEpisodeViews(anyMap(), anyInt());
+        doAnswer(invocation -> {
+            stored.addAndGet(uncommitted.getAndSet(0));
+            return null;
+        }).when(transactionManager).commit(any());
+
+        int threads = 4;
+        int viewsPerThread = 5_000;
+        CountDownLatch done = new CountDownLatch(threads);
+        ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+
+        // when
+        for (int i = 0; i < threads; i++) {
+            executor.submit(() -> {
+                for (int j = 0; j < viewsPerThread; j++) {
+                    long upperBound = started.incrementAndGet();
+                    long views = viewCountService.recordEpisodeView(EPISODE_ID, stored::get, (value, pending) -> value + pending);
+                    if (views > upperBound) {
+                        overCounted.set(true);
+                    }
+                }
+                done.countDown();
+            });
+        }
+        executor.submit(() -> {
+            while (done.getCount() > 0) {
+                viewCountService.flush();
+            }
+        });
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+        viewCountService.flush();
+
+        // then
+        assertThat(overCounted).isFalse();
+        assertThat(stored.get()).isEqualTo((long) threads * viewsPerThread);
+    }
+
+    @Test
+    void should_WriteEveryIncrementOnce_When_ViewsAreRecordedConcurrently() throws InterruptedException {
+        // given
+        int threads = 8;
+        int viewsPerThread = 10_000;
+        CountDownLatch done = new CountDownLatch(threads);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // when
+        for (int i = 0; i < threads; i++) {
+            executor.submit(() -> {
+                for (int j = 0; j < viewsPerThread; j++) {
+                    recordEpisodeView();
+                    if (j % 1_000 == 0) {
+                        viewCountService.flush();
+                    }
+                }
+                done.countDown();
+            });
+        }
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+        viewCountService.flush();
+        viewCountService.flush();
+
+        // then
+        @SuppressWarnings("unchecked")
+        long written = mockingDetails(viewCountRepository).getInvocations().stream()
+                .filter(invocation -> invocation.getMethod().getName().equals("addEpisodeViews"))
+                .mapToLong(invocation -> ((Map<String, Long>) invocation.getArgument(0)).getOrDefault(EPISODE_ID, 0L))
+                .sum();
+        assertThat(written).isEqualTo((long) threads * viewsPerThread);
+    }
+
+    @Test
+    void should_KeepDeltasForNextFlush_When_WriteFails() {
+        // given
+        recordEpisodeView();
+        doThrow(new QueryTimeoutException("timeout"))
+                .doNothing()
+                .when(viewCountRepository).addEpisodeViews(anyMap(), anyInt());
+
+        // when
+        viewCountService.flush();
+
+        // then
+        verify(transactionManager).rollback(any());
+        assertThat(recordEpisodeView()).isEqualTo(2);
+
+        // when
+        viewCountService.flush();
+
+        // then
+        verify(viewCountRepository).addEpisodeViews(Map.of(EPISODE_ID, 2L), 100);
+    }
+
+    private int recordNovelView() {
+        return viewCountService.recordNovelView(NOVEL_ID, () -> 0, (views, pending) -> pending);
+    }
+
+    private int recordEpisodeView() {
+        return viewCountService.recordEpisodeView(EPISODE_ID, () -> 0, (views, pending) -> pending);
+    }
+}
@@ -0,0 +1,147 @@
+package com.eatbook.backoffice.loadtest;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실행 중인 서버에 같은 요청을 동시에 보내 처리량과 지연 시간 분포를 비교하는 부하 테스트입니다.
+ * spring.threads.virtual.enabled를 끄고 켠 두 서버를 띄운 뒤, 대상을 이름=URL 형식으로 넘겨 실행합니다.
+ *
+ * <pre>
+ * ./gradlew test --tests '*VirtualThreadLoadTest' \
+ *     -Dloadtest.targets=platform=http://localhost:8090/api/admin/novels?size=10,virtual=http://localhost:8091/api/admin/novels?size=10 \
+ *     -Dloadtest.token=... -Dloadtest.concurrency=400 -Dloadtest.duration=30s
+ * </pre>
+ */
+@EnabledIfSystemProperty(named = "loadtest.targets", matches = ".+")
+class VirtualThreadLoadTest {
+
+    private static final Duration WARM_UP = Duration.ofSeconds(5);
+
+    private final int concurrency = Integer.getInteger("loadtest.concurrency", 200);
+    private final Duration duration = Duration.parse("PT" + System.getProperty("loadtest.duration", "30s"));
+    private final String token = System.getProperty("loadtest.token");
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    @Test
+    void should_ReportThroughputAndLatency_When_LoadingTargets() throws Exception {
+        Map<String, Result> results = new LinkedHashMap<>();
+        for (String target : System.getProperty("loadtest.targets").split(",")) {
+            String[] nameAndUrl = target.split("=", 2);
+            URI uri = URI.create(nameAndUrl[1]);
+
+            run(uri, WARM_UP);
+            results.put(nameAndUrl[0], run(uri, duration));
+        }
+
+        System.out.printf("%-12s %12s %10s %10s %10s %8s%n", "target", "requests/s", "p50(ms)", "p99(ms)", "max(ms)", "errors");
+        results.forEach((name, result) -> System.out.printf("%-12s %12.1f %10.1f %10.1f %10.1f %8d%n",
+                name, result.throughput(), result.percentileMillis(50), result.percentileMillis(99),
+                result.percentileMillis(100), result.errors()));
+
+        assertThat(results.values()).allSatisfy(result -> assertThat(result.latencies()).isNotEmpty());
+    }
+
+    /**
+     * concurrency개의 가상 스레드가 주어진 시간 동안 응답을 받는 즉시 다음 요청을 보냅니다.
+     */
+    private Result run(URI uri, Duration runFor) throws Exception {
+        HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(30)).GET();
+        if (token != null) {
+            requestBuilder.header("Authorization", "Bearer " + token);
+        }
+        HttpRequest request = requestBuilder.build();
+
+        long deadline = System.nanoTime() + runFor.toNanos();
+        AtomicLong errors = new AtomicLong();
+        List<Future<long[]>> futures = new ArrayList<>(concurrency);
+
+        long startedAt = System.nanoTime();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                futures.add(clients.submit(() -> {
+                    LatencyBuffer latencies = new LatencyBuffer();
+                    while (System.nanoTime() < deadline) {
+                        long sentAt = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() >= 400) {
+                                errors.incrementAndGet();
+                                continue;
+                            }
+                            latencies.add(System.nanoTime() - sentAt);
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                    }
+                    return latencies.toArray();
+                }));
+            }
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+
+        long[] latencies = futures.stream()
+                .map(VirtualThreadLoadTest::join)
+                .flatMapToLong(Arrays::stream)
+                .sorted()
+                .toArray();
+        return new Result(latencies, errors.get(), latencies.length / (elapsedNanos / 1_000_000_000.0));
+    }
+
+    private static long[] join(Future<long[]> future) {
+        try {
+            return future.get();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Result(long[] latencies, long errors, double throughput) {
+
+        double percentileMillis(int percentile) {
+            if (latencies.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile / 100.0 * latencies.length) - 1;
+            return latencies[Math.max(index, 0)] / 1_000_000.0;
+        }
+    }
+
+    private static final class LatencyBuffer {
+
+        private long[] values = new long[1024];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
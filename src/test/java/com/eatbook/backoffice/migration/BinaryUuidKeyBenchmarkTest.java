@@ -0,0 +1,112 @@
+package com.eatbook.backoffice.migration;
+
+import com.eatbook.backoffice.global.utils.BinaryUuid;
+import com.eatbook.backoffice.global.utils.UuidGenerator;
+import com.eatbook.backoffice.support.MySqlTestSupport;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * VARCHAR(36) 무작위 UUID 키와 BINARY(16) UUIDv7 키의 삽입 시간과 테이블/인덱스 크기를 비교합니다.
+ * 실행 시간이 길어 기본 빌드에서는 제외되며, -Dbenchmark=true로 실행합니다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class BinaryUuidKeyBenchmarkTest {
+
+    private static final int ROW_COUNT = 100_000;
+    private static final int BATCH_SIZE = 1_000;
+    private static final int PARENT_COUNT = 1_000;
+
+    @Container
+    private static final MySQLContainer<?> mysql = MySqlTestSupport.container();
+
+    private static JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void setUp() {
+        jdbcTemplate = MySqlTestSupport.jdbcTemplate(mysql);
+        jdbcTemplate.execute("SET SESSION information_schema_stats_expiry = 0");
+
+        jdbcTemplate.execute("CREATE TABLE key_varchar (" +
+                "id VARCHAR(36) NOT NULL PRIMARY KEY, " +
+                "parent_id VARCHAR(36) NOT NULL, " +
+                "payload VARCHAR(100) NOT NULL, " +
+                "INDEX idx_key_varchar_parent (parent_id))");
+
+        jdbcTemplate.execute("CREATE TABLE key_binary (" +
+                "id BINARY(16) NOT NULL PRIMARY KEY, " +
+                "parent_id BINARY(16) NOT NULL, " +
+                "payload VARCHAR(100) NOT NULL, " +
+                "INDEX idx_key_binary_parent (parent_id))");
+    }
+
+    @Test
+    void should_ShrinkIndexes_When_StoringTimeOrderedBinaryKeys() {
+        List<String> varcharParents = parents(() -> UUID.randomUUID().toString());
+        List<String> binaryParents = parents(UuidGenerator::generate);
+
+        long varcharNanos = insert("INSERT INTO key_varchar (id, parent_id, payload) VALUES (?, ?, ?)",
+                () -> UUID.randomUUID().toString(), varcharParents, id -> id);
+        long binaryNanos = insert("INSERT INTO key_binary (id, parent_id, payload) VALUES (?, ?, ?)",
+                UuidGenerator::generate, binaryParents, BinaryUuid::toBytes);
+
+        jdbcTemplate.execute("ANALYZE TABLE key_varchar, key_binary");
+        Map<String, Object> varcharSize = tableSize("key_varchar");
+        Map<String, Object> binarySize = tableSize("key_binary");
+
+        System.out.printf("VARCHAR(36) v4: insert=%dms, data=%s, index=%s%n",
+                varcharNanos / 1_000_000, varcharSize.get("data_length"), varcharSize.get("index_length"));
+        System.out.printf("BINARY(16) v7: insert=%dms, data=%s, index=%s%n",
+                binaryNanos / 1_000_000, binarySize.get("data_length"), binarySize.get("index_length"));
+
+        assertThat(((Number) binarySize.get("index_length")).longValue())
+                .isLessThan(((Number) varcharSize.get("index_length")).longValue());
+        assertThat(((Number) binarySize.get("data_length")).longValue())
+                .isLessThan(((Number) varcharSize.get("data_length")).longValue());
+    }
+
+    private static List<String> parents(Supplier<String> idSupplier) {
+        List<String> parents = new ArrayList<>(PARENT_COUNT);
+        for (int i = 0; i < PARENT_COUNT; i++) {
+            parents.add(idSupplier.get());
+        }
+        return parents;
+    }
+
+    private static long insert(String sql, Supplier<String> idSupplier, List<String> parents,
+                               Function<String, Object> converter) {
+        long startedAt = System.nanoTime();
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < ROW_COUNT; i++) {
+            batch.add(new Object[]{
+                    converter.apply(idSupplier.get()),
+                    converter.apply(parents.get(i % PARENT_COUNT)),
+                    "payload-" + i});
+            if (batch.size() == BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(sql, batch);
+                batch.clear();
+            }
+        }
+        return System.nanoTime() - startedAt;
+    }
+
+    private static Map<String, Object> tableSize(String tableName) {
+        return jdbcTemplate.queryForMap("SELECT data_length, index_length FROM information_schema.TABLES " +
+                "WHERE table_schema = DATABASE() AND table_name = ?", tableName);
+    }
+}
@@ -0,0 +1,93 @@
+package com.eatbook.backoffice.migration;
+
+import com.eatbook.backoffice.support.MySqlTestSupport;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static com.eatbook.backoffice.support.MySqlTestSupport.seedId;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * favorite 테이블의 트리거가 novel.like_count를 증감하는지 확인합니다.
+ * Docker를 사용할 수 없는 환경에서는 건너뜁니다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class NovelLikeCountTriggerTest {
+
+    private static final int MEMBER = 1;
+    private static final int NOVEL = 4;
+
+    private static final byte[] NOVEL_ID = seedId(NOVEL, 1);
+    private static final byte[] FIRST_MEMBER_ID = seedId(MEMBER, 1);
+    private static final byte[] SECOND_MEMBER_ID = seedId(MEMBER, 2);
+
+    @Container
+    private static final MySQLContainer<?> mysql = MySqlTestSupport.container();
+
+    private static JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void setUp() {
+        MySqlTestSupport.migrate(mysql);
+        jdbcTemplate = MySqlTestSupport.jdbcTemplate(mysql);
+
+        jdbcTemplate.update("INSERT INTO member (id, nickname, role) VALUES (?, 'first', 'MEMBER'), (?, 'second', 'MEMBER')",
+                FIRST_MEMBER_ID, SECOND_MEMBER_ID);
+        jdbcTemplate.update("INSERT INTO novel (id, title, is_completed) VALUES (?, 'title', FALSE)", NOVEL_ID);
+    }
+
+    @BeforeEach
+    void resetFavorites() {
+        jdbcTemplate.update("DELETE FROM favorite");
+        jdbcTemplate.update("UPDATE novel SET like_count = 0");
+    }
+
+    @Test
+    void should_IncrementLikeCount_When_FavoriteInserted() {
+        // when
+        addFavorite(FIRST_MEMBER_ID);
+        addFavorite(SECOND_MEMBER_ID);
+
+        // then
+        assertThat(likeCount()).isEqualTo(2);
+    }
+
+    @Test
+    void should_DecrementLikeCount_When_FavoriteDeleted() {
+        // given
+        addFavorite(FIRST_MEMBER_ID);
+        addFavorite(SECOND_MEMBER_ID);
+
+        // when
+        jdbcTemplate.update("DELETE FROM favorite WHERE novel_id = ? AND member_id = ?", NOVEL_ID, FIRST_MEMBER_ID);
+
+        // then
+        assertThat(likeCount()).isEqualTo(1);
+    }
+
+    @Test
+    void should_NotGoBelowZero_When_CounterAlreadyZero() {
+        // given
+        addFavorite(FIRST_MEMBER_ID);
+        jdbcTemplate.update("UPDATE novel SET like_count = 0 WHERE id = ?", NOVEL_ID);
+
+        // when
+        jdbcTemplate.update("DELETE FROM favorite WHERE novel_id = ?", NOVEL_ID);
+
+        // then
+        assertThat(likeCount()).isZero();
+    }
+
+    private void addFavorite(byte[] memberId) {
+        jdbcTemplate.update("INSERT INTO favorite (novel_id, member_id) VALUES (?, ?)", NOVEL_ID, memberId);
+    }
+
+    private int likeCount() {
+        return jdbcTemplate.queryForObject("SELECT like_count FROM novel WHERE id = ?", Integer.class, NOVEL_ID);
+    }
+}
@@ -0,0 +1,302 @@
+package com.eatbook.backoffice.migration;
+
+import com.eatbook.backoffice.domain.member.dto.MemberCursor;
+import com.eatbook.backoffice.domain.member.dto.MemberSearchCondition;
+import com.eatbook.backoffice.domain.member.repository.queryDSL.MemberCustomRepositoryImpl;
+import com.eatbook.backoffice.entity.constant.AgeGroup;
+import com.eatbook.backoffice.entity.constant.DeletedStatus;
+import com.eatbook.backoffice.entity.constant.Gender;
+import com.eatbook.backoffice.entity.constant.Role;
+import com.eatbook.backoffice.entity.constant.SortDirection;
+import com.eatbook.backoffice.entity.constant.SortField;
+import com.eatbook.backoffice.global.utils.BinaryUuid;
+import com.eatbook.backoffice.support.MySqlTestSupport;
+import com.eatbook.backoffice.support.RecordingDataSource;
+import com.eatbook.backoffice.support.RecordingDataSource.RecordedQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+import static com.eatbook.backoffice.support.MySqlTestSupport.seedId;
+import static com.eatbook.backoffice.support.MySqlTestSupport.seedIdSql;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * 마이그레이션이 적용된 MySQL에서 주요 조회 쿼리가 전체 테이블 스캔 없이 인덱스를 사용하는지 확인합니다.
+ * Docker를 사용할 수 없는 환경에서는 건너뜁니다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class QueryIndexPlanTest {
+
+    private static final int MEMBER = 1;
+    private static final int CATEGORY = 2;
+    private static final int AUTHOR = 3;
+    private static final int NOVEL = 4;
+    private static final int EPISODE = 5;
+    private static final int COMMENT = 6;
+
+    private static final byte[] NOVEL_ID = seedId(NOVEL, 42);
+    private static final byte[] EPISODE_ID = seedId(EPISODE, 42 * 100 + 3);
+    private static final byte[] MEMBER_ID = seedId(MEMBER, 1200);
+
+    private static final int MEMBER_PAGE_SIZE = 20;
+
+    @Container
+    private static final MySQLContainer<?> mysql = MySqlTestSupport.container();
+
+    private static JdbcTemplate jdbcTemplate;
+    private static RecordingDataSource recordingDataSource;
+    private static EntityManagerFactory entityManagerFactory;
+
+    @BeforeAll
+    static void setUp() {
+        MySqlTestSupport.migrate(mysql);
+        jdbcTemplate = MySqlTestSupport.jdbcTemplate(mysql);
+        seed();
+
+        recordingDataSource = new RecordingDataSource(new SingleConnectionDataSource(
+                mysql.getJdbcUrl(), mysql.getUsername(), mysql.getPassword(), true));
+        entityManagerFactory = MySqlTestSupport.entityManagerFactory(recordingDataSource);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        entityManagerFactory.close();
+    }
+
+    static Stream<Arguments> hotQueries() {
+        return Stream.of(
+                Arguments.of("소설 목록 페이지",
+                        "SELECT id FROM novel WHERE deleted_at IS NULL ORDER BY created_at DESC LIMIT 10 OFFSET 20",
+                        new Object[]{}),
+                Arguments.of("소설 목록 커서",
+                        "SELECT created_at, id FROM novel WHERE deleted_at IS NULL " +
+                                "AND (created_at < ? OR (created_at = ? AND id < ?)) " +
+                                "ORDER BY created_at DESC, id DESC LIMIT 11",
+                        new Object[]{"2024-06-01 00:00:00", "2024-06-01 00:00:00", NOVEL_ID}),
+                Arguments.of("소설 제목/작가 중복 검사",
+                        "SELECT na.* FROM novel_author na " +
+                                "JOIN novel n ON n.id = na.novel_id JOIN author a ON a.id = na.author_id " +
+                                "WHERE n.title = ? AND a.name = ?",
+                        new Object[]{"title-42", "author-42"}),
+                Arguments.of("회차 번호 채번",
+                        "UPDATE novel SET next_chapter = LAST_INSERT_ID(next_chapter + ?) WHERE id = ?",
+                        new Object[]{1, NOVEL_ID}),
+                Arguments.of("회차 제목 중복 검사",
+                        "SELECT * FROM episode WHERE title = ? AND novel_id = ?",
+                        new Object[]{"episode-3", NOVEL_ID}),
+                Arguments.of("회차 목록",
+                        "SELECT id, chapter_number, title FROM episode WHERE novel_id = ? ORDER BY chapter_number",
+                        new Object[]{NOVEL_ID}),
+                Arguments.of("회차별 댓글",
+                        "SELECT id FROM comment WHERE episode_id = ? ORDER BY created_at, id LIMIT 51",
+                        new Object[]{EPISODE_ID}),
+                Arguments.of("소설 댓글 커서",
+                        "SELECT c.id FROM comment c " +
+                                "JOIN episode e ON e.id = c.episode_id JOIN member m ON m.id = c.member_id " +
+                                "WHERE e.novel_id = ? ORDER BY e.chapter_number, c.created_at, c.id LIMIT 51",
+                        new Object[]{NOVEL_ID}),
+                Arguments.of("이메일 로그인",
+                        "SELECT * FROM member WHERE email = ?",
+                        new Object[]{"member-42@eatbook.com"}),
+                Arguments.of("권한별 회원 목록",
+                        "SELECT id FROM member WHERE role = ? ORDER BY created_at DESC LIMIT 10",
+                        new Object[]{"ADMIN"}),
+                Arguments.of("권한별 회원 목록 커서 (id)",
+                        "SELECT id FROM member WHERE role = ? AND id > ? ORDER BY id LIMIT 11",
+                        new Object[]{"MEMBER", MEMBER_ID}),
+                Arguments.of("권한별 회원 목록 커서 (닉네임)",
+                        "SELECT id FROM member WHERE role = ? " +
+                                "AND (nickname > ? OR (nickname = ? AND id > ?)) ORDER BY nickname, id LIMIT 11",
+                        new Object[]{"MEMBER", "nick-1200", "nick-1200", MEMBER_ID}),
+                Arguments.of("회원 목록 커서 (가입일 역순)",
+                        "SELECT id FROM member WHERE created_at < ? OR (created_at = ? AND id < ?) " +
+                                "ORDER BY created_at DESC, id DESC LIMIT 11",
+                        new Object[]{"2024-01-01 03:00:00", "2024-01-01 03:00:00", MEMBER_ID}),
+                Arguments.of("권한별 회원 수",
+                        "SELECT role, COUNT(*) FROM member GROUP BY role",
+                        new Object[]{}),
+                Arguments.of("작가 이름 조회",
+                        "SELECT * FROM author WHERE name = ?",
+                        new Object[]{"author-42"}),
+                Arguments.of("카테고리 이름 조회",
+                        "SELECT * FROM category WHERE name = ?",
+                        new Object[]{"category-7"})
+        );
+    }
+
+    /**
+     * 회원 검색 필터의 모든 조합을 정렬 필드마다 커서 다음 페이지로 조회합니다.
+     * MemberCustomRepositoryImpl.findMembersAfter가 실행한 SQL을 같은 바인딩 값으로 EXPLAIN 하므로,
+     * 커서 조건, ORDER BY (정렬 필드, id), LIMIT과 탈퇴 회원 필터까지 실제 쿼리와 같습니다.
+     */
+    static Stream<Arguments> memberSearches() {
+        List<SearchFilter> filters = List.of(
+                new SearchFilter("역할", builder -> builder.role(Role.MEMBER)),
+                new SearchFilter("이메일 접두사", builder -> builder.emailPrefix("member-12")),
+                new SearchFilter("닉네임 접두사", builder -> builder.nicknamePrefix("nick-12")),
+                new SearchFilter("성별", builder -> builder.gender(Gender.FEMALE)),
+                new SearchFilter("연령대", builder -> builder.ageGroup(AgeGroup.THIRTIES)),
+                new SearchFilter("가입일 기간", builder -> builder
+                        .createdFrom(LocalDateTime.parse("2024-01-01T10:00"))
+                        .createdTo(LocalDateTime.parse("2024-01-01T12:00"))),
+                new SearchFilter("마지막 로그인 기간", builder -> builder
+                        .lastLoginFrom(LocalDateTime.parse("2024-06-01T05:00"))
+                        .lastLoginTo(LocalDateTime.parse("2024-06-01T07:00"))));
+
+        Stream.Builder<Arguments> searches = Stream.builder();
+        for (int mask = 0; mask < 1 << filters.size(); mask++) {
+            for (DeletedStatus deleted : new DeletedStatus[]{DeletedStatus.ACTIVE, DeletedStatus.DELETED}) {
+                List<String> names = new ArrayList<>();
+                MemberSearchCondition.MemberSearchConditionBuilder builder = MemberSearchCondition.builder().deleted(deleted);
+                for (int i = 0; i < filters.size(); i++) {
+                    if ((mask & 1 << i) != 0) {
+                        SearchFilter filter = filters.get(i);
+                        names.add(filter.name());
+                        builder = filter.condition().apply(builder);
+                    }
+                }
+                if (deleted == DeletedStatus.DELETED) {
+                    names.add("탈퇴 회원");
+                }
+                MemberSearchCondition condition = builder.build();
+
+                for (SortField sortField : SortField.values()) {
+                    SortDirection sortDirection = sortField == SortField.CREATED_AT ? SortDirection.DESC : SortDirection.ASC;
+                    searches.add(Arguments.of(
+                            "회원 검색 (" + (names.isEmpty() ? "조건 없음" : String.join(", ", names)) + ", "
+                                    + sortField + " " + sortDirection + ")",
+                            condition, sortField, sortDirection));
+                }
+            }
+        }
+        return searches.build();
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("hotQueries")
+    void should_UseIndex_When_RunningHotQuery(String name, String sql, Object[] args) {
+        List<Map<String, Object>> plan = MySqlTestSupport.explain(jdbcTemplate, sql, args);
+
+        assertFalse(MySqlTestSupport.hasFullTableScan(plan), () -> name + " 쿼리가 전체 테이블 스캔을 수행합니다: " + plan);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("memberSearches")
+    void should_UseIndex_When_SearchingMembers(String name, MemberSearchCondition condition,
+                                               SortField sortField, SortDirection sortDirection) {
+        RecordedQuery query = runMemberSearch(condition, sortField, sortDirection);
+        List<Map<String, Object>> plan = MySqlTestSupport.explain(jdbcTemplate, query.sql(), query.parameters());
+
+        assertFalse(MySqlTestSupport.hasFullTableScan(plan),
+                () -> name + " 쿼리가 전체 테이블 스캔을 수행합니다: " + query.sql() + " " + plan);
+    }
+
+    /**
+     * 회원 1200번 다음 페이지를 조회하고, 그때 실행된 SQL과 바인딩 값을 반환합니다.
+     */
+    private static RecordedQuery runMemberSearch(MemberSearchCondition condition, SortField sortField,
+                                                 SortDirection sortDirection) {
+        recordingDataSource.drain();
+
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            entityManager.getTransaction().begin();
+            new MemberCustomRepositoryImpl(new JPAQueryFactory(entityManager), entityManager)
+                    .findMembersAfter(memberCursor(sortField, sortDirection), MEMBER_PAGE_SIZE + 1, condition,
+                            sortField, sortDirection);
+        } finally {
+            entityManager.getTransaction().rollback();
+            entityManager.close();
+        }
+
+        List<RecordedQuery> queries = recordingDataSource.drain();
+        return queries.get(queries.size() - 1);
+    }
+
+    private static MemberCursor memberCursor(SortField sortField, SortDirection sortDirection) {
+        String memberId = BinaryUuid.fromBytes(MEMBER_ID);
+        String value = switch (sortField) {
+            case ID -> memberId;
+            case NICKNAME -> "nick-1200";
+            case EMAIL -> "member-1200@eatbook.com";
+            case CREATED_AT -> LocalDateTime.parse("2024-01-01T00:00").plusMinutes(1200).toString();
+        };
+        return new MemberCursor(sortField, sortDirection, value, memberId);
+    }
+
+    /**
+     * 옵티마이저가 인덱스를 선택할 만큼의 데이터를 재귀 CTE로 채우고 통계를 갱신합니다.
+     * 소설 n의 회차 k는 n * 100 + k, 회차 e의 댓글 m은 e * 10 + m 번호의 Id를 가집니다.
+     * 회원은 짝수 번호만 로그인 기록이 있고, 100의 배수 번호는 탈퇴한 회원입니다.
+     */
+    private static void seed() {
+        jdbcTemplate.execute("SET SESSION cte_max_recursion_depth = 100000");
+
+        jdbcTemplate.execute("INSERT INTO member (id, created_at, nickname, role, email, gender, age_group, last_login, deleted_at) " +
+                "WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 2000) " +
+                "SELECT " + seedIdSql(MEMBER, "n") + ", TIMESTAMP('2024-01-01') + INTERVAL n MINUTE, CONCAT('nick-', n), " +
+                "IF(n % 50 = 0, 'ADMIN', 'MEMBER'), CONCAT('member-', n, '@eatbook.com'), " +
+                "ELT(n % 3 + 1, 'MALE', 'FEMALE', 'OTHER'), (n % 9 + 1) * 10, " +
+                "IF(n % 2 = 0, TIMESTAMP('2024-06-01') + INTERVAL n MINUTE, NULL), " +
+                "IF(n % 100 = 0, TIMESTAMP('2024-07-01'), NULL) FROM seq");
+
+        jdbcTemplate.execute("INSERT INTO category (id, name) " +
+                "WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 50) " +
+                "SELECT " + seedIdSql(CATEGORY, "n") + ", CONCAT('category-', n) FROM seq");
+
+        jdbcTemplate.execute("INSERT INTO author (id, name) " +
+                "WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 2000) " +
+                "SELECT " + seedIdSql(AUTHOR, "n") + ", CONCAT('author-', n) FROM seq");
+
+        jdbcTemplate.execute("INSERT INTO novel (id, created_at, title, is_completed) " +
+                "WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 2000) " +
+                "SELECT " + seedIdSql(NOVEL, "n") + ", TIMESTAMP('2024-01-01') + INTERVAL n HOUR, " +
+                "CONCAT('title-', n), FALSE FROM seq");
+
+        jdbcTemplate.execute("INSERT INTO novel_author (novel_id, author_id) " +
+                "WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 2000) " +
+                "SELECT " + seedIdSql(NOVEL, "n") + ", " + seedIdSql(AUTHOR, "n") + " FROM seq");
+
+        jdbcTemplate.execute("INSERT INTO novel_category (novel_id, category_id) " +
+                "WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 2000) " +
+                "SELECT " + seedIdSql(NOVEL, "n") + ", " + seedIdSql(CATEGORY, "n % 50 + 1") + " FROM seq");
+
+        jdbcTemplate.execute("INSERT INTO episode (id, title, chapter_number, novel_id) " +
+                "WITH RECURSIVE novels (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM novels WHERE n < 2000), " +
+                "chapters (k) AS (SELECT 1 UNION ALL SELECT k + 1 FROM chapters WHERE k < 10) " +
+                "SELECT " + seedIdSql(EPISODE, "n * 100 + k") + ", CONCAT('episode-', k), k, " + seedIdSql(NOVEL, "n") + " " +
+                "FROM novels CROSS JOIN chapters");
+
+        jdbcTemplate.execute("INSERT INTO comment (id, content, created_at, member_id, episode_id) " +
+                "WITH RECURSIVE novels (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM novels WHERE n < 2000), " +
+                "chapters (k) AS (SELECT 1 UNION ALL SELECT k + 1 FROM chapters WHERE k < 10), " +
+                "seq (m) AS (SELECT 1 UNION ALL SELECT m + 1 FROM seq WHERE m < 3) " +
+                "SELECT " + seedIdSql(COMMENT, "(n * 100 + k) * 10 + m") + ", 'content', TIMESTAMP('2024-06-01') + INTERVAL m MINUTE, " +
+                seedIdSql(MEMBER, "m") + ", " + seedIdSql(EPISODE, "n * 100 + k") + " " +
+                "FROM novels CROSS JOIN chapters CROSS JOIN seq");
+
+        jdbcTemplate.execute("ANALYZE TABLE member, category, author, novel, novel_author, novel_category, episode, comment");
+    }
+
+    private record SearchFilter(String name,
+                                UnaryOperator<MemberSearchCondition.MemberSearchConditionBuilder> condition) {
+    }
+}
@@ -0,0 +1,104 @@
+package com.eatbook.backoffice.security.auth.jwt;
+
+import com.eatbook.backoffice.security.error.exception.JwtTokenException;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.impl.DefaultClaims;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Map;
+
+import static com.eatbook.backoffice.global.response.GlobalErrorCode.JWT_INVALID_SIGNATURE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JwtAuthTokenProviderTest {
+
+    private static final String SECRET = "eatbook-backoffice-test-secret-key-0123456789";
+
+    private JwtAuthTokenProvider tokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        JwtClaimsCache claimsCache = new JwtClaimsCache();
+        ReflectionTestUtils.setField(claimsCache, "maximumSize", 100L);
+        ReflectionTestUtils.setField(claimsCache, "maximumTtl", Duration.ofMinutes(5));
+        claimsCache.init();
+
+        tokenProvider = new JwtAuthTokenProvider(claimsCache);
+        ReflectionTestUtils.setField(tokenProvider, "accessExpiration", 3600L);
+        ReflectionTestUtils.setField(tokenProvider, "refreshExpiration", 86400L);
+        ReflectionTestUtils.setField(tokenProvider, "secret", SECRET);
+        tokenProvider.init();
+    }
+
+    @Test
+    void should_ReuseVerifiedClaims_When_SameTokenIsConvertedAgain() {
+        // given
+        String token = tokenProvider.createAuthToken("member-1", "ROLE_ADMIN", Map.of("id", "member-1")).getToken();
+
+        // when
+        JwtAuthToken first = tokenProvider.convertAuthToken(token);
+        JwtAuthToken second = tokenProvider.convertAuthToken(token);
+
+        // then
+        assertThat(second.getData()).isSameAs(first.getData());
+        assertThat(first.getData().getSubject()).isEqualTo("member-1");
+    }
+
+    @Test
+    void should_BuildAuthenticationFromCachedClaims_When_TokenIsValid() {
+        // given
+        String token = tokenProvider.createAuthToken("member-1", "ROLE_ADMIN", Map.of("id", "member-1")).getToken();
+        JwtAuthToken authToken = tokenProvider.convertAuthToken(token);
+        authToken.getData();
+
+        // when
+        Authentication authentication = tokenProvider.getAuthentication(authToken);
+
+        // then
+        assertThat(authentication.getName()).isEqualTo("member-1");
+        assertThat(authentication.getAuthorities()).extracting(Object::toString).containsExactly("ROLE_ADMIN");
+    }
+
+    @Test
+    void should_ThrowJwtTokenException_When_SignatureIsTampered() {
+        // given
+        String token = tokenProvider.createAuthToken("member-1", "ROLE_ADMIN", Map.of("id", "member-1")).getToken();
+        tokenProvider.convertAuthToken(token).getData();
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        // when
+        JwtTokenException exception = assertThrows(JwtTokenException.class,
+                () -> tokenProvider.convertAuthToken(tampered).getData());
+
+        // then
+        assertThat(exception.getErrorCode()).isEqualTo(JWT_INVALID_SIGNATURE);
+    }
+
+    @Test
+    void should_LimitTimeToLiveByTokenExpiration_When_CachingClaims() {
+        // given
+        Instant now = Instant.parse("2024-11-20T00:00:00Z");
+        Duration maximumTtl = Duration.ofMinutes(5);
+
+        // when & then
+        assertThat(JwtClaimsCache.timeToLive(claimsExpiringAt(now.plusSeconds(30)), now, maximumTtl))
+                .isEqualTo(Duration.ofSeconds(30));
+        assertThat(JwtClaimsCache.timeToLive(claimsExpiringAt(now.plusSeconds(3600)), now, maximumTtl))
+                .isEqualTo(maximumTtl);
+        assertThat(JwtClaimsCache.timeToLive(claimsExpiringAt(now.minusSeconds(1)), now, maximumTtl))
+                .isZero();
+    }
+
+    private static Claims claimsExpiringAt(Instant expiration) {
+        Claims claims = new DefaultClaims();
+        claims.setExpiration(Date.from(expiration));
+        return claims;
+    }
+}
@@ -0,0 +1,97 @@
+package com.eatbook.backoffice.support;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.flywaydb.core.Flyway;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.testcontainers.containers.MySQLContainer;
+
+import javax.sql.DataSource;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Testcontainers MySQL에 Flyway 마이그레이션을 적용하고 쿼리 실행 계획을 확인하기 위한 테스트 지원 클래스.
+ */
+public final class MySqlTestSupport {
+
+    private static final String MYSQL_IMAGE = "mysql:8.0.36";
+
+    private MySqlTestSupport() {
+    }
+
+    public static MySQLContainer<?> container() {
+        return new MySQLContainer<>(MYSQL_IMAGE)
+                // 마이그레이션의 트리거 생성을 root가 아닌 계정으로 실행하기 위해 필요합니다.
+                .withCommand("--log-bin-trust-function-creators=1");
+    }
+
+    public static void migrate(MySQLContainer<?> mysql) {
+        Flyway.configure()
+                .dataSource(mysql.getJdbcUrl(), mysql.getUsername(), mysql.getPassword())
+                .locations("classpath:migration")
+                .load()
+                .migrate();
+    }
+
+    /**
+     * 세션 변수가 유지되도록 하나의 커넥션을 재사용하는 JdbcTemplate을 만듭니다.
+     */
+    public static JdbcTemplate jdbcTemplate(MySQLContainer<?> mysql) {
+        SingleConnectionDataSource dataSource = new SingleConnectionDataSource(
+                mysql.getJdbcUrl(), mysql.getUsername(), mysql.getPassword(), true);
+        return new JdbcTemplate(dataSource);
+    }
+
+    /**
+     * 애플리케이션과 같은 엔티티 매핑과 이름 규칙으로 EntityManagerFactory를 만듭니다.
+     * 리포지토리가 만드는 쿼리를 스프링 컨텍스트 없이 그대로 실행할 때 사용합니다.
+     */
+    public static EntityManagerFactory entityManagerFactory(DataSource dataSource) {
+        LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setPackagesToScan("com.eatbook.backoffice.entity");
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setJpaPropertyMap(Map.of(
+                AvailableSettings.PHYSICAL_NAMING_STRATEGY, CamelCaseToUnderscoresNamingStrategy.class.getName(),
+                AvailableSettings.IMPLICIT_NAMING_STRATEGY, SpringImplicitNamingStrategy.class.getName()));
+        factoryBean.afterPropertiesSet();
+        return factoryBean.getObject();
+    }
+
+    public static List<Map<String, Object>> explain(JdbcTemplate jdbcTemplate, String sql, Object... args) {
+        return jdbcTemplate.queryForList("EXPLAIN " + sql, args);
+    }
+
+    /**
+     * 실행 계획에 전체 테이블 스캔(type = ALL)이 포함되어 있는지 확인합니다.
+     */
+    public static boolean hasFullTableScan(List<Map<String, Object>> plan) {
+        return plan.stream().anyMatch(row -> "ALL".equals(row.get("type")));
+    }
+
+    /**
+     * 시드 데이터의 BINARY(16) Id를 만드는 SQL 식을 반환합니다.
+     * 앞 4바이트는 테이블 구분 값, 나머지 12바이트는 번호이므로 {@link #seedId(int, long)}와 같은 값이 됩니다.
+     *
+     * @param kind 테이블 구분 값
+     * @param numberExpression 번호를 계산하는 SQL 식
+     */
+    public static String seedIdSql(int kind, String numberExpression) {
+        return String.format("UNHEX(CONCAT('%08X', LPAD(HEX(%s), 24, '0')))", kind, numberExpression);
+    }
+
+    public static byte[] seedId(int kind, long number) {
+        return ByteBuffer.allocate(16)
+                .putInt(kind)
+                .putInt(0)
+                .putLong(number)
+                .array();
+    }
+}
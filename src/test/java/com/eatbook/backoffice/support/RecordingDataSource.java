@@ -0,0 +1,84 @@
+package com.eatbook.backoffice.support;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * 실행된 조회 쿼리의 SQL과 바인딩 값을 기록하는 DataSource.
+ * 리포지토리가 실제로 만든 쿼리를 같은 값으로 EXPLAIN 하기 위해 사용합니다.
+ */
+public class RecordingDataSource extends DelegatingDataSource {
+
+    private final List<RecordedQuery> queries = new ArrayList<>();
+
+    public RecordingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return recording(super.getConnection());
+    }
+
+    /**
+     * 기록된 쿼리를 모두 반환하고 기록을 비웁니다.
+     */
+    public synchronized List<RecordedQuery> drain() {
+        List<RecordedQuery> recorded = List.copyOf(queries);
+        queries.clear();
+        return recorded;
+    }
+
+    private synchronized void record(RecordedQuery query) {
+        queries.add(query);
+    }
+
+    private Connection recording(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(connection, method, args);
+                    if (method.getName().equals("prepareStatement") && result instanceof PreparedStatement statement) {
+                        return recording(statement, (String) args[0]);
+                    }
+                    return result;
+                });
+    }
+
+    private PreparedStatement recording(PreparedStatement statement, String sql) {
+        SortedMap<Integer, Object> parameters = new TreeMap<>();
+        return (PreparedStatement) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{PreparedStatement.class},
+                (proxy, method, args) -> {
+                    String name = method.getName();
+                    if (name.equals("setNull")) {
+                        parameters.put((Integer) args[0], null);
+                    } else if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                        parameters.put(index, args[1]);
+                    } else if (name.equals("executeQuery")) {
+                        record(new RecordedQuery(sql, new ArrayList<>(parameters.values()).toArray()));
+                    }
+                    return invoke(statement, method, args);
+                });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    public record RecordedQuery(String sql, Object[] parameters) {
+    }
+}